@@ -0,0 +1,115 @@
+package com.fortexa.api_gateway.benchmark;
+
+import com.fortexa.api_gateway.filters.CorrelationIdFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request cost of the gateway global filters before and after they were merged.
+ * <p>
+ * The {@code legacy} benchmark reproduces the former pipeline: the correlation filter with a
+ * {@link UUID#randomUUID()} ID and its own exchange mutation, followed by the global filter logging the
+ * full URI at INFO twice and mutating the request again for the timestamp header. The {@code current}
+ * benchmark runs {@link CorrelationIdFilter} with its default access log sampling. Both run against a
+ * no-op chain, and log events are discarded by a NOP appender so the benchmark measures event creation,
+ * not console I/O. {@code exchangeOnly} is the cost of building the mock exchange, to subtract from both.
+ * Run with {@code -prof gc} to get bytes/op next to ops/s, and {@code -rf json} for a machine-readable report:
+ * </p>
+ * <pre>
+ * java -jar target/benchmarks.jar GlobalFilterBenchmark -prof gc -rf json -rff global-filters.json
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlobalFilterBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalFilterBenchmark.class);
+
+    private static final GatewayFilterChain NO_OP_CHAIN = exchange -> Mono.empty();
+
+    private CorrelationIdFilter correlationIdFilter;
+    private GlobalFilter legacyCorrelationIdFilter;
+    private GlobalFilter legacyGlobalFilter;
+
+    @Setup
+    public void setUp() {
+        correlationIdFilter = new CorrelationIdFilter(100);
+        legacyCorrelationIdFilter = legacyCorrelationIdFilter();
+        legacyGlobalFilter = legacyGlobalFilter();
+    }
+
+    @Benchmark
+    public ServerWebExchange exchangeOnly() {
+        return exchange();
+    }
+
+    @Benchmark
+    public Object legacy() {
+        ServerWebExchange exchange = exchange();
+        return legacyCorrelationIdFilter.filter(exchange, mutated -> legacyGlobalFilter.filter(mutated, NO_OP_CHAIN)).block();
+    }
+
+    @Benchmark
+    public Object current() {
+        return correlationIdFilter.filter(exchange(), NO_OP_CHAIN).block();
+    }
+
+    private static ServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/products/123e4567-e89b-12d3-a456-426614174000")
+                .queryParam("page", "1")
+                .header("Authorization", "Bearer token")
+                .header("Accept", "application/json"));
+    }
+
+    // Former CorrelationIdFilter
+    private static GlobalFilter legacyCorrelationIdFilter() {
+        return (exchange, chain) -> {
+            String correlationId = exchange.getRequest().getHeaders().getFirst("X-Correlation-ID");
+            if (correlationId == null || correlationId.isEmpty()) {
+                correlationId = UUID.randomUUID().toString();
+            }
+            MDC.put("correlation_id", correlationId);
+            String finalCorrelationId = correlationId;
+            ServerWebExchange mutated = exchange.mutate()
+                    .request(r -> r.header("X-Correlation-ID", finalCorrelationId))
+                    .build();
+            return chain.filter(mutated).doFinally(signal -> MDC.remove("correlation_id"));
+        };
+    }
+
+    // Former SecurityConfig.customGlobalFilter
+    private static GlobalFilter legacyGlobalFilter() {
+        return (exchange, chain) -> {
+            logger.info("Processing request: {}", exchange.getRequest().getURI());
+            exchange.getRequest().mutate().header("X-Gateway-Timestamp", String.valueOf(System.currentTimeMillis())).build();
+            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+                exchange.getResponse().getHeaders().add("X-Gateway-Processed", "true");
+                logger.info("Response processed for: {}", exchange.getRequest().getURI());
+            }));
+        };
+    }
+}
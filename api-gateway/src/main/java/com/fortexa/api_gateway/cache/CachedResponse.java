@@ -0,0 +1,81 @@
+package com.fortexa.api_gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A response stored by the gateway response cache.
+ *
+ * @param status           the HTTP status code
+ * @param headers          the stored representation headers, see {@link #STORED_HEADERS}
+ * @param body             the response body
+ * @param storedAtMillis   when the response was received from upstream
+ * @param freshUntilMillis when the response stops being fresh
+ */
+public record CachedResponse(int status, Map<String, List<String>> headers, byte[] body,
+                             long storedAtMillis, long freshUntilMillis) {
+
+    /**
+     * Headers describing the representation, the only ones stored. Hop-by-hop, CORS and
+     * gateway headers are added anew to every response and are never replayed from the cache.
+     */
+    static final List<String> STORED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.CONTENT_ENCODING,
+            HttpHeaders.CONTENT_LANGUAGE,
+            HttpHeaders.ETAG,
+            HttpHeaders.LAST_MODIFIED,
+            HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.EXPIRES);
+
+    /**
+     * Creates a cached response from upstream response headers.
+     *
+     * @param status   the HTTP status code
+     * @param source   the upstream response headers
+     * @param body     the response body
+     * @param now      the current time
+     * @param ttlMillis the freshness lifetime
+     * @return the cached response
+     */
+    static CachedResponse of(int status, HttpHeaders source, byte[] body, long now, long ttlMillis) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : STORED_HEADERS) {
+            List<String> values = source.get(name);
+            if (values != null && !values.isEmpty()) {
+                headers.put(name, List.copyOf(values));
+            }
+        }
+        return new CachedResponse(status, headers, body, now, now + ttlMillis);
+    }
+
+    /**
+     * Returns a copy made fresh again after upstream confirmed it is unchanged (304).
+     *
+     * @param now       the current time
+     * @param ttlMillis the new freshness lifetime
+     * @return the refreshed response
+     */
+    CachedResponse refresh(long now, long ttlMillis) {
+        return new CachedResponse(status, headers, body, now, now + ttlMillis);
+    }
+
+    /**
+     * @param now the current time
+     * @return true if the response can be served without asking upstream
+     */
+    boolean isFresh(long now) {
+        return now < freshUntilMillis;
+    }
+
+    /**
+     * @return the entity tag of the response, or {@code null} if it has none
+     */
+    String etag() {
+        List<String> values = headers.get(HttpHeaders.ETAG);
+        return values == null ? null : values.get(0);
+    }
+}
@@ -0,0 +1,173 @@
+package com.fortexa.api_gateway.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Shared tier of the gateway response cache, storing responses in Redis as JSON so every gateway node can serve them.
+ *
+ * Responses are stored per generation of their route: a write through the route starts a new generation,
+ * which leaves every stored response of the route unreachable, and is announced on a channel so the gateway
+ * nodes drop their in-memory copies too. A response is only stored if no write went through since it was
+ * fetched, so a response predating a write is never shared.
+ *
+ * Redis failures are logged and treated as misses, the in-memory tier and upstream keep serving requests.
+ */
+public class RedisResponseCacheStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisResponseCacheStore.class);
+
+    private static final String KEY_PREFIX = "gateway:response-cache:{";
+    private static final String INVALIDATION_CHANNEL = "gateway:response-cache:invalidations";
+    private static final char SEPARATOR = '|';
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GET_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/response_cache_get.lua"), List.class);
+    private static final RedisScript<Long> PUT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/response_cache_put.lua"), Long.class);
+    private static final RedisScript<Long> INVALIDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/response_cache_invalidate.lua"), Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a store on top of the given template.
+     *
+     * @param redisTemplate the template used to read and write responses
+     * @param objectMapper  the mapper used to serialize responses
+     */
+    public RedisResponseCacheStore(ReactiveStringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Reads a response from the current generation of its route.
+     *
+     * @param routeId the ID of the route the response was fetched through
+     * @param key     the cache key
+     * @return a {@link Mono} emitting the current generation and the response, if present and readable;
+     * empty if Redis failed
+     */
+    public Mono<Lookup> get(String routeId, String key) {
+        return redisTemplate.execute(GET_SCRIPT, List.of(generationKey(routeId), responseKey(routeId, key)))
+                .next()
+                .map(result -> new Lookup(((Number) result.get(0)).longValue(),
+                        result.size() > 1 ? read(key, (String) result.get(1)) : null))
+                .onErrorResume(ex -> {
+                    logger.warn("Response cache read from Redis failed: {}", ex.toString());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Writes a response, unless its route was written to since the given generation.
+     *
+     * @param routeId    the ID of the route the response was fetched through
+     * @param key        the cache key
+     * @param response   the response to store
+     * @param ttl        how long Redis keeps the response
+     * @param generation the generation of the route the response was fetched in
+     * @return a {@link Mono} emitting the current generation of the route, empty if Redis failed
+     */
+    public Mono<Long> put(String routeId, String key, CachedResponse response, Duration ttl, long generation) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(response))
+                .flatMap(json -> redisTemplate.execute(PUT_SCRIPT,
+                                List.of(generationKey(routeId), responseKey(routeId, key)),
+                                List.of(Long.toString(generation), json, Long.toString(Math.max(1, ttl.toMillis()))))
+                        .next())
+                .onErrorResume(ex -> {
+                    logger.warn("Response cache write to Redis failed: {}", ex.toString());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Starts a new generation of the responses of a route and announces it to every gateway node.
+     *
+     * @param routeId the ID of the route written to
+     * @return a {@link Mono} emitting the new generation of the route, empty if Redis failed
+     */
+    public Mono<Long> invalidate(String routeId) {
+        return redisTemplate.execute(INVALIDATE_SCRIPT, List.of(generationKey(routeId)),
+                        List.of(INVALIDATION_CHANNEL, routeId))
+                .next()
+                .onErrorResume(ex -> {
+                    logger.warn("Response cache invalidation in Redis failed for route {}: {}", routeId, ex.toString());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Listens to the generations started by the gateway nodes, including this one.
+     *
+     * @return a {@link Flux} emitting the new generations as they are announced, erroring if the subscription is lost
+     */
+    public Flux<Invalidation> invalidations() {
+        return redisTemplate.listenToChannel(INVALIDATION_CHANNEL)
+                .handle((message, sink) -> {
+                    String body = message.getMessage();
+                    int separator = body.lastIndexOf(SEPARATOR);
+                    try {
+                        sink.next(new Invalidation(body.substring(0, separator), Long.parseLong(body.substring(separator + 1))));
+                    } catch (RuntimeException ex) {
+                        logger.warn("Ignoring malformed response cache invalidation {}", body);
+                    }
+                });
+    }
+
+    private CachedResponse read(String key, String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, CachedResponse.class);
+        } catch (JsonProcessingException ex) {
+            logger.warn("Discarding unreadable cached response for key {}", key);
+            return null;
+        }
+    }
+
+    // The keys of a route share its hash tag, so the scripts only touch one cluster slot
+    private static String generationKey(String routeId) {
+        return KEY_PREFIX + routeId + "}:generation";
+    }
+
+    // Cache keys embed paths and queries of any length, Redis keys are kept to a fixed size
+    private static String responseKey(String routeId, String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return KEY_PREFIX + routeId + "}:" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Outcome of a read: the current generation of the route and the response stored in it, {@code null} if none.
+     */
+    public record Lookup(long generation, CachedResponse response) {
+    }
+
+    /**
+     * Generation started by a write through a route.
+     */
+    public record Invalidation(String routeId, long generation) {
+    }
+}
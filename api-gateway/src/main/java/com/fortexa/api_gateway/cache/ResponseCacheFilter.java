@@ -0,0 +1,554 @@
+package com.fortexa.api_gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+/**
+ * HTTP response cache for idempotent GETs, applied per route in {@code GatewayConfig}.
+ *
+ * <ul>
+ *     <li><b>Key:</b> route, method, path, sorted query, accepted encoding and the auth scope of the caller,
+ *     i.e. its sorted authorities, so callers with the same roles share entries and others never see them.</li>
+ *     <li><b>Freshness:</b> {@code s-maxage} or {@code max-age} of the upstream response, else the default TTL.
+ *     Responses with {@code no-store}, {@code no-cache}, {@code private}, {@code Set-Cookie} or a {@code Vary}
+ *     on request headers outside the key are not stored. Requests with {@code no-store} bypass the cache and
+ *     requests with {@code no-cache} always go upstream.</li>
+ *     <li><b>ETag:</b> a client {@code If-None-Match} matching the stored ETag gets a 304. Stale entries with
+ *     an ETag are revalidated upstream with {@code If-None-Match}, and a 304 refreshes the stored body.</li>
+ *     <li><b>Tiers:</b> a size-bounded in-memory tier and, optionally, a Redis tier shared by the gateway nodes.</li>
+ *     <li><b>Coalescing:</b> concurrent misses for the same key wait for a single upstream call.</li>
+ *     <li><b>Invalidation:</b> an unsafe request (POST, PUT, PATCH, DELETE) routed through the same filter
+ *     invalidates every entry of its route once it succeeds, as lists, searches, scrolls and exports all
+ *     include the resource written. With the Redis tier, the write starts a new generation of the route in
+ *     Redis, announced to every node so they drop their in-memory entries of the route as well. A response
+ *     fetched while a write went through is passed to the client but not stored.</li>
+ * </ul>
+ *
+ * A node that misses an announcement, e.g. while reconnecting to Redis, serves its in-memory entries until
+ * they expire or until it next reads the newer generation from Redis.
+ */
+public class ResponseCacheFilter implements GatewayFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheFilter.class);
+
+    private static final String CACHE_NAME = "gateway.response";
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+    private static final String ANONYMOUS_SCOPE = "anonymous";
+    private static final char SEPARATOR = '|';
+
+    // Request headers that Spring and the gateway vary responses on without affecting the body
+    private static final Set<String> IGNORED_VARY_HEADERS = Set.of(
+            "origin", "access-control-request-method", "access-control-request-headers", "accept-encoding");
+
+    private enum Result { HIT, MISS, COALESCED, REVALIDATED, BYPASS }
+
+    private final ResponseCacheProperties properties;
+    private final RedisResponseCacheStore redisStore;
+    private final LongSupplier clock;
+    private final Cache<String, CachedResponse> cache;
+    private final Map<String, Mono<CachedResponse>> inflight = new ConcurrentHashMap<>();
+    private final Map<Result, Counter> requests = new EnumMap<>(Result.class);
+    // Latest generation of the entries of each route, advanced by every write through the route
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    private final long defaultTtlMillis;
+    private final long revalidationWindowMillis;
+    private final int maximumBodySize;
+
+    private Disposable invalidations;
+
+    /**
+     * Creates a response cache using the system clock.
+     *
+     * @param properties    the cache settings
+     * @param redisStore    the shared tier, or {@code null} when responses are only cached in memory
+     * @param meterRegistry the registry the cache metrics are published to
+     */
+    public ResponseCacheFilter(ResponseCacheProperties properties, RedisResponseCacheStore redisStore,
+                               MeterRegistry meterRegistry) {
+        this(properties, redisStore, meterRegistry, System::currentTimeMillis);
+    }
+
+    // Package-private so tests can drive the clock
+    ResponseCacheFilter(ResponseCacheProperties properties, RedisResponseCacheStore redisStore,
+                        MeterRegistry meterRegistry, LongSupplier clock) {
+        this.properties = properties;
+        this.redisStore = redisStore;
+        this.clock = clock;
+        this.defaultTtlMillis = properties.getDefaultTtl().toMillis();
+        this.revalidationWindowMillis = properties.getRevalidationWindow().toMillis();
+        this.maximumBodySize = (int) properties.getMaximumBodySize().toBytes();
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumSize().toBytes())
+                .weigher((String key, CachedResponse response) -> key.length() + response.body().length)
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(retentionMillis(response));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, response, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        for (Result result : Result.values()) {
+            requests.put(result, Counter.builder(CACHE_NAME + ".requests")
+                    .description("Requests seen by the gateway response cache, by outcome")
+                    .tag("result", result.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        if (request.getMethod() != HttpMethod.GET) {
+            return isUnsafe(request.getMethod()) ? invalidateOnSuccess(exchange, chain) : chain.filter(exchange);
+        }
+        if (hasDirective(request.getHeaders(), "no-store")) {
+            requests.get(Result.BYPASS).increment();
+            return chain.filter(exchange);
+        }
+
+        return exchange.getPrincipal()
+                .map(ResponseCacheFilter::authScope)
+                .defaultIfEmpty(ANONYMOUS_SCOPE)
+                .flatMap(scope -> filter(exchange, chain, cacheKey(exchange, scope)));
+    }
+
+    /**
+     * Starts listening to the generations started by the other gateway nodes, when responses are shared through Redis.
+     */
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled() || redisStore == null) {
+            return;
+        }
+        invalidations = redisStore.invalidations()
+                .doOnError(ex -> logger.warn("Response cache invalidation channel lost, resubscribing: {}", ex.toString()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(invalidation -> advanceGeneration(invalidation.routeId(), invalidation.generation()));
+    }
+
+    /**
+     * Stops listening to the generations started by the other gateway nodes.
+     */
+    @PreDestroy
+    public void stop() {
+        if (invalidations != null) {
+            invalidations.dispose();
+        }
+    }
+
+    /**
+     * Drops every in-memory entry.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Records a generation of the entries of a route, dropping the in-memory entries of the route if it is
+     * newer than the latest one known.
+     *
+     * @param routeId    the ID of the route
+     * @param generation the generation started by a write through the route
+     */
+    void advanceGeneration(String routeId, long generation) {
+        boolean[] advanced = new boolean[1];
+        generations.compute(routeId, (id, known) -> {
+            long current = known != null ? known : 0;
+            advanced[0] = generation > current;
+            return Math.max(generation, current);
+        });
+        if (advanced[0]) {
+            dropEntries(routeId);
+        }
+    }
+
+    private long generation(String routeId) {
+        return generations.getOrDefault(routeId, 0L);
+    }
+
+    private void dropEntries(String routeId) {
+        String routePrefix = routeId + SEPARATOR;
+        cache.asMap().keySet().removeIf(key -> key.startsWith(routePrefix));
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, String key) {
+        boolean forceUpstream = hasDirective(exchange.getRequest().getHeaders(), "no-cache");
+        String routeId = routeId(exchange);
+        return lookup(routeId, key)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(cached -> {
+                    if (cached.isPresent() && !forceUpstream && cached.get().isFresh(clock.getAsLong())) {
+                        requests.get(Result.HIT).increment();
+                        return writeCached(exchange, exchange.getResponse(), cached.get(), Result.HIT);
+                    }
+                    CachedResponse stale = cached.filter(response -> response.etag() != null).orElse(null);
+                    return fetch(exchange, chain, routeId, key, stale);
+                });
+    }
+
+    private Mono<CachedResponse> lookup(String routeId, String key) {
+        CachedResponse local = cache.getIfPresent(key);
+        if (local != null || redisStore == null) {
+            return Mono.justOrEmpty(local);
+        }
+        return redisStore.get(routeId, key)
+                // A newer generation read from Redis means an announcement was missed
+                .doOnNext(shared -> advanceGeneration(routeId, shared.generation()))
+                .filter(shared -> shared.response() != null && shared.generation() == generation(routeId))
+                .map(RedisResponseCacheStore.Lookup::response)
+                .doOnNext(response -> cache.put(key, response));
+    }
+
+    private Mono<Void> fetch(ServerWebExchange exchange, GatewayFilterChain chain, String routeId, String key,
+                             CachedResponse stale) {
+        Sinks.One<CachedResponse> sink = Sinks.one();
+        Mono<CachedResponse> pending = sink.asMono();
+        Mono<CachedResponse> leader = inflight.putIfAbsent(key, pending);
+        if (leader != null) {
+            return follow(exchange, chain, leader);
+        }
+
+        requests.get(Result.MISS).increment();
+        long generation = generation(routeId);
+        ServerHttpRequest request = exchange.getRequest();
+        boolean clientConditional = request.getHeaders().containsKey(HttpHeaders.IF_NONE_MATCH)
+                || request.getHeaders().containsKey(HttpHeaders.IF_MODIFIED_SINCE);
+        // Revalidate our stale copy unless the client asked a conditional question of its own
+        CachedResponse revalidating = clientConditional ? null : stale;
+
+        ServerWebExchange.Builder upstream = exchange.mutate()
+                .response(new CachingResponseDecorator(exchange, routeId, key, generation, revalidating, sink));
+        if (revalidating != null) {
+            upstream.request(r -> r.header(HttpHeaders.IF_NONE_MATCH, revalidating.etag()));
+        }
+        exchange.getResponse().getHeaders().set(CACHE_STATUS_HEADER, Result.MISS.name());
+
+        return chain.filter(upstream.build())
+                .doFinally(signal -> {
+                    inflight.remove(key, pending);
+                    // Followers go upstream themselves when nothing was stored
+                    sink.tryEmitEmpty();
+                });
+    }
+
+    private Mono<Void> follow(ServerWebExchange exchange, GatewayFilterChain chain, Mono<CachedResponse> leader) {
+        return leader.timeout(properties.getCoalesceTimeout())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(TimeoutException.class, ex -> Mono.just(Optional.empty()))
+                .flatMap(response -> {
+                    if (response.isPresent()) {
+                        requests.get(Result.COALESCED).increment();
+                        return writeCached(exchange, exchange.getResponse(), response.get(), Result.COALESCED);
+                    }
+                    requests.get(Result.BYPASS).increment();
+                    return chain.filter(exchange);
+                });
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, ServerHttpResponse response, CachedResponse cached,
+                                   Result result) {
+        long now = clock.getAsLong();
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(cached.headers());
+        headers.set(HttpHeaders.AGE, Long.toString(Math.max(0, now - cached.storedAtMillis()) / 1000));
+        headers.set(CACHE_STATUS_HEADER, result.name());
+
+        String etag = cached.etag();
+        List<String> ifNoneMatch = exchange.getRequest().getHeaders().getIfNoneMatch();
+        if (etag != null && (ifNoneMatch.contains(etag) || ifNoneMatch.contains("*"))) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatusCode.valueOf(cached.status()));
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body())));
+    }
+
+    private void store(String routeId, String key, CachedResponse response, long generation) {
+        // Fetched before a write went through, the response may not include it
+        if (generation(routeId) != generation) {
+            return;
+        }
+        cache.put(key, response);
+        if (generation(routeId) != generation) {
+            cache.invalidate(key);
+            return;
+        }
+        if (redisStore != null) {
+            redisStore.put(routeId, key, response, Duration.ofMillis(retentionMillis(response)), generation)
+                    .subscribe(current -> advanceGeneration(routeId, current));
+        }
+    }
+
+    // Entries with an ETag outlive their freshness so they can be revalidated instead of fetched again
+    private long retentionMillis(CachedResponse response) {
+        long fresh = Math.max(0, response.freshUntilMillis() - clock.getAsLong());
+        return response.etag() != null ? fresh + revalidationWindowMillis : fresh;
+    }
+
+    /**
+     * Returns the freshness lifetime of an upstream response, or -1 if it must not be stored.
+     */
+    private long ttlMillis(HttpStatusCode status, HttpHeaders headers) {
+        if (status == null || status.value() != HttpStatus.OK.value() || headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return -1;
+        }
+        for (String vary : headers.getVary()) {
+            if (!IGNORED_VARY_HEADERS.contains(vary.trim().toLowerCase(Locale.ROOT))) {
+                return -1;
+            }
+        }
+
+        long maxAge = -1;
+        long sharedMaxAge = -1;
+        for (String directive : directives(headers)) {
+            if (directive.equals("no-store") || directive.equals("no-cache") || directive.equals("private")) {
+                return -1;
+            } else if (directive.startsWith("s-maxage=")) {
+                sharedMaxAge = seconds(directive.substring("s-maxage=".length()));
+            } else if (directive.startsWith("max-age=")) {
+                maxAge = seconds(directive.substring("max-age=".length()));
+            }
+        }
+        long ttl = sharedMaxAge >= 0 ? sharedMaxAge * 1000 : maxAge >= 0 ? maxAge * 1000 : defaultTtlMillis;
+        return ttl > 0 ? ttl : -1;
+    }
+
+    private Mono<Void> invalidateOnSuccess(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return chain.filter(exchange).then(Mono.defer(() -> {
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            if (status == null || !status.is2xxSuccessful()) {
+                return Mono.empty();
+            }
+            String routeId = routeId(exchange);
+            if (redisStore == null) {
+                generations.merge(routeId, 1L, Long::sum);
+                dropEntries(routeId);
+                return Mono.empty();
+            }
+            // Dropped right away, the new generation then keeps responses fetched in the meantime from being stored
+            dropEntries(routeId);
+            return redisStore.invalidate(routeId)
+                    .doOnNext(generation -> advanceGeneration(routeId, generation))
+                    .then();
+        }));
+    }
+
+    private static String cacheKey(ServerWebExchange exchange, String scope) {
+        ServerHttpRequest request = exchange.getRequest();
+        StringBuilder key = new StringBuilder(128)
+                .append(routeId(exchange)).append(SEPARATOR)
+                .append(request.getMethod().name()).append(SEPARATOR)
+                .append(request.getPath().value()).append(SEPARATOR);
+
+        // Parameter order does not change the response, so it does not change the key either
+        MultiValueMap<String, String> query = request.getQueryParams();
+        if (!query.isEmpty()) {
+            TreeMap<String, List<String>> sorted = new TreeMap<>(query);
+            sorted.forEach((name, values) -> {
+                List<String> sortedValues = new ArrayList<>(values);
+                sortedValues.sort(null);
+                for (String value : sortedValues) {
+                    key.append(name).append('=').append(value).append('&');
+                }
+            });
+        }
+
+        String acceptEncoding = request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING);
+        key.append(SEPARATOR).append(acceptEncoding != null && acceptEncoding.contains("gzip") ? "gzip" : "identity");
+        return key.append(SEPARATOR).append(scope).toString();
+    }
+
+    private static String authScope(Principal principal) {
+        if (!(principal instanceof Authentication authentication) || authentication.getAuthorities().isEmpty()) {
+            return ANONYMOUS_SCOPE;
+        }
+        List<String> authorities = new ArrayList<>(authentication.getAuthorities().size());
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            authorities.add(authority.getAuthority());
+        }
+        authorities.sort(null);
+        return String.join(",", authorities);
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "";
+    }
+
+    private static boolean isUnsafe(HttpMethod method) {
+        return method == HttpMethod.POST || method == HttpMethod.PUT
+                || method == HttpMethod.PATCH || method == HttpMethod.DELETE;
+    }
+
+    private static boolean hasDirective(HttpHeaders headers, String directive) {
+        return directives(headers).contains(directive);
+    }
+
+    private static List<String> directives(HttpHeaders headers) {
+        List<String> values = headers.get(HttpHeaders.CACHE_CONTROL);
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        List<String> directives = new ArrayList<>();
+        for (String value : values) {
+            for (String directive : value.split(",")) {
+                directives.add(directive.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return directives;
+    }
+
+    private static long seconds(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * Response of the leading request of a key: the body is passed through to the client as it
+     * arrives and copied aside, up to the maximum body size, to be stored once complete.
+     */
+    private final class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final String routeId;
+        private final String key;
+        private final long generation;
+        private final CachedResponse revalidating;
+        private final Sinks.One<CachedResponse> sink;
+
+        private CachingResponseDecorator(ServerWebExchange exchange, String routeId, String key, long generation,
+                                         CachedResponse revalidating, Sinks.One<CachedResponse> sink) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.routeId = routeId;
+            this.key = key;
+            this.generation = generation;
+            this.revalidating = revalidating;
+            this.sink = sink;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            HttpHeaders headers = getHeaders();
+            long now = clock.getAsLong();
+
+            if (revalidating != null && status != null && status.value() == HttpStatus.NOT_MODIFIED.value()) {
+                // Upstream confirmed the stored copy, replay it as a full response
+                long ttl = ttlMillis(HttpStatus.OK, headers);
+                CachedResponse refreshed = revalidating.refresh(now, ttl > 0 ? ttl : defaultTtlMillis);
+                store(routeId, key, refreshed, generation);
+                sink.tryEmitValue(refreshed);
+                requests.get(Result.REVALIDATED).increment();
+                return Flux.from(body)
+                        .doOnNext(DataBufferUtils::release)
+                        .then(Mono.defer(() -> writeCached(exchange, getDelegate(), refreshed, Result.REVALIDATED)));
+            }
+
+            long ttl = ttlMillis(status, headers);
+            long contentLength = headers.getContentLength();
+            if (ttl < 0 || contentLength > maximumBodySize) {
+                return super.writeWith(body);
+            }
+
+            ByteArrayOutputStream copy = new ByteArrayOutputStream(contentLength > 0 ? (int) contentLength : 1024);
+            boolean[] overflow = new boolean[1];
+            return super.writeWith(Flux.from(body)
+                    .doOnNext(buffer -> {
+                        if (overflow[0]) {
+                            return;
+                        }
+                        int length = buffer.readableByteCount();
+                        if (copy.size() + length > maximumBodySize) {
+                            overflow[0] = true;
+                            copy.reset();
+                            return;
+                        }
+                        ByteBuffer bytes = ByteBuffer.allocate(length);
+                        buffer.toByteBuffer(buffer.readPosition(), bytes, 0, length);
+                        copy.write(bytes.array(), 0, length);
+                    })
+                    .doOnComplete(() -> {
+                        if (!overflow[0]) {
+                            CachedResponse response = CachedResponse.of(status.value(), headers, copy.toByteArray(), now, ttl);
+                            store(routeId, key, response, generation);
+                            sink.tryEmitValue(response);
+                        }
+                    }));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.fortexa.api_gateway.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings of the gateway response cache, bound from {@code gateway.response-cache.*}.
+ */
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class ResponseCacheProperties {
+
+    // Whether GET responses of the cached routes are stored and served by the gateway
+    private boolean enabled = true;
+
+    // Freshness lifetime of responses without max-age or s-maxage
+    private Duration defaultTtl = Duration.ofSeconds(30);
+
+    // Stale responses carrying an ETag are kept this long after expiry, to be revalidated with If-None-Match
+    private Duration revalidationWindow = Duration.ofMinutes(5);
+
+    // Total size of the response bodies held in memory
+    private DataSize maximumSize = DataSize.ofMegabytes(64);
+
+    // Larger responses are passed through without being cached
+    private DataSize maximumBodySize = DataSize.ofKilobytes(512);
+
+    // Requests joining an in-flight upstream call for the same key give up and go upstream after this time
+    private Duration coalesceTimeout = Duration.ofSeconds(5);
+
+    // Whether responses are shared with the other gateway nodes through Redis, which also carries the
+    // invalidations so a write through one node drops the entries of every node
+    private boolean redisEnabled = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    public void setDefaultTtl(Duration defaultTtl) {
+        this.defaultTtl = defaultTtl;
+    }
+
+    public Duration getRevalidationWindow() {
+        return revalidationWindow;
+    }
+
+    public void setRevalidationWindow(Duration revalidationWindow) {
+        this.revalidationWindow = revalidationWindow;
+    }
+
+    public DataSize getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(DataSize maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public DataSize getMaximumBodySize() {
+        return maximumBodySize;
+    }
+
+    public void setMaximumBodySize(DataSize maximumBodySize) {
+        this.maximumBodySize = maximumBodySize;
+    }
+
+    public Duration getCoalesceTimeout() {
+        return coalesceTimeout;
+    }
+
+    public void setCoalesceTimeout(Duration coalesceTimeout) {
+        this.coalesceTimeout = coalesceTimeout;
+    }
+
+    public boolean isRedisEnabled() {
+        return redisEnabled;
+    }
+
+    public void setRedisEnabled(boolean redisEnabled) {
+        this.redisEnabled = redisEnabled;
+    }
+}
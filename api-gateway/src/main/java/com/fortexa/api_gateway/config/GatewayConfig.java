@@ -1,17 +1,28 @@
 package com.fortexa.api_gateway.config;
 
+import com.fortexa.api_gateway.cache.ResponseCacheFilter;
+import com.fortexa.api_gateway.hedging.RouteHedging;
+import com.fortexa.api_gateway.resilience.RouteResilience;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
 import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.GatewayFilterSpec;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Set;
+
 /**
  * Configuration class for defining API Gateway routes and applying rate limiting.
  * This class sets up routing rules for various microservices and integrates
- * Redis-based rate limiting using a custom KeyResolver.
+ * Redis-based rate limiting using a custom KeyResolver. The rate limiter is the two-tier
+ * limiter of {@link RateLimiterConfig} when enabled, the plain Redis rate limiter otherwise.
+ * Every route has its own connect and response timeouts and, when enabled, its own bulkhead
+ * and circuit breaker, see {@link ResilienceConfig}. GETs of the routes opted in to hedging
+ * are sent to a second instance when slow, see {@link HedgingConfig}.
  */
 @Configuration
 public class GatewayConfig {
@@ -19,21 +30,47 @@ public class GatewayConfig {
     private static final Logger logger = LoggerFactory.getLogger(GatewayConfig.class);
     private static final int STRIP_PREFIX_COUNT = 2;
 
+    private static final String USER_SERVICE_ROUTE = "user-service-route";
+    private static final String AUTH_SERVICE_ROUTE = "auth-service-route";
+    private static final String PRODUCT_SERVICE_ROUTE = "product-service-route";
+
+    // Backend responses counted as failures by the circuit breakers, besides errors and timeouts
+    private static final Set<String> FAILURE_STATUS_CODES = Set.of("502", "503", "504");
+
     private final KeyResolver customUserKeyResolver;
+    private final RateLimiter<?> rateLimiter;
+    private final ResponseCacheFilter responseCacheFilter;
+    private final RouteResilience routeResilience;
+    private final RouteHedging routeHedging;
 
     /**
-     * Constructor for injecting the custom KeyResolver.
+     * Constructor for injecting the custom KeyResolver, the rate limiter, the response cache,
+     * the per-route resilience settings and the request hedging.
      *
      * @param customUserKeyResolver the KeyResolver used for rate limiting
+     * @param rateLimiter           the primary RateLimiter applied to every route
+     * @param responseCacheFilter   the response cache applied to read-mostly routes
+     * @param routeResilience       the timeouts, bulkheads and circuit breakers of the routes
+     * @param routeHedging          the hedging of idempotent GETs of the routes opted in
      */
-    public GatewayConfig(KeyResolver customUserKeyResolver) {
+    public GatewayConfig(KeyResolver customUserKeyResolver, RateLimiter<?> rateLimiter,
+                         ResponseCacheFilter responseCacheFilter, RouteResilience routeResilience,
+                         RouteHedging routeHedging) {
         this.customUserKeyResolver = customUserKeyResolver;
+        this.rateLimiter = rateLimiter;
+        this.responseCacheFilter = responseCacheFilter;
+        this.routeResilience = routeResilience;
+        this.routeHedging = routeHedging;
     }
 
     /**
      * Configures the routing rules for the API Gateway.
      * Routes are defined for user-service, auth-service, and product-service,
-     * with rate limiting applied using the custom KeyResolver.
+     * with rate limiting applied using the custom KeyResolver. Catalogue GETs of
+     * product-service are additionally served from the gateway response cache.
+     * Cached responses are served before the bulkhead and circuit breaker of the route,
+     * so they keep being served while its backend is down. Hedging comes last, inside the
+     * circuit breaker, so a hedged request counts as one call whatever the number of attempts.
      *
      * @param builder the RouteLocatorBuilder instance
      * @return the configured RouteLocator
@@ -43,27 +80,57 @@ public class GatewayConfig {
         logger.info("Initializing Gateway routes with rate limiting...");
 
         return builder.routes()
-                .route("user-service-route", r -> r
+                .route(USER_SERVICE_ROUTE, r -> r
                         .path("/api/v1/users/**")
-                        .filters(f -> f.stripPrefix(STRIP_PREFIX_COUNT)
-                                .requestRateLimiter(config -> config.setKeyResolver(this.customUserKeyResolver))
+                        .filters(f -> withResilience(USER_SERVICE_ROUTE, f.stripPrefix(STRIP_PREFIX_COUNT)
+                                .requestRateLimiter(config -> config.setKeyResolver(this.customUserKeyResolver)
+                                        .setRateLimiter(this.rateLimiter)))
                         )
+                        .metadata(this.routeResilience.timeoutMetadata(USER_SERVICE_ROUTE))
                         .uri("lb://user-service")
                 )
-                .route("auth-service-route", r -> r
+                .route(AUTH_SERVICE_ROUTE, r -> r
                         .path("/api/auth/**")
-                        .filters(f -> f.stripPrefix(STRIP_PREFIX_COUNT)
-                                .requestRateLimiter(config -> config.setKeyResolver(this.customUserKeyResolver))
+                        .filters(f -> withResilience(AUTH_SERVICE_ROUTE, f.stripPrefix(STRIP_PREFIX_COUNT)
+                                .requestRateLimiter(config -> config.setKeyResolver(this.customUserKeyResolver)
+                                        .setRateLimiter(this.rateLimiter)))
                         )
+                        .metadata(this.routeResilience.timeoutMetadata(AUTH_SERVICE_ROUTE))
                         .uri("lb://auth-service")
                 )
-                .route("product-service-route", r -> r
+                .route(PRODUCT_SERVICE_ROUTE, r -> r
                         .path("/api/products/**")
-                        .filters(f -> f.stripPrefix(STRIP_PREFIX_COUNT)
-                                .requestRateLimiter(config -> config.setKeyResolver(this.customUserKeyResolver))
+                        .filters(f -> withResilience(PRODUCT_SERVICE_ROUTE, f.stripPrefix(STRIP_PREFIX_COUNT)
+                                .requestRateLimiter(config -> config.setKeyResolver(this.customUserKeyResolver)
+                                        .setRateLimiter(this.rateLimiter))
+                                .filter(this.responseCacheFilter))
                         )
+                        .metadata(this.routeResilience.timeoutMetadata(PRODUCT_SERVICE_ROUTE))
                         .uri("lb://product-service")
                 )
                 .build();
     }
+
+    /**
+     * Appends the bulkhead and the circuit breaker of a route to its filters, when enabled,
+     * followed by its hedging filter when the route opted in to hedging.
+     * Failed and timed out requests, and requests rejected by an open circuit breaker,
+     * are answered by the fallback endpoint of {@link ResilienceConfig}.
+     *
+     * @param routeId the ID of the route
+     * @param filters the filters of the route
+     * @return the filters of the route
+     */
+    private GatewayFilterSpec withResilience(String routeId, GatewayFilterSpec filters) {
+        if (this.routeResilience.isEnabled()) {
+            filters = filters.filter(this.routeResilience.bulkhead(routeId))
+                    .circuitBreaker(config -> config.setName(routeId)
+                            .setFallbackUri(this.routeResilience.fallbackUri(routeId))
+                            .setStatusCodes(FAILURE_STATUS_CODES));
+        }
+        if (this.routeHedging.isEnabled(routeId)) {
+            filters = filters.filter(this.routeHedging.filter(routeId));
+        }
+        return filters;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.fortexa.api_gateway.config;
+
+import com.fortexa.api_gateway.hedging.HedgingProperties;
+import com.fortexa.api_gateway.hedging.InstanceChooser;
+import com.fortexa.api_gateway.hedging.RetryBudget;
+import com.fortexa.api_gateway.hedging.RouteHedging;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.List;
+
+/**
+ * Configuration class for the hedging of idempotent GETs applied in {@link GatewayConfig}.
+ */
+@Configuration
+@EnableConfigurationProperties(HedgingProperties.class)
+public class HedgingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(HedgingConfig.class);
+
+    /**
+     * Defines the gateway-wide budget of hedges.
+     *
+     * @param properties    the hedging settings
+     * @param meterRegistry the registry the budget balance is published to
+     * @return the {@link RetryBudget} instance
+     */
+    @Bean
+    public RetryBudget hedgingRetryBudget(HedgingProperties properties, MeterRegistry meterRegistry) {
+        RetryBudget budget = new RetryBudget(properties.getBudgetRatio(), properties.getBudgetMinimumPerSecond(),
+                properties.getBudgetMaximumBalance());
+        Gauge.builder("gateway.hedging.budget.balance", budget, RetryBudget::balance)
+                .description("Hedges currently available in the retry budget")
+                .register(meterRegistry);
+        return budget;
+    }
+
+    /**
+     * Defines the hedging filters of the routes, sending attempts through the gateway HTTP client
+     * to instances chosen by the load balancer of the service.
+     *
+     * @param properties     the hedging settings
+     * @param budget         the gateway-wide budget of hedges
+     * @param clientFactory  the factory of the service load balancers
+     * @param httpClient     the HTTP client of the gateway, sharing its connection pool and timeouts
+     * @param headersFilters the header filters applied by the routing filter
+     * @param meterRegistry  the registry the hedging metrics are published to
+     * @return the {@link RouteHedging} instance
+     */
+    @Bean
+    public RouteHedging routeHedging(HedgingProperties properties, RetryBudget budget,
+                                     LoadBalancerClientFactory clientFactory, HttpClient httpClient,
+                                     ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+                                     MeterRegistry meterRegistry) {
+        InstanceChooser instanceChooser = serviceId -> Mono.from(clientFactory.getInstance(serviceId).choose())
+                .filter(Response::hasServer)
+                .map(Response::getServer);
+
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs()
+                        .maxInMemorySize((int) properties.getMaximumResponseSize().toBytes()))
+                .build();
+
+        logger.info("Request hedging enabled: {}, routes: {}, delay percentile: {}, budget ratio: {}",
+                properties.isEnabled(), properties.getRoutes(), properties.getDelayPercentile(),
+                properties.getBudgetRatio());
+        return new RouteHedging(properties, budget, instanceChooser, webClient,
+                () -> headersFilters.getIfAvailable(List::of), meterRegistry);
+    }
+}
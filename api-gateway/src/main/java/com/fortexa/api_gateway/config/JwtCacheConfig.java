@@ -0,0 +1,49 @@
+package com.fortexa.api_gateway.config;
+
+import com.fortexa.api_gateway.security.JwksRotationMonitor;
+import com.fortexa.api_gateway.security.JwtAuthenticationCache;
+import com.fortexa.api_gateway.security.JwtCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Configuration class for the cache of verified JWT authentications used by {@link SecurityConfig}.
+ */
+@Configuration
+@EnableConfigurationProperties(JwtCacheProperties.class)
+@ConditionalOnProperty(prefix = "gateway.jwt-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JwtCacheConfig {
+
+    /**
+     * Defines the cache of verified JWT authentications.
+     *
+     * @param properties    the cache settings
+     * @param meterRegistry the registry the cache metrics are published to
+     * @return the {@link JwtAuthenticationCache} instance
+     */
+    @Bean
+    public JwtAuthenticationCache jwtAuthenticationCache(JwtCacheProperties properties, MeterRegistry meterRegistry) {
+        return new JwtAuthenticationCache(properties, meterRegistry);
+    }
+
+    /**
+     * Defines the monitor invalidating cached authentications when signing keys are rotated.
+     * Only created when a JWK set URI is configured.
+     *
+     * @param webClientBuilder       the builder used to create the client fetching the JWK set
+     * @param jwtAuthenticationCache the cache to invalidate
+     * @param properties             the cache settings
+     * @return the {@link JwksRotationMonitor} instance
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "gateway.jwt-cache", name = "jwk-set-uri")
+    public JwksRotationMonitor jwksRotationMonitor(WebClient.Builder webClientBuilder,
+                                                   JwtAuthenticationCache jwtAuthenticationCache,
+                                                   JwtCacheProperties properties) {
+        return new JwksRotationMonitor(webClientBuilder, jwtAuthenticationCache, properties);
+    }
+}
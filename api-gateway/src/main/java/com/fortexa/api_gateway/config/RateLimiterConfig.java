@@ -0,0 +1,46 @@
+package com.fortexa.api_gateway.config;
+
+import com.fortexa.api_gateway.ratelimit.RedisTokenLeaser;
+import com.fortexa.api_gateway.ratelimit.TieredRateLimiter;
+import com.fortexa.api_gateway.ratelimit.TieredRateLimiterProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+/**
+ * Configuration class for the two-tier rate limiter.
+ *
+ * When enabled, the {@link TieredRateLimiter} takes precedence over the Redis rate limiter
+ * provided by Spring Cloud Gateway, which is still used when the tiered limiter is disabled.
+ */
+@Configuration
+@EnableConfigurationProperties(TieredRateLimiterProperties.class)
+public class RateLimiterConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiterConfig.class);
+
+    /**
+     * Defines the two-tier rate limiter, leasing tokens from Redis.
+     *
+     * @param redisTemplate the template used to lease tokens from Redis
+     * @param properties    the limiter settings
+     * @param meterRegistry the registry the limiter metrics are published to
+     * @return the {@link TieredRateLimiter} instance
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "gateway.rate-limiter.tiered", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public TieredRateLimiter tieredRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+                                               TieredRateLimiterProperties properties,
+                                               MeterRegistry meterRegistry) {
+        logger.info("Two-tier rate limiter enabled: {} tokens/s, burst {}, lease size {}",
+                properties.getReplenishRate(), properties.getBurstCapacity(), properties.getLeaseSize());
+        return new TieredRateLimiter(new RedisTokenLeaser(redisTemplate, properties), properties, meterRegistry);
+    }
+}
@@ -0,0 +1,85 @@
+package com.fortexa.api_gateway.config;
+
+import com.fortexa.api_gateway.resilience.CircuitBreakerStateMetrics;
+import com.fortexa.api_gateway.resilience.FallbackHandler;
+import com.fortexa.api_gateway.resilience.RouteResilience;
+import com.fortexa.api_gateway.resilience.RouteResilienceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Configuration class for the per-route circuit breakers, timeouts and bulkheads applied in {@link GatewayConfig}.
+ */
+@Configuration
+@EnableConfigurationProperties(RouteResilienceProperties.class)
+public class ResilienceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilienceConfig.class);
+
+    /**
+     * Defines the handler writing the responses of requests a route could not serve.
+     *
+     * @param properties the resilience settings
+     * @return the {@link FallbackHandler} instance
+     */
+    @Bean
+    public FallbackHandler fallbackHandler(RouteResilienceProperties properties) {
+        return new FallbackHandler(properties);
+    }
+
+    /**
+     * Exposes the fallback endpoint the circuit breakers forward failed requests to.
+     *
+     * @param fallbackHandler the handler writing the fallback responses
+     * @return the fallback {@link RouterFunction}
+     */
+    @Bean
+    public RouterFunction<ServerResponse> fallbackRoute(FallbackHandler fallbackHandler) {
+        return RouterFunctions.route(RequestPredicates.path(FallbackHandler.PATH_PATTERN), fallbackHandler::handle);
+    }
+
+    /**
+     * Defines the per-route resilience settings used by the routes of {@link GatewayConfig}.
+     *
+     * @param properties      the resilience settings
+     * @param fallbackHandler the handler writing the responses of rejected requests
+     * @param meterRegistry   the registry the bulkhead metrics are published to
+     * @return the {@link RouteResilience} instance
+     */
+    @Bean
+    public RouteResilience routeResilience(RouteResilienceProperties properties, FallbackHandler fallbackHandler,
+                                           MeterRegistry meterRegistry) {
+        logger.info("Route resilience enabled: {}, defaults: max {} concurrent calls, {} response timeout",
+                properties.isEnabled(), properties.getDefaults().getMaxConcurrentCalls(),
+                properties.getDefaults().getResponseTimeout());
+        return new RouteResilience(properties, fallbackHandler, meterRegistry);
+    }
+
+    /**
+     * Configures the circuit breakers created for the routes with the settings of their route,
+     * and publishes their state metrics.
+     *
+     * @param routeResilience the per-route resilience settings
+     * @param meterRegistry   the registry the circuit breaker metrics are published to
+     * @return the customizer of the Resilience4J circuit breaker factory
+     */
+    @Bean
+    public Customizer<ReactiveResilience4JCircuitBreakerFactory> routeCircuitBreakerCustomizer(
+            RouteResilience routeResilience, MeterRegistry meterRegistry) {
+        CircuitBreakerStateMetrics stateMetrics = new CircuitBreakerStateMetrics(meterRegistry);
+        return factory -> {
+            factory.configureDefault(routeResilience::circuitBreakerConfiguration);
+            stateMetrics.bindTo(factory.getCircuitBreakerRegistry());
+        };
+    }
+}
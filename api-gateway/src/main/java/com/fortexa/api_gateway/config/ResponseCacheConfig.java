@@ -0,0 +1,45 @@
+package com.fortexa.api_gateway.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortexa.api_gateway.cache.RedisResponseCacheStore;
+import com.fortexa.api_gateway.cache.ResponseCacheFilter;
+import com.fortexa.api_gateway.cache.ResponseCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+/**
+ * Configuration class for the gateway response cache applied to read-mostly routes in {@link GatewayConfig}.
+ */
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheConfig.class);
+
+    /**
+     * Defines the response cache filter, with a Redis tier when enabled.
+     *
+     * @param properties    the cache settings
+     * @param redisTemplate the template used by the Redis tier
+     * @param objectMapper  the mapper used to serialize responses stored in Redis
+     * @param meterRegistry the registry the cache metrics are published to
+     * @return the {@link ResponseCacheFilter} instance
+     */
+    @Bean
+    public ResponseCacheFilter responseCacheFilter(ResponseCacheProperties properties,
+                                                   ReactiveStringRedisTemplate redisTemplate,
+                                                   ObjectMapper objectMapper,
+                                                   MeterRegistry meterRegistry) {
+        RedisResponseCacheStore redisStore = properties.isRedisEnabled()
+                ? new RedisResponseCacheStore(redisTemplate, objectMapper)
+                : null;
+        logger.info("Response cache enabled: {}, Redis tier: {}, maximum size: {}",
+                properties.isEnabled(), properties.isRedisEnabled(), properties.getMaximumSize());
+        return new ResponseCacheFilter(properties, redisStore, meterRegistry);
+    }
+}
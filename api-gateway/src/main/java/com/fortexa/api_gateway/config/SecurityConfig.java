@@ -1,20 +1,25 @@
 package com.fortexa.api_gateway.config;
 
+import com.fortexa.api_gateway.security.CachingJwtAuthenticationManager;
+import com.fortexa.api_gateway.security.JwtAuthenticationCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtReactiveAuthenticationManager;
 import org.springframework.security.web.server.SecurityWebFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.reactive.CorsWebFilter;
@@ -56,37 +61,57 @@ public class SecurityConfig {
         return jwt -> {
             // Get default authorities (e.g., from 'scope' claim)
             Collection<GrantedAuthority> defaultAuthorities = defaultGrantedAuthoritiesConverter.convert(jwt);
-            if (defaultAuthorities.isEmpty()) {
-                defaultAuthorities = new ArrayList<>(); // Initialize if null
-            } else {
-                defaultAuthorities = new ArrayList<>(defaultAuthorities); // Make mutable to add more
-            }
+
+            // Use a Set to combine and avoid duplicates if any, sized for the primary role as well
+            Collection<GrantedAuthority> finalAuthorities = new HashSet<>(defaultAuthorities.size() * 2 + 2);
+            finalAuthorities.addAll(defaultAuthorities);
 
             String primaryRole = jwt.getClaimAsString(PRIMARY_ROLE_CLAIM);
             if (primaryRole != null && !primaryRole.trim().isEmpty()) {
                 // Add the primary role, prefixed with "ROLE_"
-                defaultAuthorities.add(new SimpleGrantedAuthority("ROLE_" + primaryRole.toUpperCase()));
-                logger.debug("Extracted primary role: ROLE_{}", primaryRole.toUpperCase());
+                String roleAuthority = "ROLE_" + primaryRole.toUpperCase();
+                finalAuthorities.add(new SimpleGrantedAuthority(roleAuthority));
+                logger.debug("Extracted primary role: {}", roleAuthority);
             } else {
                 logger.debug("No '{}' claim found in JWT or it's empty.", PRIMARY_ROLE_CLAIM);
             }
 
-            // Use a Set to combine and avoid duplicates if any
-            Collection<GrantedAuthority> finalAuthorities = new HashSet<>(defaultAuthorities);
-
             // Last argument to JwtAuthenticationToken is the principal name. Using jwt.getSubject() is common.
             return Mono.just(new JwtAuthenticationToken(jwt, finalAuthorities, jwt.getSubject()));
         };
     }
 
+    /**
+     * Builds the manager authenticating bearer tokens: the JWT is decoded and verified by the decoder,
+     * then mapped by {@link #customJwtAuthenticationConverter()}. When the JWT cache is enabled, repeat
+     * tokens are answered from the cache and skip all of these steps.
+     *
+     * @param jwtDecoder             the decoder verifying the token signature and claims
+     * @param jwtAuthenticationCache the cache of verified tokens, if enabled
+     * @return the {@link ReactiveAuthenticationManager} used by the resource server
+     */
+    ReactiveAuthenticationManager jwtAuthenticationManager(ReactiveJwtDecoder jwtDecoder,
+                                                           JwtAuthenticationCache jwtAuthenticationCache) {
+        JwtReactiveAuthenticationManager jwtAuthenticationManager = new JwtReactiveAuthenticationManager(jwtDecoder);
+        jwtAuthenticationManager.setJwtAuthenticationConverter(customJwtAuthenticationConverter());
+        if (jwtAuthenticationCache == null) {
+            return jwtAuthenticationManager;
+        }
+        return new CachingJwtAuthenticationManager(jwtAuthenticationManager, jwtAuthenticationCache);
+    }
+
     /**
      * Configures the security filter chain for the API Gateway.
      *
-     * @param http the {@link ServerHttpSecurity} instance
+     * @param http                   the {@link ServerHttpSecurity} instance
+     * @param jwtDecoder             the decoder verifying bearer tokens
+     * @param jwtAuthenticationCache the cache of verified tokens, absent when disabled
      * @return the configured {@link SecurityWebFilterChain}
      */
     @Bean
-    public SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity http) {
+    public SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity http,
+                                                            ReactiveJwtDecoder jwtDecoder,
+                                                            ObjectProvider<JwtAuthenticationCache> jwtAuthenticationCache) {
         http
                 .authorizeExchange(exchanges -> exchanges
                         .pathMatchers(PUBLIC_URLS).permitAll()
@@ -101,7 +126,8 @@ public class SecurityConfig {
                         .anyExchange().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
-                        .jwt(jwt -> jwt.jwtAuthenticationConverter(customJwtAuthenticationConverter()))
+                        .jwt(jwt -> jwt.authenticationManager(
+                                jwtAuthenticationManager(jwtDecoder, jwtAuthenticationCache.getIfAvailable())))
                 );
 
         http.csrf(ServerHttpSecurity.CsrfSpec::disable);
@@ -137,20 +163,4 @@ public class SecurityConfig {
     private List<String> getAllowedOrigins() {
         return Collections.singletonList("http://localhost:3000");
     }
-
-    /**
-     * Defines a custom global filter for the API Gateway.
-     * @return the {@link GlobalFilter} instance
-     */
-    @Bean
-    public GlobalFilter customGlobalFilter() {
-        return (exchange, chain) -> {
-            logger.info("Processing request: {}", exchange.getRequest().getURI());
-            exchange.getRequest().mutate().header("X-Gateway-Timestamp", String.valueOf(System.currentTimeMillis())).build();
-            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
-                exchange.getResponse().getHeaders().add("X-Gateway-Processed", "true");
-                logger.info("Response processed for: {}", exchange.getRequest().getURI());
-            }));
-        };
-    }
 }
\ No newline at end of file
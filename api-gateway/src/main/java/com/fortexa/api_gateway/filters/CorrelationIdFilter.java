@@ -1,26 +1,52 @@
 package com.fortexa.api_gateway.filters;
 
+import com.fortexa.api_gateway.util.CorrelationIdGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import reactor.core.publisher.Mono;
 
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A filter that ensures every request has a unique Correlation ID for tracking purposes.
  * The Correlation ID is added to the request headers and the MDC (Mapped Diagnostic Context)
  * for logging and tracing across distributed systems.
+ *
+ * This is the only global filter touching headers: the correlation ID and the gateway timestamp are
+ * added to the request with a single mutation, and the processed marker is set on the response
+ * before it is committed. Access logging is sampled, one request in {@code gateway.access-log.sample-rate}
+ * is logged on completion, so the log volume does not grow with the traffic.
  */
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class CorrelationIdFilter implements GlobalFilter {
+    private static final Logger accessLogger = LoggerFactory.getLogger("com.fortexa.api_gateway.access");
+
     private static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
     private static final String CORRELATION_ID_MDC_KEY = "correlation_id";
+    private static final String TIMESTAMP_HEADER = "X-Gateway-Timestamp";
+    private static final String PROCESSED_HEADER = "X-Gateway-Processed";
+
+    private final int accessLogSampleRate;
+
+    /**
+     * Constructor for injecting the access log sample rate.
+     *
+     * @param accessLogSampleRate one request in this many is logged, 1 or less logs every request
+     */
+    public CorrelationIdFilter(@Value("${gateway.access-log.sample-rate:100}") int accessLogSampleRate) {
+        this.accessLogSampleRate = Math.max(1, accessLogSampleRate);
+    }
 
     /**
      * Filters the incoming request to ensure a Correlation ID is present.
@@ -33,27 +59,43 @@ public class CorrelationIdFilter implements GlobalFilter {
      */
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        String correlationId = exchange.getRequest()
-                .getHeaders()
-                .getFirst(CORRELATION_ID_HEADER);
+        ServerHttpRequest request = exchange.getRequest();
+        String incomingId = request.getHeaders().getFirst(CORRELATION_ID_HEADER);
+        boolean generated = incomingId == null || incomingId.isEmpty();
+        String correlationId = generated ? CorrelationIdGenerator.next() : incomingId;
+        String timestamp = Long.toString(System.currentTimeMillis());
 
-        if (correlationId == null || correlationId.isEmpty()) {
-            correlationId = UUID.randomUUID().toString();
-        }
+        // One mutation carrying every header the gateway adds to the request
+        ServerHttpRequest mutatedRequest = request.mutate()
+                .headers(headers -> {
+                    if (generated) {
+                        headers.set(CORRELATION_ID_HEADER, correlationId);
+                    }
+                    headers.set(TIMESTAMP_HEADER, timestamp);
+                })
+                .build();
 
-        if (correlationId != null && !correlationId.isEmpty()) {
-            MDC.put(CORRELATION_ID_MDC_KEY, correlationId);
-        }
+        // Response headers are only writable until the response is committed, so they are set up front
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().set(CORRELATION_ID_HEADER, correlationId);
+        response.getHeaders().set(PROCESSED_HEADER, "true");
 
-        String finalCorrelationId = correlationId;
+        MDC.put(CORRELATION_ID_MDC_KEY, correlationId);
+        Mono<Void> result = chain.filter(exchange.mutate().request(mutatedRequest).build());
 
-        ServerWebExchange mutated = exchange.mutate()
-                .request(r -> r.header(CORRELATION_ID_HEADER, finalCorrelationId))
-                .build();
+        if (!isSampled()) {
+            return result.doFinally(signal -> MDC.remove(CORRELATION_ID_MDC_KEY));
+        }
+        long startNanos = System.nanoTime();
+        return result.doFinally(signal -> {
+            MDC.remove(CORRELATION_ID_MDC_KEY);
+            accessLogger.info("{} {} {} {} {} ms", correlationId, request.getMethod(), request.getPath().value(),
+                    response.getStatusCode(), (System.nanoTime() - startNanos) / 1_000_000);
+        });
+    }
 
-        return chain.filter(mutated)
-                .doFinally(signal -> {
-                    MDC.remove(CORRELATION_ID_MDC_KEY);
-                });
+    private boolean isSampled() {
+        return accessLogger.isInfoEnabled()
+                && (accessLogSampleRate == 1 || ThreadLocalRandom.current().nextInt(accessLogSampleRate) == 0);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,311 @@
+package com.fortexa.api_gateway.hedging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Route filter hedging idempotent GETs against slow backend instances.
+ *
+ * The request is sent to one instance; if no usable response has arrived once the hedge delay has passed,
+ * the same request is sent to another instance and the first usable response wins, the other attempt
+ * being cancelled. A response is usable unless it is a 5xx. The hedge delay follows the configured
+ * percentile (p95 by default) of the recent latencies of the route, so only the slowest requests are
+ * hedged, and every hedge is paid for by the gateway-wide {@link RetryBudget}.
+ *
+ * Hedged GETs are proxied by this filter itself and end the filter chain, as the routing filter can only
+ * send a request once; other methods continue down the chain untouched. Responses are buffered, up to
+ * the configured maximum size, before being written: streamed responses (excluded paths, streaming media
+ * types) are never hedged, and a response over the maximum size is fetched again through the routing filter.
+ */
+public class HedgingFilter implements GatewayFilter {
+
+    private static final String LOAD_BALANCED_SCHEME = "lb";
+
+    // Attempts at choosing an instance other than the one of the first attempt
+    private static final int ALTERNATE_INSTANCE_ATTEMPTS = 3;
+
+    private static final List<MediaType> STREAMING_MEDIA_TYPES = List.of(
+            MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final String routeId;
+    private final HedgingProperties properties;
+    private final RetryBudget budget;
+    private final InstanceChooser instanceChooser;
+    private final WebClient webClient;
+    private final Supplier<List<HttpHeadersFilter>> headersFiltersSupplier;
+    private final LatencyWindow latencies;
+
+    private final long refreshIntervalNanos;
+    private final AtomicLong delayComputedAtNanos;
+    private volatile long delayNanos;
+    private volatile List<HttpHeadersFilter> headersFilters;
+
+    private final Counter requests;
+    private final Counter hedges;
+    private final Counter primaryWins;
+    private final Counter hedgeWins;
+    private final Counter budgetExhausted;
+    private final Counter noAlternateInstance;
+    private final Counter responseTooLarge;
+
+    /**
+     * Constructor for the hedging filter of one route.
+     *
+     * @param routeId                the ID of the route, used in the metrics
+     * @param properties             the hedging settings
+     * @param budget                 the budget shared by every hedged route
+     * @param instanceChooser        the chooser of the instances attempts are sent to
+     * @param webClient              the client sending the attempts
+     * @param headersFiltersSupplier the header filters applied by the routing filter, applied to attempts too
+     * @param meterRegistry          the registry the hedging metrics are published to
+     */
+    public HedgingFilter(String routeId, HedgingProperties properties, RetryBudget budget,
+                         InstanceChooser instanceChooser, WebClient webClient,
+                         Supplier<List<HttpHeadersFilter>> headersFiltersSupplier, MeterRegistry meterRegistry) {
+        this.routeId = routeId;
+        this.properties = properties;
+        this.budget = budget;
+        this.instanceChooser = instanceChooser;
+        this.webClient = webClient;
+        this.headersFiltersSupplier = headersFiltersSupplier;
+        this.latencies = new LatencyWindow(properties.getWindowSize());
+
+        this.refreshIntervalNanos = properties.getDelayRefreshInterval().toNanos();
+        this.delayNanos = properties.getInitialDelay().toNanos();
+        this.delayComputedAtNanos = new AtomicLong(System.nanoTime() - refreshIntervalNanos);
+
+        this.requests = counter("gateway.hedging.requests", "Requests eligible for hedging").register(meterRegistry);
+        this.hedges = counter("gateway.hedging.hedges", "Hedges sent to a second instance").register(meterRegistry);
+        this.primaryWins = counter("gateway.hedging.wins", "Hedged requests, by the attempt whose response was used")
+                .tag("attempt", "primary").register(meterRegistry);
+        this.hedgeWins = counter("gateway.hedging.wins", "Hedged requests, by the attempt whose response was used")
+                .tag("attempt", "hedge").register(meterRegistry);
+        this.budgetExhausted = counter("gateway.hedging.skipped", "Hedges not sent, by reason")
+                .tag("reason", "budget").register(meterRegistry);
+        this.noAlternateInstance = counter("gateway.hedging.skipped", "Hedges not sent, by reason")
+                .tag("reason", "no_alternate_instance").register(meterRegistry);
+        this.responseTooLarge = counter("gateway.hedging.unbuffered",
+                "Hedged requests routed again as their response exceeded the maximum size").register(meterRegistry);
+        Gauge.builder("gateway.hedging.delay", this, filter -> filter.delayNanos / 1_000_000.0)
+                .description("Current delay after which a hedge is sent")
+                .baseUnit("milliseconds")
+                .tag("route", routeId)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (exchange.getRequest().getMethod() != HttpMethod.GET || route == null
+                || !LOAD_BALANCED_SCHEME.equals(route.getUri().getScheme()) || isStreamed(exchange.getRequest())) {
+            return chain.filter(exchange);
+        }
+
+        String serviceId = route.getUri().getHost();
+        requests.increment();
+        budget.deposit();
+
+        // Without any instance, let the routing filters answer as they do for unhedged routes
+        return instanceChooser.choose(serviceId)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(primary -> primary.isPresent()
+                        ? hedge(exchange, chain, route, serviceId, primary.get())
+                        : chain.filter(exchange));
+    }
+
+    private boolean isStreamed(ServerHttpRequest request) {
+        String path = request.getPath().value();
+        return properties.getExcludedPaths().stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path))
+                || request.getHeaders().getAccept().stream()
+                .anyMatch(accepted -> STREAMING_MEDIA_TYPES.stream().anyMatch(accepted::equalsTypeAndSubtype));
+    }
+
+    private Mono<Void> hedge(ServerWebExchange exchange, GatewayFilterChain chain, Route route, String serviceId,
+                             ServiceInstance primary) {
+        HttpHeaders headers = HttpHeadersFilter.filterRequest(headersFilters(), exchange);
+        Duration attemptTimeout = responseTimeout(route);
+        AtomicBoolean hedged = new AtomicBoolean();
+
+        Mono<Attempt> first = attempt(exchange, primary, headers, attemptTimeout, false);
+        Mono<Attempt> second = Mono.delay(Duration.ofNanos(hedgeDelayNanos()))
+                .flatMap(tick -> alternateInstance(serviceId, primary))
+                .flatMap(instance -> {
+                    if (!budget.tryWithdraw()) {
+                        budgetExhausted.increment();
+                        return Mono.empty();
+                    }
+                    hedged.set(true);
+                    hedges.increment();
+                    return attempt(exchange, instance, headers, attemptTimeout, true);
+                });
+
+        // The first usable response cancels the other attempt; if none is usable, the last one is used.
+        // A response too large to buffer would be as large from the other instance, so it ends the race too,
+        // and as nothing has been written yet the request goes through the routing filter, which streams it
+        return Flux.merge(first, second)
+                .takeUntil(attempt -> attempt.isUsable() || attempt.isTooLarge())
+                .last()
+                .flatMap(attempt -> {
+                    if (attempt.isTooLarge()) {
+                        responseTooLarge.increment();
+                        return chain.filter(exchange);
+                    }
+                    if (hedged.get() && attempt.isUsable()) {
+                        (attempt.hedge() ? hedgeWins : primaryWins).increment();
+                    }
+                    return write(exchange, attempt);
+                });
+    }
+
+    private Mono<ServiceInstance> alternateInstance(String serviceId, ServiceInstance primary) {
+        return Flux.range(0, ALTERNATE_INSTANCE_ATTEMPTS)
+                .concatMap(i -> instanceChooser.choose(serviceId))
+                .filter(candidate -> !candidate.getUri().equals(primary.getUri()))
+                .next()
+                .doOnSuccess(instance -> {
+                    if (instance == null) {
+                        noAlternateInstance.increment();
+                    }
+                });
+    }
+
+    private Mono<Attempt> attempt(ServerWebExchange exchange, ServiceInstance instance, HttpHeaders headers,
+                                  Duration timeout, boolean hedge) {
+        ServerHttpRequest request = exchange.getRequest();
+        URI uri = UriComponentsBuilder.fromUri(instance.getUri())
+                .replacePath(request.getURI().getRawPath())
+                .replaceQuery(request.getURI().getRawQuery())
+                .build(true)
+                .toUri();
+
+        Mono<ResponseEntity<byte[]>> exchangeMono = webClient.get()
+                .uri(uri)
+                .headers(attemptHeaders -> {
+                    attemptHeaders.addAll(headers);
+                    attemptHeaders.remove(HttpHeaders.HOST);
+                })
+                .exchangeToMono(response -> response.toEntity(byte[].class));
+        Mono<ResponseEntity<byte[]>> call = timeout != null ? exchangeMono.timeout(timeout) : exchangeMono;
+
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                    .map(response -> {
+                        latencies.record(System.nanoTime() - start);
+                        return new Attempt(hedge, response, null);
+                    })
+                    // Cancelled attempts lost the race and are not recorded: their elapsed time is not a
+                    // latency, and it would drag the percentile towards the hedge delay it was cut off at
+                    .onErrorResume(ex -> Mono.just(new Attempt(hedge, null, ex)));
+        });
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, Attempt attempt) {
+        if (attempt.response() == null) {
+            return Mono.error(attempt.error());
+        }
+        ServerWebExchangeUtils.setAlreadyRouted(exchange);
+
+        ResponseEntity<byte[]> upstream = attempt.response();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(upstream.getStatusCode());
+        response.getHeaders().putAll(HttpHeadersFilter.filter(headersFilters(), upstream.getHeaders(), exchange,
+                HttpHeadersFilter.Type.RESPONSE));
+        // The body is written in one piece with its length known
+        response.getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+
+        byte[] body = upstream.getBody();
+        if (body == null) {
+            return response.writeWith(Flux.empty());
+        }
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+    }
+
+    /**
+     * Returns the current hedge delay, recomputing it from the latency window at most once per refresh interval.
+     */
+    private long hedgeDelayNanos() {
+        long now = System.nanoTime();
+        long computedAt = delayComputedAtNanos.get();
+        if (now - computedAt >= refreshIntervalNanos && delayComputedAtNanos.compareAndSet(computedAt, now)) {
+            delayNanos = computeDelayNanos();
+        }
+        return delayNanos;
+    }
+
+    private long computeDelayNanos() {
+        if (latencies.count() < properties.getMinimumSamples()) {
+            return properties.getInitialDelay().toNanos();
+        }
+        long percentile = latencies.percentile(properties.getDelayPercentile());
+        return Math.max(properties.getMinimumDelay().toNanos(),
+                Math.min(properties.getMaximumDelay().toNanos(), percentile));
+    }
+
+    private List<HttpHeadersFilter> headersFilters() {
+        List<HttpHeadersFilter> filters = headersFilters;
+        if (filters == null) {
+            filters = headersFiltersSupplier.get();
+            headersFilters = filters;
+        }
+        return filters;
+    }
+
+    // Each attempt gets the response timeout of the route, like unhedged requests
+    private static Duration responseTimeout(Route route) {
+        Object timeout = route.getMetadata().get(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR);
+        return timeout instanceof Number millis && millis.longValue() >= 0 ? Duration.ofMillis(millis.longValue()) : null;
+    }
+
+    private Counter.Builder counter(String name, String description) {
+        return Counter.builder(name).description(description).tag("route", routeId);
+    }
+
+    /**
+     * Outcome of one attempt: the upstream response, or the error it failed with.
+     */
+    private record Attempt(boolean hedge, ResponseEntity<byte[]> response, Throwable error) {
+
+        boolean isUsable() {
+            return response != null && !response.getStatusCode().is5xxServerError();
+        }
+
+        boolean isTooLarge() {
+            return error instanceof DataBufferLimitException;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.fortexa.api_gateway.hedging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Settings of request hedging for idempotent reads, bound from {@code gateway.hedging.*}.
+ */
+@ConfigurationProperties(prefix = "gateway.hedging")
+public class HedgingProperties {
+
+    // Whether GETs of the hedged routes may be sent to a second instance
+    private boolean enabled = false;
+
+    // IDs of the routes whose GETs are hedged; only list routes whose GETs are idempotent
+    private Set<String> routes = new HashSet<>();
+
+    // Ant-style patterns of the request paths never hedged, such as streamed exports; GETs accepting a
+    // streaming media type (NDJSON, server-sent events) are never hedged either
+    private List<String> excludedPaths = new ArrayList<>(List.of("/**/export"));
+
+    // Percentile of the recent upstream latencies after which the hedge is sent
+    private double delayPercentile = 0.95;
+
+    // Bounds of the hedge delay, whatever the observed latencies
+    private Duration minimumDelay = Duration.ofMillis(20);
+    private Duration maximumDelay = Duration.ofSeconds(1);
+
+    // Hedge delay used until enough latencies have been observed
+    private Duration initialDelay = Duration.ofMillis(100);
+
+    // Latencies needed before the delay is derived from them
+    private int minimumSamples = 100;
+
+    // Number of most recent latencies per route the percentile is computed over
+    private int windowSize = 1000;
+
+    // How often the hedge delay is recomputed from the window
+    private Duration delayRefreshInterval = Duration.ofSeconds(1);
+
+    // Largest response buffered by a hedged request; larger responses are fetched again through the routing filter
+    private DataSize maximumResponseSize = DataSize.ofMegabytes(1);
+
+    // Hedges earned per hedged route request, e.g. 0.1 allows 10% extra requests on average
+    private double budgetRatio = 0.1;
+
+    // Hedges allowed per second regardless of traffic, so quiet routes can still hedge
+    private int budgetMinimumPerSecond = 5;
+
+    // Upper bound of the saved up hedges, limiting the burst of hedges after a quiet period
+    private int budgetMaximumBalance = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Set<String> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Set<String> routes) {
+        this.routes = routes;
+    }
+
+    public List<String> getExcludedPaths() {
+        return excludedPaths;
+    }
+
+    public void setExcludedPaths(List<String> excludedPaths) {
+        this.excludedPaths = excludedPaths;
+    }
+
+    public double getDelayPercentile() {
+        return delayPercentile;
+    }
+
+    public void setDelayPercentile(double delayPercentile) {
+        this.delayPercentile = delayPercentile;
+    }
+
+    public Duration getMinimumDelay() {
+        return minimumDelay;
+    }
+
+    public void setMinimumDelay(Duration minimumDelay) {
+        this.minimumDelay = minimumDelay;
+    }
+
+    public Duration getMaximumDelay() {
+        return maximumDelay;
+    }
+
+    public void setMaximumDelay(Duration maximumDelay) {
+        this.maximumDelay = maximumDelay;
+    }
+
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    public void setInitialDelay(Duration initialDelay) {
+        this.initialDelay = initialDelay;
+    }
+
+    public int getMinimumSamples() {
+        return minimumSamples;
+    }
+
+    public void setMinimumSamples(int minimumSamples) {
+        this.minimumSamples = minimumSamples;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public Duration getDelayRefreshInterval() {
+        return delayRefreshInterval;
+    }
+
+    public void setDelayRefreshInterval(Duration delayRefreshInterval) {
+        this.delayRefreshInterval = delayRefreshInterval;
+    }
+
+    public DataSize getMaximumResponseSize() {
+        return maximumResponseSize;
+    }
+
+    public void setMaximumResponseSize(DataSize maximumResponseSize) {
+        this.maximumResponseSize = maximumResponseSize;
+    }
+
+    public double getBudgetRatio() {
+        return budgetRatio;
+    }
+
+    public void setBudgetRatio(double budgetRatio) {
+        this.budgetRatio = budgetRatio;
+    }
+
+    public int getBudgetMinimumPerSecond() {
+        return budgetMinimumPerSecond;
+    }
+
+    public void setBudgetMinimumPerSecond(int budgetMinimumPerSecond) {
+        this.budgetMinimumPerSecond = budgetMinimumPerSecond;
+    }
+
+    public int getBudgetMaximumBalance() {
+        return budgetMaximumBalance;
+    }
+
+    public void setBudgetMaximumBalance(int budgetMaximumBalance) {
+        this.budgetMaximumBalance = budgetMaximumBalance;
+    }
+}
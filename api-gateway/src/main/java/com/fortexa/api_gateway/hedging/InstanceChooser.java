@@ -0,0 +1,20 @@
+package com.fortexa.api_gateway.hedging;
+
+import org.springframework.cloud.client.ServiceInstance;
+import reactor.core.publisher.Mono;
+
+/**
+ * Picks the backend instance a hedged request attempt is sent to.
+ */
+@FunctionalInterface
+public interface InstanceChooser {
+
+    /**
+     * Chooses an instance of a service. Successive calls are expected to spread over the instances,
+     * as the hedge of a request has to go to another instance than its first attempt.
+     *
+     * @param serviceId the ID of the service
+     * @return the chosen instance, or empty if the service has none
+     */
+    Mono<ServiceInstance> choose(String serviceId);
+}
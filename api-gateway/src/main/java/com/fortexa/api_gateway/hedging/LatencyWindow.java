@@ -0,0 +1,47 @@
+package com.fortexa.api_gateway.hedging;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size window of the most recent upstream latencies of a route.
+ *
+ * Recording is a single array write, cheap enough for every request. Percentiles copy and sort
+ * the window, so they are meant to be computed periodically rather than per request.
+ */
+class LatencyWindow {
+
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+
+    LatencyWindow(int size) {
+        this.samples = new AtomicLongArray(size);
+    }
+
+    void record(long nanos) {
+        long index = recorded.getAndIncrement();
+        samples.set((int) (index % samples.length()), nanos);
+    }
+
+    long count() {
+        return recorded.get();
+    }
+
+    /**
+     * Returns the given percentile of the window, or -1 if nothing has been recorded yet.
+     */
+    long percentile(double percentile) {
+        int size = (int) Math.min(recorded.get(), samples.length());
+        if (size == 0) {
+            return -1;
+        }
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile * size) - 1;
+        return sorted[Math.max(0, Math.min(size - 1, rank))];
+    }
+}
@@ -0,0 +1,96 @@
+package com.fortexa.api_gateway.hedging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Gateway-wide budget capping the extra requests sent by hedging.
+ *
+ * Every hedged route request deposits a fraction of a token and every hedge withdraws a whole one,
+ * so hedges stay a fixed share of the traffic: when a backend slows down for everyone, hedging stops
+ * once the savings are spent instead of doubling the load on it. A small per-second allowance lets
+ * low-traffic routes hedge too. Tokens are kept in thousandths so deposits need no floating point.
+ */
+public class RetryBudget {
+
+    private static final long TOKEN = 1000;
+
+    private final long depositPerRequest;
+    private final long refillPerSecond;
+    private final long maximumBalance;
+    private final LongSupplier nanoClock;
+
+    private final AtomicLong balance = new AtomicLong();
+    private final AtomicLong lastRefillNanos;
+
+    /**
+     * Creates a budget using the system clock.
+     *
+     * @param ratio            hedges earned per request
+     * @param minimumPerSecond hedges allowed per second regardless of traffic
+     * @param maximumBalance   upper bound of the saved up hedges
+     */
+    public RetryBudget(double ratio, int minimumPerSecond, int maximumBalance) {
+        this(ratio, minimumPerSecond, maximumBalance, System::nanoTime);
+    }
+
+    // Package-private so tests can drive the clock
+    RetryBudget(double ratio, int minimumPerSecond, int maximumBalance, LongSupplier nanoClock) {
+        this.depositPerRequest = Math.round(ratio * TOKEN);
+        this.refillPerSecond = (long) minimumPerSecond * TOKEN;
+        this.maximumBalance = (long) maximumBalance * TOKEN;
+        this.nanoClock = nanoClock;
+        this.lastRefillNanos = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Records a request eligible for hedging, earning its share of a hedge.
+     */
+    public void deposit() {
+        add(depositPerRequest);
+    }
+
+    /**
+     * Takes one hedge from the budget if there is one left.
+     *
+     * @return {@code true} if the hedge may be sent
+     */
+    public boolean tryWithdraw() {
+        refill();
+        while (true) {
+            long current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of hedges currently available.
+     *
+     * @return the balance, in hedges
+     */
+    public double balance() {
+        return (double) balance.get() / TOKEN;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        long last = lastRefillNanos.get();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(now - last);
+        // A long idle period only ever fills the budget up, so cap the elapsed time to avoid overflow
+        long earned = Math.min(elapsedMillis, TimeUnit.DAYS.toMillis(1)) * refillPerSecond / 1000;
+        // The clock only moves forward once something was earned, so small steps are not lost to rounding
+        if (earned > 0 && lastRefillNanos.compareAndSet(last, now)) {
+            add(earned);
+        }
+    }
+
+    private void add(long amount) {
+        balance.accumulateAndGet(amount, (current, delta) -> Math.min(maximumBalance, current + delta));
+    }
+}
@@ -0,0 +1,63 @@
+package com.fortexa.api_gateway.hedging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Creates the {@link HedgingFilter} of the routes hedging is enabled for, all sharing one {@link RetryBudget}.
+ */
+public class RouteHedging {
+
+    private final HedgingProperties properties;
+    private final RetryBudget budget;
+    private final InstanceChooser instanceChooser;
+    private final WebClient webClient;
+    private final Supplier<List<HttpHeadersFilter>> headersFilters;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructor for injecting the hedging settings and their collaborators.
+     *
+     * @param properties      the hedging settings
+     * @param budget          the budget shared by every hedged route
+     * @param instanceChooser the chooser of the instances attempts are sent to
+     * @param webClient       the client sending the attempts
+     * @param headersFilters  the header filters applied by the routing filter
+     * @param meterRegistry   the registry the hedging metrics are published to
+     */
+    public RouteHedging(HedgingProperties properties, RetryBudget budget, InstanceChooser instanceChooser,
+                        WebClient webClient, Supplier<List<HttpHeadersFilter>> headersFilters,
+                        MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.budget = budget;
+        this.instanceChooser = instanceChooser;
+        this.webClient = webClient;
+        this.headersFilters = headersFilters;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Returns whether the GETs of a route are hedged.
+     *
+     * @param routeId the ID of the route
+     * @return {@code true} if hedging is enabled and the route opted in
+     */
+    public boolean isEnabled(String routeId) {
+        return properties.isEnabled() && properties.getRoutes().contains(routeId);
+    }
+
+    /**
+     * Creates the hedging filter of a route.
+     *
+     * @param routeId the ID of the route
+     * @return the {@link HedgingFilter} of the route
+     */
+    public GatewayFilter filter(String routeId) {
+        return new HedgingFilter(routeId, properties, budget, instanceChooser, webClient, headersFilters, meterRegistry);
+    }
+}
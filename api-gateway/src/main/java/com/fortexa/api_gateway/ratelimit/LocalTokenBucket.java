@@ -0,0 +1,170 @@
+package com.fortexa.api_gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Node-local share of the global token bucket of one rate limiting key.
+ *
+ * Tokens only ever come from leases, so the bucket never admits more than was granted by the
+ * global bucket. They are spread over several stripes, each on its own cache line, so that event
+ * loop threads admitting requests for the same hot key do not contend on a single counter.
+ */
+final class LocalTokenBucket {
+
+    // Distance between two stripes in the array, 8 longs = one 64 byte cache line
+    private static final int PADDING = 8;
+
+    private final AtomicLongArray stripes;
+    private final int mask;
+
+    // The lease currently in flight for this key, at most one per node
+    private final AtomicReference<Mono<Long>> pendingLease = new AtomicReference<>();
+
+    // Held tokens are dropped once this deadline has passed
+    private volatile long leaseDeadlineNanos;
+
+    // Set when the global bucket granted nothing, no lease is attempted before this time
+    private volatile long exhaustedUntilNanos;
+
+    /**
+     * Creates an empty bucket.
+     *
+     * @param stripeCount the number of stripes, rounded up to a power of two
+     * @param nowNanos    the current time
+     */
+    LocalTokenBucket(int stripeCount, long nowNanos) {
+        int count = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new AtomicLongArray(count * PADDING);
+        this.mask = count - 1;
+        this.leaseDeadlineNanos = nowNanos;
+        this.exhaustedUntilNanos = nowNanos;
+    }
+
+    /**
+     * Takes one token, starting with the stripe of the calling thread and stealing from the others.
+     *
+     * @return true if a token was taken
+     */
+    boolean tryAcquire() {
+        int start = (int) Thread.currentThread().threadId();
+        for (int i = 0; i <= mask; i++) {
+            int index = ((start + i) & mask) * PADDING;
+            long tokens;
+            while ((tokens = stripes.get(index)) > 0) {
+                if (stripes.compareAndSet(index, tokens, tokens - 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds leased tokens, spread evenly over the stripes, and extends the lease deadline.
+     *
+     * @param tokens        the granted tokens
+     * @param deadlineNanos the time after which unused tokens are dropped
+     */
+    void deposit(long tokens, long deadlineNanos) {
+        leaseDeadlineNanos = deadlineNanos;
+        int count = mask + 1;
+        long share = tokens / count;
+        long rest = tokens % count;
+        for (int i = 0; i < count; i++) {
+            long amount = share + (i < rest ? 1 : 0);
+            if (amount > 0) {
+                stripes.addAndGet(i * PADDING, amount);
+            }
+        }
+    }
+
+    /**
+     * Drops the held tokens if the lease deadline has passed.
+     *
+     * @param nowNanos the current time
+     * @return the number of tokens dropped
+     */
+    long expireIfDue(long nowNanos) {
+        if (nowNanos - leaseDeadlineNanos < 0) {
+            return 0;
+        }
+        long expired = 0;
+        for (int i = 0; i <= mask; i++) {
+            if (stripes.get(i * PADDING) > 0) {
+                expired += stripes.getAndSet(i * PADDING, 0);
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * @return the number of tokens currently held
+     */
+    long available() {
+        long total = 0;
+        for (int i = 0; i <= mask; i++) {
+            total += stripes.get(i * PADDING);
+        }
+        return total;
+    }
+
+    /**
+     * Records that the global bucket had no token left.
+     *
+     * @param untilNanos the time before which no new lease should be attempted
+     */
+    void markExhausted(long untilNanos) {
+        exhaustedUntilNanos = untilNanos;
+    }
+
+    /**
+     * @param nowNanos the current time
+     * @return true if the global bucket was found empty recently enough to reject without asking again
+     */
+    boolean isExhausted(long nowNanos) {
+        return nowNanos - exhaustedUntilNanos < 0;
+    }
+
+    /**
+     * Starts a lease unless one is already in flight, in which case the pending one is returned.
+     *
+     * The lease runs whether or not the returned {@link Mono} is subscribed, so it can be used
+     * both to prefetch tokens and to wait for them.
+     *
+     * @param leaseCall the call performing the lease and depositing the granted tokens
+     * @return a {@link Mono} emitting the number of granted tokens
+     */
+    Mono<Long> leaseOnce(Supplier<Mono<Long>> leaseCall) {
+        while (true) {
+            Mono<Long> pending = pendingLease.get();
+            if (pending != null) {
+                return pending;
+            }
+            Sinks.One<Long> sink = Sinks.one();
+            Mono<Long> lease = sink.asMono();
+            if (pendingLease.compareAndSet(null, lease)) {
+                leaseCall.get().subscribe(
+                        granted -> {
+                            pendingLease.set(null);
+                            sink.tryEmitValue(granted);
+                        },
+                        error -> {
+                            pendingLease.set(null);
+                            sink.tryEmitError(error);
+                        },
+                        () -> {
+                            // No-op once a value has been emitted
+                            if (pendingLease.compareAndSet(lease, null)) {
+                                sink.tryEmitValue(0L);
+                            }
+                        });
+                return lease;
+            }
+        }
+    }
+}
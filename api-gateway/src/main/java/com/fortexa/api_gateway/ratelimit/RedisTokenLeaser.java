@@ -0,0 +1,51 @@
+package com.fortexa.api_gateway.ratelimit;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * {@link TokenLeaser} backed by a token bucket stored in Redis.
+ *
+ * The bucket is refilled and drained atomically by a Lua script, using the same key layout
+ * and refill arithmetic as the Redis rate limiter, with partial grants so a lease never fails
+ * just because fewer tokens than requested are available.
+ */
+public class RedisTokenLeaser implements TokenLeaser {
+
+    private static final String KEY_PREFIX = "tiered_rate_limiter.{";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/tiered_rate_limiter.lua"), List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final String replenishRate;
+    private final String burstCapacity;
+
+    /**
+     * Creates a leaser for the limits of the given properties.
+     *
+     * @param redisTemplate the template used to run the lease script
+     * @param properties    the limiter settings
+     */
+    public RedisTokenLeaser(ReactiveStringRedisTemplate redisTemplate, TieredRateLimiterProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.replenishRate = Integer.toString(properties.getReplenishRate());
+        this.burstCapacity = Integer.toString(properties.getBurstCapacity());
+    }
+
+    @Override
+    public Mono<Lease> lease(String key, long requested) {
+        // Both keys share the hash tag of the rate limiting key, so they live in the same cluster slot
+        List<String> keys = List.of(KEY_PREFIX + key + "}.tokens", KEY_PREFIX + key + "}.timestamp");
+        List<String> args = List.of(replenishRate, burstCapacity, Long.toString(requested));
+
+        return redisTemplate.execute(LEASE_SCRIPT, keys, args)
+                .next()
+                .map(result -> new Lease(((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue()));
+    }
+}
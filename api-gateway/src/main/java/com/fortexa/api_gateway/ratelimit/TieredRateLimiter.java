@@ -0,0 +1,214 @@
+package com.fortexa.api_gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Two-tier {@link RateLimiter}: requests are admitted against node-local token buckets, which
+ * lease batches of tokens from the global bucket of their key through a {@link TokenLeaser}.
+ *
+ * A request only waits for Redis when its key has no local token left and the global bucket was
+ * not found empty within the last refill period; every other request, including rejections, is
+ * decided in memory. A new lease is started in the background as soon as the local tokens of a
+ * key run low, so steady traffic never waits at all.
+ *
+ * The global limit is honoured approximately: every token admitted was granted by the global
+ * bucket, but tokens leased by a node and not used within the lease TTL are lost to the other
+ * nodes. The tokens held locally are exported as the drift gauge.
+ */
+public class TieredRateLimiter implements RateLimiter<TieredRateLimiterProperties> {
+
+    private static final Logger logger = LoggerFactory.getLogger(TieredRateLimiter.class);
+
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    private static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+    private static final String REQUESTED_TOKENS_HEADER = "X-RateLimit-Requested-Tokens";
+
+    // Tier tag of rejections decided from local state only, or after a lease found the global bucket empty
+    private static final String LOCAL_TIER = "local";
+    private static final String GLOBAL_TIER = "global";
+
+    private final TokenLeaser leaser;
+    private final TieredRateLimiterProperties properties;
+    private final LongSupplier nanoClock;
+    private final Cache<String, LocalTokenBucket> buckets;
+
+    private final long leaseTtlNanos;
+    private final long refillPeriodNanos;
+    private final String replenishRate;
+    private final String burstCapacity;
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary leaseSize;
+    private final Timer leaseDuration;
+    private final Counter leaseErrors;
+    private final Counter expiredTokens;
+    private final Map<String, Counter> rejects = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a limiter using the system clock.
+     *
+     * @param leaser        the source of global tokens
+     * @param properties    the limiter settings
+     * @param meterRegistry the registry the limiter metrics are published to
+     */
+    public TieredRateLimiter(TokenLeaser leaser, TieredRateLimiterProperties properties, MeterRegistry meterRegistry) {
+        this(leaser, properties, meterRegistry, System::nanoTime);
+    }
+
+    // Package-private so tests can drive the clock
+    TieredRateLimiter(TokenLeaser leaser, TieredRateLimiterProperties properties, MeterRegistry meterRegistry,
+                      LongSupplier nanoClock) {
+        this.leaser = leaser;
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumKeys())
+                .expireAfterAccess(properties.getIdleExpiry())
+                .build();
+
+        this.leaseTtlNanos = properties.getLeaseTtl().toNanos();
+        this.refillPeriodNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, properties.getReplenishRate());
+        this.replenishRate = Integer.toString(properties.getReplenishRate());
+        this.burstCapacity = Integer.toString(properties.getBurstCapacity());
+
+        this.meterRegistry = meterRegistry;
+        this.leaseSize = DistributionSummary.builder("gateway.ratelimit.lease.size")
+                .description("Tokens granted per lease from the global bucket")
+                .baseUnit("tokens")
+                .register(meterRegistry);
+        this.leaseDuration = Timer.builder("gateway.ratelimit.lease.duration")
+                .description("Time taken by a lease round trip to the global bucket")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.leaseErrors = Counter.builder("gateway.ratelimit.lease.errors")
+                .description("Leases that failed or timed out, requests waiting on them were allowed")
+                .register(meterRegistry);
+        this.expiredTokens = Counter.builder("gateway.ratelimit.lease.expired")
+                .description("Leased tokens dropped unused once their lease TTL passed")
+                .baseUnit("tokens")
+                .register(meterRegistry);
+        Gauge.builder("gateway.ratelimit.drift", this, TieredRateLimiter::heldTokens)
+                .description("Tokens leased from the global bucket and held locally, the bound on over-admission by this node")
+                .baseUnit("tokens")
+                .register(meterRegistry);
+        Gauge.builder("gateway.ratelimit.keys", buckets, Cache::estimatedSize)
+                .description("Rate limiting keys tracked locally")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        long now = nanoClock.getAsLong();
+        LocalTokenBucket bucket = buckets.get(id, key -> new LocalTokenBucket(properties.getStripes(), now));
+        expire(bucket, now);
+
+        if (bucket.tryAcquire()) {
+            if (bucket.available() <= properties.getPrefetchThreshold() && !bucket.isExhausted(now)) {
+                // Refill in the background, the result is picked up by later requests
+                lease(id, bucket);
+            }
+            return Mono.just(response(true, bucket));
+        }
+
+        if (bucket.isExhausted(now)) {
+            return Mono.just(reject(routeId, LOCAL_TIER, bucket));
+        }
+
+        return lease(id, bucket)
+                .map(granted -> bucket.tryAcquire() ? response(true, bucket) : reject(routeId, GLOBAL_TIER, bucket))
+                .onErrorResume(ex -> {
+                    // Fail open like the Redis rate limiter, an unavailable Redis must not take the gateway down
+                    logger.warn("Token lease failed for route {}, allowing request: {}", routeId, ex.toString());
+                    return Mono.just(response(true, bucket));
+                });
+    }
+
+    @Override
+    public Map<String, TieredRateLimiterProperties> getConfig() {
+        // The limits are global, there is no per-route configuration
+        return Map.of();
+    }
+
+    @Override
+    public Class<TieredRateLimiterProperties> getConfigClass() {
+        return TieredRateLimiterProperties.class;
+    }
+
+    @Override
+    public TieredRateLimiterProperties newConfig() {
+        return new TieredRateLimiterProperties();
+    }
+
+    /**
+     * Leases tokens for the given key, joining the lease already in flight if there is one.
+     */
+    private Mono<Long> lease(String id, LocalTokenBucket bucket) {
+        return bucket.leaseOnce(() -> {
+            long start = nanoClock.getAsLong();
+            return leaser.lease(id, properties.getLeaseSize())
+                    .timeout(properties.getLeaseTimeout())
+                    .map(lease -> {
+                        long now = nanoClock.getAsLong();
+                        leaseDuration.record(now - start, TimeUnit.NANOSECONDS);
+                        leaseSize.record(lease.granted());
+                        if (lease.granted() > 0) {
+                            bucket.deposit(lease.granted(), now + leaseTtlNanos);
+                        } else {
+                            // Nothing left globally, reject locally until the next token is due
+                            bucket.markExhausted(now + refillPeriodNanos);
+                        }
+                        return lease.granted();
+                    })
+                    .doOnError(ex -> leaseErrors.increment());
+        });
+    }
+
+    private void expire(LocalTokenBucket bucket, long now) {
+        long expired = bucket.expireIfDue(now);
+        if (expired > 0) {
+            expiredTokens.increment(expired);
+        }
+    }
+
+    private Response reject(String routeId, String tier, LocalTokenBucket bucket) {
+        rejects.computeIfAbsent(routeId + '|' + tier, name -> Counter.builder("gateway.ratelimit.rejects")
+                        .description("Rejected requests, tier=local when decided without a round trip to Redis")
+                        .tag("route", routeId)
+                        .tag("tier", tier)
+                        .register(meterRegistry))
+                .increment();
+        return response(false, bucket);
+    }
+
+    private Response response(boolean allowed, LocalTokenBucket bucket) {
+        return new Response(allowed, Map.of(
+                REMAINING_HEADER, Long.toString(bucket.available()),
+                REPLENISH_RATE_HEADER, replenishRate,
+                BURST_CAPACITY_HEADER, burstCapacity,
+                REQUESTED_TOKENS_HEADER, "1"));
+    }
+
+    private double heldTokens() {
+        long total = 0;
+        for (LocalTokenBucket bucket : buckets.asMap().values()) {
+            total += bucket.available();
+        }
+        return total;
+    }
+}
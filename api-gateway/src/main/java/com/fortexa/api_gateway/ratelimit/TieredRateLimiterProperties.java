@@ -0,0 +1,125 @@
+package com.fortexa.api_gateway.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the {@link TieredRateLimiter}, bound from {@code gateway.rate-limiter.tiered.*}.
+ *
+ * The global limit of a key is defined by {@code replenishRate} and {@code burstCapacity},
+ * like the Redis rate limiter. The remaining settings control how tokens are leased to nodes.
+ */
+@ConfigurationProperties(prefix = "gateway.rate-limiter.tiered")
+public class TieredRateLimiterProperties {
+
+    // Whether routes use the two-tier limiter instead of the plain Redis rate limiter
+    private boolean enabled = true;
+
+    // Tokens added to the global bucket of a key every second
+    private int replenishRate = 10;
+
+    // Maximum number of tokens the global bucket of a key holds
+    private int burstCapacity = 20;
+
+    // Tokens requested from the global bucket per lease
+    private int leaseSize = 5;
+
+    // A new lease is started in the background once the local tokens of a key drop to this level
+    private int prefetchThreshold = 1;
+
+    // Leased tokens not used within this time are dropped, which bounds the drift from the global limit
+    private Duration leaseTtl = Duration.ofSeconds(1);
+
+    // Requests waiting for a lease are allowed through when Redis does not answer in time
+    private Duration leaseTimeout = Duration.ofMillis(500);
+
+    // Number of stripes of each local bucket, rounded up to a power of two
+    private int stripes = 4;
+
+    // Local buckets of keys without traffic for this long are evicted
+    private Duration idleExpiry = Duration.ofMinutes(5);
+
+    // Maximum number of keys tracked locally
+    private long maximumKeys = 100_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getReplenishRate() {
+        return replenishRate;
+    }
+
+    public void setReplenishRate(int replenishRate) {
+        this.replenishRate = replenishRate;
+    }
+
+    public int getBurstCapacity() {
+        return burstCapacity;
+    }
+
+    public void setBurstCapacity(int burstCapacity) {
+        this.burstCapacity = burstCapacity;
+    }
+
+    public int getLeaseSize() {
+        return leaseSize;
+    }
+
+    public void setLeaseSize(int leaseSize) {
+        this.leaseSize = leaseSize;
+    }
+
+    public int getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    public void setPrefetchThreshold(int prefetchThreshold) {
+        this.prefetchThreshold = prefetchThreshold;
+    }
+
+    public Duration getLeaseTtl() {
+        return leaseTtl;
+    }
+
+    public void setLeaseTtl(Duration leaseTtl) {
+        this.leaseTtl = leaseTtl;
+    }
+
+    public Duration getLeaseTimeout() {
+        return leaseTimeout;
+    }
+
+    public void setLeaseTimeout(Duration leaseTimeout) {
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public Duration getIdleExpiry() {
+        return idleExpiry;
+    }
+
+    public void setIdleExpiry(Duration idleExpiry) {
+        this.idleExpiry = idleExpiry;
+    }
+
+    public long getMaximumKeys() {
+        return maximumKeys;
+    }
+
+    public void setMaximumKeys(long maximumKeys) {
+        this.maximumKeys = maximumKeys;
+    }
+}
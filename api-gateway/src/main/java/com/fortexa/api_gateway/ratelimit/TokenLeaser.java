@@ -0,0 +1,31 @@
+package com.fortexa.api_gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Source of rate limiting tokens shared by every gateway node.
+ *
+ * A lease takes a batch of tokens out of the global bucket of a key at once, so that
+ * individual requests can be admitted against the local share without a remote call.
+ */
+@FunctionalInterface
+public interface TokenLeaser {
+
+    /**
+     * Result of a lease.
+     *
+     * @param granted   the number of tokens granted, between 0 and the requested number
+     * @param remaining the number of tokens left in the global bucket after the lease
+     */
+    record Lease(long granted, long remaining) {
+    }
+
+    /**
+     * Leases up to {@code requested} tokens from the global bucket of the given key.
+     *
+     * @param key       the rate limiting key, as resolved by the route's KeyResolver
+     * @param requested the number of tokens wanted
+     * @return a {@link Mono} emitting the {@link Lease}
+     */
+    Mono<Lease> lease(String key, long requested);
+}
@@ -0,0 +1,75 @@
+package com.fortexa.api_gateway.resilience;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+
+/**
+ * Publishes the state of every route circuit breaker.
+ *
+ * {@code gateway.circuitbreaker.state} is 1 for the current state of a route and 0 for the others, so
+ * {@code state="open"} and {@code state="half_open"} can be alerted on directly, and
+ * {@code gateway.circuitbreaker.transitions} counts state changes. Transitions are also logged.
+ */
+public class CircuitBreakerStateMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreakerStateMetrics.class);
+
+    private static final CircuitBreaker.State[] REPORTED_STATES = {
+            CircuitBreaker.State.CLOSED, CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN
+    };
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructor for injecting the meter registry.
+     *
+     * @param meterRegistry the registry the circuit breaker metrics are published to
+     */
+    public CircuitBreakerStateMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Publishes the metrics of the circuit breakers of the registry, including those created later on.
+     *
+     * @param registry the registry holding the route circuit breakers
+     */
+    public void bindTo(CircuitBreakerRegistry registry) {
+        registry.getAllCircuitBreakers().forEach(this::register);
+        registry.getEventPublisher().onEntryAdded(event -> register(event.getAddedEntry()));
+    }
+
+    private void register(CircuitBreaker circuitBreaker) {
+        String route = circuitBreaker.getName();
+        for (CircuitBreaker.State state : REPORTED_STATES) {
+            Gauge.builder("gateway.circuitbreaker.state", circuitBreaker, cb -> cb.getState() == state ? 1 : 0)
+                    .description("1 if the circuit breaker of the route is in this state, 0 otherwise")
+                    .tag("route", route)
+                    .tag("state", tagValue(state))
+                    .register(meterRegistry);
+        }
+
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.State from = event.getStateTransition().getFromState();
+            CircuitBreaker.State to = event.getStateTransition().getToState();
+            Counter.builder("gateway.circuitbreaker.transitions")
+                    .description("State changes of the circuit breaker of the route")
+                    .tag("route", route)
+                    .tag("to", tagValue(to))
+                    .register(meterRegistry)
+                    .increment();
+            logger.warn("Circuit breaker of route {} moved from {} to {}", route, from, to);
+        });
+    }
+
+    private static String tagValue(CircuitBreaker.State state) {
+        return state.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,107 @@
+package com.fortexa.api_gateway.resilience;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Builds the responses returned when a route cannot reach its backend.
+ *
+ * Circuit breakers forward failed requests to {@code /fallback/{routeId}}, handled by {@link #handle},
+ * and bulkheads reject excess requests through {@link #reject}. Both answer with the same small JSON
+ * body, {@code 504} when the backend timed out and {@code 503} otherwise, with a {@code Retry-After} hint.
+ */
+public class FallbackHandler {
+
+    public static final String ROUTE_ID_VARIABLE = "routeId";
+
+    // Only route-like IDs are accepted, so the ID can be echoed in the body as is
+    public static final String PATH_PATTERN = "/fallback/{" + ROUTE_ID_VARIABLE + ":[a-z0-9-]+}";
+
+    private final RouteResilienceProperties properties;
+
+    /**
+     * Constructor for injecting the resilience settings.
+     *
+     * @param properties the settings the Retry-After hints are derived from
+     */
+    public FallbackHandler(RouteResilienceProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Handles a request forwarded by a circuit breaker after its call failed or was not permitted.
+     *
+     * @param request the forwarded request
+     * @return the fallback response
+     */
+    public Mono<ServerResponse> handle(ServerRequest request) {
+        String routeId = request.pathVariable(ROUTE_ID_VARIABLE);
+        Throwable cause = request.exchange().getAttribute(ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR);
+
+        HttpStatus status = isTimeout(cause) ? HttpStatus.GATEWAY_TIMEOUT : HttpStatus.SERVICE_UNAVAILABLE;
+        // An open circuit is retried once it lets trial calls through, other failures right away
+        long retryAfterSeconds = cause instanceof CallNotPermittedException
+                ? Math.max(1, properties.forRoute(routeId).getWaitDurationInOpenState().toSeconds())
+                : 1;
+
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .bodyValue(body(status, routeId, message(status)));
+    }
+
+    /**
+     * Rejects a request turned away by the bulkhead of its route.
+     *
+     * @param exchange the current server exchange
+     * @param routeId  the ID of the route
+     * @return a {@link Mono} completing once the response is written
+     */
+    public Mono<Void> reject(ServerWebExchange exchange, String routeId) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+
+        byte[] bytes = body(HttpStatus.SERVICE_UNAVAILABLE, routeId, message(HttpStatus.SERVICE_UNAVAILABLE))
+                .getBytes(StandardCharsets.UTF_8);
+        DataBuffer buffer = response.bufferFactory().wrap(bytes);
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    private static boolean isTimeout(Throwable cause) {
+        for (Throwable current = cause; current != null; current = current.getCause()) {
+            if (current instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String message(HttpStatus status) {
+        if (status == HttpStatus.GATEWAY_TIMEOUT) {
+            return "The service did not respond in time, please retry later";
+        }
+        return "The service is temporarily unavailable, please retry later";
+    }
+
+    // Route IDs and messages never contain quotes or backslashes, so the body is built without a JSON library
+    private static String body(HttpStatus status, String routeId, String message) {
+        return "{\"status\":" + status.value()
+                + ",\"error\":\"" + status.getReasonPhrase()
+                + "\",\"message\":\"" + message
+                + "\",\"route\":\"" + routeId + "\"}";
+    }
+}
@@ -0,0 +1,63 @@
+package com.fortexa.api_gateway.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Route filter limiting the number of requests in flight to the backend of a route.
+ *
+ * A slow backend holds its connections for longer; without a limit, its requests pile up until they
+ * use every connection and event loop cycle of the gateway and starve the other routes. Requests over
+ * the limit are rejected with {@code 503} right away instead of queueing, as waiting for a permit would
+ * block the event loop. The permit is held until the response has been fully written.
+ */
+public class RouteBulkheadFilter implements GatewayFilter {
+
+    private final String routeId;
+    private final Bulkhead bulkhead;
+    private final FallbackHandler fallbackHandler;
+    private final Counter rejections;
+
+    /**
+     * Constructor for the bulkhead of one route.
+     *
+     * @param routeId         the ID of the route, used in the rejection response and the metrics
+     * @param bulkhead        the semaphore bulkhead of the route, configured without wait time
+     * @param fallbackHandler the handler writing the rejection response
+     * @param meterRegistry   the registry the bulkhead metrics are published to
+     */
+    public RouteBulkheadFilter(String routeId, Bulkhead bulkhead, FallbackHandler fallbackHandler,
+                               MeterRegistry meterRegistry) {
+        this.routeId = routeId;
+        this.bulkhead = bulkhead;
+        this.fallbackHandler = fallbackHandler;
+        this.rejections = Counter.builder("gateway.bulkhead.rejections")
+                .description("Requests rejected because the route had too many requests in flight")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.bulkhead.available", bulkhead, b -> b.getMetrics().getAvailableConcurrentCalls())
+                .description("Requests the route can still accept before rejecting")
+                .tag("route", routeId)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        // The permit is taken on subscription, so an unsubscribed pipeline never holds one
+        return Mono.defer(() -> {
+            if (!bulkhead.tryAcquirePermission()) {
+                rejections.increment();
+                return fallbackHandler.reject(exchange, routeId);
+            }
+            // Deferred so the permit is also released when the chain fails while being assembled
+            return Mono.defer(() -> chain.filter(exchange))
+                    .doFinally(signal -> bulkhead.onComplete());
+        });
+    }
+}
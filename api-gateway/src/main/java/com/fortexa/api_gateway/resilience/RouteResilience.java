@@ -0,0 +1,131 @@
+package com.fortexa.api_gateway.resilience;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Builds the resilience settings of each route from {@link RouteResilienceProperties}.
+ *
+ * A route gets three layers, from the outside in:
+ * <ul>
+ *     <li>a bulkhead, capping the requests in flight to its backend ({@link RouteBulkheadFilter});</li>
+ *     <li>a circuit breaker, failing fast while the backend keeps failing or answering slowly,
+ *     with a fallback response served by {@link FallbackHandler};</li>
+ *     <li>connect and response timeouts, applied by the Netty routing filter through the route metadata,
+ *     so a timed out request also releases its upstream connection.</li>
+ * </ul>
+ */
+public class RouteResilience {
+
+    private static final String FALLBACK_URI_PREFIX = "forward:/fallback/";
+
+    private final RouteResilienceProperties properties;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final FallbackHandler fallbackHandler;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructor for injecting the resilience settings and their collaborators.
+     *
+     * @param properties      the per-route settings
+     * @param fallbackHandler the handler writing the responses of rejected requests
+     * @param meterRegistry   the registry the bulkhead metrics are published to
+     */
+    public RouteResilience(RouteResilienceProperties properties, FallbackHandler fallbackHandler,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        this.fallbackHandler = fallbackHandler;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Returns whether routes are wrapped in a bulkhead and a circuit breaker.
+     *
+     * @return {@code true} if enabled
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Creates the bulkhead filter of a route.
+     *
+     * @param routeId the ID of the route
+     * @return the {@link RouteBulkheadFilter} of the route
+     */
+    public GatewayFilter bulkhead(String routeId) {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.forRoute(routeId).getMaxConcurrentCalls())
+                // Never wait for a permit, waiting would block the event loop
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+        return new RouteBulkheadFilter(routeId, bulkheadRegistry.bulkhead(routeId, config), fallbackHandler, meterRegistry);
+    }
+
+    /**
+     * Returns the URI failed requests of a route are forwarded to.
+     *
+     * @param routeId the ID of the route
+     * @return the fallback URI
+     */
+    public String fallbackUri(String routeId) {
+        return FALLBACK_URI_PREFIX + routeId;
+    }
+
+    /**
+     * Returns the route metadata carrying the connect and response timeouts of a route.
+     *
+     * @param routeId the ID of the route
+     * @return the metadata to set on the route
+     */
+    public Map<String, Object> timeoutMetadata(String routeId) {
+        RouteResilienceProperties.RouteSettings settings = properties.forRoute(routeId);
+        return Map.of(
+                RouteMetadataUtils.CONNECT_TIMEOUT_ATTR, Math.toIntExact(settings.getConnectTimeout().toMillis()),
+                RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR, settings.getResponseTimeout().toMillis());
+    }
+
+    /**
+     * Builds the circuit breaker configuration of a route, used for every circuit breaker created
+     * by the Resilience4J circuit breaker factory.
+     *
+     * @param routeId the ID of the route, which is also the name of its circuit breaker
+     * @return the circuit breaker and time limiter configuration of the route
+     */
+    public Resilience4JConfigBuilder.Resilience4JCircuitBreakerConfiguration circuitBreakerConfiguration(String routeId) {
+        RouteResilienceProperties.RouteSettings settings = properties.forRoute(routeId);
+
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .slowCallDurationThreshold(settings.getSlowCallDurationThreshold())
+                .slowCallRateThreshold(settings.getSlowCallRateThreshold())
+                .waitDurationInOpenState(settings.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(settings.getPermittedCallsInHalfOpenState())
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build();
+
+        // The response timeout is enforced by the routing filter; the time limiter is only a backstop
+        // covering connection acquisition as well, so it never fires before the routing filter
+        TimeLimiterConfig timeLimiterConfig = TimeLimiterConfig.custom()
+                .timeoutDuration(settings.getConnectTimeout().plus(settings.getResponseTimeout()))
+                .build();
+
+        return new Resilience4JConfigBuilder(routeId)
+                .circuitBreakerConfig(circuitBreakerConfig)
+                .timeLimiterConfig(timeLimiterConfig)
+                .build();
+    }
+}
@@ -0,0 +1,219 @@
+package com.fortexa.api_gateway.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of the per-route circuit breakers, timeouts and bulkheads, bound from {@code gateway.resilience.*}.
+ *
+ * Every route starts from {@code defaults}; an entry of {@code routes}, keyed by route ID, overrides
+ * only the settings it sets, e.g. {@code gateway.resilience.routes.auth-service-route.response-timeout=2s}.
+ */
+@ConfigurationProperties(prefix = "gateway.resilience")
+public class RouteResilienceProperties {
+
+    // Whether routes are wrapped in a bulkhead and a circuit breaker
+    private boolean enabled = true;
+
+    // Settings applied to every route
+    private RouteSettings defaults = RouteSettings.defaults();
+
+    // Per-route overrides, keyed by route ID
+    private Map<String, RouteSettings> routes = new HashMap<>();
+
+    /**
+     * Resolves the effective settings of a route, its overrides on top of the defaults.
+     *
+     * @param routeId the ID of the route
+     * @return the effective settings
+     */
+    public RouteSettings forRoute(String routeId) {
+        RouteSettings overrides = routes.get(routeId);
+        return overrides == null ? defaults : overrides.withDefaults(defaults);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public RouteSettings getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(RouteSettings defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, RouteSettings> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, RouteSettings> routes) {
+        this.routes = routes;
+    }
+
+    /**
+     * Resilience settings of one route. Unset values are {@code null} and inherited from the defaults.
+     */
+    public static class RouteSettings {
+
+        // Time allowed to open a connection to the backend
+        private Duration connectTimeout;
+
+        // Time allowed for the backend to answer, the request fails with 504 once exceeded
+        private Duration responseTimeout;
+
+        // Requests in flight to the backend at once, further requests are rejected with 503 right away
+        private Integer maxConcurrentCalls;
+
+        // Failure rate, in percent, above which the circuit opens
+        private Float failureRateThreshold;
+
+        // Calls slower than this are counted as slow
+        private Duration slowCallDurationThreshold;
+
+        // Slow call rate, in percent, above which the circuit opens
+        private Float slowCallRateThreshold;
+
+        // Number of most recent calls the failure and slow call rates are computed over
+        private Integer slidingWindowSize;
+
+        // Calls needed in the window before the rates are evaluated
+        private Integer minimumNumberOfCalls;
+
+        // Time the circuit stays open before letting trial calls through
+        private Duration waitDurationInOpenState;
+
+        // Trial calls let through while half-open to decide whether the circuit closes again
+        private Integer permittedCallsInHalfOpenState;
+
+        /**
+         * Creates the built-in defaults, used for settings left unset in {@code gateway.resilience.defaults}.
+         *
+         * @return settings with every value set
+         */
+        public static RouteSettings defaults() {
+            RouteSettings settings = new RouteSettings();
+            settings.connectTimeout = Duration.ofSeconds(2);
+            settings.responseTimeout = Duration.ofSeconds(10);
+            settings.maxConcurrentCalls = 200;
+            settings.failureRateThreshold = 50f;
+            settings.slowCallDurationThreshold = Duration.ofSeconds(5);
+            settings.slowCallRateThreshold = 80f;
+            settings.slidingWindowSize = 50;
+            settings.minimumNumberOfCalls = 20;
+            settings.waitDurationInOpenState = Duration.ofSeconds(10);
+            settings.permittedCallsInHalfOpenState = 5;
+            return settings;
+        }
+
+        /**
+         * Returns a copy of these settings with unset values taken from the given defaults.
+         *
+         * @param defaults the settings to inherit from
+         * @return the merged settings
+         */
+        public RouteSettings withDefaults(RouteSettings defaults) {
+            RouteSettings merged = new RouteSettings();
+            merged.connectTimeout = connectTimeout != null ? connectTimeout : defaults.connectTimeout;
+            merged.responseTimeout = responseTimeout != null ? responseTimeout : defaults.responseTimeout;
+            merged.maxConcurrentCalls = maxConcurrentCalls != null ? maxConcurrentCalls : defaults.maxConcurrentCalls;
+            merged.failureRateThreshold = failureRateThreshold != null ? failureRateThreshold : defaults.failureRateThreshold;
+            merged.slowCallDurationThreshold = slowCallDurationThreshold != null ? slowCallDurationThreshold : defaults.slowCallDurationThreshold;
+            merged.slowCallRateThreshold = slowCallRateThreshold != null ? slowCallRateThreshold : defaults.slowCallRateThreshold;
+            merged.slidingWindowSize = slidingWindowSize != null ? slidingWindowSize : defaults.slidingWindowSize;
+            merged.minimumNumberOfCalls = minimumNumberOfCalls != null ? minimumNumberOfCalls : defaults.minimumNumberOfCalls;
+            merged.waitDurationInOpenState = waitDurationInOpenState != null ? waitDurationInOpenState : defaults.waitDurationInOpenState;
+            merged.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState != null
+                    ? permittedCallsInHalfOpenState : defaults.permittedCallsInHalfOpenState;
+            return merged;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getResponseTimeout() {
+            return responseTimeout;
+        }
+
+        public void setResponseTimeout(Duration responseTimeout) {
+            this.responseTimeout = responseTimeout;
+        }
+
+        public Integer getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(Integer maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public Float getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(Float failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public Duration getSlowCallDurationThreshold() {
+            return slowCallDurationThreshold;
+        }
+
+        public void setSlowCallDurationThreshold(Duration slowCallDurationThreshold) {
+            this.slowCallDurationThreshold = slowCallDurationThreshold;
+        }
+
+        public Float getSlowCallRateThreshold() {
+            return slowCallRateThreshold;
+        }
+
+        public void setSlowCallRateThreshold(Float slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+        }
+
+        public Integer getSlidingWindowSize() {
+            return slidingWindowSize;
+        }
+
+        public void setSlidingWindowSize(Integer slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+        }
+
+        public Integer getMinimumNumberOfCalls() {
+            return minimumNumberOfCalls;
+        }
+
+        public void setMinimumNumberOfCalls(Integer minimumNumberOfCalls) {
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+        }
+
+        public Duration getWaitDurationInOpenState() {
+            return waitDurationInOpenState;
+        }
+
+        public void setWaitDurationInOpenState(Duration waitDurationInOpenState) {
+            this.waitDurationInOpenState = waitDurationInOpenState;
+        }
+
+        public Integer getPermittedCallsInHalfOpenState() {
+            return permittedCallsInHalfOpenState;
+        }
+
+        public void setPermittedCallsInHalfOpenState(Integer permittedCallsInHalfOpenState) {
+            this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.fortexa.api_gateway.security;
+
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ReactiveAuthenticationManager} answering repeat bearer tokens from a {@link JwtAuthenticationCache}.
+ *
+ * Only the first request with a given token goes through the delegate, i.e. decoding, signature
+ * verification, claim validation and authority mapping. Later requests with the same token get
+ * the cached {@link JwtAuthenticationToken} until the token expires.
+ */
+public class CachingJwtAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final ReactiveAuthenticationManager delegate;
+    private final JwtAuthenticationCache cache;
+
+    /**
+     * Creates a caching manager.
+     *
+     * @param delegate the manager verifying tokens that are not cached
+     * @param cache    the cache of verified tokens
+     */
+    public CachingJwtAuthenticationManager(ReactiveAuthenticationManager delegate, JwtAuthenticationCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        if (!(authentication instanceof BearerTokenAuthenticationToken bearer)) {
+            return delegate.authenticate(authentication);
+        }
+
+        String token = bearer.getToken();
+        JwtAuthenticationToken cached = cache.get(token);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        // Failed verifications are not cached, so a rejected token is verified again every time
+        return delegate.authenticate(authentication)
+                .doOnNext(result -> {
+                    if (result instanceof JwtAuthenticationToken jwtAuthentication) {
+                        cache.put(token, jwtAuthentication);
+                    }
+                });
+    }
+}
@@ -0,0 +1,111 @@
+package com.fortexa.api_gateway.security;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Polls the identity provider's JWK set and invalidates cached authentications whose signing key
+ * has been rotated out.
+ *
+ * The JWT decoder only re-fetches the JWK set when it meets an unknown key ID, so without this
+ * monitor a token signed with a withdrawn key would still be served from the cache until it expires.
+ */
+public class JwksRotationMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwksRotationMonitor.class);
+
+    private final WebClient webClient;
+    private final JwtAuthenticationCache cache;
+    private final JwtCacheProperties properties;
+
+    private volatile Set<String> knownKeyIds;
+    private Disposable polling;
+
+    /**
+     * Creates a monitor for the JWK set of the given properties.
+     *
+     * @param webClientBuilder the builder used to create the client fetching the JWK set
+     * @param cache            the cache to invalidate
+     * @param properties       the cache settings, including the JWK set URI
+     */
+    public JwksRotationMonitor(WebClient.Builder webClientBuilder, JwtAuthenticationCache cache, JwtCacheProperties properties) {
+        this.webClient = webClientBuilder.build();
+        this.cache = cache;
+        this.properties = properties;
+    }
+
+    /**
+     * Starts polling the JWK set.
+     */
+    @PostConstruct
+    public void start() {
+        logger.info("Polling JWK set {} every {} for key rotation", properties.getJwkSetUri(), properties.getJwksRefreshInterval());
+        polling = Flux.interval(Duration.ZERO, properties.getJwksRefreshInterval())
+                .concatMap(tick -> fetchKeyIds()
+                        .onErrorResume(ex -> {
+                            // Keep the cache as it is, the decoder still rejects tokens it cannot verify
+                            logger.warn("Failed to fetch JWK set from {}: {}", properties.getJwkSetUri(), ex.toString());
+                            return Mono.empty();
+                        }))
+                .subscribe(this::onKeyIds);
+    }
+
+    /**
+     * Stops polling the JWK set.
+     */
+    @PreDestroy
+    public void stop() {
+        if (polling != null) {
+            polling.dispose();
+        }
+    }
+
+    // The first fetch only records the current keys
+    void onKeyIds(Set<String> keyIds) {
+        Set<String> previous = knownKeyIds;
+        knownKeyIds = keyIds;
+        if (previous == null) {
+            return;
+        }
+
+        Set<String> removed = new HashSet<>(previous);
+        removed.removeAll(keyIds);
+        if (!removed.isEmpty()) {
+            logger.info("Signing keys {} rotated out, invalidating cached authentications", removed);
+            cache.invalidateKeys(removed);
+        }
+    }
+
+    private Mono<Set<String>> fetchKeyIds() {
+        return webClient.get()
+                .uri(properties.getJwkSetUri())
+                .retrieve()
+                .bodyToMono(String.class)
+                .<Set<String>>handle((body, sink) -> {
+                    try {
+                        Set<String> keyIds = new HashSet<>();
+                        for (JWK key : JWKSet.parse(body).getKeys()) {
+                            if (key.getKeyID() != null) {
+                                keyIds.add(key.getKeyID());
+                            }
+                        }
+                        sink.next(keyIds);
+                    } catch (ParseException ex) {
+                        sink.error(ex);
+                    }
+                });
+    }
+}
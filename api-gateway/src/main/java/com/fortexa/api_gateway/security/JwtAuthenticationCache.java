@@ -0,0 +1,153 @@
+package com.fortexa.api_gateway.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+
+/**
+ * Bounded cache of verified JWT authentications, keyed by the SHA-256 hash of the bearer token.
+ *
+ * An entry lives until the expiry of its token, capped by the configured maximum TTL, so a cached
+ * authentication is never used past the point where the decoder would reject the token. Entries
+ * remember the ID of the key the token was signed with, so they can be dropped when that key is
+ * rotated out of the JWK set.
+ */
+public class JwtAuthenticationCache {
+
+    private static final String CACHE_NAME = "gateway.jwt";
+
+    /**
+     * A cached authentication along with the signing key it was verified with.
+     */
+    private record Entry(JwtAuthenticationToken authentication, String keyId) {
+    }
+
+    private final Cache<String, Entry> cache;
+    private final Clock clock;
+    private final Counter rotationInvalidations;
+
+    /**
+     * Creates a cache using the system clock.
+     *
+     * @param properties    the cache settings
+     * @param meterRegistry the registry the cache metrics are published to
+     */
+    public JwtAuthenticationCache(JwtCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    // Package-private so tests can drive the clock
+    JwtAuthenticationCache(JwtCacheProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        long maximumTtlNanos = properties.getMaximumTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        Instant expiresAt = entry.authentication().getToken().getExpiresAt();
+                        if (expiresAt == null) {
+                            return maximumTtlNanos;
+                        }
+                        long untilExpiry = Duration.between(clock.instant(), expiresAt).toNanos();
+                        return Math.max(0, Math.min(untilExpiry, maximumTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.rotationInvalidations = Counter.builder(CACHE_NAME + ".invalidations")
+                .description("Cached authentications dropped because their signing key was rotated out")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached authentication of a bearer token.
+     *
+     * @param token the raw bearer token
+     * @return the authentication, or {@code null} if the token is not cached or has expired
+     */
+    public JwtAuthenticationToken get(String token) {
+        Entry entry = cache.getIfPresent(hash(token));
+        if (entry == null) {
+            return null;
+        }
+        // Caffeine expiry is approximate, never hand out a token past its exp
+        Instant expiresAt = entry.authentication().getToken().getExpiresAt();
+        if (expiresAt != null && !expiresAt.isAfter(clock.instant())) {
+            return null;
+        }
+        return entry.authentication();
+    }
+
+    /**
+     * Caches the authentication of a verified bearer token.
+     *
+     * @param token          the raw bearer token
+     * @param authentication the authentication built from the verified token
+     */
+    public void put(String token, JwtAuthenticationToken authentication) {
+        String keyId = (String) authentication.getToken().getHeaders().get("kid");
+        cache.put(hash(token), new Entry(authentication, keyId));
+    }
+
+    /**
+     * Drops every cached authentication verified with one of the given signing keys.
+     *
+     * @param keyIds the IDs of the keys removed from the JWK set
+     */
+    public void invalidateKeys(Collection<String> keyIds) {
+        if (keyIds.isEmpty()) {
+            return;
+        }
+        cache.asMap().values().removeIf(entry -> {
+            // Tokens without a key ID cannot be attributed to a key, so any rotation drops them
+            boolean rotated = entry.keyId() == null || keyIds.contains(entry.keyId());
+            if (rotated) {
+                rotationInvalidations.increment();
+            }
+            return rotated;
+        });
+    }
+
+    /**
+     * Drops every cached authentication.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.fortexa.api_gateway.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the JWT authentication cache, bound from {@code gateway.jwt-cache.*}.
+ */
+@ConfigurationProperties(prefix = "gateway.jwt-cache")
+public class JwtCacheProperties {
+
+    // Whether verified bearer tokens are cached
+    private boolean enabled = true;
+
+    // Maximum number of tokens cached
+    private long maximumSize = 50_000;
+
+    // Upper bound on how long a token stays cached, whatever its expiry
+    private Duration maximumTtl = Duration.ofMinutes(15);
+
+    // JWK set polled to detect signing key rotation, no polling when empty
+    private String jwkSetUri;
+
+    // Interval between two polls of the JWK set
+    private Duration jwksRefreshInterval = Duration.ofMinutes(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getMaximumTtl() {
+        return maximumTtl;
+    }
+
+    public void setMaximumTtl(Duration maximumTtl) {
+        this.maximumTtl = maximumTtl;
+    }
+
+    public String getJwkSetUri() {
+        return jwkSetUri;
+    }
+
+    public void setJwkSetUri(String jwkSetUri) {
+        this.jwkSetUri = jwkSetUri;
+    }
+
+    public Duration getJwksRefreshInterval() {
+        return jwksRefreshInterval;
+    }
+
+    public void setJwksRefreshInterval(Duration jwksRefreshInterval) {
+        this.jwksRefreshInterval = jwksRefreshInterval;
+    }
+}
@@ -0,0 +1,31 @@
+package com.fortexa.api_gateway.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates correlation IDs for requests arriving without one.
+ *
+ * IDs keep the UUID (version 4) format so downstream services can store and parse them as before,
+ * but they are drawn from {@link ThreadLocalRandom} instead of the {@link java.security.SecureRandom}
+ * behind {@link UUID#randomUUID()}. Correlation IDs only need to be unique, not unpredictable, and
+ * this avoids the contended, comparatively slow secure generator on every request.
+ */
+public final class CorrelationIdGenerator {
+
+    private CorrelationIdGenerator() {
+    }
+
+    /**
+     * Generates a new correlation ID.
+     *
+     * @return a random version 4 UUID string
+     */
+    public static String next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // Version 4 in the most significant bits, IETF variant in the least significant bits
+        long mostSigBits = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+}
@@ -0,0 +1,8 @@
+-- Reads a response of the gateway response cache from the current generation of its route.
+--
+-- KEYS[1] generation key of the route, KEYS[2] key of the response, without its generation
+-- Returns { current generation, stored response or nil }
+
+local generation = tonumber(redis.call('GET', KEYS[1]) or '0')
+local response = redis.call('GET', KEYS[2] .. ':' .. generation)
+return { generation, response }
@@ -0,0 +1,10 @@
+-- Starts a new generation of the responses of a route after a write, leaving the stored ones unreachable
+-- until they expire, and announces it to every gateway node so they drop their in-memory copies.
+--
+-- KEYS[1] generation key of the route
+-- ARGV[1] invalidation channel, ARGV[2] route ID
+-- Returns the new generation
+
+local generation = redis.call('INCR', KEYS[1])
+redis.call('PUBLISH', ARGV[1], ARGV[2] .. '|' .. generation)
+return generation
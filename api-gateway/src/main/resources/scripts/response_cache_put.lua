@@ -0,0 +1,11 @@
+-- Stores a response of the gateway response cache, unless the route was written to since it was fetched.
+--
+-- KEYS[1] generation key of the route, KEYS[2] key of the response, without its generation
+-- ARGV[1] generation the response was fetched in, ARGV[2] response, ARGV[3] time to live in milliseconds
+-- Returns the current generation
+
+local generation = tonumber(redis.call('GET', KEYS[1]) or '0')
+if generation == tonumber(ARGV[1]) then
+    redis.call('SET', KEYS[2] .. ':' .. generation, ARGV[2], 'PX', ARGV[3])
+end
+return generation
@@ -0,0 +1,43 @@
+-- Global token bucket shared by every gateway node.
+-- Unlike the per-request limiter script, a call leases a batch of tokens and the
+-- bucket grants as many of them as are available (possibly none) instead of all or nothing.
+--
+-- KEYS[1] tokens key, KEYS[2] timestamp key
+-- ARGV[1] replenish rate (tokens per second), ARGV[2] burst capacity, ARGV[3] requested tokens
+-- Returns { granted tokens, tokens left in the global bucket }
+
+local tokens_key = KEYS[1]
+local timestamp_key = KEYS[2]
+
+local rate = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) + tonumber(time[2]) / 1000000
+
+local fill_time = capacity / rate
+local ttl = math.floor(fill_time * 2)
+if ttl < 1 then
+  ttl = 1
+end
+
+local last_tokens = tonumber(redis.call('get', tokens_key))
+if last_tokens == nil then
+  last_tokens = capacity
+end
+
+local last_refreshed = tonumber(redis.call('get', timestamp_key))
+if last_refreshed == nil then
+  last_refreshed = 0
+end
+
+local delta = math.max(0, now - last_refreshed)
+local filled_tokens = math.min(capacity, last_tokens + (delta * rate))
+local granted = math.min(requested, math.floor(filled_tokens))
+local new_tokens = filled_tokens - granted
+
+redis.call('setex', tokens_key, ttl, new_tokens)
+redis.call('setex', timestamp_key, ttl, now)
+
+return { granted, math.floor(new_tokens) }
@@ -0,0 +1,229 @@
+package com.fortexa.api_gateway.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ResponseCacheFilter, using mock exchanges and a stub upstream writing the response body.
+ */
+class ResponseCacheFilterTest {
+
+    private static final String BODY = "{\"id\":\"1\",\"name\":\"Wireless Mouse\"}";
+
+    private ResponseCacheProperties properties;
+    private AtomicLong clock;
+    private AtomicInteger upstreamCalls;
+    private ResponseCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResponseCacheProperties();
+        clock = new AtomicLong(1_000_000);
+        upstreamCalls = new AtomicInteger();
+        filter = new ResponseCacheFilter(properties, null, new SimpleMeterRegistry(), clock::get);
+    }
+
+    @Test
+    void repeatGet_shouldBeServedFromCache() {
+        GatewayFilterChain upstream = upstream("max-age=60", "\"v1\"", Duration.ZERO);
+
+        MockServerWebExchange first = get("/v1/api/products/1?b=2&a=1");
+        filter.filter(first, upstream).block();
+        MockServerWebExchange second = get("/v1/api/products/1?a=1&b=2");
+        filter.filter(second, upstream).block();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals(BODY, second.getResponse().getBodyAsString().block());
+        assertEquals("\"v1\"", second.getResponse().getHeaders().getETag());
+    }
+
+    @Test
+    void expiredEntry_shouldBeRevalidatedWithEtag() {
+        filter.filter(get("/v1/api/products/1"), upstream("max-age=60", "\"v1\"", Duration.ZERO)).block();
+        clock.addAndGet(Duration.ofSeconds(61).toMillis());
+
+        MockServerWebExchange revalidated = get("/v1/api/products/1");
+        filter.filter(revalidated, notModifiedUpstream()).block();
+
+        assertEquals(HttpStatus.OK, revalidated.getResponse().getStatusCode());
+        assertEquals("REVALIDATED", revalidated.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals(BODY, revalidated.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void matchingIfNoneMatch_shouldReturnNotModified() {
+        GatewayFilterChain upstream = upstream("max-age=60", "\"v1\"", Duration.ZERO);
+        filter.filter(get("/v1/api/products/1"), upstream).block();
+
+        MockServerWebExchange conditional = MockServerWebExchange.from(MockServerHttpRequest.get("/v1/api/products/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"v1\""));
+        filter.filter(conditional, upstream).block();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(HttpStatus.NOT_MODIFIED, conditional.getResponse().getStatusCode());
+    }
+
+    @Test
+    void noStoreResponse_shouldNotBeCached() {
+        GatewayFilterChain upstream = upstream("no-store", null, Duration.ZERO);
+
+        filter.filter(get("/v1/api/products/1"), upstream).block();
+        filter.filter(get("/v1/api/products/1"), upstream).block();
+
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void differentAuthScopes_shouldNotShareEntries() {
+        GatewayFilterChain upstream = upstream("max-age=60", null, Duration.ZERO);
+
+        filter.filter(withPrincipal(get("/v1/api/products/1"), new TestingAuthenticationToken("alice", null, "ROLE_USER")), upstream).block();
+        filter.filter(withPrincipal(get("/v1/api/products/1"), new TestingAuthenticationToken("bob", null, "ROLE_USER")), upstream).block();
+        filter.filter(withPrincipal(get("/v1/api/products/1"), new TestingAuthenticationToken("carol", null, "ROLE_ADMIN")), upstream).block();
+
+        // Same roles share an entry, other roles get their own
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void concurrentMisses_shouldBeCoalesced() {
+        GatewayFilterChain upstream = upstream("max-age=60", null, Duration.ofMillis(200));
+
+        MockServerWebExchange leader = get("/v1/api/products/1");
+        MockServerWebExchange follower = get("/v1/api/products/1");
+        Mono.when(filter.filter(leader, upstream), filter.filter(follower, upstream)).block();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("COALESCED", follower.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals(BODY, follower.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void successfulWrite_shouldInvalidateEveryEntryOfTheRoute() {
+        GatewayFilterChain upstream = upstream("max-age=60", null, Duration.ZERO);
+        String[] uris = {"/v1/api/products/1", "/v1/api/products/search?q=mouse", "/v1/api/products/export"};
+        for (String uri : uris) {
+            filter.filter(get(uri), upstream).block();
+        }
+
+        filter.filter(put("/v1/api/products/1"), writeUpstream(HttpStatus.OK)).block();
+        for (String uri : uris) {
+            MockServerWebExchange exchange = get(uri);
+            filter.filter(exchange, upstream).block();
+            assertEquals("MISS", exchange.getResponse().getHeaders().getFirst("X-Cache"));
+        }
+
+        assertEquals(6, upstreamCalls.get());
+    }
+
+    @Test
+    void failedWrite_shouldKeepEntries() {
+        GatewayFilterChain upstream = upstream("max-age=60", null, Duration.ZERO);
+        filter.filter(get("/v1/api/products/1"), upstream).block();
+
+        filter.filter(put("/v1/api/products/1"), writeUpstream(HttpStatus.CONFLICT)).block();
+        MockServerWebExchange exchange = get("/v1/api/products/1");
+        filter.filter(exchange, upstream).block();
+
+        assertEquals("HIT", exchange.getResponse().getHeaders().getFirst("X-Cache"));
+    }
+
+    @Test
+    void responseFetchedDuringWrite_shouldNotBeStored() {
+        GatewayFilterChain slowUpstream = upstream("max-age=60", null, Duration.ofMillis(200));
+
+        Mono.when(filter.filter(get("/v1/api/products/1"), slowUpstream),
+                Mono.delay(Duration.ofMillis(50)).then(filter.filter(put("/v1/api/products/1"), writeUpstream(HttpStatus.OK))))
+                .block();
+        MockServerWebExchange exchange = get("/v1/api/products/1");
+        filter.filter(exchange, upstream("max-age=60", null, Duration.ZERO)).block();
+
+        assertEquals("MISS", exchange.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void newerGeneration_shouldDropEntriesOfTheRoute() {
+        GatewayFilterChain upstream = upstream("max-age=60", null, Duration.ZERO);
+        // Read from Redis before any write went through the route
+        filter.advanceGeneration("", 0);
+        filter.filter(get("/v1/api/products/1"), upstream).block();
+
+        // Announced by another node
+        filter.advanceGeneration("", 1);
+        filter.filter(get("/v1/api/products/1"), upstream).block();
+        filter.advanceGeneration("", 1);
+        MockServerWebExchange exchange = get("/v1/api/products/1");
+        filter.filter(exchange, upstream).block();
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals("HIT", exchange.getResponse().getHeaders().getFirst("X-Cache"));
+    }
+
+    private static MockServerWebExchange get(String uri) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(uri));
+    }
+
+    private static MockServerWebExchange put(String uri) {
+        return MockServerWebExchange.from(MockServerHttpRequest.put(uri));
+    }
+
+    private static ServerWebExchange withPrincipal(ServerWebExchange exchange, Principal principal) {
+        return exchange.mutate().principal(Mono.just(principal)).build();
+    }
+
+    // Stands in for the routing filters, writing the upstream response through the exchange response
+    private GatewayFilterChain upstream(String cacheControl, String etag, Duration latency) {
+        Mono<Void> delay = latency.isZero() ? Mono.empty() : Mono.delay(latency).then();
+        return exchange -> delay.then(Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            response.getHeaders().setCacheControl(cacheControl);
+            if (etag != null) {
+                response.getHeaders().setETag(etag);
+            }
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        }));
+    }
+
+    private static GatewayFilterChain writeUpstream(HttpStatus status) {
+        return exchange -> Mono.defer(() -> {
+            exchange.getResponse().setStatusCode(status);
+            return exchange.getResponse().setComplete();
+        });
+    }
+
+    private GatewayFilterChain notModifiedUpstream() {
+        return exchange -> Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            assertEquals("\"v1\"", exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            response.getHeaders().setCacheControl("max-age=60");
+            return response.writeWith(Mono.empty());
+        });
+    }
+}
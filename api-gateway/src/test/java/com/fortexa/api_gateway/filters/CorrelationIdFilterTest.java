@@ -0,0 +1,57 @@
+package com.fortexa.api_gateway.filters;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CorrelationIdFilter, checking the headers forwarded downstream and returned to the client.
+ */
+class CorrelationIdFilterTest {
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter(1);
+
+    @Test
+    void missingCorrelationId_shouldBeGeneratedAndForwarded() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/products/1"));
+
+        HttpHeaders forwarded = filter(exchange);
+
+        String correlationId = forwarded.getFirst("X-Correlation-ID");
+        assertNotNull(correlationId);
+        assertEquals(4, UUID.fromString(correlationId).version());
+        assertNotNull(forwarded.getFirst("X-Gateway-Timestamp"));
+        assertEquals(correlationId, exchange.getResponse().getHeaders().getFirst("X-Correlation-ID"));
+        assertEquals("true", exchange.getResponse().getHeaders().getFirst("X-Gateway-Processed"));
+    }
+
+    @Test
+    void incomingCorrelationId_shouldBeKept() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/products/1")
+                .header("X-Correlation-ID", "client-id"));
+
+        HttpHeaders forwarded = filter(exchange);
+
+        assertEquals("client-id", forwarded.getFirst("X-Correlation-ID"));
+        assertEquals(1, forwarded.get("X-Correlation-ID").size());
+        assertNotNull(forwarded.getFirst("X-Gateway-Timestamp"));
+    }
+
+    private HttpHeaders filter(MockServerWebExchange exchange) {
+        AtomicReference<HttpHeaders> forwarded = new AtomicReference<>();
+        GatewayFilterChain chain = mutated -> {
+            forwarded.set(mutated.getRequest().getHeaders());
+            return Mono.empty();
+        };
+        filter.filter(exchange, chain).block();
+        return forwarded.get();
+    }
+}
@@ -0,0 +1,253 @@
+package com.fortexa.api_gateway.hedging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HedgingFilter and its retry budget, using stub instances that inject latency.
+ */
+class HedgingFilterTest {
+
+    private static final String ROUTE = "product-service-route";
+
+    private static final ServiceInstance SLOW = instance("slow");
+    private static final ServiceInstance FAST = instance("fast");
+    private static final ServiceInstance FAILING = instance("failing");
+
+    // Latency injected by each stub instance
+    private static final Map<String, Duration> LATENCIES = Map.of(
+            "slow", Duration.ofMillis(400),
+            "fast", Duration.ofMillis(10),
+            "failing", Duration.ZERO);
+
+    private HedgingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger upstreamCalls;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HedgingProperties();
+        properties.setInitialDelay(Duration.ofMillis(50));
+        meterRegistry = new SimpleMeterRegistry();
+        upstreamCalls = new AtomicInteger();
+        webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    upstreamCalls.incrementAndGet();
+                    String host = request.url().getHost();
+                    HttpStatus status = host.equals("failing") ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.OK;
+                    return Mono.delay(LATENCIES.get(host))
+                            .thenReturn(ClientResponse.create(status).header("Content-Type", "text/plain").body(host).build());
+                })
+                .build();
+    }
+
+    @Test
+    void slowPrimary_shouldBeHedgedAndHedgeShouldWin() {
+        HedgingFilter filter = filter(new RetryBudget(1.0, 0, 10), SLOW, FAST);
+
+        MockServerWebExchange exchange = get();
+        filter.filter(exchange, unreachableChain()).block();
+
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals("fast", exchange.getResponse().getBodyAsString().block());
+        assertTrue(ServerWebExchangeUtils.isAlreadyRouted(exchange));
+        assertEquals(1.0, count("gateway.hedging.hedges"));
+        assertEquals(1.0, meterRegistry.get("gateway.hedging.wins").tags("route", ROUTE, "attempt", "hedge").counter().count());
+    }
+
+    @Test
+    void fastPrimary_shouldNotBeHedged() {
+        HedgingFilter filter = filter(new RetryBudget(1.0, 0, 10), FAST, SLOW);
+
+        MockServerWebExchange exchange = get();
+        filter.filter(exchange, unreachableChain()).block();
+
+        assertEquals("fast", exchange.getResponse().getBodyAsString().block());
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1.0, count("gateway.hedging.requests"));
+        assertEquals(0.0, count("gateway.hedging.hedges"));
+    }
+
+    @Test
+    void failingPrimary_shouldBeHedged() {
+        HedgingFilter filter = filter(new RetryBudget(1.0, 0, 10), FAILING, FAST);
+
+        MockServerWebExchange exchange = get();
+        filter.filter(exchange, unreachableChain()).block();
+
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals("fast", exchange.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void exhaustedBudget_shouldSkipHedge() {
+        HedgingFilter filter = filter(new RetryBudget(0, 0, 10), SLOW, FAST);
+
+        MockServerWebExchange exchange = get();
+        filter.filter(exchange, unreachableChain()).block();
+
+        assertEquals("slow", exchange.getResponse().getBodyAsString().block());
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1.0, meterRegistry.get("gateway.hedging.skipped").tags("route", ROUTE, "reason", "budget")
+                .counter().count());
+    }
+
+    @Test
+    void nonGetRequest_shouldContinueDownTheChain() {
+        HedgingFilter filter = filter(new RetryBudget(1.0, 0, 10), SLOW, FAST);
+        AtomicInteger chainCalls = new AtomicInteger();
+
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.post("/products").build());
+        filter.filter(exchange, e -> Mono.fromRunnable(chainCalls::incrementAndGet)).block();
+
+        assertEquals(1, chainCalls.get());
+        assertEquals(0, upstreamCalls.get());
+    }
+
+    @Test
+    void excludedPath_shouldContinueDownTheChain() {
+        HedgingFilter filter = filter(new RetryBudget(1.0, 0, 10), SLOW, FAST);
+        AtomicInteger chainCalls = new AtomicInteger();
+
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/products/export").build());
+        filter.filter(exchange, e -> Mono.fromRunnable(chainCalls::incrementAndGet)).block();
+
+        assertEquals(1, chainCalls.get());
+        assertEquals(0, upstreamCalls.get());
+        assertEquals(0.0, count("gateway.hedging.requests"));
+    }
+
+    @Test
+    void streamingRequest_shouldContinueDownTheChain() {
+        HedgingFilter filter = filter(new RetryBudget(1.0, 0, 10), SLOW, FAST);
+        AtomicInteger chainCalls = new AtomicInteger();
+
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/products")
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE).build());
+        filter.filter(exchange, e -> Mono.fromRunnable(chainCalls::incrementAndGet)).block();
+
+        assertEquals(1, chainCalls.get());
+        assertEquals(0, upstreamCalls.get());
+    }
+
+    @Test
+    void responseOverMaximumSize_shouldBeRoutedAgain() {
+        ExchangeStrategies smallBuffers = ExchangeStrategies.builder()
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(2))
+                .build();
+        webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    upstreamCalls.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK, smallBuffers).body("large").build());
+                })
+                .build();
+        HedgingFilter filter = filter(new RetryBudget(1.0, 0, 10), FAST, SLOW);
+        AtomicInteger chainCalls = new AtomicInteger();
+
+        filter.filter(get(), e -> Mono.fromRunnable(chainCalls::incrementAndGet)).block();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, chainCalls.get());
+        assertEquals(1.0, count("gateway.hedging.unbuffered"));
+    }
+
+    @Test
+    void cancelledAttempt_shouldNotBeRecorded() {
+        properties.setInitialDelay(Duration.ofMillis(200));
+        properties.setMinimumSamples(1);
+        properties.setMinimumDelay(Duration.ofMillis(1));
+        properties.setDelayRefreshInterval(Duration.ZERO);
+        HedgingFilter filter = filter(new RetryBudget(1.0, 0, 10), SLOW, FAST);
+
+        filter.filter(get(), unreachableChain()).block();
+        // The delay of the next request is derived from the hedge alone, not from the primary cut off after 200ms
+        filter.filter(get(), unreachableChain()).block();
+
+        assertTrue(meterRegistry.get("gateway.hedging.delay").gauge().value() < 100);
+    }
+
+    @Test
+    void retryBudget_shouldOnlyAllowEarnedHedges() {
+        AtomicLong clock = new AtomicLong();
+        RetryBudget budget = new RetryBudget(0.5, 2, 10, clock::get);
+
+        budget.deposit();
+        assertFalse(budget.tryWithdraw());
+        budget.deposit();
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertTrue(budget.tryWithdraw());
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    void latencyWindow_shouldReturnPercentileOfRecentLatencies() {
+        LatencyWindow window = new LatencyWindow(100);
+        for (int i = 1; i <= 200; i++) {
+            window.record(i);
+        }
+
+        assertEquals(195, window.percentile(0.95));
+        assertEquals(200, window.count());
+    }
+
+    private HedgingFilter filter(RetryBudget budget, ServiceInstance... instances) {
+        AtomicInteger next = new AtomicInteger();
+        InstanceChooser chooser = serviceId -> Mono.just(instances[next.getAndIncrement() % instances.length]);
+        return new HedgingFilter(ROUTE, properties, budget, chooser, webClient, List::of, meterRegistry);
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).tag("route", ROUTE).counter().count();
+    }
+
+    private static GatewayFilterChain unreachableChain() {
+        return exchange -> Mono.error(new AssertionError("hedged GETs must not continue down the chain"));
+    }
+
+    private static MockServerWebExchange get() {
+        return exchange(MockServerHttpRequest.get("/products/1").build());
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        Route route = Route.async()
+                .id(ROUTE)
+                .uri("lb://product-service")
+                .predicate(e -> true)
+                .build();
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        return exchange;
+    }
+
+    private static ServiceInstance instance(String host) {
+        return new DefaultServiceInstance(host, "product-service", host, 8080, false);
+    }
+}
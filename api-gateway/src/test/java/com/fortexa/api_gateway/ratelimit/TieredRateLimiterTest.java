@@ -0,0 +1,128 @@
+package com.fortexa.api_gateway.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TieredRateLimiter, using an in-memory leaser and a manual clock.
+ */
+class TieredRateLimiterTest {
+
+    private static final String ROUTE = "user-service-route";
+    private static final String KEY = "alice";
+
+    private TieredRateLimiterProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+    private AtomicInteger leases;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TieredRateLimiterProperties();
+        properties.setReplenishRate(10);
+        properties.setBurstCapacity(20);
+        properties.setLeaseSize(5);
+        properties.setPrefetchThreshold(0);
+        properties.setLeaseTtl(Duration.ofSeconds(1));
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        leases = new AtomicInteger();
+    }
+
+    @Test
+    void admitsFromLocalTokensWithoutLeasingPerRequest() {
+        TieredRateLimiter limiter = limiter(leaserWithBudget(20));
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(isAllowed(limiter));
+        }
+        assertEquals(1, leases.get(), "Requests should be served from a single lease of five tokens");
+        assertEquals(5, meterRegistry.get("gateway.ratelimit.lease.size").summary().totalAmount());
+    }
+
+    @Test
+    void rejectsLocallyOnceGlobalBucketIsEmpty() {
+        TieredRateLimiter limiter = limiter(leaserWithBudget(5));
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(isAllowed(limiter));
+        }
+        // Taking the last token prefetched a lease, which found the global bucket empty
+        assertEquals(2, leases.get());
+
+        // Within the refill period, rejections are decided without asking the global bucket again
+        assertFalse(isAllowed(limiter));
+        assertFalse(isAllowed(limiter));
+        assertEquals(2, leases.get());
+        assertEquals(2, meterRegistry.get("gateway.ratelimit.rejects").tag("tier", "local").counter().count());
+
+        // Once a token is due the global bucket is asked again
+        clock.addAndGet(Duration.ofMillis(100).toNanos());
+        assertFalse(isAllowed(limiter));
+        assertEquals(3, leases.get());
+        assertEquals(1, meterRegistry.get("gateway.ratelimit.rejects").tag("tier", "global").counter().count());
+    }
+
+    @Test
+    void prefetchesBeforeLocalTokensRunOut() {
+        properties.setPrefetchThreshold(2);
+        TieredRateLimiter limiter = limiter(leaserWithBudget(100));
+
+        assertTrue(isAllowed(limiter));
+        assertTrue(isAllowed(limiter));
+        assertTrue(isAllowed(limiter));
+
+        // The third request left two tokens and started the next lease in the background
+        assertEquals(2, leases.get());
+        assertEquals(7.0, meterRegistry.get("gateway.ratelimit.drift").gauge().value());
+    }
+
+    @Test
+    void dropsUnusedTokensOnceLeaseExpires() {
+        TieredRateLimiter limiter = limiter(leaserWithBudget(100));
+
+        assertTrue(isAllowed(limiter));
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertTrue(isAllowed(limiter));
+
+        assertEquals(2, leases.get());
+        assertEquals(4, meterRegistry.get("gateway.ratelimit.lease.expired").counter().count());
+    }
+
+    @Test
+    void allowsRequestsWhenLeaseFails() {
+        TieredRateLimiter limiter = limiter((key, requested) -> Mono.error(new IllegalStateException("Redis down")));
+
+        assertTrue(isAllowed(limiter));
+        assertEquals(1, meterRegistry.get("gateway.ratelimit.lease.errors").counter().count());
+    }
+
+    private TieredRateLimiter limiter(TokenLeaser leaser) {
+        return new TieredRateLimiter(leaser, properties, meterRegistry, clock::get);
+    }
+
+    // Leaser handing out a fixed number of tokens in total, without refill
+    private TokenLeaser leaserWithBudget(long budget) {
+        AtomicLong remaining = new AtomicLong(budget);
+        return (key, requested) -> Mono.fromSupplier(() -> {
+            leases.incrementAndGet();
+            long granted = Math.min(requested, remaining.get());
+            return new TokenLeaser.Lease(granted, remaining.addAndGet(-granted));
+        });
+    }
+
+    private boolean isAllowed(TieredRateLimiter limiter) {
+        RateLimiter.Response response = limiter.isAllowed(ROUTE, KEY).block();
+        assertNotNull(response);
+        return response.isAllowed();
+    }
+}
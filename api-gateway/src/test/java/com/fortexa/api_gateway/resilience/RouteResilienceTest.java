@@ -0,0 +1,213 @@
+package com.fortexa.api_gateway.resilience;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.HttpMessageReader;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the per-route bulkheads, circuit breakers and fallback responses,
+ * using stub backends that inject latency.
+ */
+class RouteResilienceTest {
+
+    private static final String ROUTE = "product-service-route";
+    private static final List<HttpMessageReader<?>> READERS = HandlerStrategies.withDefaults().messageReaders();
+
+    private RouteResilienceProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private FallbackHandler fallbackHandler;
+    private RouteResilience routeResilience;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RouteResilienceProperties();
+        RouteResilienceProperties.RouteSettings defaults = properties.getDefaults();
+        defaults.setConnectTimeout(Duration.ofMillis(50));
+        defaults.setResponseTimeout(Duration.ofMillis(100));
+        defaults.setSlowCallDurationThreshold(Duration.ofMillis(80));
+        defaults.setSlidingWindowSize(4);
+        defaults.setMinimumNumberOfCalls(4);
+        defaults.setWaitDurationInOpenState(Duration.ofMillis(200));
+        defaults.setPermittedCallsInHalfOpenState(1);
+
+        meterRegistry = new SimpleMeterRegistry();
+        fallbackHandler = new FallbackHandler(properties);
+        routeResilience = new RouteResilience(properties, fallbackHandler, meterRegistry);
+    }
+
+    @Test
+    void requestsOverTheBulkheadLimit_shouldBeRejectedWithoutWaiting() {
+        RouteResilienceProperties.RouteSettings overrides = new RouteResilienceProperties.RouteSettings();
+        overrides.setMaxConcurrentCalls(2);
+        properties.getRoutes().put(ROUTE, overrides);
+        GatewayFilter bulkhead = routeResilience.bulkhead(ROUTE);
+        AtomicInteger backendCalls = new AtomicInteger();
+        GatewayFilterChain slowBackend = exchange -> Mono.delay(Duration.ofMillis(300))
+                .doOnSubscribe(s -> backendCalls.incrementAndGet())
+                .then();
+
+        Mono<Void> first = bulkhead.filter(exchange(), slowBackend).cache();
+        Mono<Void> second = bulkhead.filter(exchange(), slowBackend).cache();
+        first.subscribe();
+        second.subscribe();
+        assertEquals(0.0, meterRegistry.get("gateway.bulkhead.available").tag("route", ROUTE).gauge().value());
+
+        MockServerWebExchange rejected = exchange();
+        long start = System.nanoTime();
+        bulkhead.filter(rejected, slowBackend).block();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getResponse().getStatusCode());
+        assertEquals("1", rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertTrue(rejected.getResponse().getBodyAsString().block().contains("\"route\":\"" + ROUTE + "\""));
+        assertTrue(elapsedMillis < 300, "rejection should not wait for a permit");
+
+        Mono.when(first, second).block();
+        assertEquals(2, backendCalls.get());
+        assertEquals(1.0, meterRegistry.get("gateway.bulkhead.rejections").tag("route", ROUTE).counter().count());
+    }
+
+    @Test
+    void failingChain_shouldReleaseBulkheadPermit() {
+        GatewayFilter bulkhead = routeResilience.bulkhead(ROUTE);
+        GatewayFilterChain failingBackend = exchange -> {
+            throw new IllegalStateException("backend down");
+        };
+
+        assertThrows(IllegalStateException.class, () -> bulkhead.filter(exchange(), failingBackend).block());
+
+        assertEquals(200.0, meterRegistry.get("gateway.bulkhead.available").tag("route", ROUTE).gauge().value());
+    }
+
+    @Test
+    void timeoutMetadata_shouldCarryRouteTimeouts() {
+        Map<String, Object> metadata = routeResilience.timeoutMetadata(ROUTE);
+
+        assertEquals(50, metadata.get(RouteMetadataUtils.CONNECT_TIMEOUT_ATTR));
+        assertEquals(100L, metadata.get(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR));
+    }
+
+    @Test
+    void slowBackend_shouldTimeOutAndOpenCircuit() {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        new CircuitBreakerStateMetrics(meterRegistry).bindTo(registry);
+        Resilience4JConfigBuilder.Resilience4JCircuitBreakerConfiguration configuration =
+                routeResilience.circuitBreakerConfiguration(ROUTE);
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(ROUTE, configuration.getCircuitBreakerConfig());
+        TimeLimiter timeLimiter = TimeLimiter.of(configuration.getTimeLimiterConfig());
+        AtomicInteger backendCalls = new AtomicInteger();
+        Mono<String> slowBackend = Mono.delay(Duration.ofMillis(500))
+                .doOnSubscribe(s -> backendCalls.incrementAndGet())
+                .thenReturn("late");
+
+        for (int i = 0; i < 4; i++) {
+            Mono<String> call = slowBackend.transformDeferred(TimeLimiterOperator.of(timeLimiter))
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+            assertThrows(TimeoutException.class, () -> blockUnwrapped(call));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(1.0, stateGauge("open"));
+        assertEquals(0.0, stateGauge("closed"));
+        assertEquals(1.0, meterRegistry.get("gateway.circuitbreaker.transitions")
+                .tags("route", ROUTE, "to", "open").counter().count());
+
+        // Calls are rejected without reaching the backend while the circuit is open
+        Mono<String> rejected = slowBackend.transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+        assertThrows(CallNotPermittedException.class, () -> blockUnwrapped(rejected));
+        assertEquals(4, backendCalls.get());
+    }
+
+    @Test
+    void openCircuit_shouldMoveToHalfOpenAfterWaitDuration() throws InterruptedException {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        new CircuitBreakerStateMetrics(meterRegistry).bindTo(registry);
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(ROUTE,
+                routeResilience.circuitBreakerConfiguration(ROUTE).getCircuitBreakerConfig());
+
+        circuitBreaker.transitionToOpenState();
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (circuitBreaker.getState() != CircuitBreaker.State.HALF_OPEN && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertEquals(1.0, stateGauge("half_open"));
+        assertEquals(0.0, stateGauge("open"));
+    }
+
+    @Test
+    void timedOutCall_shouldFallBackToGatewayTimeout() {
+        ServerResponse response = fallback(new TimeoutException("Response took longer than timeout"));
+
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, response.statusCode());
+        assertEquals("1", response.headers().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void callNotPermitted_shouldFallBackToServiceUnavailableWithOpenStateRetryAfter() {
+        properties.getDefaults().setWaitDurationInOpenState(Duration.ofSeconds(30));
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults(ROUTE);
+        circuitBreaker.transitionToOpenState();
+
+        ServerResponse response = fallback(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.statusCode());
+        assertEquals("30", response.headers().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    private ServerResponse fallback(Throwable cause) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/fallback/" + ROUTE));
+        exchange.getAttributes().put(ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR, cause);
+        exchange.getAttributes().put(RouterFunctions.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                Map.of(FallbackHandler.ROUTE_ID_VARIABLE, ROUTE));
+        return fallbackHandler.handle(ServerRequest.create(exchange, READERS)).block();
+    }
+
+    private double stateGauge(String state) {
+        return meterRegistry.get("gateway.circuitbreaker.state").tags("route", ROUTE, "state", state).gauge().value();
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/products/1"));
+    }
+
+    // block() wraps checked exceptions such as TimeoutException, unwrap them for assertThrows
+    private static <T> T blockUnwrapped(Mono<T> mono) throws Throwable {
+        try {
+            return mono.block();
+        } catch (RuntimeException ex) {
+            throw Exceptions.unwrap(ex);
+        }
+    }
+}
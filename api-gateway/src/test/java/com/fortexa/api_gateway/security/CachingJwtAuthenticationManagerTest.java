@@ -0,0 +1,134 @@
+package com.fortexa.api_gateway.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CachingJwtAuthenticationManager and the JWT authentication cache behind it.
+ */
+class CachingJwtAuthenticationManagerTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private MutableClock clock;
+    private AtomicInteger verifications;
+    private JwtAuthenticationCache cache;
+    private CachingJwtAuthenticationManager manager;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        verifications = new AtomicInteger();
+        cache = new JwtAuthenticationCache(new JwtCacheProperties(), new SimpleMeterRegistry(), clock);
+        manager = new CachingJwtAuthenticationManager(verifyingManager(), cache);
+    }
+
+    @Test
+    void repeatTokenSkipsVerification() {
+        Authentication first = authenticate("key-1.token-a");
+        Authentication second = authenticate("key-1.token-a");
+
+        assertEquals(1, verifications.get());
+        assertSame(first, second);
+    }
+
+    @Test
+    void distinctTokensAreVerifiedSeparately() {
+        authenticate("key-1.token-a");
+        authenticate("key-1.token-b");
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void expiredTokenIsVerifiedAgain() {
+        authenticate("key-1.token-a");
+        clock.advance(Duration.ofMinutes(2));
+        authenticate("key-1.token-a");
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void rotatedKeyInvalidatesItsTokensOnly() {
+        authenticate("key-1.token-a");
+        authenticate("key-2.token-b");
+
+        JwksRotationMonitor monitor = new JwksRotationMonitor(
+                WebClient.builder(), cache, new JwtCacheProperties());
+        monitor.onKeyIds(Set.of("key-1", "key-2"));
+        monitor.onKeyIds(Set.of("key-2", "key-3"));
+
+        assertNull(cache.get("key-1.token-a"));
+        assertNotNull(cache.get("key-2.token-b"));
+    }
+
+    // Stands in for decoding and verification, the token is "<kid>.<anything>" and expires a minute from now
+    private ReactiveAuthenticationManager verifyingManager() {
+        return authentication -> Mono.fromSupplier(() -> {
+            verifications.incrementAndGet();
+            String token = ((BearerTokenAuthenticationToken) authentication).getToken();
+            Jwt jwt = Jwt.withTokenValue(token)
+                    .header("alg", "RS256")
+                    .header("kid", token.substring(0, token.indexOf('.')))
+                    .subject("test-subject")
+                    .issuedAt(clock.instant())
+                    .expiresAt(clock.instant().plusSeconds(60))
+                    .build();
+            return new JwtAuthenticationToken(jwt, List.of(), jwt.getSubject());
+        });
+    }
+
+    private Authentication authenticate(String token) {
+        Authentication authentication = manager.authenticate(new BearerTokenAuthenticationToken(token)).block();
+        assertNotNull(authentication);
+        return authentication;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.fortexa.load_test;
+
+import com.fortexa.load_test.auth.StubJwtIssuer;
+import com.fortexa.load_test.auth.TokenPool;
+import com.fortexa.load_test.environment.Infrastructure;
+import com.fortexa.load_test.environment.ServiceStack;
+import com.fortexa.load_test.report.ReportWriter;
+import com.fortexa.load_test.report.RouteStatistics;
+import com.fortexa.load_test.workload.ArrivalProcess;
+import com.fortexa.load_test.workload.CatalogueBrowseWorkload;
+import com.fortexa.load_test.workload.ClosedModelDriver;
+import com.fortexa.load_test.workload.OpenModelDriver;
+import com.fortexa.load_test.workload.ProductCreateWorkload;
+import com.fortexa.load_test.workload.UserCreateWorkload;
+import com.fortexa.load_test.workload.Workload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Entry point of the end-to-end load test.
+ *
+ * A run starts MongoDB, MySQL and Redis containers and a stub token issuer, launches product-service,
+ * user-service and the api-gateway from their executable jars against them, offers the configured
+ * open workloads and writes per-route latency histograms and a summary. Everything is torn down at
+ * the end of the run. Build the three services with {@code mvn package} first, then run
+ * {@code java -jar target/load-test.jar [key=value ...]}; see {@code load-test.properties} for the settings.
+ *
+ * Workloads are offered at fixed arrival rates ({@code model=open}) or run by a fixed number of
+ * concurrent clients ({@code model=closed}), and preset runs are selected with {@code scenario=<name>}.
+ * With {@code stack=external}, nothing is started and the workloads are sent to services already
+ * running at the {@code external.<target>.uri} addresses.
+ */
+public class LoadTestApplication {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestApplication.class);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestProperties properties = LoadTestProperties.load(args);
+        String runId = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+        Path outputDir = properties.getPath("output.dir").resolve(runId);
+        Duration warmup = properties.getDuration("warmup");
+        Duration duration = properties.getDuration("duration");
+
+        if ("external".equalsIgnoreCase(properties.getString("stack"))) {
+            try (StubJwtIssuer issuer = new StubJwtIssuer(properties.getString("auth.audience"))) {
+                run(properties, issuer, target -> URI.create(properties.getString("external." + target + ".uri")),
+                        runId, outputDir, warmup, duration);
+            }
+            return;
+        }
+
+        try (Infrastructure infrastructure = new Infrastructure(
+                properties.getString("infrastructure.mongo-image"),
+                properties.getString("infrastructure.mysql-image"),
+                properties.getString("infrastructure.redis-image"),
+                properties.getString("infrastructure.toxiproxy-image"),
+                properties.getDuration("infrastructure.database-latency"),
+                properties.getDuration("infrastructure.database-latency-jitter"));
+             StubJwtIssuer issuer = new StubJwtIssuer(properties.getString("auth.audience"))) {
+            infrastructure.start();
+
+            try (ServiceStack stack = new ServiceStack(properties, infrastructure, issuer, outputDir.resolve("logs"))) {
+                stack.start();
+                run(properties, issuer, stack::getBaseUri, runId, outputDir, warmup, duration);
+            }
+        }
+    }
+
+    private static void run(LoadTestProperties properties, StubJwtIssuer issuer, Function<String, URI> baseUris,
+                            String runId, Path outputDir, Duration warmup, Duration duration) throws Exception {
+        // Tokens outlive the run so that none expires while requests are in flight
+        TokenPool tokens = new TokenPool(issuer, properties.getInt("auth.users"),
+                properties.getString("auth.primary-role"), warmup.plus(duration).plusMinutes(10));
+        Map<String, Workload> workloads = workloads(properties, runId);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getDuration("request.connect-timeout"))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        Duration reportInterval = properties.getDuration("report.interval");
+        Duration drainTimeout = properties.getDuration("request.timeout");
+        List<RouteStatistics> statistics;
+        if ("closed".equalsIgnoreCase(properties.getString("model"))) {
+            // Workloads with a concurrency of 0 are disabled
+            List<ClosedModelDriver.Plan> plans = new ArrayList<>();
+            workloads.forEach((key, workload) -> {
+                int concurrency = properties.getInt(key + ".concurrency");
+                if (concurrency > 0) {
+                    plans.add(new ClosedModelDriver.Plan(workload, baseUris.apply(workload.target()), concurrency));
+                }
+            });
+            if (plans.isEmpty()) {
+                logger.warn("No workload has a concurrency above 0, nothing to run");
+                return;
+            }
+            ClosedModelDriver driver = new ClosedModelDriver(httpClient, tokens, properties.getDuration("closed.think-time"));
+            statistics = driver.run(plans, warmup, duration, reportInterval, drainTimeout);
+        } else {
+            // Workloads with a rate of 0 are disabled
+            List<OpenModelDriver.Plan> plans = new ArrayList<>();
+            workloads.forEach((key, workload) -> {
+                double rate = properties.getDouble(key + ".rate");
+                if (rate > 0) {
+                    plans.add(new OpenModelDriver.Plan(workload, baseUris.apply(workload.target()), rate));
+                }
+            });
+            if (plans.isEmpty()) {
+                logger.warn("No workload has a rate above 0, nothing to run");
+                return;
+            }
+            OpenModelDriver driver = new OpenModelDriver(httpClient, tokens,
+                    ArrivalProcess.valueOf(properties.getString("arrival").toUpperCase()),
+                    properties.getInt("request.max-in-flight"));
+            statistics = driver.run(plans, warmup, duration, reportInterval, drainTimeout);
+        }
+
+        new ReportWriter(outputDir).write(runId, duration, statistics);
+    }
+
+    // Workloads by the prefix of their settings
+    private static Map<String, Workload> workloads(LoadTestProperties properties, String runId) {
+        Duration timeout = properties.getDuration("request.timeout");
+        Map<String, Workload> workloads = new LinkedHashMap<>();
+        workloads.put("browse",
+                new CatalogueBrowseWorkload(properties.getString("browse.target"), properties.getString("browse.path"),
+                        properties.getInt("browse.pages"), properties.getInt("browse.page-size"), timeout));
+        workloads.put("product-create",
+                new ProductCreateWorkload(properties.getString("product-create.target"), properties.getString("product-create.path"),
+                        runId, timeout));
+        workloads.put("user-create",
+                new UserCreateWorkload(properties.getString("user-create.target"), properties.getString("user-create.path"),
+                        runId, timeout));
+        return workloads;
+    }
+}
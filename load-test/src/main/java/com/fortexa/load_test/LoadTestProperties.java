@@ -0,0 +1,141 @@
+package com.fortexa.load_test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Settings of a load test run.
+ *
+ * Defaults are read from {@code load-test.properties} on the classpath. They can be overridden by
+ * system properties and, with the highest precedence, by {@code key=value} command line arguments,
+ * e.g. {@code java -jar target/load-test.jar duration=5m browse.rate=500}.
+ *
+ * Setting {@code scenario=<name>} applies {@code scenarios/<name>.properties} from the classpath on top
+ * of the defaults, below the system properties and arguments.
+ */
+public class LoadTestProperties {
+
+    private static final String DEFAULTS = "load-test.properties";
+    private static final String SCENARIO = "scenario";
+
+    private final Properties properties;
+
+    private LoadTestProperties(Properties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Loads the defaults and the selected scenario, then applies the system property and command line overrides.
+     *
+     * @param args the {@code key=value} command line arguments
+     * @return the resolved {@link LoadTestProperties}
+     * @throws IllegalArgumentException if an argument is not of the form {@code key=value}, or the scenario does not exist
+     */
+    public static LoadTestProperties load(String[] args) {
+        Properties arguments = new Properties();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            arguments.setProperty(arg.substring(0, separator).trim(), arg.substring(separator + 1).trim());
+        }
+
+        Properties properties = new Properties();
+        if (!loadResource(properties, DEFAULTS)) {
+            throw new IllegalStateException("Missing " + DEFAULTS + " on the classpath");
+        }
+        String scenario = arguments.getProperty(SCENARIO, System.getProperty(SCENARIO, properties.getProperty(SCENARIO, "")));
+        if (!scenario.isBlank() && !loadResource(properties, "scenarios/" + scenario + ".properties")) {
+            throw new IllegalArgumentException("Unknown load test scenario: " + scenario);
+        }
+        for (String name : properties.stringPropertyNames()) {
+            String override = System.getProperty(name);
+            if (override != null) {
+                properties.setProperty(name, override);
+            }
+        }
+        properties.putAll(arguments);
+        return new LoadTestProperties(properties);
+    }
+
+    private static boolean loadResource(Properties properties, String name) {
+        try (InputStream resource = LoadTestProperties.class.getClassLoader().getResourceAsStream(name)) {
+            if (resource == null) {
+                return false;
+            }
+            properties.load(resource);
+            return true;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + name, e);
+        }
+    }
+
+    /**
+     * Returns a setting as a string.
+     *
+     * @param key the setting name
+     * @return the value
+     * @throws IllegalArgumentException if the setting is missing
+     */
+    public String getString(String key) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing load test setting: " + key);
+        }
+        return value;
+    }
+
+    /**
+     * Returns a setting as a string, or the given default when it is missing or blank.
+     *
+     * @param key          the setting name
+     * @param defaultValue the value used when the setting is missing
+     * @return the value
+     */
+    public String getString(String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    public int getInt(String key) {
+        return Integer.parseInt(getString(key));
+    }
+
+    public double getDouble(String key) {
+        return Double.parseDouble(getString(key));
+    }
+
+    public Path getPath(String key) {
+        return Path.of(getString(key));
+    }
+
+    /**
+     * Returns a duration setting. Values are written as a number followed by {@code ms}, {@code s},
+     * {@code m} or {@code h}, e.g. {@code 500ms} or {@code 5m}.
+     *
+     * @param key the setting name
+     * @return the parsed {@link Duration}
+     * @throws IllegalArgumentException if the value is not a valid duration
+     */
+    public Duration getDuration(String key) {
+        String value = getString(key).trim().toLowerCase();
+        try {
+            if (value.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+            }
+            long amount = Long.parseLong(value.substring(0, value.length() - 1));
+            return switch (value.charAt(value.length() - 1)) {
+                case 's' -> Duration.ofSeconds(amount);
+                case 'm' -> Duration.ofMinutes(amount);
+                case 'h' -> Duration.ofHours(amount);
+                default -> throw new IllegalArgumentException("Invalid duration for " + key + ": " + value);
+            };
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid duration for " + key + ": " + value, e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.fortexa.load_test.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Minimal OpenID Connect issuer standing in for Keycloak during load tests.
+ *
+ * It serves the two endpoints the gateway reads, the discovery document at
+ * {@code /.well-known/openid-configuration} and the JWK set at {@code /protocol/openid-connect/certs}
+ * (the Keycloak path the gateway's JWT cache is configured with), and mints RS256 access tokens
+ * carrying the {@code primary_role} claim the gateway authorizes on.
+ */
+public class StubJwtIssuer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubJwtIssuer.class);
+
+    private static final String DISCOVERY_PATH = "/.well-known/openid-configuration";
+    private static final String CERTS_PATH = "/protocol/openid-connect/certs";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RSAKey signingKey;
+    private final RSASSASigner signer;
+    private final String audience;
+    private final HttpServer server;
+    private final String issuer;
+
+    /**
+     * Generates a signing key and starts serving the issuer endpoints on an ephemeral loopback port.
+     *
+     * @param audience the {@code aud} claim of the minted tokens, must match the gateway's configured audience
+     * @throws IOException if the HTTP server cannot be started
+     */
+    public StubJwtIssuer(String audience) throws IOException {
+        try {
+            this.signingKey = new RSAKeyGenerator(2048)
+                    .keyID(UUID.randomUUID().toString())
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(JWSAlgorithm.RS256)
+                    .generate();
+            this.signer = new RSASSASigner(signingKey);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not generate the token signing key", e);
+        }
+        this.audience = audience;
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.issuer = "http://127.0.0.1:" + server.getAddress().getPort();
+        server.createContext(DISCOVERY_PATH, exchange -> respond(exchange, discoveryDocument()));
+        server.createContext(CERTS_PATH, exchange -> respond(exchange, new JWKSet(signingKey.toPublicJWK()).toJSONObject()));
+        server.start();
+        logger.info("Stub JWT issuer listening on {}", issuer);
+    }
+
+    /**
+     * @return the issuer URI, to be used as the gateway's {@code issuer-uri}
+     */
+    public String getIssuer() {
+        return issuer;
+    }
+
+    /**
+     * Mints a signed access token.
+     *
+     * @param subject     the {@code sub} claim, which the gateway also uses as the rate limiting key
+     * @param primaryRole the {@code primary_role} claim, e.g. {@code user}
+     * @param timeToLive  how long the token stays valid
+     * @return the serialized JWT
+     */
+    public String issueToken(String subject, String primaryRole, Duration timeToLive) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .audience(audience)
+                .subject(subject)
+                .jwtID(UUID.randomUUID().toString())
+                .issueTime(Date.from(now))
+                .notBeforeTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(timeToLive)))
+                .claim("preferred_username", subject)
+                .claim("primary_role", primaryRole)
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not sign the token of " + subject, e);
+        }
+        return jwt.serialize();
+    }
+
+    private Map<String, Object> discoveryDocument() {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("issuer", issuer);
+        document.put("jwks_uri", issuer + CERTS_PATH);
+        document.put("token_endpoint", issuer + "/protocol/openid-connect/token");
+        document.put("authorization_endpoint", issuer + "/protocol/openid-connect/auth");
+        document.put("response_types_supported", new String[]{"code"});
+        document.put("subject_types_supported", new String[]{"public"});
+        document.put("id_token_signing_alg_values_supported", new String[]{"RS256"});
+        return document;
+    }
+
+    private void respond(HttpExchange exchange, Map<String, Object> body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
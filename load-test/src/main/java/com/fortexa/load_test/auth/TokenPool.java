@@ -0,0 +1,45 @@
+package com.fortexa.load_test.auth;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Fixed set of access tokens, one per simulated user, minted up front so that signing stays out of
+ * the measured request path.
+ *
+ * Spreading requests over many users matters because the gateway rate limits per token subject;
+ * with a single user the run would mostly measure rejections.
+ */
+public class TokenPool {
+
+    private final String[] tokens;
+
+    /**
+     * Mints one token per simulated user.
+     *
+     * @param issuer      the issuer signing the tokens
+     * @param users       the number of simulated users
+     * @param primaryRole the {@code primary_role} claim of every token
+     * @param timeToLive  how long the tokens stay valid, should exceed the whole run
+     */
+    public TokenPool(StubJwtIssuer issuer, int users, String primaryRole, Duration timeToLive) {
+        if (users < 1) {
+            throw new IllegalArgumentException("At least one simulated user is required");
+        }
+        this.tokens = new String[users];
+        for (int i = 0; i < users; i++) {
+            tokens[i] = issuer.issueToken("load-test-user-" + i, primaryRole, timeToLive);
+        }
+    }
+
+    /**
+     * @return the token of a randomly picked simulated user
+     */
+    public String next() {
+        return tokens[ThreadLocalRandom.current().nextInt(tokens.length)];
+    }
+
+    public int size() {
+        return tokens.length;
+    }
+}
@@ -0,0 +1,154 @@
+package com.fortexa.load_test.environment;
+
+import eu.rekawek.toxiproxy.Proxy;
+import eu.rekawek.toxiproxy.ToxiproxyClient;
+import eu.rekawek.toxiproxy.model.ToxicDirection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.ToxiproxyContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Throwaway MongoDB, MySQL and Redis instances backing the services under test, run with Testcontainers.
+ *
+ * The containers are started in parallel and live for the duration of a single run, so every run
+ * starts from empty databases.
+ *
+ * When a database latency is configured, the services reach MongoDB and MySQL through a Toxiproxy
+ * container adding that latency (plus jitter) to every response, which simulates a slow or overloaded
+ * database. Redis is always reached directly.
+ */
+public class Infrastructure implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(Infrastructure.class);
+
+    private static final int MONGO_PORT = 27017;
+    private static final int MYSQL_PORT = 3306;
+    private static final int REDIS_PORT = 6379;
+    // First two of the ports the Toxiproxy container exposes for proxies
+    private static final int MONGO_PROXY_PORT = 8666;
+    private static final int MYSQL_PROXY_PORT = 8667;
+    private static final String USER_SERVICE_DATABASE = "user_service_db";
+    private static final String PRODUCT_SERVICE_DATABASE = "product-service";
+
+    private final Network network = Network.newNetwork();
+    private final MongoDBContainer mongo;
+    private final MySQLContainer<?> mysql;
+    private final GenericContainer<?> redis;
+    private final ToxiproxyContainer toxiproxy;
+    private final Duration databaseLatency;
+    private final Duration databaseLatencyJitter;
+
+    /**
+     * Creates the containers, nothing is started until {@link #start()}.
+     *
+     * @param mongoImage            the MongoDB image, e.g. {@code mongo:7.0}
+     * @param mysqlImage            the MySQL image, e.g. {@code mysql:8.0}
+     * @param redisImage            the Redis image, e.g. {@code redis:7-alpine}
+     * @param toxiproxyImage        the Toxiproxy image, only started when a database latency is configured
+     * @param databaseLatency       the latency added to every database response, zero to connect directly
+     * @param databaseLatencyJitter the random variation of the added latency, in both directions
+     */
+    public Infrastructure(String mongoImage, String mysqlImage, String redisImage,
+                          String toxiproxyImage, Duration databaseLatency, Duration databaseLatencyJitter) {
+        this.mongo = new MongoDBContainer(DockerImageName.parse(mongoImage))
+                .withNetwork(network)
+                .withNetworkAliases("mongo");
+        this.mysql = new MySQLContainer<>(DockerImageName.parse(mysqlImage).asCompatibleSubstituteFor("mysql"))
+                .withDatabaseName(USER_SERVICE_DATABASE)
+                .withNetwork(network)
+                .withNetworkAliases("mysql");
+        this.redis = new GenericContainer<>(DockerImageName.parse(redisImage))
+                .withExposedPorts(REDIS_PORT);
+        this.toxiproxy = databaseLatency.isZero() ? null
+                : new ToxiproxyContainer(DockerImageName.parse(toxiproxyImage).asCompatibleSubstituteFor("ghcr.io/shopify/toxiproxy"))
+                        .withNetwork(network);
+        this.databaseLatency = databaseLatency;
+        this.databaseLatencyJitter = databaseLatencyJitter;
+    }
+
+    /**
+     * Starts all containers and waits until they accept connections.
+     */
+    public void start() {
+        Stream.of(mongo, mysql, redis, toxiproxy).filter(Objects::nonNull)
+                .parallel()
+                .forEach(GenericContainer::start);
+        if (toxiproxy != null) {
+            addLatency("mongo", MONGO_PROXY_PORT, "mongo:" + MONGO_PORT);
+            addLatency("mysql", MYSQL_PROXY_PORT, "mysql:" + MYSQL_PORT);
+            logger.info("Database responses delayed by {} (jitter {})", databaseLatency, databaseLatencyJitter);
+        }
+        logger.info("Infrastructure started: mongo={}, mysql={}, redis={}:{}",
+                getMongoUri(), getMysqlJdbcUrl(), getRedisHost(), getRedisPort());
+    }
+
+    private void addLatency(String name, int listenPort, String upstream) {
+        try {
+            ToxiproxyClient client = new ToxiproxyClient(toxiproxy.getHost(), toxiproxy.getControlPort());
+            Proxy proxy = client.createProxy(name, "0.0.0.0:" + listenPort, upstream);
+            proxy.toxics()
+                    .latency(name + "-latency", ToxicDirection.DOWNSTREAM, databaseLatency.toMillis())
+                    .setJitter(databaseLatencyJitter.toMillis());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create the " + name + " proxy", e);
+        }
+    }
+
+    /**
+     * @return the connection string of the product-service database
+     */
+    public String getMongoUri() {
+        if (toxiproxy == null) {
+            return mongo.getReplicaSetUrl(PRODUCT_SERVICE_DATABASE);
+        }
+        // The replica set advertises the container's own address, connect to the proxied member only
+        return "mongodb://" + toxiproxy.getHost() + ":" + toxiproxy.getMappedPort(MONGO_PROXY_PORT) + "/"
+                + PRODUCT_SERVICE_DATABASE + "?directConnection=true";
+    }
+
+    /**
+     * @return the JDBC URL of the user-service database, with cursor fetching enabled as in the service's own configuration
+     */
+    public String getMysqlJdbcUrl() {
+        String url = mysql.getJdbcUrl();
+        if (toxiproxy != null) {
+            // Same URL and parameters, pointed at the proxy
+            url = url.replace(mysql.getHost() + ":" + mysql.getMappedPort(MYSQL_PORT),
+                    toxiproxy.getHost() + ":" + toxiproxy.getMappedPort(MYSQL_PROXY_PORT));
+        }
+        return url + (url.contains("?") ? "&" : "?") + "useCursorFetch=true";
+    }
+
+    public String getMysqlUsername() {
+        return mysql.getUsername();
+    }
+
+    public String getMysqlPassword() {
+        return mysql.getPassword();
+    }
+
+    public String getRedisHost() {
+        return redis.getHost();
+    }
+
+    public int getRedisPort() {
+        return redis.getMappedPort(REDIS_PORT);
+    }
+
+    @Override
+    public void close() {
+        Stream.of(toxiproxy, redis, mysql, mongo).filter(Objects::nonNull).forEach(GenericContainer::stop);
+        network.close();
+    }
+}
@@ -0,0 +1,147 @@
+package com.fortexa.load_test.environment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One service under test, running in its own JVM from its executable jar.
+ *
+ * Each service is started as a separate process rather than in the load generator's JVM: the
+ * services are built on different Spring Boot versions and would not share a classpath, and a
+ * separate process keeps the load generator's own allocation and GC out of the measured servers.
+ * Settings are passed as {@code --key=value} arguments, which take precedence over the service's
+ * bundled {@code application.properties}.
+ */
+public class ServiceProcess implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceProcess.class);
+
+    private static final String HEALTH_PATH = "/actuator/health";
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+
+    private final String name;
+    private final Path jar;
+    private final List<String> jvmOptions;
+    private final Path logFile;
+    private final int port;
+    private Process process;
+
+    /**
+     * Reserves a free port for the service, nothing is started until {@link #start(Map, Duration)}.
+     *
+     * @param name       the service name, used for logging and the log file name
+     * @param jar        the executable jar of the service
+     * @param jvmOptions the JVM options of the service process, e.g. heap size
+     * @param logDir     the directory receiving the service's console output
+     * @throws IOException if no free port can be reserved
+     */
+    public ServiceProcess(String name, Path jar, List<String> jvmOptions, Path logDir) throws IOException {
+        this.name = name;
+        this.jar = jar;
+        this.jvmOptions = jvmOptions;
+        this.logFile = logDir.resolve(name + ".log");
+        try (ServerSocket socket = new ServerSocket(0)) {
+            this.port = socket.getLocalPort();
+        }
+    }
+
+    /**
+     * @return the base URI of the service
+     */
+    public URI getBaseUri() {
+        return URI.create("http://127.0.0.1:" + port);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Launches the service and blocks until its health endpoint reports {@code UP}.
+     *
+     * @param settings       the Spring properties passed to the service on top of its own configuration
+     * @param startupTimeout how long to wait for the service to become healthy
+     * @throws IOException          if the jar is missing or the process cannot be started
+     * @throws InterruptedException if interrupted while waiting
+     * @throws IllegalStateException if the service exits or does not become healthy in time
+     */
+    public void start(Map<String, String> settings, Duration startupTimeout) throws IOException, InterruptedException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IOException("Executable jar of " + name + " not found at " + jar.toAbsolutePath()
+                    + ", build it with mvn package first");
+        }
+        Files.createDirectories(logFile.getParent());
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.add("--server.port=" + port);
+        settings.forEach((key, value) -> command.add("--" + key + "=" + value));
+
+        logger.info("Starting {} on port {}, console output in {}", name, port, logFile);
+        process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        awaitHealthy(startupTimeout);
+    }
+
+    private void awaitHealthy(Duration startupTimeout) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(POLL_INTERVAL).build();
+        HttpRequest request = HttpRequest.newBuilder(getBaseUri().resolve(HEALTH_PATH)).timeout(Duration.ofSeconds(2)).build();
+        long deadline = System.nanoTime() + startupTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with code " + process.exitValue() + ", see " + logFile);
+            }
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    logger.info("{} is up at {}", name, getBaseUri());
+                    return;
+                }
+                logger.debug("{} is not healthy yet: {} {}", name, response.statusCode(), response.body());
+            } catch (IOException e) {
+                logger.debug("{} is not accepting connections yet: {}", name, e.getMessage());
+            }
+            Thread.sleep(POLL_INTERVAL);
+        }
+        throw new IllegalStateException(name + " did not become healthy within " + startupTimeout + ", see " + logFile);
+    }
+
+    /**
+     * Stops the service gracefully, forcibly if it does not exit within a few seconds.
+     */
+    @Override
+    public void close() {
+        if (process == null || !process.isAlive()) {
+            return;
+        }
+        process.destroy();
+        try {
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                logger.warn("{} did not stop in time, killing it", name);
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
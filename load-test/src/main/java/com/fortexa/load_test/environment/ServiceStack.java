@@ -0,0 +1,134 @@
+package com.fortexa.load_test.environment;
+
+import com.fortexa.load_test.LoadTestProperties;
+import com.fortexa.load_test.auth.StubJwtIssuer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The system under test: product-service, user-service and the api-gateway in front of them,
+ * wired to the {@link Infrastructure} containers and to the {@link StubJwtIssuer} instead of Keycloak.
+ *
+ * The gateway finds the services through the Spring Cloud simple discovery client, so the
+ * {@code lb://} routes and the load balancer run exactly as in production, minus Kubernetes.
+ */
+public class ServiceStack implements AutoCloseable {
+
+    // Spring Security is only enforced at the gateway in this setup, the stand-alone user-service
+    // would otherwise answer every request with the generated default user's basic auth challenge
+    private static final String USER_SERVICE_SECURITY_EXCLUDES = String.join(",",
+            "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration",
+            "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration",
+            "org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration",
+            "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration");
+
+    private final LoadTestProperties properties;
+    private final Infrastructure infrastructure;
+    private final StubJwtIssuer issuer;
+    private final ServiceProcess productService;
+    private final ServiceProcess userService;
+    private final ServiceProcess gateway;
+    private final List<ServiceProcess> started = new ArrayList<>();
+
+    /**
+     * Prepares the services, nothing is started until {@link #start()}.
+     *
+     * @param properties     the load test settings, providing the jar locations and JVM options
+     * @param infrastructure the started database and Redis containers
+     * @param issuer         the token issuer the gateway trusts
+     * @param logDir         the directory receiving the services' console output
+     * @throws IOException if no free ports can be reserved
+     */
+    public ServiceStack(LoadTestProperties properties, Infrastructure infrastructure, StubJwtIssuer issuer, Path logDir) throws IOException {
+        this.properties = properties;
+        this.infrastructure = infrastructure;
+        this.issuer = issuer;
+        List<String> jvmOptions = Arrays.stream(properties.getString("service.jvm-options", "").split("\\s+"))
+                .filter(option -> !option.isBlank())
+                .toList();
+        this.productService = new ServiceProcess("product-service", properties.getPath("product-service.jar"), jvmOptions, logDir);
+        this.userService = new ServiceProcess("user-service", properties.getPath("user-service.jar"), jvmOptions, logDir);
+        this.gateway = new ServiceProcess("api-gateway", properties.getPath("api-gateway.jar"), jvmOptions, logDir);
+    }
+
+    /**
+     * Starts the backend services, then the gateway once they are healthy.
+     *
+     * @throws IOException          if a service cannot be launched
+     * @throws InterruptedException if interrupted while waiting for the services
+     */
+    public void start() throws IOException, InterruptedException {
+        Duration startupTimeout = properties.getDuration("service.startup-timeout");
+
+        Map<String, String> productSettings = new LinkedHashMap<>();
+        productSettings.put("spring.data.mongodb.uri", infrastructure.getMongoUri());
+        productSettings.put("spring.data.redis.host", infrastructure.getRedisHost());
+        productSettings.put("spring.data.redis.port", String.valueOf(infrastructure.getRedisPort()));
+        // No profile runs the servlet stack, the reactive profile the WebFlux one
+        String productProfiles = properties.getString("product-service.profiles", "");
+        if (!productProfiles.isBlank()) {
+            productSettings.put("spring.profiles.active", productProfiles);
+        }
+        productSettings.put("spring.threads.virtual.enabled", properties.getString("product-service.virtual-threads"));
+        start(productService, productSettings, startupTimeout);
+
+        Map<String, String> userSettings = new LinkedHashMap<>();
+        userSettings.put("spring.datasource.url", infrastructure.getMysqlJdbcUrl());
+        userSettings.put("spring.datasource.username", infrastructure.getMysqlUsername());
+        userSettings.put("spring.datasource.password", infrastructure.getMysqlPassword());
+        userSettings.put("spring.autoconfigure.exclude", USER_SERVICE_SECURITY_EXCLUDES);
+        userSettings.put("spring.threads.virtual.enabled", properties.getString("user-service.virtual-threads"));
+        start(userService, userSettings, startupTimeout);
+
+        Map<String, String> gatewaySettings = new LinkedHashMap<>();
+        gatewaySettings.put("spring.security.oauth2.resourceserver.jwt.issuer-uri", issuer.getIssuer());
+        gatewaySettings.put("spring.security.oauth2.resourceserver.jwt.audiences", properties.getString("auth.audience"));
+        gatewaySettings.put("spring.data.redis.host", infrastructure.getRedisHost());
+        gatewaySettings.put("spring.data.redis.port", String.valueOf(infrastructure.getRedisPort()));
+        gatewaySettings.put("spring.data.redis.password", "");
+        gatewaySettings.put("spring.cloud.kubernetes.enabled", "false");
+        gatewaySettings.put("spring.cloud.kubernetes.discovery.enabled", "false");
+        gatewaySettings.put("spring.cloud.discovery.client.simple.instances.product-service[0].uri", productService.getBaseUri().toString());
+        gatewaySettings.put("spring.cloud.discovery.client.simple.instances.user-service[0].uri", userService.getBaseUri().toString());
+        start(gateway, gatewaySettings, startupTimeout);
+    }
+
+    private void start(ServiceProcess service, Map<String, String> settings, Duration startupTimeout) throws IOException, InterruptedException {
+        started.add(service);
+        service.start(settings, startupTimeout);
+    }
+
+    /**
+     * Returns the base URI requests of a workload are sent to.
+     *
+     * @param target {@code api-gateway}, {@code product-service} or {@code user-service}
+     * @return the base URI of the target
+     * @throws IllegalArgumentException if the target is unknown
+     */
+    public URI getBaseUri(String target) {
+        return switch (target) {
+            case "api-gateway" -> gateway.getBaseUri();
+            case "product-service" -> productService.getBaseUri();
+            case "user-service" -> userService.getBaseUri();
+            default -> throw new IllegalArgumentException("Unknown workload target: " + target);
+        };
+    }
+
+    /**
+     * Stops the services in reverse start order.
+     */
+    @Override
+    public void close() {
+        for (int i = started.size() - 1; i >= 0; i--) {
+            started.get(i).close();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.fortexa.load_test.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the results of a run to the output directory:
+ * <ul>
+ *     <li>{@code <route>.hgrm}: the full percentile distribution of each route, in milliseconds,
+ *     in the format read by the HdrHistogram plotter.</li>
+ *     <li>{@code summary.json}: counts, throughput and the main percentiles of every route.</li>
+ * </ul>
+ * The summary is also logged as a table.
+ */
+public class ReportWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportWriter.class);
+
+    private static final double MICROS_PER_MILLI = 1000d;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Path outputDir;
+
+    /**
+     * @param outputDir the directory receiving the report files, created if missing
+     */
+    public ReportWriter(Path outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    /**
+     * Writes the histograms and the summary of a run.
+     *
+     * @param runId      the identifier of the run
+     * @param duration   the measured period, used to compute throughput
+     * @param statistics the statistics of every route
+     * @throws IOException if a report file cannot be written
+     */
+    public void write(String runId, Duration duration, List<RouteStatistics> statistics) throws IOException {
+        Files.createDirectories(outputDir);
+
+        List<Map<String, Object>> routes = new ArrayList<>(statistics.size());
+        for (RouteStatistics routeStatistics : statistics) {
+            Histogram histogram = routeStatistics.getTotal();
+            try (PrintStream out = new PrintStream(Files.newOutputStream(outputDir.resolve(routeStatistics.getRoute() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+            routes.add(summarize(routeStatistics, duration));
+            logRoute(routeStatistics, duration);
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("runId", runId);
+        summary.put("completedAt", Instant.now().toString());
+        summary.put("measuredSeconds", duration.toMillis() / 1000d);
+        summary.put("routes", routes);
+        Path summaryFile = outputDir.resolve("summary.json");
+        objectMapper.writeValue(summaryFile.toFile(), summary);
+        logger.info("Reports written to {}", outputDir.toAbsolutePath());
+    }
+
+    private Map<String, Object> summarize(RouteStatistics statistics, Duration duration) {
+        Histogram histogram = statistics.getTotal();
+        Map<String, Object> latency = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            latency.put("p" + formatPercentile(percentile), toMillis(histogram.getValueAtPercentile(percentile)));
+        }
+        latency.put("max", toMillis(histogram.getMaxValue()));
+        latency.put("mean", histogram.getTotalCount() == 0 ? 0 : histogram.getMean() / MICROS_PER_MILLI);
+
+        Map<String, Object> route = new LinkedHashMap<>();
+        route.put("route", statistics.getRoute());
+        route.put("target", statistics.getTarget());
+        if (statistics.getConcurrency() > 0) {
+            route.put("concurrency", statistics.getConcurrency());
+        } else {
+            route.put("offeredRatePerSecond", statistics.getRatePerSecond());
+        }
+        route.put("completed", histogram.getTotalCount());
+        route.put("succeeded", statistics.getSucceeded());
+        route.put("failed", statistics.getFailed());
+        route.put("failures", statistics.getFailures());
+        route.put("dropped", statistics.getDropped());
+        route.put("throughputPerSecond", throughput(statistics.getSucceeded(), duration));
+        route.put("latencyMillis", latency);
+        return route;
+    }
+
+    private void logRoute(RouteStatistics statistics, Duration duration) {
+        Histogram histogram = statistics.getTotal();
+        logger.info(String.format("%-18s %8.1f req/s ok  %8d failed  %6d dropped  p50=%8.2fms p90=%8.2fms p99=%8.2fms p99.9=%8.2fms max=%8.2fms %s",
+                statistics.getRoute(),
+                throughput(statistics.getSucceeded(), duration),
+                statistics.getFailed(),
+                statistics.getDropped(),
+                toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(90)),
+                toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getValueAtPercentile(99.9)),
+                toMillis(histogram.getMaxValue()),
+                statistics.getFailures().isEmpty() ? "" : statistics.getFailures()));
+    }
+
+    private static double throughput(long count, Duration duration) {
+        return count / (duration.toMillis() / 1000d);
+    }
+
+    private static double toMillis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
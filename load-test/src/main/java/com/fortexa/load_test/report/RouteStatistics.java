@@ -0,0 +1,142 @@
+package com.fortexa.load_test.report;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome of one route (workload) of a run: an HDR latency histogram and request counts.
+ *
+ * Latencies are recorded in microseconds. In the open model they are measured from the time a request
+ * was scheduled to arrive, not from the time it was actually sent, so time spent queued behind a slow
+ * system is part of the measured latency (no coordinated omission). In the closed model, where every
+ * client waits for its previous response, they are measured from the time the request was sent. Every completed request is recorded in the histogram, whatever
+ * its outcome; requests are recorded from any thread, lock free, through a {@link Recorder}.
+ */
+public class RouteStatistics {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String route;
+    private final String target;
+    private final double ratePerSecond;
+    private final int concurrency;
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    private Histogram interval;
+
+    /**
+     * Statistics of an open-model route.
+     *
+     * @param route         the route label, i.e. the workload name
+     * @param target        the service the route's requests are sent to
+     * @param ratePerSecond the offered arrival rate
+     */
+    public RouteStatistics(String route, String target, double ratePerSecond) {
+        this(route, target, ratePerSecond, 0);
+    }
+
+    /**
+     * @param route         the route label, i.e. the workload name
+     * @param target        the service the route's requests are sent to
+     * @param ratePerSecond the offered arrival rate, 0 for a closed-model route
+     * @param concurrency   the number of concurrent clients of a closed-model route, 0 for an open-model route
+     */
+    public RouteStatistics(String route, String target, double ratePerSecond, int concurrency) {
+        this.route = route;
+        this.target = target;
+        this.ratePerSecond = ratePerSecond;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Records a request answered with a 2xx status.
+     *
+     * @param latencyNanos the latency measured from the scheduled arrival time
+     */
+    public void recordSuccess(long latencyNanos) {
+        succeeded.increment();
+        recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    /**
+     * Records a request that completed with an error status or failed on the client side.
+     *
+     * @param reason       the HTTP status, or a short client side failure reason such as {@code timeout}
+     * @param latencyNanos the latency measured from the scheduled arrival time
+     */
+    public void recordFailure(String reason, long latencyNanos) {
+        failures.computeIfAbsent(reason, key -> new LongAdder()).increment();
+        recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    /**
+     * Records an arrival that was not sent because the in-flight limit of the load generator was reached.
+     */
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Takes the latencies recorded since the previous call and adds them to the run total.
+     *
+     * @return the histogram of the elapsed interval, only valid until the next call
+     */
+    public synchronized Histogram rollInterval() {
+        interval = recorder.getIntervalHistogram(interval);
+        total.add(interval);
+        return interval;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * @return the histogram of the whole measured run, in microseconds, complete once the last interval is rolled
+     */
+    public Histogram getTotal() {
+        return total;
+    }
+
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return the number of failed requests by reason, sorted by reason
+     */
+    public Map<String, Long> getFailures() {
+        Map<String, Long> counts = new TreeMap<>();
+        failures.forEach((reason, count) -> counts.put(reason, count.sum()));
+        return counts;
+    }
+
+    public long getFailed() {
+        return failures.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+}
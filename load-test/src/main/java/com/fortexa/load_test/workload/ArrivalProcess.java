@@ -0,0 +1,43 @@
+package com.fortexa.load_test.workload;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Spacing between request arrivals of an open workload.
+ *
+ * In an open model requests arrive at the configured rate whether or not earlier requests have
+ * completed, as with real independent users, so a slow system builds up a queue instead of being
+ * offered less load.
+ */
+public enum ArrivalProcess {
+
+    /**
+     * Evenly spaced arrivals.
+     */
+    CONSTANT {
+        @Override
+        long nextIntervalNanos(double ratePerSecond) {
+            return Math.round(NANOS_PER_SECOND / ratePerSecond);
+        }
+    },
+
+    /**
+     * Exponentially distributed gaps, i.e. arrivals of many independent clients. Produces the bursts
+     * a constant rate hides.
+     */
+    POISSON {
+        @Override
+        long nextIntervalNanos(double ratePerSecond) {
+            double uniform = ThreadLocalRandom.current().nextDouble();
+            return Math.round(-Math.log1p(-uniform) * NANOS_PER_SECOND / ratePerSecond);
+        }
+    };
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    /**
+     * @param ratePerSecond the mean arrival rate
+     * @return the gap before the next arrival, in nanoseconds
+     */
+    abstract long nextIntervalNanos(double ratePerSecond);
+}
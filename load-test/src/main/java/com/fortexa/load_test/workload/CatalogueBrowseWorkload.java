@@ -0,0 +1,54 @@
+package com.fortexa.load_test.workload;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reads a random page of the product catalogue, the dominant read path of the shop.
+ */
+public class CatalogueBrowseWorkload implements Workload {
+
+    private final String target;
+    private final String path;
+    private final int pages;
+    private final int pageSize;
+    private final Duration timeout;
+
+    /**
+     * @param target   the service the requests are sent to
+     * @param path     the product listing path on the target
+     * @param pages    the number of pages requests are spread over
+     * @param pageSize the number of products per page
+     * @param timeout  the request timeout
+     */
+    public CatalogueBrowseWorkload(String target, String path, int pages, int pageSize, Duration timeout) {
+        this.target = target;
+        this.path = path;
+        this.pages = pages;
+        this.pageSize = pageSize;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String name() {
+        return "catalogue-browse";
+    }
+
+    @Override
+    public String target() {
+        return target;
+    }
+
+    @Override
+    public HttpRequest newRequest(URI baseUri, long sequence, String token) {
+        int page = ThreadLocalRandom.current().nextInt(pages);
+        return HttpRequest.newBuilder(baseUri.resolve(path + "?page=" + page + "&size=" + pageSize))
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+}
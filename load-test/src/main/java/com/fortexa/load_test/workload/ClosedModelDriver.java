@@ -0,0 +1,158 @@
+package com.fortexa.load_test.workload;
+
+import com.fortexa.load_test.auth.TokenPool;
+import com.fortexa.load_test.report.RouteStatistics;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives closed-model load: each workload is run by a fixed number of clients, every client on its own
+ * virtual thread sending its next request as soon as the previous response arrived (plus the think time).
+ *
+ * With a shared HTTP/1.1 client, every concurrent client holds its own connection, so this is the model to
+ * compare how the services cope with a given number of concurrent connections: throughput is the outcome,
+ * latency is measured from the time each request is sent. Clients are started evenly over the warmup so that
+ * the connections are not all opened at once, and requests of the warmup period are sent but not recorded.
+ */
+public class ClosedModelDriver {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClosedModelDriver.class);
+
+    private static final double MICROS_PER_MILLI = 1000d;
+
+    /**
+     * A workload with the number of clients running it and the base URI of its target.
+     *
+     * @param workload    the workload building the requests
+     * @param baseUri     the base URI of the workload's target
+     * @param concurrency the number of concurrent clients
+     */
+    public record Plan(Workload workload, URI baseUri, int concurrency) {}
+
+    private final HttpClient httpClient;
+    private final TokenPool tokens;
+    private final Duration thinkTime;
+
+    /**
+     * @param httpClient the client sending the requests
+     * @param tokens     the tokens of the simulated users
+     * @param thinkTime  the pause of a client between a response and its next request
+     */
+    public ClosedModelDriver(HttpClient httpClient, TokenPool tokens, Duration thinkTime) {
+        this.httpClient = httpClient;
+        this.tokens = tokens;
+        this.thinkTime = thinkTime;
+    }
+
+    /**
+     * Runs all plans concurrently and blocks until the run is over and the last requests completed.
+     *
+     * @param plans          the workloads to run
+     * @param warmup         the period during which clients are started and requests are not recorded
+     * @param duration       the measured period following the warmup
+     * @param reportInterval how often progress is logged
+     * @param drainTimeout   how long to wait for requests still in flight at the end of the run
+     * @return the statistics of every plan, in plan order
+     * @throws InterruptedException if interrupted while running
+     */
+    public List<RouteStatistics> run(List<Plan> plans, Duration warmup, Duration duration,
+                                     Duration reportInterval, Duration drainTimeout) throws InterruptedException {
+        List<RouteStatistics> statistics = new ArrayList<>(plans.size());
+        // Clients of every plan that started and are still running
+        List<AtomicInteger> activeClients = new ArrayList<>(plans.size());
+        for (Plan plan : plans) {
+            statistics.add(new RouteStatistics(plan.workload().name(), plan.workload().target(), 0, plan.concurrency()));
+            activeClients.add(new AtomicInteger());
+        }
+
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + warmup.toNanos();
+        long endNanos = measureFromNanos + duration.toNanos();
+        logger.info("Running {} workload(s): {} warmup, {} measured, {} clients in total", plans.size(), warmup, duration,
+                plans.stream().mapToInt(Plan::concurrency).sum());
+
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor();
+        progress.scheduleAtFixedRate(() -> logProgress(statistics, activeClients, reportInterval),
+                warmup.toNanos() + reportInterval.toNanos(), reportInterval.toNanos(), TimeUnit.NANOSECONDS);
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < plans.size(); i++) {
+                Plan plan = plans.get(i);
+                RouteStatistics routeStatistics = statistics.get(i);
+                AtomicInteger active = activeClients.get(i);
+                for (int client = 0; client < plan.concurrency(); client++) {
+                    long clientStartNanos = startNanos + warmup.toNanos() * client / plan.concurrency();
+                    clients.execute(() -> runClient(plan, routeStatistics, active, clientStartNanos, measureFromNanos, endNanos));
+                }
+            }
+            clients.shutdown();
+            if (!clients.awaitTermination(Duration.ofNanos(endNanos - System.nanoTime()).plus(drainTimeout).toMillis(),
+                    TimeUnit.MILLISECONDS)) {
+                logger.warn("Requests still in flight after {}, abandoning them", drainTimeout);
+                clients.shutdownNow();
+            }
+        } finally {
+            progress.shutdownNow();
+        }
+
+        for (RouteStatistics routeStatistics : statistics) {
+            routeStatistics.rollInterval();
+        }
+        return statistics;
+    }
+
+    private void runClient(Plan plan, RouteStatistics statistics, AtomicInteger active,
+                           long clientStartNanos, long measureFromNanos, long endNanos) {
+        parkUntil(clientStartNanos);
+        active.incrementAndGet();
+        try {
+            long sequence = 0;
+            long sentNanos;
+            while ((sentNanos = System.nanoTime()) < endNanos) {
+                RequestSender.send(httpClient, plan.workload().newRequest(plan.baseUri(), sequence++, tokens.next()),
+                        statistics, sentNanos, sentNanos >= measureFromNanos);
+                if (!thinkTime.isZero()) {
+                    Thread.sleep(thinkTime);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static void logProgress(List<RouteStatistics> statistics, List<AtomicInteger> activeClients, Duration interval) {
+        for (int i = 0; i < statistics.size(); i++) {
+            RouteStatistics routeStatistics = statistics.get(i);
+            Histogram histogram = routeStatistics.rollInterval();
+            logger.info("{}: {} req/s, p50={}ms p99={}ms max={}ms, active clients={}",
+                    routeStatistics.getRoute(),
+                    Math.round(histogram.getTotalCount() / (interval.toMillis() / 1000d)),
+                    histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                    histogram.getMaxValue() / MICROS_PER_MILLI,
+                    activeClients.get(i).get());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.fortexa.load_test.workload;
+
+import com.fortexa.load_test.auth.TokenPool;
+import com.fortexa.load_test.report.RouteStatistics;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives open-model load: each workload gets its own arrival schedule and every arrival is sent on
+ * its own virtual thread, independently of the requests still in flight.
+ *
+ * Latency is measured from the scheduled arrival time. If the system (or the load generator) falls
+ * behind, the delay shows up in the latency instead of silently lowering the offered rate.
+ * Arrivals of the warmup period are sent but not recorded.
+ */
+public class OpenModelDriver {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenModelDriver.class);
+
+    private static final double MICROS_PER_MILLI = 1000d;
+
+    /**
+     * A workload with the rate it is offered at and the base URI of its target.
+     *
+     * @param workload      the workload building the requests
+     * @param baseUri       the base URI of the workload's target
+     * @param ratePerSecond the mean arrival rate
+     */
+    public record Plan(Workload workload, URI baseUri, double ratePerSecond) {}
+
+    private final HttpClient httpClient;
+    private final TokenPool tokens;
+    private final ArrivalProcess arrivalProcess;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+
+    /**
+     * @param httpClient     the client sending the requests
+     * @param tokens         the tokens of the simulated users
+     * @param arrivalProcess the spacing of arrivals
+     * @param maxInFlight    upper bound of concurrent requests, arrivals beyond it are dropped and counted
+     */
+    public OpenModelDriver(HttpClient httpClient, TokenPool tokens, ArrivalProcess arrivalProcess, int maxInFlight) {
+        this.httpClient = httpClient;
+        this.tokens = tokens;
+        this.arrivalProcess = arrivalProcess;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Runs all plans concurrently and blocks until the run is over and the last requests completed.
+     *
+     * @param plans          the workloads to run
+     * @param warmup         the period during which requests are sent but not recorded
+     * @param duration       the measured period following the warmup
+     * @param reportInterval how often progress is logged
+     * @param drainTimeout   how long to wait for requests still in flight at the end of the run
+     * @return the statistics of every plan, in plan order
+     * @throws InterruptedException if interrupted while running
+     */
+    public List<RouteStatistics> run(List<Plan> plans, Duration warmup, Duration duration,
+                                     Duration reportInterval, Duration drainTimeout) throws InterruptedException {
+        List<RouteStatistics> statistics = new ArrayList<>(plans.size());
+        for (Plan plan : plans) {
+            statistics.add(new RouteStatistics(plan.workload().name(), plan.workload().target(), plan.ratePerSecond()));
+        }
+
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + warmup.toNanos();
+        long endNanos = measureFromNanos + duration.toNanos();
+        logger.info("Running {} workload(s): {} warmup, {} measured, {} arrivals", plans.size(), warmup, duration, arrivalProcess);
+
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor();
+        progress.scheduleAtFixedRate(() -> logProgress(statistics, reportInterval),
+                warmup.toNanos() + reportInterval.toNanos(), reportInterval.toNanos(), TimeUnit.NANOSECONDS);
+
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Thread> schedulers = new ArrayList<>(plans.size());
+            for (int i = 0; i < plans.size(); i++) {
+                Plan plan = plans.get(i);
+                RouteStatistics routeStatistics = statistics.get(i);
+                // Arrivals are paced by a platform thread so that the schedule does not compete with the requests for carriers
+                Thread scheduler = Thread.ofPlatform()
+                        .name("arrivals-" + plan.workload().name())
+                        .start(() -> schedule(plan, routeStatistics, requests, startNanos, measureFromNanos, endNanos));
+                schedulers.add(scheduler);
+            }
+            for (Thread scheduler : schedulers) {
+                scheduler.join();
+            }
+            requests.shutdown();
+            if (!requests.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warn("Requests still in flight after {}, abandoning them", drainTimeout);
+                requests.shutdownNow();
+            }
+        } finally {
+            progress.shutdownNow();
+        }
+
+        for (RouteStatistics routeStatistics : statistics) {
+            routeStatistics.rollInterval();
+        }
+        return statistics;
+    }
+
+    private void schedule(Plan plan, RouteStatistics statistics, ExecutorService requests,
+                          long startNanos, long measureFromNanos, long endNanos) {
+        long intendedNanos = startNanos;
+        long sequence = 0;
+        while (intendedNanos < endNanos) {
+            parkUntil(intendedNanos);
+            boolean measured = intendedNanos >= measureFromNanos;
+            if (inFlight.tryAcquire()) {
+                long arrival = intendedNanos;
+                long requestSequence = sequence;
+                requests.execute(() -> {
+                    try {
+                        send(plan, statistics, requestSequence, arrival, measured);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } else if (measured) {
+                statistics.recordDropped();
+            }
+            sequence++;
+            intendedNanos += arrivalProcess.nextIntervalNanos(plan.ratePerSecond());
+        }
+    }
+
+    private void send(Plan plan, RouteStatistics statistics, long sequence, long intendedNanos, boolean measured) {
+        try {
+            RequestSender.send(httpClient, plan.workload().newRequest(plan.baseUri(), sequence, tokens.next()),
+                    statistics, intendedNanos, measured);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private void logProgress(List<RouteStatistics> statistics, Duration interval) {
+        for (RouteStatistics routeStatistics : statistics) {
+            Histogram histogram = routeStatistics.rollInterval();
+            logger.info("{}: {} req/s, p50={}ms p99={}ms max={}ms, in flight={}",
+                    routeStatistics.getRoute(),
+                    Math.round(histogram.getTotalCount() / (interval.toMillis() / 1000d)),
+                    histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                    histogram.getMaxValue() / MICROS_PER_MILLI,
+                    maxInFlight - inFlight.availablePermits());
+        }
+    }
+}
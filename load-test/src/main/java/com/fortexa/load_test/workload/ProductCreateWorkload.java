@@ -0,0 +1,52 @@
+package com.fortexa.load_test.workload;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * Creates a product with a unique name, exercising validation, the duplicate name check and the MongoDB insert.
+ */
+public class ProductCreateWorkload implements Workload {
+
+    private final String target;
+    private final String path;
+    private final String runId;
+    private final Duration timeout;
+
+    /**
+     * @param target  the service the requests are sent to
+     * @param path    the product creation path on the target
+     * @param runId   identifier of the run, keeps product names unique across runs against the same database
+     * @param timeout the request timeout
+     */
+    public ProductCreateWorkload(String target, String path, String runId, Duration timeout) {
+        this.target = target;
+        this.path = path;
+        this.runId = runId;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String name() {
+        return "product-create";
+    }
+
+    @Override
+    public String target() {
+        return target;
+    }
+
+    @Override
+    public HttpRequest newRequest(URI baseUri, long sequence, String token) {
+        String body = """
+                {"name":"load-test-%s-%d","description":"Created by the load test","price":%d.99}"""
+                .formatted(runId, sequence, 1 + sequence % 500);
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
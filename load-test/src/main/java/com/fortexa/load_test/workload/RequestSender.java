@@ -0,0 +1,52 @@
+package com.fortexa.load_test.workload;
+
+import com.fortexa.load_test.report.RouteStatistics;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+
+/**
+ * Sends one request and records its outcome, shared by the open and closed model drivers.
+ */
+final class RequestSender {
+
+    private RequestSender() {
+    }
+
+    /**
+     * Sends a request, discarding the response body, and records its latency and outcome.
+     * Responses with a 2xx status are successes, other statuses and client side errors are failures.
+     *
+     * @param httpClient the client sending the request
+     * @param request    the request to send
+     * @param statistics the statistics of the request's route
+     * @param startNanos the {@link System#nanoTime()} the latency is measured from
+     * @param measured   whether the request is recorded, {@code false} during the warmup
+     * @throws InterruptedException if interrupted while waiting for the response, nothing is recorded
+     */
+    static void send(HttpClient httpClient, HttpRequest request, RouteStatistics statistics,
+                     long startNanos, boolean measured) throws InterruptedException {
+        String outcome;
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            outcome = response.statusCode() / 100 == 2 ? null : String.valueOf(response.statusCode());
+        } catch (HttpTimeoutException e) {
+            outcome = "timeout";
+        } catch (IOException e) {
+            outcome = "io:" + e.getClass().getSimpleName();
+        }
+
+        if (!measured) {
+            return;
+        }
+        long latencyNanos = System.nanoTime() - startNanos;
+        if (outcome == null) {
+            statistics.recordSuccess(latencyNanos);
+        } else {
+            statistics.recordFailure(outcome, latencyNanos);
+        }
+    }
+}
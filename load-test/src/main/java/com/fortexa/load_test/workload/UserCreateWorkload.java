@@ -0,0 +1,53 @@
+package com.fortexa.load_test.workload;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * Registers a user with a unique username and email, exercising the user-service write path and MySQL.
+ */
+public class UserCreateWorkload implements Workload {
+
+    private final String target;
+    private final String path;
+    private final String runId;
+    private final Duration timeout;
+
+    /**
+     * @param target  the service the requests are sent to
+     * @param path    the user creation path on the target
+     * @param runId   identifier of the run, keeps usernames unique across runs against the same database
+     * @param timeout the request timeout
+     */
+    public UserCreateWorkload(String target, String path, String runId, Duration timeout) {
+        this.target = target;
+        this.path = path;
+        this.runId = runId;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String name() {
+        return "user-create";
+    }
+
+    @Override
+    public String target() {
+        return target;
+    }
+
+    @Override
+    public HttpRequest newRequest(URI baseUri, long sequence, String token) {
+        String username = "lt_" + runId + "_" + sequence;
+        String body = """
+                {"username":"%s","password":"load-test-password","email":"%s@load-test.local","mobileNo":"+94770000000","status":"ACTIVE","twoFactorEnabled":false}"""
+                .formatted(username, username);
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
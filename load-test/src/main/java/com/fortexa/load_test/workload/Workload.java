@@ -0,0 +1,33 @@
+package com.fortexa.load_test.workload;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+
+/**
+ * One kind of request of the load mix, e.g. browsing the catalogue or creating a product.
+ *
+ * Implementations only build requests; scheduling, sending and measuring is done by the
+ * {@link OpenModelDriver} or the {@link ClosedModelDriver}. They must be thread safe, requests are built from many threads.
+ */
+public interface Workload {
+
+    /**
+     * @return the workload name, used as the route label in the reports
+     */
+    String name();
+
+    /**
+     * @return the service the requests are sent to, {@code api-gateway}, {@code product-service} or {@code user-service}
+     */
+    String target();
+
+    /**
+     * Builds the request of one arrival.
+     *
+     * @param baseUri  the base URI of the {@link #target()}
+     * @param sequence the arrival number within this workload, starting at 0, usable to make payloads unique
+     * @param token    the bearer token of the simulated user sending the request
+     * @return the request to send
+     */
+    HttpRequest newRequest(URI baseUri, long sequence, String token);
+}
@@ -0,0 +1,199 @@
+package com.shop.microservices.product.Cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shop.microservices.product.Configuration.ProductCacheProperties;
+import com.shop.microservices.product.Dto.ProductResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of products keyed by product ID.
+ * <p>
+ * The in-process tier is a size-bounded Caffeine cache (W-TinyLFU admission and eviction) with a
+ * write TTL. When the Redis tier is enabled, misses in the in-process tier are looked up in Redis
+ * before falling back to the database, and invalidations are propagated to every replica. A product loaded from the
+ * database is only written back to Redis if it was not invalidated since the Redis lookup that preceded the load.
+ * </p>
+ * <p>
+ * Only immutable {@link ProductResponseDTO} records are cached, so cached values can be shared
+ * safely between requests. Concurrent misses for the same product are coalesced into a single load.
+ * </p>
+ * <p>
+ * The in-process tier holds futures rather than values. On a miss, the cache's mapping function only installs an
+ * incomplete future; the load then runs in the calling thread outside of any cache lock and concurrent callers
+ * wait on the future. This keeps loads from pinning virtual threads to their carrier, which would happen if the
+ * blocking database call ran inside the cache's own compute lock. Going through the cache's {@code get} keeps the
+ * hit, miss and load statistics published to the meter registry accurate.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ProductCache {
+
+    private static final String CACHE_NAME = "product";
+
+    private final AsyncCache<UUID, ProductResponseDTO> localCache;
+    private final RedisProductCacheTier redisTier;
+
+    /**
+     * Constructs the {@link ProductCache} with the necessary dependencies.
+     *
+     * @param properties    The cache configuration properties.
+     * @param redisTier     The optional Redis tier, only available when enabled.
+     * @param meterRegistry The optional registry used to publish hit, miss and eviction metrics.
+     */
+    public ProductCache(ProductCacheProperties properties, ObjectProvider<RedisProductCacheTier> redisTier,
+                        ObjectProvider<MeterRegistry> meterRegistry) {
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .buildAsync();
+        this.redisTier = redisTier.getIfAvailable();
+
+        if (this.redisTier != null) {
+            this.redisTier.onInvalidation(localCache.synchronous()::invalidate);
+        }
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, localCache, CACHE_NAME));
+
+        log.info("Product cache initialized with maximum size {} and TTL {} (Redis tier {})",
+                properties.getMaximumSize(), properties.getExpireAfterWrite(), this.redisTier != null ? "enabled" : "disabled");
+    }
+
+    /**
+     * Returns the cached product, loading it with the given loader on a miss.
+     * Exceptions thrown by the loader are propagated and nothing is cached.
+     *
+     * @param productId The ID of the product.
+     * @param loader    The function loading the product from the database.
+     * @return The cached or freshly loaded product.
+     */
+    public ProductResponseDTO get(UUID productId, Function<UUID, ProductResponseDTO> loader) {
+        CompletableFuture<ProductResponseDTO> pending = new CompletableFuture<>();
+        CompletableFuture<ProductResponseDTO> cached = localCache.get(productId, (key, executor) -> pending);
+        if (cached != pending) {
+            return await(cached);
+        }
+
+        // This thread won the race, load outside of the cache lock and publish the result to the waiting callers.
+        // Failed and null loads complete the future accordingly, which removes it from the cache.
+        try {
+            ProductResponseDTO loaded = load(productId, loader);
+            pending.complete(loaded);
+            return loaded;
+        } catch (RuntimeException ex) {
+            pending.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the cached product, loading it asynchronously on a miss. Intended for non-blocking callers: this method
+     * never blocks, and the Redis tier, which uses a blocking client, is only accessed on the given executor.
+     * <p>
+     * Misses go through the in-process tier like {@link #get(UUID, Function)}, so concurrent misses share a single
+     * load and a load overlapping an invalidation is dropped from the cache instead of overwriting it.
+     * </p>
+     *
+     * @param productId        The ID of the product.
+     * @param loader           The function loading the product from the database, its future completes with
+     *                         {@code null} if the product does not exist.
+     * @param blockingExecutor The executor running the blocking Redis calls.
+     * @return A future of the cached or freshly loaded product, completed with {@code null} if it does not exist.
+     * Failed loads complete it exceptionally and nothing is cached.
+     */
+    public CompletableFuture<ProductResponseDTO> getAsync(UUID productId,
+                                                          Function<UUID, CompletableFuture<ProductResponseDTO>> loader,
+                                                          Executor blockingExecutor) {
+        CompletableFuture<ProductResponseDTO> pending = new CompletableFuture<>();
+        CompletableFuture<ProductResponseDTO> cached = localCache.get(productId, (key, executor) -> pending);
+        if (cached != pending) {
+            return cached;
+        }
+
+        loadAsync(productId, loader, blockingExecutor).whenComplete((loaded, ex) -> {
+            if (ex == null) {
+                pending.complete(loaded);
+            } else {
+                pending.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+            }
+        });
+        return pending;
+    }
+
+    /**
+     * Removes a product from every cache tier. Must be called whenever a product is updated or deleted.
+     *
+     * @param productId The ID of the product to invalidate.
+     */
+    public void invalidate(UUID productId) {
+        localCache.synchronous().invalidate(productId);
+        if (redisTier != null) {
+            redisTier.evict(productId);
+        }
+    }
+
+    private ProductResponseDTO load(UUID productId, Function<UUID, ProductResponseDTO> loader) {
+        RedisProductCacheTier.Lookup shared = null;
+        if (redisTier != null) {
+            shared = redisTier.get(productId);
+            if (shared.product() != null) {
+                return shared.product();
+            }
+        }
+        ProductResponseDTO loaded = loader.apply(productId);
+        if (shared != null && loaded != null) {
+            // Skipped by the Redis tier if the product was invalidated since the lookup
+            redisTier.put(productId, loaded, shared.generation());
+        }
+        return loaded;
+    }
+
+    private CompletableFuture<ProductResponseDTO> loadAsync(UUID productId,
+                                                            Function<UUID, CompletableFuture<ProductResponseDTO>> loader,
+                                                            Executor blockingExecutor) {
+        if (redisTier == null) {
+            return loadFrom(productId, loader);
+        }
+        return CompletableFuture.supplyAsync(() -> redisTier.get(productId), blockingExecutor)
+                .thenCompose(shared -> shared.product() != null
+                        ? CompletableFuture.completedFuture(shared.product())
+                        : loadFrom(productId, loader).thenApplyAsync(loaded -> {
+                            if (loaded != null) {
+                                redisTier.put(productId, loaded, shared.generation());
+                            }
+                            return loaded;
+                        }, blockingExecutor));
+    }
+
+    private static CompletableFuture<ProductResponseDTO> loadFrom(UUID productId,
+                                                                  Function<UUID, CompletableFuture<ProductResponseDTO>> loader) {
+        try {
+            return loader.apply(productId);
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private static ProductResponseDTO await(CompletableFuture<ProductResponseDTO> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            // Rethrow the exception of the loading caller as is, e.g. a ResourceNotFoundException
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
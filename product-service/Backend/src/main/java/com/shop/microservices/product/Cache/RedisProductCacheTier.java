@@ -0,0 +1,174 @@
+package com.shop.microservices.product.Cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.microservices.product.Configuration.ProductCacheProperties;
+import com.shop.microservices.product.Dto.ProductResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Redis-backed second tier of the product cache.
+ * <p>
+ * Products are stored as JSON under {@code <keyPrefix>{<productId>}} so that every product-service
+ * replica can reuse entries loaded by another one. Invalidations are broadcast over a pub/sub
+ * channel so that the in-process tier of every replica drops the entry as well.
+ * </p>
+ * <p>
+ * Every invalidation also increments a per-product generation stored next to the entry. A lookup returns the
+ * generation along with the entry, and a product loaded from the database after a miss is only stored if the
+ * generation is still the same: a load that overlaps an update or a deletion on any replica never writes its stale
+ * result back. Both keys share a hash tag, so the scripts checking them also work on a Redis Cluster.
+ * </p>
+ * <p>
+ * Redis is treated as an optimisation only: any Redis failure is logged and handled as a cache miss.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "product.cache.redis", name = "enabled", havingValue = "true")
+public class RedisProductCacheTier {
+
+    // Stores the product only if it was not invalidated since its generation was read
+    private static final RedisScript<Long> PUT_IF_UNCHANGED = RedisScript.of("""
+            if (redis.call('GET', KEYS[2]) or '0') == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // Bumps the generation, so that loads started before the invalidation are not stored, and removes the product
+    private static final RedisScript<Long> EVICT = RedisScript.of("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    private static final Lookup UNAVAILABLE = new Lookup(null, null);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ProductCacheProperties.Redis properties;
+
+    /**
+     * Result of a lookup in Redis.
+     *
+     * @param product    The cached product, or {@code null} on a miss.
+     * @param generation The invalidation generation of the product, to pass to
+     *                   {@link #put(UUID, ProductResponseDTO, String)} when storing a product loaded after the miss,
+     *                   or {@code null} if Redis is unavailable.
+     */
+    public record Lookup(ProductResponseDTO product, String generation) {}
+
+    /**
+     * Constructs the {@link RedisProductCacheTier} with the necessary dependencies.
+     *
+     * @param redisTemplate     The template used to read and write cached products.
+     * @param objectMapper      The mapper used to serialize products to JSON.
+     * @param listenerContainer The container receiving invalidations published by other replicas.
+     * @param properties        The cache configuration properties.
+     */
+    public RedisProductCacheTier(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                 RedisMessageListenerContainer listenerContainer, ProductCacheProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.listenerContainer = listenerContainer;
+        this.properties = properties.getRedis();
+    }
+
+    /**
+     * Retrieves a product from Redis, along with its invalidation generation, in a single round trip.
+     * Must be called before the product is loaded from the database on a miss.
+     *
+     * @param productId The ID of the product.
+     * @return The lookup result, without a product if it is absent and without a generation if Redis is unavailable.
+     */
+    public Lookup get(UUID productId) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(key(productId), generationKey(productId)));
+            if (values == null) {
+                return UNAVAILABLE;
+            }
+            String json = values.get(0);
+            String generation = values.get(1) == null ? "0" : values.get(1);
+            return new Lookup(json == null ? null : objectMapper.readValue(json, ProductResponseDTO.class), generation);
+        } catch (DataAccessException | JsonProcessingException ex) {
+            log.warn("Failed to read product {} from the Redis cache tier: {}", productId, ex.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+
+    /**
+     * Stores a product in Redis with the configured time to live, unless it was invalidated since the lookup
+     * that returned the given generation. Does nothing without a generation.
+     *
+     * @param productId  The ID of the product.
+     * @param product    The product to store.
+     * @param generation The generation returned by the {@link #get(UUID) lookup} that preceded the load.
+     */
+    public void put(UUID productId, ProductResponseDTO product, String generation) {
+        if (generation == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(PUT_IF_UNCHANGED, List.of(key(productId), generationKey(productId)),
+                    generation, objectMapper.writeValueAsString(product), String.valueOf(properties.getTimeToLive().toMillis()));
+        } catch (DataAccessException | JsonProcessingException ex) {
+            log.warn("Failed to write product {} to the Redis cache tier: {}", productId, ex.getMessage());
+        }
+    }
+
+    /**
+     * Removes a product from Redis, so that loads in progress do not store it again, and notifies the other replicas.
+     *
+     * @param productId The ID of the product to evict.
+     */
+    public void evict(UUID productId) {
+        try {
+            // The generation outlives the entry it guards, so that no load started before the eviction can store it
+            redisTemplate.execute(EVICT, List.of(key(productId), generationKey(productId)),
+                    String.valueOf(properties.getTimeToLive().toMillis()));
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), productId.toString());
+        } catch (DataAccessException ex) {
+            log.warn("Failed to evict product {} from the Redis cache tier: {}", productId, ex.getMessage());
+        }
+    }
+
+    /**
+     * Registers a callback invoked whenever any replica invalidates a product.
+     *
+     * @param callback The callback receiving the ID of the invalidated product.
+     */
+    public void onInvalidation(Consumer<UUID> callback) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                callback.accept(UUID.fromString(body));
+            } catch (IllegalArgumentException ex) {
+                log.warn("Ignoring malformed product cache invalidation message: {}", body);
+            }
+        }, new ChannelTopic(properties.getInvalidationChannel()));
+    }
+
+    private String key(UUID productId) {
+        return properties.getKeyPrefix() + "{" + productId + "}";
+    }
+
+    private String generationKey(UUID productId) {
+        return key(productId) + ":generation";
+    }
+}
@@ -0,0 +1,31 @@
+package com.shop.microservices.product.Configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Configuration class for the product read-through cache.
+ */
+@Configuration
+@EnableConfigurationProperties(ProductCacheProperties.class)
+public class ProductCacheConfig {
+
+    /**
+     * Creates the listener container used to receive cache invalidations published by other replicas.
+     * Only created when the Redis tier is enabled.
+     *
+     * @param connectionFactory the Redis connection factory.
+     * @return a configured {@link RedisMessageListenerContainer}.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "product.cache.redis", name = "enabled", havingValue = "true")
+    public RedisMessageListenerContainer productCacheListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
@@ -0,0 +1,64 @@
+package com.shop.microservices.product.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the product read-through cache.
+ * <p>
+ * The cache always has an in-process tier. An optional Redis tier can be enabled so that
+ * several product-service replicas share warm entries and invalidations.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product.cache")
+public class ProductCacheProperties {
+
+    /**
+     * Maximum number of products kept in the in-process tier.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Time after which an in-process entry expires, even if it was never invalidated.
+     * Keeps replicas without the Redis tier from serving stale data indefinitely.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    /**
+     * Settings of the optional Redis tier.
+     */
+    private Redis redis = new Redis();
+
+    /**
+     * Settings of the optional Redis tier.
+     */
+    @Getter
+    @Setter
+    public static class Redis {
+
+        /**
+         * Whether the Redis tier is enabled.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Time to live of entries stored in Redis.
+         */
+        private Duration timeToLive = Duration.ofMinutes(30);
+
+        /**
+         * Prefix of the Redis keys holding cached products.
+         */
+        private String keyPrefix = "product-service:product:";
+
+        /**
+         * Pub/sub channel used to broadcast invalidations to the other replicas.
+         */
+        private String invalidationChannel = "product-service:product-invalidation";
+    }
+}
@@ -0,0 +1,39 @@
+package com.shop.microservices.product.Configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+
+/**
+ * Configuration class for the in-memory product search index.
+ */
+@Configuration
+@EnableConfigurationProperties(ProductSearchProperties.class)
+public class ProductSearchConfig {
+
+    /**
+     * Creates the listener container used to follow the product collection through a change stream.
+     * Only created when change streams are enabled.
+     * <p>
+     * {@link DefaultMessageListenerContainer} does not start on its own, so the container is marked for auto-startup:
+     * the context starts it on refresh, which opens the subscriptions registered on it, and stops it on shutdown.
+     * </p>
+     *
+     * @param mongoTemplate the template used to open the change stream.
+     * @return a configured {@link MessageListenerContainer}.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "product.search.change-stream", name = "enabled", havingValue = "true")
+    public MessageListenerContainer productSearchListenerContainer(MongoTemplate mongoTemplate) {
+        return new DefaultMessageListenerContainer(mongoTemplate) {
+            @Override
+            public boolean isAutoStartup() {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.shop.microservices.product.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the in-memory product search index.
+ * <p>
+ * The index is always kept up to date by the product service itself. Change streams can additionally
+ * be enabled so that writes made by other product-service replicas (or directly in MongoDB) are picked up too;
+ * they require MongoDB to run as a replica set.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product.search")
+public class ProductSearchProperties {
+
+    /**
+     * Maximum number of indexed terms a query term is expanded to when matched as a prefix.
+     * Bounds the cost of very short prefixes such as a single letter.
+     */
+    private int maxPrefixExpansions = 256;
+
+    /**
+     * Maximum number of results a single search may return.
+     */
+    private int maxResults = 50;
+
+    /**
+     * Settings of the optional change stream subscription.
+     */
+    private ChangeStream changeStream = new ChangeStream();
+
+    /**
+     * Settings of the optional change stream subscription.
+     */
+    @Getter
+    @Setter
+    public static class ChangeStream {
+
+        /**
+         * Whether the index follows the product collection through a MongoDB change stream.
+         */
+        private boolean enabled = false;
+    }
+}
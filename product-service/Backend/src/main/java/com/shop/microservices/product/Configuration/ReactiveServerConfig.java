@@ -0,0 +1,43 @@
+package com.shop.microservices.product.Configuration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.netty.NettyRouteProvider;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.ReactorResourceFactory;
+
+/**
+ * Configuration class of the embedded server used by the {@code reactive} profile.
+ * <p>
+ * {@code spring-boot-starter-web} keeps Tomcat on the classpath for the default servlet stack, and Spring Boot
+ * prefers Tomcat over Netty when it auto-configures a reactive server. Declaring the Netty factory here makes the
+ * reactive variant run WebFlux on Netty's event loops; the server properties such as {@code server.port} and
+ * {@code server.compression.*} are still applied to it by Spring Boot.
+ * </p>
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveServerConfig {
+
+    /**
+     * Creates the Netty server factory, which takes precedence over the auto-configured Tomcat one.
+     *
+     * @param resourceFactory   the shared Reactor Netty resources, when available.
+     * @param routes            the additional routes to register on the server.
+     * @param serverCustomizers the customizers applied to the Netty {@code HttpServer}.
+     * @return a configured {@link NettyReactiveWebServerFactory}.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(ObjectProvider<ReactorResourceFactory> resourceFactory,
+                                                                       ObjectProvider<NettyRouteProvider> routes,
+                                                                       ObjectProvider<NettyServerCustomizer> serverCustomizers) {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        resourceFactory.ifAvailable(factory::setResourceFactory);
+        routes.orderedStream().forEach(factory::addRouteProviders);
+        factory.getServerCustomizers().addAll(serverCustomizers.orderedStream().toList());
+        return factory;
+    }
+}
@@ -0,0 +1,19 @@
+package com.shop.microservices.product.Configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class enabling {@code @Async} and {@code @Scheduled} methods.
+ * <p>
+ * Both run on the executors auto-configured by Spring Boot. When {@code spring.threads.virtual.enabled} is set,
+ * these executors start one virtual thread per task, like the Tomcat request executor; otherwise they use
+ * the regular platform thread pools.
+ * </p>
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class TaskExecutionConfig {
+}
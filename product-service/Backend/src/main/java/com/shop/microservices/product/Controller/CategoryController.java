@@ -4,6 +4,7 @@ package com.shop.microservices.product.Controller;
 import com.shop.microservices.product.Dto.CategoryRequestDTO;
 import com.shop.microservices.product.Dto.CategoryResponseDTO;
 import com.shop.microservices.product.Service.ServiceInterface.ICategoryService;
+import com.shop.microservices.product.Utils.ETagUtil;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,7 +12,9 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -24,10 +27,12 @@ import org.springframework.web.bind.annotation.*;
 @RestController
 @RequestMapping("/api/v1/category")
 @RequiredArgsConstructor
+@Profile("!reactive")
 @Tag(name = "Category Controller", description = "APIs for managing categories")
 public class CategoryController {
 
     private final ICategoryService categoryService;
+    private final ETagUtil eTagUtil;
 
     /**
      * Creates a new category based on the provided category data.
@@ -53,23 +58,28 @@ public class CategoryController {
 
     /**
      * Updates an existing category based on the provided category data and category ID.
+     * When an {@code If-Match} header is sent, the update is only applied if the category is unchanged.
      *
      * @param categoryId The ID of the category to be updated.
      * @param categoryRequestDTO The category data from the client in {@link CategoryRequestDTO} format.
+     * @param ifMatch The ETag of the revision the client based its update on, if any.
      * @return A {@link ResponseEntity} containing the updated category as {@link CategoryResponseDTO}.
      */
     @Operation(summary = "Update an existing category", description = "Updates an existing category based on the provided data and ID",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Category updated successfully",
                             content = @Content(schema = @Schema(implementation = CategoryResponseDTO.class))),
-                    @ApiResponse(responseCode = "400", description = "Invalid category data")
+                    @ApiResponse(responseCode = "400", description = "Invalid category data"),
+                    @ApiResponse(responseCode = "412", description = "Category modified since the given ETag")
             })
     @PutMapping("/{categoryId}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<CategoryResponseDTO> updateCategory(
             @PathVariable @Parameter(description = "Category ID of the category to be updated", required = true) String categoryId,
-            @RequestBody @Parameter(description = "Category details to update") CategoryRequestDTO categoryRequestDTO) {
-        return ResponseEntity.ok(categoryService.updateCategory(categoryId, categoryRequestDTO));
+            @RequestBody @Parameter(description = "Category details to update") CategoryRequestDTO categoryRequestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag of the category revision being updated", required = false) String ifMatch) {
+        CategoryResponseDTO updatedCategory = categoryService.updateCategory(categoryId, categoryRequestDTO, ifMatch);
+        return ResponseEntity.ok().eTag(eTagUtil.eTag(updatedCategory.id(), updatedCategory.version())).body(updatedCategory);
     }
 
     /**
@@ -96,40 +106,48 @@ public class CategoryController {
 
     /**
      * Retrieves the details of a specific category based on the provided category ID.
+     * Answers {@code 304} without a body when {@code If-None-Match} carries the current ETag.
      *
      * @param categoryId The ID of the category to retrieve.
+     * @param ifNoneMatch The ETag of the copy held by the client, if any.
      * @return A {@link ResponseEntity} containing the category details as {@link CategoryResponseDTO}.
      */
     @Operation(summary = "Get category by ID", description = "Retrieves the details of a specific category by ID",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successfully retrieved the category",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = CategoryResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Category not modified since the given ETag"),
                     @ApiResponse(responseCode = "404", description = "Category not found")
             })
     @GetMapping("/{categoryId}")
-    @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<CategoryResponseDTO> getCategoryById(
-            @Parameter(description = "The ID of the category to retrieve", required = true) @PathVariable String categoryId) {
-        return ResponseEntity.ok(categoryService.getCategoryById(categoryId));
+            @Parameter(description = "The ID of the category to retrieve", required = true) @PathVariable String categoryId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "ETag of the copy held by the client", required = false) String ifNoneMatch) {
+        CategoryResponseDTO category = categoryService.getCategoryById(categoryId);
+        return eTagUtil.conditionalGet(ifNoneMatch, eTagUtil.eTag(category.id(), category.version()), category);
     }
 
     /**
      * Retrieves the details of a specific category based on its name.
+     * Answers {@code 304} without a body when {@code If-None-Match} carries the current ETag.
      *
      * @param categoryName The name of the category to retrieve.
+     * @param ifNoneMatch The ETag of the copy held by the client, if any.
      * @return A {@link ResponseEntity} containing the category details as {@link CategoryResponseDTO}.
      */
     @Operation(summary = "Get category by name", description = "Retrieve the category details based on the provided category name",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successfully retrieved the category",
                             content = @Content(schema = @Schema(implementation = CategoryResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Category not modified since the given ETag"),
                     @ApiResponse(responseCode = "404", description = "Category not found")
             })
     @GetMapping("/name/{categoryName}")
-    @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<CategoryResponseDTO> getCategoryByName(
-            @Parameter(description = "The name of the category to retrieve", required = true) @PathVariable String categoryName) {
-        return ResponseEntity.ok(categoryService.getCategoryByName(categoryName));
+            @Parameter(description = "The name of the category to retrieve", required = true) @PathVariable String categoryName,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "ETag of the copy held by the client", required = false) String ifNoneMatch) {
+        CategoryResponseDTO category = categoryService.getCategoryByName(categoryName);
+        return eTagUtil.conditionalGet(ifNoneMatch, eTagUtil.eTag(category.id(), category.version()), category);
     }
 
     /**
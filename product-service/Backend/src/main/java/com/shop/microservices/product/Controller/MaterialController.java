@@ -3,6 +3,7 @@ package com.shop.microservices.product.Controller;
 import com.shop.microservices.product.Dto.MaterialRequestDTO;
 import com.shop.microservices.product.Dto.MaterialResponseDTO;
 import com.shop.microservices.product.Service.ServiceInterface.IMaterialService;
+import com.shop.microservices.product.Utils.ETagUtil;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,7 +11,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,11 +26,14 @@ import org.springframework.web.bind.annotation.*;
  */
 @RestController
 @RequestMapping("/api/v1/material")
+@Profile("!reactive")
 public class MaterialController {
     private final IMaterialService materialService;
+    private final ETagUtil eTagUtil;
 
-    public MaterialController(IMaterialService materialService) {
+    public MaterialController(IMaterialService materialService, ETagUtil eTagUtil) {
         this.materialService = materialService;
+        this.eTagUtil = eTagUtil;
     }
 
     /**
@@ -54,24 +60,29 @@ public class MaterialController {
     /**
      * Updates an existing material.
      *
-     * <p>This endpoint updates an existing material using the provided material ID and new details.</p>
+     * <p>This endpoint updates an existing material using the provided material ID and new details.
+     * When an {@code If-Match} header is sent, the update is only applied if the material is unchanged.</p>
      *
      * @param materialId The ID of the material to update.
      * @param materialRequestDTO The new material details.
+     * @param ifMatch The ETag of the revision the client based its update on, if any.
      * @return A {@link ResponseEntity} containing the updated material as {@link MaterialResponseDTO}.
      */
     @Operation(summary = "Update an existing material", description = "Updates an existing material based on the provided data and ID",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Material updated successfully",
                             content = @Content(schema = @Schema(implementation = MaterialResponseDTO.class))),
-                    @ApiResponse(responseCode = "400", description = "Invalid material data")
+                    @ApiResponse(responseCode = "400", description = "Invalid material data"),
+                    @ApiResponse(responseCode = "412", description = "Material modified since the given ETag")
             })
     @PutMapping("/{materialId}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<MaterialResponseDTO> updateMaterial(
             @PathVariable @Parameter(description = "Material ID of the material to be updated", required = true) String materialId,
-            @RequestBody @Parameter(description = "Material details to update") MaterialRequestDTO materialRequestDTO) {
-        return ResponseEntity.ok(materialService.updateMaterial(materialId, materialRequestDTO));
+            @RequestBody @Parameter(description = "Material details to update") MaterialRequestDTO materialRequestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag of the material revision being updated", required = false) String ifMatch) {
+        MaterialResponseDTO updatedMaterial = materialService.updateMaterial(materialId, materialRequestDTO, ifMatch);
+        return ResponseEntity.ok().eTag(eTagUtil.eTag(updatedMaterial.materialId(), updatedMaterial.version())).body(updatedMaterial);
     }
 
     /**
@@ -101,45 +112,53 @@ public class MaterialController {
     /**
      * Retrieves a specific material by its ID.
      *
-     * <p>This endpoint fetches a single material by its unique ID.</p>
+     * <p>This endpoint fetches a single material by its unique ID, and answers {@code 304} without a body
+     * when {@code If-None-Match} carries the current ETag.</p>
      *
      * @param materialId The ID of the material to retrieve.
+     * @param ifNoneMatch The ETag of the copy held by the client, if any.
      * @return A {@link ResponseEntity} containing the material details as {@link MaterialResponseDTO}.
      */
     @Operation(summary = "Get material by ID", description = "Retrieves the details of a specific material by its ID",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successfully retrieved the material",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = MaterialResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Material not modified since the given ETag"),
                     @ApiResponse(responseCode = "404", description = "Material not found")
             })
     @GetMapping("/{materialId}")
-    @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<MaterialResponseDTO> getMaterialById(
-            @Parameter(description = "The ID of the material to retrieve", required = true) @PathVariable String materialId) {
-        return ResponseEntity.ok(materialService.getMaterialById(materialId));
+            @Parameter(description = "The ID of the material to retrieve", required = true) @PathVariable String materialId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "ETag of the copy held by the client", required = false) String ifNoneMatch) {
+        MaterialResponseDTO material = materialService.getMaterialById(materialId);
+        return eTagUtil.conditionalGet(ifNoneMatch, eTagUtil.eTag(material.materialId(), material.version()), material);
     }
 
     /**
      * Retrieves a material by its name and type.
      *
-     * <p>This endpoint fetches a material based on its name and type.</p>
+     * <p>This endpoint fetches a material based on its name and type, and answers {@code 304} without a body
+     * when {@code If-None-Match} carries the current ETag.</p>
      *
      * @param materialName The name of the material to retrieve.
      * @param materialType The type of the material to retrieve.
+     * @param ifNoneMatch The ETag of the copy held by the client, if any.
      * @return A {@link ResponseEntity} containing the material details as {@link MaterialResponseDTO}.
      */
     @Operation(summary = "Get material by name and type", description = "Retrieve the material details based on the provided material name and type",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successfully retrieved the material",
                             content = @Content(schema = @Schema(implementation = MaterialResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Material not modified since the given ETag"),
                     @ApiResponse(responseCode = "404", description = "Material not found")
             })
     @GetMapping("/name/{materialName}/type/{materialType}")
-    @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<MaterialResponseDTO> getMaterialByNameAndType(
             @Parameter(description = "The name of the material to retrieve", required = true) @PathVariable String materialName,
-            @Parameter(description = "The type of the material to retrieve", required = true) @PathVariable String materialType) {
-        return ResponseEntity.ok(materialService.getMaterialByNameAndType(materialName, materialType));
+            @Parameter(description = "The type of the material to retrieve", required = true) @PathVariable String materialType,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "ETag of the copy held by the client", required = false) String ifNoneMatch) {
+        MaterialResponseDTO material = materialService.getMaterialByNameAndType(materialName, materialType);
+        return eTagUtil.conditionalGet(ifNoneMatch, eTagUtil.eTag(material.materialId(), material.version()), material);
     }
 
     /**
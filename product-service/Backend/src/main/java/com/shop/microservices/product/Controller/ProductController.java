@@ -1,17 +1,24 @@
 package com.shop.microservices.product.Controller;
 
+import com.shop.microservices.product.Dto.ProductBulkResponseDTO;
+import com.shop.microservices.product.Dto.ProductCursorPageDTO;
 import com.shop.microservices.product.Dto.ProductRequestDTO;
 import com.shop.microservices.product.Dto.ProductResponseDTO;
 import com.shop.microservices.product.Exception.EntityCreationException;
 import com.shop.microservices.product.Service.ServiceInterface.IProductService;
+import com.shop.microservices.product.Utils.ETagUtil;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,7 +26,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Controller to manage product-related operations such as creating and retrieving products.
@@ -29,10 +38,14 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api/v1/product")
 @RequiredArgsConstructor
+@Profile("!reactive")
 @Tag(name = "Product Controller", description = "APIs for managing products")
 public class ProductController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final IProductService productService;
+    private final ETagUtil eTagUtil;
 
     /**
      * Creates a new product based on the provided product data.
@@ -58,30 +71,60 @@ public class ProductController {
         return ResponseEntity.ok(productService.createProduct(productRequest));
     }
 
+    /**
+     * Creates several products in a single request.
+     *
+     * <p>This endpoint is intended for bulk imports such as supplier feeds. Every item is validated and written
+     * independently; the response reports, for each item, whether it was created, rejected as a duplicate or
+     * rejected as invalid, along with the throughput of the request.</p>
+     *
+     * @param productRequests The list of product data from the client in {@link ProductRequestDTO} format.
+     * @return A {@link ResponseEntity} containing the per-item results as {@link ProductBulkResponseDTO}.
+     */
+    @Operation(summary = "Create products in bulk", description = "Creates up to 10000 products in a single request",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Bulk request processed, see per-item results",
+                            content = @Content(schema = @Schema(implementation = ProductBulkResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Empty or oversized bulk request")
+            })
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<ProductBulkResponseDTO> createProducts(
+            @RequestBody @Parameter(description = "List of products to be created", required = true) List<ProductRequestDTO> productRequests) {
+        // Call the service layer to create the products and return the per-item results
+        return ResponseEntity.ok(productService.createProducts(productRequests));
+    }
+
     /**
      * Update the new product based on the provided product data and product ID.
      *
      * <p>This endpoint accepts a {@link ProductRequestDTO} containing the product details and Product ID,
-     * validates and processes the request, and returns the updated product in {@link ProductResponseDTO} format.</p>
+     * validates and processes the request, and returns the updated product in {@link ProductResponseDTO} format.
+     * When an {@code If-Match} header is sent, the update is only applied if the product has not been modified
+     * since the client retrieved it.</p>
      *
      * @param productRequestDTO The product data from the client in {@link ProductRequestDTO} format.
      * @param productId The product ID of the product that need to update.
+     * @param ifMatch The ETag of the revision the client based its update on, if any.
      * @return A {@link ResponseEntity} containing the created product as {@link ProductResponseDTO}.
      */
     @Operation(summary = "Update the new product", description = "Update the new product based on the provided product data and product ID",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Product updated successfully",
                             content = @Content(schema = @Schema(implementation = ProductResponseDTO.class))),
-                    @ApiResponse(responseCode = "400", description = "Invalid product data")
+                    @ApiResponse(responseCode = "400", description = "Invalid product data"),
+                    @ApiResponse(responseCode = "412", description = "Product modified since the given ETag")
             })
     @PutMapping("{productId}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<ProductResponseDTO> updateProduct(
             @PathVariable @Parameter(description = "Product id of the product needed to updated", required = true) String productId,
-            @RequestBody @Parameter(description = "Product details that need to update") ProductRequestDTO productRequestDTO){
+            @RequestBody @Parameter(description = "Product details that need to update") ProductRequestDTO productRequestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag of the product revision being updated", required = false) String ifMatch){
 
-        // Call the update service to update the product and return updated product
-        return ResponseEntity.ok(productService.updateProduct(productId, productRequestDTO));
+        // Call the update service to update the product and return updated product with its new ETag
+        ProductResponseDTO updatedProduct = productService.updateProduct(productId, productRequestDTO, ifMatch);
+        return ResponseEntity.ok().eTag(eTagUtil.eTag(updatedProduct.id(), updatedProduct.version())).body(updatedProduct);
     }
 
     /**
@@ -113,12 +156,112 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * Retrieves a page of products using cursor-based (keyset) pagination.
+     *
+     * <p>Unlike the offset based listing, the cost of a page does not grow with its depth, which makes
+     * this endpoint suitable for walking through the whole catalogue. The first page is requested without
+     * a cursor; every following page is requested with the {@code nextCursor} returned by the previous one.</p>
+     *
+     * @param cursor       The continuation token of the previous page. Omitted for the first page.
+     * @param size         The number of products per page. Defaults to 10 if not provided.
+     * @param sortBy       The sort key, {@code id} or {@code name}. Defaults to {@code id} if not provided.
+     * @param includeCount Whether the total number of products should be returned. Defaults to false.
+     * @return A {@link ResponseEntity} containing a {@link ProductCursorPageDTO}.
+     */
+    @Operation(summary = "Retrieve products with cursor pagination", description = "Fetches products page by page using an opaque continuation token",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Page of products",
+                            content = @Content(schema = @Schema(implementation = ProductCursorPageDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor, sort key or page size")
+            })
+    @GetMapping("/scroll")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<ProductCursorPageDTO> getProductsByCursor(
+            @RequestParam(required = false) @Parameter(description = "Continuation token of the previous page", required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Parameter(description = "Page size (default is 10)", required = false) int size,
+            @RequestParam(defaultValue = "id") @Parameter(description = "Sort key: id or name (default is id)", required = false) String sortBy,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Whether to return the total number of products (default is false)", required = false) boolean includeCount) {
+
+        // Fetch the requested page from the service layer
+        return ResponseEntity.ok(productService.getProductsByCursor(cursor, size, sortBy, includeCount));
+    }
+
+    /**
+     * Exports the whole product catalogue as newline-delimited JSON (NDJSON), one product per line.
+     *
+     * <p>The products are streamed from a database cursor straight into the response, so the export
+     * never materializes the catalogue in memory. When {@code gzip} is set, the body is gzip compressed
+     * and the {@code Content-Encoding} header is set accordingly.</p>
+     *
+     * @param gzip Whether the response body should be gzip compressed. Defaults to false.
+     * @return A {@link ResponseEntity} containing the streamed NDJSON body.
+     */
+    @Operation(summary = "Export all products", description = "Streams the whole product catalogue as NDJSON",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Products streamed successfully",
+                            content = @Content(mediaType = "application/x-ndjson",
+                                    schema = @Schema(implementation = ProductResponseDTO.class)))
+            })
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(defaultValue = "false") @Parameter(description = "Whether to gzip the response (default is false)", required = false) boolean gzip) {
+
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 8192);
+                productService.exportProducts(gzipOutputStream);
+                gzipOutputStream.finish();
+            } else {
+                productService.exportProducts(outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.ndjson" + (gzip ? ".gz" : "") + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Searches products by name and description.
+     *
+     * <p>Intended for type-ahead lookups: every word of the query must match a word of the product name or
+     * description, fully or as a prefix, and the results are ordered by relevance. Searches are served from
+     * an in-memory index and do not hit the database.</p>
+     *
+     * @param q     The search query.
+     * @param limit The maximum number of products to return. Defaults to 10 if not provided.
+     * @return A {@link ResponseEntity} containing the matching products as a list of {@link ProductResponseDTO}.
+     */
+    @Operation(summary = "Search products", description = "Full-text and prefix search over product names and descriptions",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Matching products, most relevant first",
+                            content = @Content(schema = @Schema(implementation = ProductResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Blank query or invalid limit")
+            })
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<List<ProductResponseDTO>> searchProducts(
+            @RequestParam @Parameter(description = "Search query", required = true) String q,
+            @RequestParam(defaultValue = "10") @Parameter(description = "Maximum number of results (default is 10)", required = false) int limit) {
+
+        // Query the search index through the service layer
+        return ResponseEntity.ok(productService.searchProducts(q, limit));
+    }
+
     /**
      * Retrieve the product details based on the provided product ID.
      *
-     * <p>This endpoint fetches a products  based on the provided product ID.</p>
+     * <p>This endpoint fetches a products  based on the provided product ID. The response carries an ETag;
+     * when the client sends it back in {@code If-None-Match} and the product is unchanged, a {@code 304}
+     * is returned without a body.</p>
      *
      * @param productId The ID of the product that need to retrieve
+     * @param ifNoneMatch The ETag of the copy held by the client, if any.
      * @return A {@link ResponseEntity}  of a {@link ProductResponseDTO} objects.
      */
     @Operation(
@@ -128,15 +271,17 @@ public class ProductController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved the product",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Product not modified since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Product not found")
     })
     @GetMapping("{productId}")
-    @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<ProductResponseDTO> getProductById(
             @Parameter(description = "The ID of the product to retrieve", required = true)
-            @PathVariable String productId) {
-        // Return the product based on provided product id
-        return ResponseEntity.ok(productService.getProductById(productId));
+            @PathVariable String productId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "ETag of the copy held by the client", required = false) String ifNoneMatch) {
+        // Return the product based on provided product id, or 304 if the client copy is current
+        ProductResponseDTO product = productService.getProductById(productId);
+        return eTagUtil.conditionalGet(ifNoneMatch, eTagUtil.eTag(product.id(), product.version()), product);
     }
 
     /**
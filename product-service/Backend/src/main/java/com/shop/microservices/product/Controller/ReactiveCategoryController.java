@@ -0,0 +1,164 @@
+package com.shop.microservices.product.Controller;
+
+import com.shop.microservices.product.Dto.CategoryRequestDTO;
+import com.shop.microservices.product.Dto.CategoryResponseDTO;
+import com.shop.microservices.product.Service.ServiceInterface.IReactiveCategoryService;
+import com.shop.microservices.product.Utils.ETagUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link CategoryController}, active with the {@code reactive} profile.
+ *
+ * <p>Exposes the same endpoints and contracts on top of {@link IReactiveCategoryService}.</p>
+ */
+@RestController
+@RequestMapping("/api/v1/category")
+@RequiredArgsConstructor
+@Profile("reactive")
+@Tag(name = "Category Controller", description = "APIs for managing categories")
+public class ReactiveCategoryController {
+
+    private final IReactiveCategoryService categoryService;
+    private final ETagUtil eTagUtil;
+
+    /**
+     * Creates a new category based on the provided category data.
+     *
+     * @param categoryRequest The category data from the client in {@link CategoryRequestDTO} format.
+     * @return A {@link Mono} emitting the created category as {@link CategoryResponseDTO}.
+     */
+    @Operation(summary = "Create a new category", description = "Creates a new category in the system",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Category created successfully",
+                            content = @Content(schema = @Schema(implementation = CategoryResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid category data")
+            })
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ResponseEntity<CategoryResponseDTO>> createCategory(
+            @RequestBody @Parameter(description = "Category data to be created", required = true) CategoryRequestDTO categoryRequest) {
+        return categoryService.createCategory(categoryRequest).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Updates an existing category based on the provided category data and category ID.
+     *
+     * @param categoryId         The ID of the category to be updated.
+     * @param categoryRequestDTO The category data from the client in {@link CategoryRequestDTO} format.
+     * @param ifMatch            The ETag of the revision the client based its update on, if any.
+     * @return A {@link Mono} emitting the updated category as {@link CategoryResponseDTO}.
+     */
+    @Operation(summary = "Update an existing category", description = "Updates an existing category based on the provided data and ID",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Category updated successfully",
+                            content = @Content(schema = @Schema(implementation = CategoryResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid category data"),
+                    @ApiResponse(responseCode = "412", description = "Category modified since the given ETag")
+            })
+    @PutMapping("/{categoryId}")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<CategoryResponseDTO>> updateCategory(
+            @PathVariable @Parameter(description = "Category ID of the category to be updated", required = true) String categoryId,
+            @RequestBody @Parameter(description = "Category details to update") CategoryRequestDTO categoryRequestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag of the category revision being updated", required = false) String ifMatch) {
+        return categoryService.updateCategory(categoryId, categoryRequestDTO, ifMatch)
+                .map(updatedCategory -> ResponseEntity.ok().eTag(eTagUtil.eTag(updatedCategory.id(), updatedCategory.version())).body(updatedCategory));
+    }
+
+    /**
+     * Retrieves a paginated list of categories.
+     *
+     * @param page The page number to retrieve (0-based index). Defaults to 0 if not provided.
+     * @param size The number of categories per page. Defaults to 10 if not provided.
+     * @return A {@link Mono} emitting a {@link Page} of {@link CategoryResponseDTO} objects.
+     */
+    @Operation(summary = "Retrieve paginated categories", description = "Fetches categories with pagination support",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "List of categories",
+                            content = @Content(schema = @Schema(implementation = CategoryResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid pagination parameters")
+            })
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<Page<CategoryResponseDTO>>> getAllCategories(
+            @RequestParam(defaultValue = "0") @Parameter(description = "Page number (default is 0)", required = false) int page,
+            @RequestParam(defaultValue = "10") @Parameter(description = "Page size (default is 10)", required = false) int size) {
+        return categoryService.getAllCategory(page, size).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Retrieves the details of a specific category based on the provided category ID.
+     *
+     * @param categoryId  The ID of the category to retrieve.
+     * @param ifNoneMatch The ETag of the copy held by the client, if any.
+     * @return A {@link Mono} emitting the category details as {@link CategoryResponseDTO}.
+     */
+    @Operation(summary = "Get category by ID", description = "Retrieves the details of a specific category by ID",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successfully retrieved the category",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CategoryResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Category not modified since the given ETag"),
+                    @ApiResponse(responseCode = "404", description = "Category not found")
+            })
+    @GetMapping("/{categoryId}")
+    public Mono<ResponseEntity<CategoryResponseDTO>> getCategoryById(
+            @Parameter(description = "The ID of the category to retrieve", required = true) @PathVariable String categoryId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "ETag of the copy held by the client", required = false) String ifNoneMatch) {
+        // Answer 304 without serializing the body if the client copy is current
+        return categoryService.getCategoryById(categoryId)
+                .map(category -> eTagUtil.conditionalGet(ifNoneMatch, eTagUtil.eTag(category.id(), category.version()), category));
+    }
+
+    /**
+     * Retrieves the details of a specific category based on its name.
+     *
+     * @param categoryName The name of the category to retrieve.
+     * @param ifNoneMatch  The ETag of the copy held by the client, if any.
+     * @return A {@link Mono} emitting the category details as {@link CategoryResponseDTO}.
+     */
+    @Operation(summary = "Get category by name", description = "Retrieve the category details based on the provided category name",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successfully retrieved the category",
+                            content = @Content(schema = @Schema(implementation = CategoryResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Category not modified since the given ETag"),
+                    @ApiResponse(responseCode = "404", description = "Category not found")
+            })
+    @GetMapping("/name/{categoryName}")
+    public Mono<ResponseEntity<CategoryResponseDTO>> getCategoryByName(
+            @Parameter(description = "The name of the category to retrieve", required = true) @PathVariable String categoryName,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "ETag of the copy held by the client", required = false) String ifNoneMatch) {
+        // Answer 304 without serializing the body if the client copy is current
+        return categoryService.getCategoryByName(categoryName)
+                .map(category -> eTagUtil.conditionalGet(ifNoneMatch, eTagUtil.eTag(category.id(), category.version()), category));
+    }
+
+    /**
+     * Deletes a category by its ID.
+     *
+     * @param categoryId The ID of the category to delete.
+     * @return A {@link Mono} completing with an empty response upon successful deletion.
+     */
+    @Operation(summary = "Delete a category", description = "Deletes a category by its ID",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Category successfully deleted"),
+                    @ApiResponse(responseCode = "404", description = "Category not found")
+            })
+    @DeleteMapping("/{categoryId}")
+    public Mono<ResponseEntity<Void>> deleteCategory(
+            @Parameter(description = "The ID of the category to delete", required = true) @PathVariable String categoryId) {
+        return categoryService.deleteCategory(categoryId).thenReturn(ResponseEntity.noContent().build());
+    }
+}
@@ -0,0 +1,166 @@
+package com.shop.microservices.product.Controller;
+
+import com.shop.microservices.product.Dto.MaterialRequestDTO;
+import com.shop.microservices.product.Dto.MaterialResponseDTO;
+import com.shop.microservices.product.Service.ServiceInterface.IReactiveMaterialService;
+import com.shop.microservices.product.Utils.ETagUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link MaterialController}, active with the {@code reactive} profile.
+ *
+ * <p>Exposes the same endpoints and contracts on top of {@link IReactiveMaterialService}.</p>
+ */
+@RestController
+@RequestMapping("/api/v1/material")
+@Profile("reactive")
+public class ReactiveMaterialController {
+    private final IReactiveMaterialService materialService;
+    private final ETagUtil eTagUtil;
+
+    public ReactiveMaterialController(IReactiveMaterialService materialService, ETagUtil eTagUtil) {
+        this.materialService = materialService;
+        this.eTagUtil = eTagUtil;
+    }
+
+    /**
+     * Creates a new material.
+     *
+     * @param materialRequest The material data from the client in {@link MaterialRequestDTO} format.
+     * @return A {@link Mono} emitting the created material as {@link MaterialResponseDTO}.
+     */
+    @Operation(summary = "Create a new material", description = "Creates a new material in the system",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Material created successfully",
+                            content = @Content(schema = @Schema(implementation = MaterialResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid material data")
+            })
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ResponseEntity<MaterialResponseDTO>> createMaterial(
+            @RequestBody @Parameter(description = "Material data to be created", required = true) MaterialRequestDTO materialRequest) {
+        return materialService.createMaterial(materialRequest).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Updates an existing material.
+     *
+     * @param materialId         The ID of the material to update.
+     * @param materialRequestDTO The updated material data in {@link MaterialRequestDTO} format.
+     * @param ifMatch            The ETag of the revision the client based its update on, if any.
+     * @return A {@link Mono} emitting the updated material as {@link MaterialResponseDTO}.
+     */
+    @Operation(summary = "Update an existing material", description = "Updates an existing material based on the provided data and ID",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Material updated successfully",
+                            content = @Content(schema = @Schema(implementation = MaterialResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid material data"),
+                    @ApiResponse(responseCode = "412", description = "Material modified since the given ETag")
+            })
+    @PutMapping("/{materialId}")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<MaterialResponseDTO>> updateMaterial(
+            @PathVariable @Parameter(description = "Material ID of the material to be updated", required = true) String materialId,
+            @RequestBody @Parameter(description = "Material details to update") MaterialRequestDTO materialRequestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag of the material revision being updated", required = false) String ifMatch) {
+        return materialService.updateMaterial(materialId, materialRequestDTO, ifMatch)
+                .map(updatedMaterial -> ResponseEntity.ok().eTag(eTagUtil.eTag(updatedMaterial.materialId(), updatedMaterial.version())).body(updatedMaterial));
+    }
+
+    /**
+     * Retrieves a paginated list of materials.
+     *
+     * @param page The page number to retrieve (default is 0).
+     * @param size The number of materials per page (default is 10).
+     * @return A {@link Mono} emitting a paginated list of materials as {@link MaterialResponseDTO}.
+     */
+    @Operation(summary = "Retrieve paginated materials", description = "Fetches materials with pagination support",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "List of materials",
+                            content = @Content(schema = @Schema(implementation = MaterialResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid pagination parameters")
+            })
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<Page<MaterialResponseDTO>>> getAllMaterials(
+            @RequestParam(defaultValue = "0") @Parameter(description = "Page number (default is 0)", required = false) int page,
+            @RequestParam(defaultValue = "10") @Parameter(description = "Page size (default is 10)", required = false) int size) {
+        return materialService.getAllMaterials(page, size).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Retrieves a specific material by its ID.
+     *
+     * @param materialId  The ID of the material to retrieve.
+     * @param ifNoneMatch The ETag of the copy held by the client, if any.
+     * @return A {@link Mono} emitting the material details as {@link MaterialResponseDTO}.
+     */
+    @Operation(summary = "Get material by ID", description = "Retrieves the details of a specific material by its ID",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successfully retrieved the material",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = MaterialResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Material not modified since the given ETag"),
+                    @ApiResponse(responseCode = "404", description = "Material not found")
+            })
+    @GetMapping("/{materialId}")
+    public Mono<ResponseEntity<MaterialResponseDTO>> getMaterialById(
+            @Parameter(description = "The ID of the material to retrieve", required = true) @PathVariable String materialId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "ETag of the copy held by the client", required = false) String ifNoneMatch) {
+        // Answer 304 without serializing the body if the client copy is current
+        return materialService.getMaterialById(materialId)
+                .map(material -> eTagUtil.conditionalGet(ifNoneMatch, eTagUtil.eTag(material.materialId(), material.version()), material));
+    }
+
+    /**
+     * Retrieves a material by its name and type.
+     *
+     * @param materialName The name of the material to retrieve.
+     * @param materialType The type of the material to retrieve.
+     * @param ifNoneMatch  The ETag of the copy held by the client, if any.
+     * @return A {@link Mono} emitting the material details as {@link MaterialResponseDTO}.
+     */
+    @Operation(summary = "Get material by name and type", description = "Retrieve the material details based on the provided material name and type",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successfully retrieved the material",
+                            content = @Content(schema = @Schema(implementation = MaterialResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Material not modified since the given ETag"),
+                    @ApiResponse(responseCode = "404", description = "Material not found")
+            })
+    @GetMapping("/name/{materialName}/type/{materialType}")
+    public Mono<ResponseEntity<MaterialResponseDTO>> getMaterialByNameAndType(
+            @Parameter(description = "The name of the material to retrieve", required = true) @PathVariable String materialName,
+            @Parameter(description = "The type of the material to retrieve", required = true) @PathVariable String materialType,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "ETag of the copy held by the client", required = false) String ifNoneMatch) {
+        // Answer 304 without serializing the body if the client copy is current
+        return materialService.getMaterialByNameAndType(materialName, materialType)
+                .map(material -> eTagUtil.conditionalGet(ifNoneMatch, eTagUtil.eTag(material.materialId(), material.version()), material));
+    }
+
+    /**
+     * Deletes a material by its ID.
+     *
+     * @param materialId The ID of the material to delete.
+     * @return A {@link Mono} completing with an empty response upon successful deletion.
+     */
+    @Operation(summary = "Delete a material", description = "Deletes a material by its ID",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Material successfully deleted"),
+                    @ApiResponse(responseCode = "404", description = "Material not found")
+            })
+    @DeleteMapping("/{materialId}")
+    public Mono<ResponseEntity<Void>> deleteMaterial(
+            @Parameter(description = "The ID of the material to delete", required = true) @PathVariable String materialId) {
+        return materialService.deleteMaterial(materialId).thenReturn(ResponseEntity.noContent().build());
+    }
+}
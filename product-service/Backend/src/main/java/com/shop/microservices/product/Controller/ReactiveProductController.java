@@ -0,0 +1,246 @@
+package com.shop.microservices.product.Controller;
+
+import com.shop.microservices.product.Dto.ProductBulkResponseDTO;
+import com.shop.microservices.product.Dto.ProductCursorPageDTO;
+import com.shop.microservices.product.Dto.ProductRequestDTO;
+import com.shop.microservices.product.Dto.ProductResponseDTO;
+import com.shop.microservices.product.Service.ServiceInterface.IReactiveProductService;
+import com.shop.microservices.product.Utils.ETagUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reactive counterpart of {@link ProductController}, active with the {@code reactive} profile.
+ *
+ * <p>Exposes the same endpoints and contracts on top of {@link IReactiveProductService}, so clients do not
+ * need to know which variant of the service they talk to.</p>
+ */
+@RestController
+@RequestMapping("/api/v1/product")
+@RequiredArgsConstructor
+@Profile("reactive")
+@Tag(name = "Product Controller", description = "APIs for managing products")
+public class ReactiveProductController {
+
+    private final IReactiveProductService productService;
+    private final ETagUtil eTagUtil;
+
+    /**
+     * Creates a new product based on the provided product data.
+     *
+     * @param productRequest The product data from the client in {@link ProductRequestDTO} format.
+     * @return A {@link Mono} emitting the created product as {@link ProductResponseDTO}.
+     */
+    @Operation(summary = "Create a new product", description = "Creates a new product in the system",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Product created successfully",
+                            content = @Content(schema = @Schema(implementation = ProductResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid product data")
+            })
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ResponseEntity<ProductResponseDTO>> createProduct(
+            @RequestBody @Parameter(description = "Product data to be created", required = true) ProductRequestDTO productRequest) {
+        return productService.createProduct(productRequest).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Creates several products in a single request.
+     *
+     * @param productRequests The list of product data from the client in {@link ProductRequestDTO} format.
+     * @return A {@link Mono} emitting the per-item results as {@link ProductBulkResponseDTO}.
+     */
+    @Operation(summary = "Create products in bulk", description = "Creates up to 10000 products in a single request",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Bulk request processed, see per-item results",
+                            content = @Content(schema = @Schema(implementation = ProductBulkResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Empty or oversized bulk request")
+            })
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<ProductBulkResponseDTO>> createProducts(
+            @RequestBody @Parameter(description = "List of products to be created", required = true) List<ProductRequestDTO> productRequests) {
+        return productService.createProducts(productRequests).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Updates a product based on the provided product data and product ID.
+     *
+     * @param productId         The product ID of the product that need to update.
+     * @param productRequestDTO The product data from the client in {@link ProductRequestDTO} format.
+     * @param ifMatch           The ETag of the revision the client based its update on, if any.
+     * @return A {@link Mono} emitting the updated product as {@link ProductResponseDTO}.
+     */
+    @Operation(summary = "Update the new product", description = "Update the new product based on the provided product data and product ID",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Product updated successfully",
+                            content = @Content(schema = @Schema(implementation = ProductResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid product data"),
+                    @ApiResponse(responseCode = "412", description = "Product modified since the given ETag")
+            })
+    @PutMapping("{productId}")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<ProductResponseDTO>> updateProduct(
+            @PathVariable @Parameter(description = "Product id of the product needed to updated", required = true) String productId,
+            @RequestBody @Parameter(description = "Product details that need to update") ProductRequestDTO productRequestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag of the product revision being updated", required = false) String ifMatch) {
+        return productService.updateProduct(productId, productRequestDTO, ifMatch)
+                .map(updatedProduct -> ResponseEntity.ok().eTag(eTagUtil.eTag(updatedProduct.id(), updatedProduct.version())).body(updatedProduct));
+    }
+
+    /**
+     * Retrieves a paginated list of products.
+     *
+     * @param page The page number to retrieve (0-based index). Defaults to 0 if not provided.
+     * @param size The number of products per page. Defaults to 10 if not provided.
+     * @return A {@link Mono} emitting a {@link Page} of {@link ProductResponseDTO} objects.
+     */
+    @Operation(summary = "Retrieve paginated products", description = "Fetches products with pagination support",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "List of products",
+                            content = @Content(schema = @Schema(implementation = ProductResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid pagination parameters")
+            })
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<Page<ProductResponseDTO>>> getAllProducts(
+            @RequestParam(defaultValue = "0") @Parameter(description = "Page number (default is 0)", required = false) int page,
+            @RequestParam(defaultValue = "10") @Parameter(description = "Page size (default is 10)", required = false) int size) {
+        return productService.getAllProducts(page, size).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Retrieves a page of products using cursor-based (keyset) pagination.
+     *
+     * @param cursor       The continuation token of the previous page. Omitted for the first page.
+     * @param size         The number of products per page. Defaults to 10 if not provided.
+     * @param sortBy       The sort key, {@code id} or {@code name}. Defaults to {@code id} if not provided.
+     * @param includeCount Whether the total number of products should be returned. Defaults to false.
+     * @return A {@link Mono} emitting a {@link ProductCursorPageDTO}.
+     */
+    @Operation(summary = "Retrieve products with cursor pagination", description = "Fetches products page by page using an opaque continuation token",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Page of products",
+                            content = @Content(schema = @Schema(implementation = ProductCursorPageDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor, sort key or page size")
+            })
+    @GetMapping("/scroll")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<ProductCursorPageDTO>> getProductsByCursor(
+            @RequestParam(required = false) @Parameter(description = "Continuation token of the previous page", required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Parameter(description = "Page size (default is 10)", required = false) int size,
+            @RequestParam(defaultValue = "id") @Parameter(description = "Sort key: id or name (default is id)", required = false) String sortBy,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Whether to return the total number of products (default is false)", required = false) boolean includeCount) {
+        return productService.getProductsByCursor(cursor, size, sortBy, includeCount).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Exports the whole product catalogue as newline-delimited JSON (NDJSON), one product per line.
+     *
+     * <p>Products are written as they are read from the database cursor, with backpressure from the client
+     * connection. Compression is negotiated through {@code Accept-Encoding} by the server.</p>
+     *
+     * @return A {@link ResponseEntity} containing the streamed NDJSON body.
+     */
+    @Operation(summary = "Export all products", description = "Streams the whole product catalogue as NDJSON",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Products streamed successfully",
+                            content = @Content(mediaType = "application/x-ndjson",
+                                    schema = @Schema(implementation = ProductResponseDTO.class)))
+            })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<ProductResponseDTO>> exportProducts() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.ndjson\"")
+                .body(productService.exportProducts());
+    }
+
+    /**
+     * Searches products by name and description.
+     *
+     * @param q     The search query.
+     * @param limit The maximum number of products to return. Defaults to 10 if not provided.
+     * @return A {@link Mono} emitting the matching products as a list of {@link ProductResponseDTO}.
+     */
+    @Operation(summary = "Search products", description = "Full-text and prefix search over product names and descriptions",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Matching products, most relevant first",
+                            content = @Content(schema = @Schema(implementation = ProductResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Blank query or invalid limit")
+            })
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<List<ProductResponseDTO>>> searchProducts(
+            @RequestParam @Parameter(description = "Search query", required = true) String q,
+            @RequestParam(defaultValue = "10") @Parameter(description = "Maximum number of results (default is 10)", required = false) int limit) {
+        return productService.searchProducts(q, limit).collectList().map(ResponseEntity::ok);
+    }
+
+    /**
+     * Retrieve the product details based on the provided product ID.
+     *
+     * @param productId The ID of the product that need to retrieve
+     * @param ifNoneMatch The ETag of the copy held by the client, if any.
+     * @return A {@link Mono} emitting the {@link ProductResponseDTO}.
+     */
+    @Operation(
+            summary = "Get product by ID",
+            description = "Retrieve the product details based on the provided product ID."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the product",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Product not modified since the given ETag"),
+            @ApiResponse(responseCode = "404", description = "Product not found")
+    })
+    @GetMapping("{productId}")
+    public Mono<ResponseEntity<ProductResponseDTO>> getProductById(
+            @Parameter(description = "The ID of the product to retrieve", required = true)
+            @PathVariable String productId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "ETag of the copy held by the client", required = false) String ifNoneMatch) {
+        // Answer 304 without serializing the body if the client copy is current
+        return productService.getProductById(productId)
+                .map(product -> eTagUtil.conditionalGet(ifNoneMatch, eTagUtil.eTag(product.id(), product.version()), product));
+    }
+
+    /**
+     * Deletes a product by its ID.
+     *
+     * @param productId The ID of the product to be deleted, as a string.
+     * @return A {@link Mono} emitting a confirmation message upon successful deletion.
+     */
+    @Operation(
+            summary = "Delete a product",
+            description = "Deletes a product by its ID. Validates the input and ensures the product exists in the database.",
+            tags = {"Product Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Product successfully deleted"),
+            @ApiResponse(responseCode = "404", description = "Product not found",
+                    content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @DeleteMapping("/{productId}")
+    public Mono<ResponseEntity<Map<String, String>>> deleteProduct(@PathVariable String productId) {
+        return productService.deleteProduct(productId)
+                .thenReturn(ResponseEntity.status(HttpStatus.NO_CONTENT).body(Map.of("message", "Product successfully deleted")));
+    }
+}
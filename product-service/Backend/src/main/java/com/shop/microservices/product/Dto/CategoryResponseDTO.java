@@ -15,6 +15,7 @@ import java.util.UUID;
  *     <li><b>id:</b> Unique identifier for the Category (UUID).</li>
  *     <li><b>name:</b> The name of the Category (String).</li>
  *     <li><b>description:</b> A detailed description of the Category (String).</li>
+ *     <li><b>version:</b> The revision of the Category, also exposed as its ETag (Long).</li>
  * </ul>
  */
 @ApiModel(description = "Represents the response object for a Category in the shop's catalog.")
@@ -27,5 +28,8 @@ public record CategoryResponseDTO(
         String name,
 
         @ApiModelProperty(notes = "The description of the Category", required = true, example = "T-Shirt for Men - Large")
-        String description
+        String description,
+
+        @ApiModelProperty(notes = "The revision of the Category, incremented on every update", required = true, example = "3")
+        Long version
 ) {}
@@ -15,6 +15,7 @@ import java.util.UUID;
  *     <li><b>materialName:</b> The name of the material (String).</li>
  *     <li><b>materialType:</b> The type of the material (String).</li>
  *     <li><b>description:</b> A detailed description of the material (String).</li>
+ *     <li><b>version:</b> The revision of the material, also exposed as its ETag (Long).</li>
  * </ul>
  */
 @ApiModel(description = "Represents the response object for a material in the shop's catalog.")
@@ -30,5 +31,8 @@ public record MaterialResponseDTO(
         String materialType,
 
         @ApiModelProperty(notes = "A detailed description of the material", required = false, example = "100% organic cotton, ideal for T-shirts and summer dresses.")
-        String description
+        String description,
+
+        @ApiModelProperty(notes = "The revision of the material, incremented on every update", required = true, example = "3")
+        Long version
 ) {}
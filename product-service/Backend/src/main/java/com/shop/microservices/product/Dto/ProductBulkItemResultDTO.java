@@ -0,0 +1,52 @@
+package com.shop.microservices.product.Dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.UUID;
+
+/**
+ * Represents the outcome of a single item of a bulk product creation request.
+ * <p>
+ * It includes the following fields:
+ * </p>
+ * <ul>
+ *     <li><b>index:</b> Position of the item in the request (int).</li>
+ *     <li><b>name:</b> The name of the product as submitted (String).</li>
+ *     <li><b>status:</b> Whether the item was created, rejected as a duplicate, rejected as invalid or failed to be written ({@link Status}).</li>
+ *     <li><b>id:</b> Identifier of the created product, {@code null} when the item was rejected (UUID).</li>
+ *     <li><b>message:</b> Reason of the rejection, {@code null} when the item was created (String).</li>
+ * </ul>
+ */
+@ApiModel(description = "Represents the outcome of a single item of a bulk product creation request.")
+public record ProductBulkItemResultDTO(
+
+        @ApiModelProperty(notes = "Position of the item in the request", required = true, example = "0")
+        int index,
+
+        @ApiModelProperty(notes = "The name of the product as submitted", required = false, example = "Wireless Mouse")
+        String name,
+
+        @ApiModelProperty(notes = "Outcome of the item", required = true, example = "CREATED")
+        Status status,
+
+        @ApiModelProperty(notes = "Identifier of the created product", required = false, example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID id,
+
+        @ApiModelProperty(notes = "Reason of the rejection", required = false, example = "prod.error.3102: The product with product name: Wireless Mouse already exists.")
+        String message
+) {
+
+    /**
+     * Outcome of a bulk item.
+     */
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        /**
+         * The item was accepted but the database failed to write it; the same item can be submitted again.
+         */
+        FAILED
+    }
+}
@@ -0,0 +1,50 @@
+package com.shop.microservices.product.Dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.List;
+
+/**
+ * Represents the response of a bulk product creation request.
+ * <p>
+ * It includes the following fields:
+ * </p>
+ * <ul>
+ *     <li><b>total:</b> Number of submitted items (int).</li>
+ *     <li><b>created:</b> Number of created products (int).</li>
+ *     <li><b>duplicates:</b> Number of items rejected because the product name already exists (int).</li>
+ *     <li><b>invalid:</b> Number of items rejected because they failed validation (int).</li>
+ *     <li><b>failed:</b> Number of items the database failed to write, which can be submitted again (int).</li>
+ *     <li><b>durationMillis:</b> Time spent processing the request in milliseconds (long).</li>
+ *     <li><b>itemsPerSecond:</b> Processing throughput of the request (double).</li>
+ *     <li><b>results:</b> Per-item outcome, in request order (List of {@link ProductBulkItemResultDTO}).</li>
+ * </ul>
+ */
+@ApiModel(description = "Represents the response of a bulk product creation request.")
+public record ProductBulkResponseDTO(
+
+        @ApiModelProperty(notes = "Number of submitted items", required = true, example = "1000")
+        int total,
+
+        @ApiModelProperty(notes = "Number of created products", required = true, example = "990")
+        int created,
+
+        @ApiModelProperty(notes = "Number of items rejected because the product name already exists", required = true, example = "8")
+        int duplicates,
+
+        @ApiModelProperty(notes = "Number of items rejected because they failed validation", required = true, example = "2")
+        int invalid,
+
+        @ApiModelProperty(notes = "Number of items the database failed to write, which can be submitted again", required = true, example = "0")
+        int failed,
+
+        @ApiModelProperty(notes = "Time spent processing the request in milliseconds", required = true, example = "120")
+        long durationMillis,
+
+        @ApiModelProperty(notes = "Processing throughput in items per second", required = true, example = "8333.33")
+        double itemsPerSecond,
+
+        @ApiModelProperty(notes = "Per-item outcome, in request order", required = true)
+        List<ProductBulkItemResultDTO> results
+) {}
@@ -0,0 +1,34 @@
+package com.shop.microservices.product.Dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.List;
+
+/**
+ * Represents one page of a cursor-based product listing.
+ * <p>
+ * It includes the following fields:
+ * </p>
+ * <ul>
+ *     <li><b>content:</b> The products of the page (List of {@link ProductResponseDTO}).</li>
+ *     <li><b>nextCursor:</b> Opaque token to pass back to fetch the next page, {@code null} on the last page (String).</li>
+ *     <li><b>hasNext:</b> Whether another page is available (boolean).</li>
+ *     <li><b>totalElements:</b> Total number of products, only present when explicitly requested (Long).</li>
+ * </ul>
+ */
+@ApiModel(description = "Represents one page of a cursor-based product listing.")
+public record ProductCursorPageDTO(
+
+        @ApiModelProperty(notes = "The products of the page", required = true)
+        List<ProductResponseDTO> content,
+
+        @ApiModelProperty(notes = "Opaque token used to fetch the next page, null on the last page", required = false, example = "aWR8fDU1MGU4NDAwLWUyOWItNDFkNC1hNzE2LTQ0NjY1NTQ0MDAwMA")
+        String nextCursor,
+
+        @ApiModelProperty(notes = "Whether another page is available", required = true, example = "true")
+        boolean hasNext,
+
+        @ApiModelProperty(notes = "Total number of products, only present when includeCount is true", required = false, example = "125000")
+        Long totalElements
+) {}
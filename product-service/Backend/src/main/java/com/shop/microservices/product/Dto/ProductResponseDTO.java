@@ -17,6 +17,7 @@ import java.util.UUID;
  *     <li><b>name:</b> The name of the product (String).</li>
  *     <li><b>description:</b> A detailed description of the product (String).</li>
  *     <li><b>price:</b> The price of the product (BigDecimal).</li>
+ *     <li><b>version:</b> The revision of the product, also exposed as its ETag (Long).</li>
  * </ul>
  */
 @ApiModel(description = "Represents the response object for a product in the shop's catalog.")
@@ -32,5 +33,8 @@ public record ProductResponseDTO(
         String description,
 
         @ApiModelProperty(notes = "The price of the product", required = true, example = "29.99")
-        BigDecimal price
+        BigDecimal price,
+
+        @ApiModelProperty(notes = "The revision of the product, incremented on every update", required = true, example = "3")
+        Long version
 ) {}
@@ -1,15 +1,16 @@
 package com.shop.microservices.product.Exception;
 
 import com.mongodb.MongoException;
+import com.shop.microservices.product.Metrics.ErrorCodeMetrics;
 import com.shop.microservices.product.Utils.ErrorMessageUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
@@ -23,15 +24,18 @@ import java.util.stream.Collectors;
  * It handles various exceptions thrown by controllers and creates consistent error responses.
  * This class leverages {@link ControllerAdvice} to globally handle exceptions and provide
  * structured error messages based on application-specific error codes and messages.
+ * Every error response is counted by error code in {@link ErrorCodeMetrics}.
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
     private final ErrorMessageUtil errorMessageUtil;
+    private final ErrorCodeMetrics errorCodeMetrics;
 
     @Autowired
-    public GlobalExceptionHandler(ErrorMessageUtil errorMessageUtil) {
+    public GlobalExceptionHandler(ErrorMessageUtil errorMessageUtil, ErrorCodeMetrics errorCodeMetrics) {
         this.errorMessageUtil = errorMessageUtil;
+        this.errorCodeMetrics = errorCodeMetrics;
     }
 
     /**
@@ -52,6 +56,7 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.BAD_REQUEST.value());
         response.put("message", errorMessageUtil.getErrorMessage(ex.getErrorCode(), ex.getMessageArgs()));
         response.put("details", ex.getMessage());
+        errorCodeMetrics.record(ex.getErrorCode(), HttpStatus.BAD_REQUEST, ex);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
@@ -73,6 +78,7 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.BAD_REQUEST.value());
         response.put("message", errorMessageUtil.getErrorMessage(ex.getErrorCode()));
         response.put("details", ex.getMessage());
+        errorCodeMetrics.record(ex.getErrorCode(), HttpStatus.BAD_REQUEST, ex);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
@@ -94,6 +100,7 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.BAD_REQUEST.value());
         response.put("message", errorMessageUtil.getErrorMessage(ex.getErrorCode(), ex.getMessageArgs()));
         response.put("details", ex.getMessage());
+        errorCodeMetrics.record(ex.getErrorCode(), HttpStatus.BAD_REQUEST, ex);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
@@ -111,6 +118,7 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.NOT_FOUND.value());
         response.put("message", errorMessageUtil.getErrorMessage(ex.getErrorCode(), ex.getMessageArgs()));
 
+        errorCodeMetrics.record(ex.getErrorCode(), HttpStatus.NOT_FOUND, ex);
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
@@ -128,9 +136,53 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.BAD_REQUEST.value());
         response.put("message", errorMessageUtil.getErrorMessage(ex.getErrorCode(), ex.getMessageArgs()));
 
+        errorCodeMetrics.record(ex.getErrorCode(), HttpStatus.BAD_REQUEST, ex);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Exception handler for {@link PreconditionFailedException}.
+     * <p>
+     * This exception is thrown when the entity tag of an {@code If-Match} header no longer matches the resource,
+     * so the client is told to fetch the resource again before retrying its update.
+     * </p>
+     *
+     * @param ex The {@link PreconditionFailedException} thrown when an optimistic concurrency check fails.
+     * @return A {@link ResponseEntity} containing the error response as a map with relevant details, with status code 412.
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Map<String, Object>> handlePreconditionFailedException(PreconditionFailedException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.PRECONDITION_FAILED.value());
+        response.put("message", errorMessageUtil.getErrorMessage(ex.getErrorCode(), ex.getMessageArgs()));
+
+        errorCodeMetrics.record(ex.getErrorCode(), HttpStatus.PRECONDITION_FAILED, ex);
+        return new ResponseEntity<>(response, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Handles {@link OptimisticLockingFailureException} raised by Spring Data when a versioned document
+     * was updated concurrently between being read and being saved.
+     * <p>
+     * The losing update is reported like a failed {@code If-Match} precondition, as the client has to
+     * fetch the document again before retrying.
+     * </p>
+     *
+     * @param ex The {@link OptimisticLockingFailureException} thrown on a version conflict.
+     * @return A {@link ResponseEntity} containing the error response as a map with relevant details, with status code 412.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.PRECONDITION_FAILED.value());
+        response.put("message", errorMessageUtil.getErrorMessage("prod.error.3003"));
+        response.put("details", ex.getMessage());
+        errorCodeMetrics.record("prod.error.3003", HttpStatus.PRECONDITION_FAILED, ex);
+        return new ResponseEntity<>(response, HttpStatus.PRECONDITION_FAILED);
+    }
+
     /**
      * Handles ApplicationException thrown for general application-specific errors.
      * <p>
@@ -149,6 +201,7 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.BAD_REQUEST.value());
         response.put("message", errorMessageUtil.getErrorMessage(ex.getErrorCode(), ex.getMessageArgs()));
         response.put("details", ex.getMessage());
+        errorCodeMetrics.record(ex.getErrorCode(), HttpStatus.INTERNAL_SERVER_ERROR, ex);
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
@@ -178,6 +231,7 @@ public class GlobalExceptionHandler {
                         FieldError::getDefaultMessage
                 ));
         response.put("errors", fieldErrors);
+        errorCodeMetrics.record("validation", HttpStatus.BAD_REQUEST, ex);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
@@ -206,6 +260,7 @@ public class GlobalExceptionHandler {
                         ConstraintViolation::getMessage
                 ));
         response.put("errors", violations);
+        errorCodeMetrics.record("validation", HttpStatus.BAD_REQUEST, ex);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
@@ -217,18 +272,18 @@ public class GlobalExceptionHandler {
      * and exception-specific details for debugging purposes.
      * </p>
      *
-     * @param ex      the {@link MongoException} instance containing details about the database error.
-     * @param request the {@link WebRequest} during which the exception occurred.
+     * @param ex the {@link MongoException} instance containing details about the database error.
      * @return a {@link ResponseEntity} containing the error details in a {@link Map} format,
      *         with an HTTP status code of 500 (Internal Server Error).
      */
     @ExceptionHandler(MongoException.class)
-    public ResponseEntity<Map<String, Object>> handleDatabaseException(MongoException ex, WebRequest request) {
+    public ResponseEntity<Map<String, Object>> handleDatabaseException(MongoException ex) {
         Map<String, Object> response = new HashMap<>();
         response.put("timestamp", LocalDateTime.now());
         response.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
         response.put("message", errorMessageUtil.getErrorMessage("prod.error.3000"));
         response.put("details", ex.getMessage());
+        errorCodeMetrics.record("prod.error.3000", HttpStatus.INTERNAL_SERVER_ERROR, ex);
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
@@ -238,17 +293,17 @@ public class GlobalExceptionHandler {
      * This method is used to catch unhandled exceptions and provide a generic error response to the client.
      * </p>
      *
-     * @param ex      The {@link Exception} instance containing details about the exception.
-     * @param request The {@link WebRequest} that triggered the exception.
+     * @param ex The {@link Exception} instance containing details about the exception.
      * @return A {@link ResponseEntity} containing the generic error details in a {@link Map} format, with status code 500.
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex, WebRequest request) {
+    public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
         Map<String, Object> response = new HashMap<>();
         response.put("timestamp", LocalDateTime.now());
         response.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
         response.put("message", errorMessageUtil.getErrorMessage("generic.error.message"));
         response.put("details", ex.getMessage());
+        errorCodeMetrics.record("generic.error.message", HttpStatus.INTERNAL_SERVER_ERROR, ex);
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 }
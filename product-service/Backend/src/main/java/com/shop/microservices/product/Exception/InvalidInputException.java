@@ -39,5 +39,16 @@ public class InvalidInputException extends ApplicationException {
     public InvalidInputException(String errorCode) {
         super(errorCode, null);
     }
+
+    /**
+     * Constructs a new InvalidInputException with the specified error code and the upper bound
+     * the rejected input exceeded, so that the error message can state the accepted range.
+     *
+     * @param errorCode A string representing the error code (e.g., "input.error.outOfRange").
+     * @param maximum   The largest value accepted for the input.
+     */
+    public InvalidInputException(String errorCode, int maximum) {
+        super(errorCode, new Object[]{maximum});
+    }
 }
 
@@ -0,0 +1,34 @@
+package com.shop.microservices.product.Exception;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when a conditional request cannot be applied because the resource has changed.
+ * <p>
+ * This class extends the {@link ApplicationException} and is raised when the entity tag sent in an
+ * {@code If-Match} header no longer matches the current revision of the resource, or when a concurrent
+ * update won the race between reading and writing the resource. It is reported as {@code 412 Precondition Failed}.
+ * </p>
+ * <p>
+ * Usage:
+ * <ul>
+ *     <li>Throw this exception when an optimistic concurrency check fails.</li>
+ *     <li>The client is expected to fetch the resource again and retry with the new entity tag.</li>
+ * </ul>
+ * </p>
+ *
+ * @see ApplicationException
+ */
+public class PreconditionFailedException extends ApplicationException {
+
+    /**
+     * Constructs a new PreconditionFailedException with the specified error code and the ID of the
+     * resource that was modified concurrently.
+     *
+     * @param errorCode A string representing the error code (e.g., "prod.error.3002").
+     * @param id        The unique identifier of the resource whose precondition failed.
+     */
+    public PreconditionFailedException(String errorCode, UUID id) {
+        super(errorCode, new Object[]{id});
+    }
+}
@@ -58,6 +58,6 @@ public class UniqueConstraintViolationException extends ApplicationException {
      * @param values     The string array value that violated the unique constraint.
      */
     public UniqueConstraintViolationException(String errorCode, String[] values) {
-        super(errorCode, new Object[]{values});
+        super(errorCode, values);
     }
 }
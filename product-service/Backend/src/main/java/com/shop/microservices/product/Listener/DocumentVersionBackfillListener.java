@@ -0,0 +1,58 @@
+package com.shop.microservices.product.Listener;
+
+import com.mongodb.client.result.UpdateResult;
+import com.shop.microservices.product.Model.Category;
+import com.shop.microservices.product.Model.Material;
+import com.shop.microservices.product.Model.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Assigns revision 0 to product, category and material documents written before they carried a version.
+ * <p>
+ * Spring Data treats a versioned document without a version as new and would try to insert it again on
+ * update, so legacy documents are backfilled once at startup, as soon as every singleton is created. This is before
+ * the embedded web server is started, so no update can reach a legacy document before it carries a version.
+ * The update only touches documents missing the field, so it is a no-op once the collections are migrated.
+ * </p>
+ */
+@Slf4j
+@Component
+public class DocumentVersionBackfillListener implements SmartInitializingSingleton {
+
+    private static final String VERSION_FIELD = "version";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructor for initializing the DocumentVersionBackfillListener.
+     *
+     * @param mongoTemplate The template used to update the legacy documents.
+     */
+    public DocumentVersionBackfillListener(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Callback triggered once every singleton of the application context is created, before the web server starts.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        Query unversioned = Query.query(Criteria.where(VERSION_FIELD).exists(false));
+        Update initialVersion = new Update().set(VERSION_FIELD, 0L);
+
+        for (Class<?> documentType : List.of(Product.class, Category.class, Material.class)) {
+            UpdateResult result = mongoTemplate.updateMulti(unversioned, initialVersion, documentType);
+            if (result.getModifiedCount() > 0) {
+                log.info("Initialized the version of {} {} documents", result.getModifiedCount(), documentType.getSimpleName());
+            }
+        }
+    }
+}
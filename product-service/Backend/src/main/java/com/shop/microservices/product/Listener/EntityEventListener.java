@@ -3,20 +3,31 @@ package com.shop.microservices.product.Listener;
 import com.shop.microservices.product.Model.Category;
 import com.shop.microservices.product.Model.Material;
 import com.shop.microservices.product.Model.Product;
+import com.shop.microservices.product.Utils.TimeOrderedUuidGenerator;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-
 /**
  * A consolidated event listener for handling entity-related events in the shop's system.
  * This listener ensures that entities (Product, Material, Category) have valid UUIDs before being persisted.
+ * New IDs are time-ordered (UUIDv7), see {@link TimeOrderedUuidGenerator}.
  * By centralizing the logic, this class minimizes boilerplate code and simplifies event handling.
  */
 @Component
 public class EntityEventListener {
 
+    private final TimeOrderedUuidGenerator uuidGenerator;
+
+    /**
+     * Constructor for initializing the EntityEventListener.
+     *
+     * @param uuidGenerator The generator of the IDs assigned to new entities.
+     */
+    public EntityEventListener(TimeOrderedUuidGenerator uuidGenerator) {
+        this.uuidGenerator = uuidGenerator;
+    }
+
     /**
      * Event listener triggered before an entity is converted and persisted in the MongoDB database.
      * It ensures that entities have valid UUIDs if they do not already have one.
@@ -30,21 +41,21 @@ public class EntityEventListener {
         // Handle Product entity
         if (source instanceof Product product) {
             if (product.getId() == null) {
-                product.setId(UUID.randomUUID());
+                product.setId(uuidGenerator.generate());
             }
         }
 
         // Handle Material entity
         if (source instanceof Material material) {
             if (material.getMaterialId() == null) {
-                material.setMaterialId(UUID.randomUUID());
+                material.setMaterialId(uuidGenerator.generate());
             }
         }
 
         // Handle Category entity
         if (source instanceof Category category) {
             if (category.getCategoryId() == null) {
-                category.setCategoryId(UUID.randomUUID());
+                category.setCategoryId(uuidGenerator.generate());
             }
         }
     }
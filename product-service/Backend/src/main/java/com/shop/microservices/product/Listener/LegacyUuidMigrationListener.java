@@ -0,0 +1,129 @@
+package com.shop.microservices.product.Listener;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.DeleteResult;
+import com.shop.microservices.product.Model.Category;
+import com.shop.microservices.product.Model.Material;
+import com.shop.microservices.product.Model.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.bson.conversions.Bson;
+import org.bson.types.Binary;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Re-encodes the UUID IDs of product, category and material documents written with the {@code java_legacy}
+ * representation (BSON binary subtype 3) to the {@code standard} one (subtype 4).
+ * <p>
+ * Runs once at startup when {@code spring.data.mongodb.uuid-representation} is {@code standard}, as soon as every
+ * singleton is created. This is before the embedded web server is started, so no request can observe the window in
+ * which legacy documents are deleted and their copies not yet restored, and before the search index is built from
+ * the collections. IDs keep their value, only their encoding changes. Since an {@code _id} cannot be updated, the
+ * converted documents are first copied to a staging collection, the legacy ones deleted, and the copies moved back:
+ * an interrupted migration resumes from the staging collection on the next start, and the unique indexes on the names
+ * never see two copies of a document. Once the collections are migrated, the check is a single indexed lookup.
+ * </p>
+ * <p>
+ * All replicas must use the same representation, so the switch has to be rolled out with the old replicas stopped.
+ * </p>
+ */
+@Slf4j
+@Component
+public class LegacyUuidMigrationListener implements SmartInitializingSingleton {
+
+    private static final String ID_FIELD = "_id";
+    private static final String STAGING_SUFFIX = "_uuid_migration";
+    private static final int BATCH_SIZE = 1000;
+    private static final ReplaceOptions UPSERT = new ReplaceOptions().upsert(true);
+
+    // Binary values sort by length, then subtype, then bytes: these bounds select every 16-byte subtype 3 value
+    private static final Bson LEGACY_IDS = Filters.and(
+            Filters.gte(ID_FIELD, new BsonBinary(BsonBinarySubType.UUID_LEGACY, new byte[16])),
+            Filters.lt(ID_FIELD, new BsonBinary(BsonBinarySubType.UUID_STANDARD, new byte[16])));
+
+    private final MongoTemplate mongoTemplate;
+    private final UuidRepresentation uuidRepresentation;
+
+    /**
+     * Constructor for initializing the LegacyUuidMigrationListener.
+     *
+     * @param mongoTemplate   The template giving access to the collections.
+     * @param mongoProperties The MongoDB properties, holding the configured UUID representation.
+     */
+    public LegacyUuidMigrationListener(MongoTemplate mongoTemplate, MongoProperties mongoProperties) {
+        this.mongoTemplate = mongoTemplate;
+        this.uuidRepresentation = mongoProperties.getUuidRepresentation();
+    }
+
+    /**
+     * Callback triggered once every singleton of the application context is created, before the web server starts.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (uuidRepresentation != UuidRepresentation.STANDARD) {
+            return;
+        }
+        for (Class<?> documentType : List.of(Product.class, Category.class, Material.class)) {
+            migrate(mongoTemplate.getCollectionName(documentType));
+        }
+    }
+
+    private void migrate(String collectionName) {
+        MongoCollection<Document> collection = mongoTemplate.getCollection(collectionName);
+        String stagingName = collectionName + STAGING_SUFFIX;
+        boolean resuming = mongoTemplate.collectionExists(stagingName);
+        if (!resuming && collection.find(LEGACY_IDS).projection(Filters.eq(ID_FIELD, 1)).first() == null) {
+            return;
+        }
+        MongoCollection<Document> staging = mongoTemplate.getCollection(stagingName);
+
+        // Upserts by ID, so documents already staged by an interrupted run are simply written again
+        long staged = upsertAll(collection.find(LEGACY_IDS).map(LegacyUuidMigrationListener::withStandardId), staging);
+        DeleteResult deleted = collection.deleteMany(LEGACY_IDS);
+        long restored = upsertAll(staging.find(), collection);
+        staging.drop();
+
+        log.info("Re-encoded the UUID IDs of collection {}: {} documents staged{}, {} legacy documents deleted, {} restored",
+                collectionName, staged, resuming ? " (resumed)" : "", deleted.getDeletedCount(), restored);
+    }
+
+    private static Document withStandardId(Document document) {
+        Binary legacyId = (Binary) document.get(ID_FIELD);
+        UUID id = new BsonBinary(legacyId.getType(), legacyId.getData()).asUuid(UuidRepresentation.JAVA_LEGACY);
+        // Encoded with the standard representation configured on the collection's codec registry
+        document.put(ID_FIELD, id);
+        return document;
+    }
+
+    private static long upsertAll(Iterable<Document> documents, MongoCollection<Document> target) {
+        long count = 0;
+        List<WriteModel<Document>> batch = new ArrayList<>(BATCH_SIZE);
+        for (Document document : documents) {
+            batch.add(new ReplaceOneModel<>(Filters.eq(ID_FIELD, document.get(ID_FIELD)), document, UPSERT));
+            if (batch.size() == BATCH_SIZE) {
+                target.bulkWrite(batch);
+                count += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            target.bulkWrite(batch);
+            count += batch.size();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,47 @@
+package com.shop.microservices.product.Listener;
+
+import com.shop.microservices.product.Model.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the compound index on {@code (name, _id)} backing the keyset pagination of products sorted by name.
+ * <p>
+ * The index is created explicitly rather than declared on {@link Product}, so that name-sorted pages never fall
+ * back to a collection scan and an in-memory sort when {@code spring.data.mongodb.auto-index-creation} is disabled.
+ * Runs once at startup, before the web server is started; creating an index that already exists is a no-op.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ProductKeysetIndexListener implements SmartInitializingSingleton {
+
+    private static final String INDEX_NAME = "product_name_id_keyset";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructor for initializing the ProductKeysetIndexListener.
+     *
+     * @param mongoTemplate The template giving access to the product collection's indexes.
+     */
+    public ProductKeysetIndexListener(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Callback triggered once every singleton of the application context is created, before the web server starts.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        String name = mongoTemplate.indexOps(Product.class).ensureIndex(new Index()
+                .on("name", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named(INDEX_NAME));
+        log.info("Product keyset index {} is in place", name);
+    }
+}
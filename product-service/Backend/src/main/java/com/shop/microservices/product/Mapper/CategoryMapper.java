@@ -3,67 +3,51 @@ package com.shop.microservices.product.Mapper;
 import com.shop.microservices.product.Dto.CategoryRequestDTO;
 import com.shop.microservices.product.Dto.CategoryResponseDTO;
 import com.shop.microservices.product.Model.Category;
-import jakarta.annotation.PostConstruct;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeMap;
 import org.springframework.stereotype.Component;
 
 /**
  * Mapper class responsible for transforming category-related data between DTOs and domain objects.
- * It uses ModelMapper to convert between the DTOs ({@link CategoryRequestDTO}, {@link CategoryResponseDTO}) and the {@link Category} entity.
+ * It converts between the DTOs ({@link CategoryRequestDTO}, {@link CategoryResponseDTO}) and the {@link Category} entity
+ * with plain field copies, without reflection.
  */
 @Component
 public class CategoryMapper {
 
-    // Instance of ModelMapper to handle object mapping
-    private final ModelMapper modelMapper;
-
-    /**
-     * Constructor for the productMapper class.
-     *  Initializes the ModelMapper instance used for object mapping.
-     * @param modelMapper The ModelMapper instance that will be used to map objects between different types.
-     */
-    public CategoryMapper(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
-    }
-
-    /**
-     * Configures the mapping to handle Category -> CategoryResponseDTO mapping for records.
-     */
-    @PostConstruct
-    public void configureMappings() {
-        // Map Product to ProductResponseDTO using the constructor
-        TypeMap<Category, CategoryResponseDTO> typeMap = modelMapper.createTypeMap(Category.class, CategoryResponseDTO.class);
-        typeMap.setProvider(provision -> {
-            Category source = (Category) provision.getSource();
-            return new CategoryResponseDTO(
-                    source.getCategoryId(),
-                    source.getName(),
-                    source.getDescription()
-            );
-        });
-    }
-
     /**
-     * Converts a ProductRequestDTO to a Product entity.
-     * This method maps the fields of ProductRequestDTO to the corresponding fields in the Product entity.
+     * Converts a CategoryRequestDTO to a Category entity.
+     * This method maps the fields of CategoryRequestDTO to the corresponding fields in the Category entity.
+     * The ID is left empty and assigned when the category is persisted.
      *
      * @param categoryRequestDTO DTO containing the Category data.
-     * @return the mapped {@link Category} entity.
+     * @return the mapped {@link Category} entity, or {@code null} if {@code categoryRequestDTO} is {@code null}.
      */
     public Category categoryRequestDTOToCategory(CategoryRequestDTO categoryRequestDTO){
-        return modelMapper.map(categoryRequestDTO, Category.class);
+        if (categoryRequestDTO == null) {
+            return null;
+        }
+        return Category.builder()
+                .name(categoryRequestDTO.getName())
+                .description(categoryRequestDTO.getDescription())
+                .build();
     }
 
     /**
      * Converts a {@link Category} entity to a {@link CategoryResponseDTO}.
-     * This method maps the fields of category entity to the corresponding fields in the CategoryResponseDTO entity.
+     * This method maps the fields of category entity to the corresponding fields in the CategoryResponseDTO.
      *
-     * @param category The Product entity to be converted.
-     * @return The mapped {@link CategoryResponseDTO}.
+     * @param category The Category entity to be converted.
+     * @return The mapped {@link CategoryResponseDTO}, or {@code null} if {@code category} is {@code null}.
      */
     public CategoryResponseDTO categoryToCategoryResponseDTO(Category category){
-        return modelMapper.map(category, CategoryResponseDTO.class);
+        if (category == null) {
+            return null;
+        }
+        return new CategoryResponseDTO(
+                category.getCategoryId(),
+                category.getName(),
+                category.getDescription(),
+                category.getVersion()
+        );
     }
 
 }
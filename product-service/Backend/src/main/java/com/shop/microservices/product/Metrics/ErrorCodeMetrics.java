@@ -0,0 +1,56 @@
+package com.shop.microservices.product.Metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the error responses returned by the {@link com.shop.microservices.product.Exception.GlobalExceptionHandler},
+ * tagged with the application error code, the HTTP status and the exception type.
+ * <p>
+ * Error codes come from {@code error_message_en.properties}, so the number of tag values stays bounded.
+ * </p>
+ */
+@Component
+public class ErrorCodeMetrics {
+
+    public static final String METRIC = "application.errors";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<CounterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the {@link ErrorCodeMetrics} with the registry the counters are published to.
+     *
+     * @param meterRegistry The meter registry.
+     */
+    public ErrorCodeMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Records an error response.
+     *
+     * @param errorCode The application error code of the response.
+     * @param status    The HTTP status of the response.
+     * @param ex        The exception the response was built from.
+     */
+    public void record(String errorCode, HttpStatus status, Exception ex) {
+        counters.computeIfAbsent(new CounterKey(errorCode, status, ex.getClass()), this::register).increment();
+    }
+
+    private Counter register(CounterKey key) {
+        return Counter.builder(METRIC)
+                .description("Error responses returned by the exception handler")
+                .tag("code", key.errorCode() != null ? key.errorCode() : "none")
+                .tag("status", Integer.toString(key.status().value()))
+                .tag("exception", key.exceptionType().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    private record CounterKey(String errorCode, HttpStatus status, Class<?> exceptionType) {}
+}
@@ -0,0 +1,130 @@
+package com.shop.microservices.product.Metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aspect timing the public methods of the services and mappers.
+ * <p>
+ * Every call is recorded in a timer tagged with the class, the method, the outcome and the exception type:
+ * {@value #SERVICE_METRIC} for services and {@value #MAPPER_METRIC} for mappers. SLO buckets are configured
+ * per metric name in {@code application.properties}. Timers are resolved once per method and outcome and
+ * cached, so a call costs two clock reads and a map lookup.
+ * </p>
+ * <p>
+ * Calls returning a {@link Mono} or {@link Flux} are timed until the publisher terminates or is cancelled,
+ * not until it is returned. Calls returning a {@link java.util.stream.Stream} are timed until the stream is
+ * returned, the time spent consuming it is part of the request time.
+ * </p>
+ */
+@Aspect
+@Component
+public class MethodTimingAspect {
+
+    public static final String SERVICE_METRIC = "application.service.invocations";
+    public static final String MAPPER_METRIC = "application.mapper.invocations";
+
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+    private static final String CANCELLED = "cancelled";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the {@link MethodTimingAspect} with the registry the timers are published to.
+     *
+     * @param meterRegistry The meter registry.
+     */
+    public MethodTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Times the public methods of the services.
+     *
+     * @param joinPoint The intercepted call.
+     * @return The result of the call.
+     * @throws Throwable The exception thrown by the call, rethrown as is.
+     */
+    @Around("execution(public * com.shop.microservices.product.Service.ServiceImpl..*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, SERVICE_METRIC);
+    }
+
+    /**
+     * Times the public methods of the mappers.
+     *
+     * @param joinPoint The intercepted call.
+     * @return The result of the call.
+     * @throws Throwable The exception thrown by the call, rethrown as is.
+     */
+    @Around("execution(public * com.shop.microservices.product.Mapper..*(..))")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, MAPPER_METRIC);
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String metric) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable ex) {
+            record(metric, method, ERROR, ex.getClass().getSimpleName(), start);
+            throw ex;
+        }
+
+        if (result instanceof Mono<?> mono) {
+            return mono.doOnError(ex -> record(metric, method, ERROR, ex.getClass().getSimpleName(), start))
+                    .doFinally(signal -> recordTermination(metric, method, signal, start));
+        }
+        if (result instanceof Flux<?> flux) {
+            return flux.doOnError(ex -> record(metric, method, ERROR, ex.getClass().getSimpleName(), start))
+                    .doFinally(signal -> recordTermination(metric, method, signal, start));
+        }
+        record(metric, method, SUCCESS, NO_EXCEPTION, start);
+        return result;
+    }
+
+    // Errors are recorded by doOnError, which knows the exception type
+    private void recordTermination(String metric, Method method, SignalType signal, long start) {
+        if (signal == SignalType.ON_COMPLETE) {
+            record(metric, method, SUCCESS, NO_EXCEPTION, start);
+        } else if (signal == SignalType.CANCEL) {
+            record(metric, method, CANCELLED, NO_EXCEPTION, start);
+        }
+    }
+
+    private void record(String metric, Method method, String outcome, String exception, long start) {
+        long duration = System.nanoTime() - start;
+        timers.computeIfAbsent(new TimerKey(metric, method, outcome, exception), this::register)
+                .record(duration, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(key.metric())
+                .description("Time spent in the method")
+                .tag("class", key.method().getDeclaringClass().getSimpleName())
+                .tag("method", key.method().getName())
+                .tag("outcome", key.outcome())
+                .tag("exception", key.exception())
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String metric, Method method, String outcome, String exception) {}
+}
@@ -0,0 +1,62 @@
+package com.shop.microservices.product.Metrics;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adds the database operation to the tags of the Spring Data repository invocation timers.
+ * <p>
+ * On top of the default {@code repository}, {@code method}, {@code state} and {@code exception} tags, every
+ * invocation is tagged with an {@code operation} derived from the method name (find, count, exists, save,
+ * insert, delete, update), so reads and writes can be compared across repositories without listing methods.
+ * Picked up by the actuator repository metrics in place of {@link DefaultRepositoryTagsProvider}.
+ * </p>
+ */
+@Component
+public class OperationRepositoryTagsProvider extends DefaultRepositoryTagsProvider {
+
+    private static final String OTHER = "other";
+
+    // Method name prefixes mapped to their operation, the first match wins
+    private static final List<Map.Entry<String, String>> OPERATIONS = List.of(
+            Map.entry("find", "find"),
+            Map.entry("get", "find"),
+            Map.entry("read", "find"),
+            Map.entry("query", "find"),
+            Map.entry("search", "find"),
+            Map.entry("stream", "find"),
+            Map.entry("count", "count"),
+            Map.entry("exists", "exists"),
+            Map.entry("save", "save"),
+            Map.entry("insert", "insert"),
+            Map.entry("delete", "delete"),
+            Map.entry("remove", "delete"),
+            Map.entry("update", "update")
+    );
+
+    @Override
+    public Iterable<Tag> repositoryTags(RepositoryMethodInvocation invocation) {
+        return Tags.of(super.repositoryTags(invocation)).and("operation", operation(invocation.getMethod().getName()));
+    }
+
+    /**
+     * Derives the database operation of a repository method from its name.
+     *
+     * @param methodName The name of the repository method.
+     * @return The operation, or {@code other} when the name has no known prefix.
+     */
+    static String operation(String methodName) {
+        for (Map.Entry<String, String> operation : OPERATIONS) {
+            if (methodName.startsWith(operation.getKey())) {
+                return operation.getValue();
+            }
+        }
+        return OTHER;
+    }
+}
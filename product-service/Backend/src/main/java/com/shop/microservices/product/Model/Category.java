@@ -2,6 +2,8 @@ package com.shop.microservices.product.Model;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import javax.validation.constraints.NotBlank;
@@ -33,6 +35,7 @@ public class Category {
      * The name must not be blank.
      */
     @NotBlank(message = "Category name must not be blank")
+    @Indexed(unique = true, name = "unique_category_name")
     private String name;
 
     /**
@@ -40,4 +43,10 @@ public class Category {
      * The description may be blank.
      */
     private String description;
+
+    /**
+     * The revision of the category, incremented by Spring Data on every update.
+     */
+    @Version
+    private Long version;
 }
@@ -2,6 +2,8 @@ package com.shop.microservices.product.Model;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import javax.validation.constraints.NotBlank;
@@ -15,6 +17,7 @@ import java.util.UUID;
 @Getter
 @Setter
 @Document(value = "material")
+@CompoundIndex(name = "unique_material_name_type", def = "{'materialName': 1, 'materialType': 1}", unique = true)
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -45,4 +48,10 @@ public class Material {
      * The description may be blank.
      */
     private String description;
+
+    /**
+     * The revision of the material, incremented by Spring Data on every update.
+     */
+    @Version
+    private Long version;
 }
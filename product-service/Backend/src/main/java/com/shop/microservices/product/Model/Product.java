@@ -3,6 +3,7 @@ package com.shop.microservices.product.Model;
 import com.shop.microservices.product.Exception.FieldValidationException;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -16,6 +17,8 @@ import java.util.UUID;
  * Represents a product in the shop's catalog.
  * This class is mapped to the "product" collection in MongoDB.
  * The product contains details such as name, description, and price.
+ * The {@code (name, _id)} index used by keyset pagination is created by
+ * {@link com.shop.microservices.product.Listener.ProductKeysetIndexListener}.
  */
 @Getter
 @Setter
@@ -53,6 +56,13 @@ public class Product {
     @DecimalMin(value = "0.01", message = "Price must be greater than 0")
     private BigDecimal price;
 
+    /**
+     * The revision of the product, incremented by Spring Data on every update.
+     * It backs the ETag of the product endpoints and guards updates against lost writes.
+     */
+    @Version
+    private Long version;
+
     /**
      * Sets the price for the product, ensuring that only positive values are allowed.
      * <p>
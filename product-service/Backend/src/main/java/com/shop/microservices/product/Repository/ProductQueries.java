@@ -0,0 +1,62 @@
+package com.shop.microservices.product.Repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.UUID;
+
+/**
+ * Builds the product queries shared by the blocking and the reactive custom repository fragments.
+ */
+final class ProductQueries {
+
+    static final String ID_FIELD = "_id";
+    static final String NAME_FIELD = "name";
+
+    private ProductQueries() {
+    }
+
+    /**
+     * Builds the keyset query returning the products located after the given position.
+     *
+     * @param sortField     The document field to order by, or {@code _id} to order by ID only.
+     * @param lastSortValue The sort field value of the last product of the previous page (ignored for {@code _id}).
+     * @param lastId        The ID of the last product of the previous page, or {@code null} for the first page.
+     * @param limit         The maximum number of products to return.
+     * @return The keyset {@link Query}.
+     */
+    static Query pageAfter(String sortField, String lastSortValue, UUID lastId, int limit) {
+        boolean sortById = ID_FIELD.equals(sortField);
+        Query query = new Query();
+
+        // Seek past the last product of the previous page instead of skipping over it
+        if (lastId != null) {
+            if (sortById) {
+                query.addCriteria(Criteria.where(ID_FIELD).gt(lastId));
+            } else {
+                query.addCriteria(new Criteria().orOperator(
+                        Criteria.where(sortField).gt(lastSortValue),
+                        Criteria.where(sortField).is(lastSortValue).and(ID_FIELD).gt(lastId)));
+            }
+        }
+
+        Sort sort = sortById
+                ? Sort.by(Sort.Direction.ASC, ID_FIELD)
+                : Sort.by(Sort.Direction.ASC, sortField).and(Sort.by(Sort.Direction.ASC, ID_FIELD));
+
+        return query.with(sort).limit(limit);
+    }
+
+    /**
+     * Builds the query reading every product in ID order, fetched in batches of the given size.
+     *
+     * @param batchSize The number of documents fetched per round trip.
+     * @return The full scan {@link Query}.
+     */
+    static Query all(int batchSize) {
+        return new Query()
+                .with(Sort.by(Sort.Direction.ASC, ID_FIELD))
+                .cursorBatchSize(batchSize);
+    }
+}
@@ -11,10 +11,11 @@ import java.util.UUID;
 /**
  * Repository interface for managing {@link Product} entities in MongoDB.
  * This interface extends {@link MongoRepository} to provide basic CRUD operations.
- * Custom queries can be added as necessary.
+ * Custom queries that need {@link org.springframework.data.mongodb.core.MongoTemplate}
+ * are declared in {@link ProductRepositoryCustom}.
  */
 @Repository
-public interface ProductRepository extends MongoRepository<Product, UUID> {
+public interface ProductRepository extends MongoRepository<Product, UUID>, ProductRepositoryCustom {
 
     /**
      * Finds all products that contain the specified name.
@@ -0,0 +1,69 @@
+package com.shop.microservices.product.Repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.shop.microservices.product.Model.Product;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository fragment for {@link Product} queries that cannot be expressed as derived queries.
+ * Implemented by {@link ProductRepositoryCustomImpl} on top of {@link org.springframework.data.mongodb.core.MongoTemplate}.
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * Finds the next page of products in keyset (seek) order.
+     * <p>
+     * Products are ordered by {@code sortField} and then by {@code _id}. When a position is given, only products
+     * located strictly after {@code (lastSortValue, lastId)} are returned, so the cost of a page does not depend
+     * on how deep the caller has paged.
+     * </p>
+     *
+     * @param sortField     The document field to order by, or {@code _id} to order by ID only.
+     * @param lastSortValue The sort field value of the last product of the previous page (ignored for {@code _id}).
+     * @param lastId        The ID of the last product of the previous page, or {@code null} for the first page.
+     * @param limit         The maximum number of products to return.
+     * @return A list of {@link Product} objects located after the given position.
+     */
+    List<Product> findPageAfter(String sortField, String lastSortValue, UUID lastId, int limit);
+
+    /**
+     * Streams every product in ID order from a server-side cursor.
+     * <p>
+     * Documents are fetched from MongoDB in batches of {@code batchSize} while the stream is consumed,
+     * so only one batch is held in memory at a time. The returned stream holds an open cursor and
+     * must be closed by the caller, e.g. with try-with-resources.
+     * </p>
+     *
+     * @param batchSize The number of documents fetched per round trip.
+     * @return A lazily populated {@link Stream} of {@link Product} objects.
+     */
+    Stream<Product> streamAll(int batchSize);
+
+    /**
+     * Finds which of the given product names are already taken, using a single {@code $in} query.
+     * Only the {@code name} field is read from the database.
+     *
+     * @param names The product names to check.
+     * @return The subset of {@code names} that already exist.
+     */
+    Set<String> findExistingNames(Collection<String> names);
+
+    /**
+     * Inserts the given products with a single unordered bulk write.
+     * <p>
+     * Because the write is unordered, a failing document does not prevent the remaining ones from
+     * being inserted. Product IDs are assigned before the write, so they are available on the given
+     * objects once this method returns.
+     * </p>
+     *
+     * @param products The products to insert.
+     * @return The write errors, each referring to the index of the failed product in {@code products};
+     *         empty when every product was inserted.
+     */
+    List<BulkWriteError> insertUnordered(List<Product> products);
+}
@@ -0,0 +1,69 @@
+package com.shop.microservices.product.Repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.shop.microservices.product.Model.Product;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * {@link MongoTemplate} based implementation of {@link ProductRepositoryCustom}.
+ * Picked up by Spring Data through the {@code Impl} postfix and merged into {@link ProductRepository}.
+ */
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructor for initializing the ProductRepositoryCustomImpl.
+     *
+     * @param mongoTemplate The template used to run the custom queries.
+     */
+    public ProductRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<Product> findPageAfter(String sortField, String lastSortValue, UUID lastId, int limit) {
+        return mongoTemplate.find(ProductQueries.pageAfter(sortField, lastSortValue, lastId, limit), Product.class);
+    }
+
+    @Override
+    public Stream<Product> streamAll(int batchSize) {
+        return mongoTemplate.stream(ProductQueries.all(batchSize), Product.class);
+    }
+
+    @Override
+    public Set<String> findExistingNames(Collection<String> names) {
+        Query query = Query.query(Criteria.where(ProductQueries.NAME_FIELD).in(names));
+        return new HashSet<>(mongoTemplate.findDistinct(query, ProductQueries.NAME_FIELD, Product.class, String.class));
+    }
+
+    @Override
+    public List<BulkWriteError> insertUnordered(List<Product> products) {
+        // Bulk inserts skip the version initialization done by save, so start every product at revision 0 here
+        for (Product product : products) {
+            if (product.getVersion() == null) {
+                product.setVersion(0L);
+            }
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Product.class)
+                    .insert(products)
+                    .execute();
+            return List.of();
+        } catch (BulkOperationException ex) {
+            // Documents that did not fail have been written, only report the failed ones
+            return ex.getErrors();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.shop.microservices.product.Repository;
+
+import com.shop.microservices.product.Model.Category;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive counterpart of {@link CategoryRepository}, used by the {@code reactive} profile.
+ */
+@Repository
+public interface ReactiveCategoryRepository extends ReactiveMongoRepository<Category, UUID> {
+
+    /**
+     * Finds a page of categories.
+     *
+     * @param pageable The page to retrieve.
+     * @return A {@link Flux} emitting the {@link Category} objects of the page.
+     */
+    Flux<Category> findAllBy(Pageable pageable);
+
+    /**
+     * Finds the category with the specified name.
+     *
+     * @param categoryName The name of the category.
+     * @return A {@link Mono} emitting the matching {@link Category}, or empty if no category matches.
+     */
+    Mono<Category> findByName(String categoryName);
+}
@@ -0,0 +1,34 @@
+package com.shop.microservices.product.Repository;
+
+import com.shop.microservices.product.Model.Material;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive counterpart of {@link MaterialRepository}, used by the {@code reactive} profile.
+ */
+@Repository
+public interface ReactiveMaterialRepository extends ReactiveMongoRepository<Material, UUID> {
+
+    /**
+     * Finds a page of materials.
+     *
+     * @param pageable The page to retrieve.
+     * @return A {@link Flux} emitting the {@link Material} objects of the page.
+     */
+    Flux<Material> findAllBy(Pageable pageable);
+
+    /**
+     * Finds the material with the specified name and type.
+     *
+     * @param materialName The name of the material.
+     * @param materialType The type of the material.
+     * @return A {@link Mono} emitting the matching {@link Material}, or empty if no material matches.
+     */
+    Mono<Material> findByMaterialNameAndMaterialType(String materialName, String materialType);
+}
@@ -0,0 +1,35 @@
+package com.shop.microservices.product.Repository;
+
+import com.shop.microservices.product.Model.Product;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive counterpart of {@link ProductRepository}, used by the {@code reactive} profile.
+ * Queries return {@link Mono}/{@link Flux} publishers and never block the calling thread.
+ * Custom queries are declared in {@link ReactiveProductRepositoryCustom}.
+ */
+@Repository
+public interface ReactiveProductRepository extends ReactiveMongoRepository<Product, UUID>, ReactiveProductRepositoryCustom {
+
+    /**
+     * Finds a page of products.
+     *
+     * @param pageable The page to retrieve.
+     * @return A {@link Flux} emitting the {@link Product} objects of the page.
+     */
+    Flux<Product> findAllBy(Pageable pageable);
+
+    /**
+     * Finds the product with the specified name.
+     *
+     * @param name The name of the product.
+     * @return A {@link Mono} emitting the matching {@link Product}, or empty if no product matches.
+     */
+    Mono<Product> findByName(String name);
+}
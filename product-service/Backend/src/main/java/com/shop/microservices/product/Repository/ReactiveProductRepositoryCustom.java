@@ -0,0 +1,34 @@
+package com.shop.microservices.product.Repository;
+
+import com.shop.microservices.product.Model.Product;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Custom reactive repository fragment for {@link Product} queries that cannot be expressed as derived queries.
+ * Mirrors {@link ProductRepositoryCustom} on top of {@link org.springframework.data.mongodb.core.ReactiveMongoTemplate}.
+ */
+public interface ReactiveProductRepositoryCustom {
+
+    /**
+     * Finds the next page of products in keyset (seek) order.
+     *
+     * @param sortField     The document field to order by, or {@code _id} to order by ID only.
+     * @param lastSortValue The sort field value of the last product of the previous page (ignored for {@code _id}).
+     * @param lastId        The ID of the last product of the previous page, or {@code null} for the first page.
+     * @param limit         The maximum number of products to return.
+     * @return A {@link Flux} emitting the {@link Product} objects located after the given position.
+     * @see ProductRepositoryCustom#findPageAfter(String, String, UUID, int)
+     */
+    Flux<Product> findPageAfter(String sortField, String lastSortValue, UUID lastId, int limit);
+
+    /**
+     * Streams every product in ID order. Documents are requested from MongoDB as the subscriber demands them,
+     * in batches of {@code batchSize}.
+     *
+     * @param batchSize The number of documents fetched per round trip.
+     * @return A {@link Flux} emitting every {@link Product}.
+     */
+    Flux<Product> streamAll(int batchSize);
+}
@@ -0,0 +1,35 @@
+package com.shop.microservices.product.Repository;
+
+import com.shop.microservices.product.Model.Product;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * {@link ReactiveMongoTemplate} based implementation of {@link ReactiveProductRepositoryCustom}.
+ * Picked up by Spring Data through the {@code Impl} postfix and merged into {@link ReactiveProductRepository}.
+ */
+public class ReactiveProductRepositoryCustomImpl implements ReactiveProductRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    /**
+     * Constructor for initializing the ReactiveProductRepositoryCustomImpl.
+     *
+     * @param reactiveMongoTemplate The template used to run the custom queries.
+     */
+    public ReactiveProductRepositoryCustomImpl(ReactiveMongoTemplate reactiveMongoTemplate) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+    }
+
+    @Override
+    public Flux<Product> findPageAfter(String sortField, String lastSortValue, UUID lastId, int limit) {
+        return reactiveMongoTemplate.find(ProductQueries.pageAfter(sortField, lastSortValue, lastId, limit), Product.class);
+    }
+
+    @Override
+    public Flux<Product> streamAll(int batchSize) {
+        return reactiveMongoTemplate.find(ProductQueries.all(batchSize), Product.class);
+    }
+}
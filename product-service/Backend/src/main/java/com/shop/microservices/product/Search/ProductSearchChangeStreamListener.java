@@ -0,0 +1,93 @@
+package com.shop.microservices.product.Search;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.shop.microservices.product.Mapper.ProductMapper;
+import com.shop.microservices.product.Model.Product;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Keeps the {@link ProductSearchIndex} in sync with the product collection through a MongoDB change stream.
+ * <p>
+ * Only active when {@code product.search.change-stream.enabled} is set. It picks up writes made by other
+ * product-service replicas or directly in the database, which the service hooks cannot see.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "product.search.change-stream", name = "enabled", havingValue = "true")
+public class ProductSearchChangeStreamListener {
+
+    private static final String PRODUCT_COLLECTION = "product";
+
+    private final MessageListenerContainer listenerContainer;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductMapper productMapper;
+    private final UuidRepresentation uuidRepresentation;
+
+    /**
+     * Constructs the {@link ProductSearchChangeStreamListener} with the necessary dependencies.
+     *
+     * @param listenerContainer  The container running the change stream subscription.
+     * @param productSearchIndex The index to keep in sync.
+     * @param productMapper      The mapper converting changed products to indexed DTOs.
+     * @param mongoProperties    The MongoDB properties, used to decode the IDs of deleted products.
+     */
+    public ProductSearchChangeStreamListener(MessageListenerContainer listenerContainer, ProductSearchIndex productSearchIndex,
+                                             ProductMapper productMapper, MongoProperties mongoProperties) {
+        this.listenerContainer = listenerContainer;
+        this.productSearchIndex = productSearchIndex;
+        this.productMapper = productMapper;
+        this.uuidRepresentation = mongoProperties.getUuidRepresentation();
+    }
+
+    /**
+     * Registers the change stream subscription on the product collection.
+     * The subscription opens once the container is started with the application context.
+     */
+    @PostConstruct
+    public void subscribe() {
+        ChangeStreamRequest<Product> request = ChangeStreamRequest.builder(this::onChange)
+                .collection(PRODUCT_COLLECTION)
+                .fullDocumentLookup(FullDocument.UPDATE_LOOKUP)
+                .build();
+        listenerContainer.register(request, Product.class);
+        log.info("Product search index subscribed to the change stream of collection {}", PRODUCT_COLLECTION);
+    }
+
+    private void onChange(Message<ChangeStreamDocument<Document>, Product> message) {
+        ChangeStreamDocument<Document> change = message.getRaw();
+        if (change == null || change.getOperationType() == null) {
+            return;
+        }
+
+        switch (change.getOperationType()) {
+            case INSERT, UPDATE, REPLACE -> {
+                Product product = message.getBody();
+                if (product != null) {
+                    productSearchIndex.index(productMapper.productToProductResponseDTO(product));
+                }
+            }
+            case DELETE -> {
+                BsonDocument documentKey = change.getDocumentKey();
+                if (documentKey != null && documentKey.isBinary("_id")) {
+                    UUID productId = documentKey.getBinary("_id").asUuid(uuidRepresentation);
+                    productSearchIndex.remove(productId);
+                }
+            }
+            default -> log.debug("Ignoring {} event on collection {}", change.getOperationType(), PRODUCT_COLLECTION);
+        }
+    }
+}
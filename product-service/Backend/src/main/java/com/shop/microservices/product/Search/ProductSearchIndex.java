@@ -0,0 +1,359 @@
+package com.shop.microservices.product.Search;
+
+import com.shop.microservices.product.Configuration.ProductSearchProperties;
+import com.shop.microservices.product.Dto.ProductResponseDTO;
+import com.shop.microservices.product.Mapper.ProductMapper;
+import com.shop.microservices.product.Model.Product;
+import com.shop.microservices.product.Repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over the name and description of every product, used for type-ahead search.
+ * <p>
+ * Terms produced by the {@link SearchTokenizer} are kept in a sorted term dictionary, so every term starting
+ * with a given prefix is found with a single range lookup, and each term points to the products containing it
+ * along with a field weight (a name match weighs more than a description match).
+ * </p>
+ * <p>
+ * Every query term must match a product, either exactly or as a prefix of one of its terms. Matches are ranked
+ * first by the number of query terms they match exactly, so an exact match always ranks above a prefix match, then
+ * by the sum, over the query terms, of the field weight times the inverse document frequency of the matched term.
+ * </p>
+ * <p>
+ * The index is built from MongoDB once the application is ready and then kept up to date by the product service
+ * (and optionally by a change stream). Writes arriving while the index is being built win over the products read
+ * by the build, so a product updated or deleted during the build is never put back in an older state. Searches never block; writes are serialized among themselves by a
+ * {@link ReentrantLock} rather than a monitor, so a contended write does not pin a virtual thread to its carrier.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final float PREFIX_FACTOR = 0.6f;
+
+    // Sorted term dictionary: term -> (product ID -> field weight)
+    private final ConcurrentSkipListMap<String, Map<UUID, Float>> postings = new ConcurrentSkipListMap<>();
+
+    // Indexed products, with the terms they were indexed under so they can be removed again
+    private final Map<UUID, IndexedProduct> documents = new ConcurrentHashMap<>();
+
+    // Serializes index, remove and the writes of a rebuild
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // IDs indexed or removed while a rebuild is running, the rebuild must not overwrite them. Guarded by writeLock.
+    private Set<UUID> writtenDuringRebuild;
+
+    private final SearchTokenizer tokenizer;
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final ProductSearchProperties properties;
+    private final Timer searchTimer;
+
+    private record IndexedProduct(ProductResponseDTO product, Map<String, Float> termWeights) {}
+
+    // Best match of a single query term in a product
+    private record TermMatch(boolean exact, float score) {
+
+        TermMatch best(TermMatch other) {
+            if (exact != other.exact) {
+                return exact ? this : other;
+            }
+            return score >= other.score ? this : other;
+        }
+    }
+
+    // Accumulated relevance of a product over the query terms
+    private record Score(int exactTerms, float value) {
+
+        static Score of(TermMatch match) {
+            return new Score(match.exact() ? 1 : 0, match.score());
+        }
+
+        Score plus(TermMatch match) {
+            return new Score(exactTerms + (match.exact() ? 1 : 0), value + match.score());
+        }
+    }
+
+    /**
+     * Constructs the {@link ProductSearchIndex} with the necessary dependencies.
+     *
+     * @param tokenizer         The tokenizer shared by indexing and searching.
+     * @param productRepository The repository the index is built from.
+     * @param productMapper     The mapper converting products to the DTOs returned by searches.
+     * @param properties        The search configuration properties.
+     * @param meterRegistry     The optional registry used to publish search latency.
+     */
+    public ProductSearchIndex(SearchTokenizer tokenizer, ProductRepository productRepository, ProductMapper productMapper,
+                              ProductSearchProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.tokenizer = tokenizer;
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.properties = properties;
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        this.searchTimer = registry == null ? null : Timer.builder("product.search")
+                .description("Latency of product searches served from the in-memory index")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    /**
+     * Builds the index from every product stored in MongoDB. Runs once the application is ready.
+     * <p>
+     * Products indexed or removed by {@link #index(ProductResponseDTO)} and {@link #remove(UUID)} while the scan is
+     * running are skipped, since the scan may have read them before that write.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startTime = System.nanoTime();
+        writeLock.lock();
+        try {
+            writtenDuringRebuild = new HashSet<>();
+        } finally {
+            writeLock.unlock();
+        }
+        try (Stream<Product> products = productRepository.streamAll(LOAD_BATCH_SIZE)) {
+            products.forEach(product -> load(productMapper.productToProductResponseDTO(product)));
+        } finally {
+            writeLock.lock();
+            try {
+                writtenDuringRebuild = null;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        log.info("Product search index built with {} products and {} terms in {} ms",
+                documents.size(), postings.size(), (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    /**
+     * Adds a product to the index, replacing the previous version of the same product if any.
+     *
+     * @param product The product to index.
+     */
+    public void index(ProductResponseDTO product) {
+        if (product == null || product.id() == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (writtenDuringRebuild != null) {
+                writtenDuringRebuild.add(product.id());
+            }
+            addDocument(product);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes a product from the index. Does nothing if the product is not indexed.
+     *
+     * @param productId The ID of the product to remove.
+     */
+    public void remove(UUID productId) {
+        writeLock.lock();
+        try {
+            if (writtenDuringRebuild != null) {
+                writtenDuringRebuild.add(productId);
+            }
+            removeDocument(productId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Indexes a product read by a rebuild, unless it was indexed or removed since the rebuild started.
+     */
+    private void load(ProductResponseDTO product) {
+        if (product == null || product.id() == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (writtenDuringRebuild == null || !writtenDuringRebuild.contains(product.id())) {
+                addDocument(product);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void addDocument(ProductResponseDTO product) {
+        removeDocument(product.id());
+
+        Map<String, Float> termWeights = new HashMap<>();
+        for (String term : tokenizer.tokenize(product.name())) {
+            termWeights.merge(term, NAME_WEIGHT, Math::max);
+        }
+        for (String term : tokenizer.tokenize(product.description())) {
+            termWeights.merge(term, DESCRIPTION_WEIGHT, Float::sum);
+        }
+
+        termWeights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(product.id(), weight));
+        documents.put(product.id(), new IndexedProduct(product, termWeights));
+    }
+
+    private void removeDocument(UUID productId) {
+        IndexedProduct removed = documents.remove(productId);
+        if (removed == null) {
+            return;
+        }
+        for (String term : removed.termWeights().keySet()) {
+            postings.computeIfPresent(term, (key, products) -> {
+                products.remove(productId);
+                return products.isEmpty() ? null : products;
+            });
+        }
+    }
+
+    /**
+     * Searches the index. Every term of the query must match a product, exactly or as a prefix.
+     *
+     * @param query The search query as typed by the user.
+     * @param limit The maximum number of products to return, capped by the configured maximum.
+     * @return The matching products, most relevant first.
+     */
+    public List<ProductResponseDTO> search(String query, int limit) {
+        long startTime = System.nanoTime();
+        try {
+            return doSearch(query, Math.min(limit, properties.getMaxResults()));
+        } finally {
+            if (searchTimer != null) {
+                searchTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of indexed products.
+     *
+     * @return The number of indexed products.
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    private List<ProductResponseDTO> doSearch(String query, int limit) {
+        List<String> terms = tokenizer.tokenize(query);
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        int documentCount = Math.max(documents.size(), 1);
+        Map<UUID, Score> scores = null;
+        for (String term : terms) {
+            Map<UUID, TermMatch> termMatches = matchTerm(term, documentCount);
+
+            // Keep only the products matching every term seen so far
+            if (scores == null) {
+                scores = new HashMap<>(termMatches.size());
+                for (Map.Entry<UUID, TermMatch> match : termMatches.entrySet()) {
+                    scores.put(match.getKey(), Score.of(match.getValue()));
+                }
+            } else {
+                scores.keySet().retainAll(termMatches.keySet());
+                scores.replaceAll((productId, score) -> score.plus(termMatches.get(productId)));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return topResults(scores, limit);
+    }
+
+    /**
+     * Scores every product matching a single query term, exactly or as a prefix.
+     * A product matching the term through several indexed terms keeps its best match, an exact one if any.
+     */
+    private Map<UUID, TermMatch> matchTerm(String term, int documentCount) {
+        Map<UUID, TermMatch> termMatches = new HashMap<>();
+
+        Map<UUID, Float> exact = postings.get(term);
+        if (exact != null) {
+            accumulate(termMatches, exact, true, idf(exact.size(), documentCount));
+        }
+
+        NavigableMap<String, Map<UUID, Float>> prefixed =
+                postings.subMap(term, false, term + Character.MAX_VALUE, true);
+        int expansions = 0;
+        for (Map<UUID, Float> products : prefixed.values()) {
+            if (++expansions > properties.getMaxPrefixExpansions()) {
+                break;
+            }
+            accumulate(termMatches, products, false, idf(products.size(), documentCount) * PREFIX_FACTOR);
+        }
+        return termMatches;
+    }
+
+    private void accumulate(Map<UUID, TermMatch> termMatches, Map<UUID, Float> products, boolean exact, float factor) {
+        products.forEach((productId, weight) ->
+                termMatches.merge(productId, new TermMatch(exact, weight * factor), TermMatch::best));
+    }
+
+    private float idf(int matchingDocuments, int documentCount) {
+        return (float) Math.log(1.0 + (double) documentCount / matchingDocuments);
+    }
+
+    /**
+     * Selects the best ranked products with a bounded min-heap: most exact term matches first, then highest score,
+     * ties broken by product name.
+     */
+    private List<ProductResponseDTO> topResults(Map<UUID, Score> scores, int limit) {
+        Comparator<Map.Entry<ProductResponseDTO, Score>> ranking = Comparator
+                .<Map.Entry<ProductResponseDTO, Score>>comparingInt(entry -> entry.getValue().exactTerms())
+                .thenComparingDouble(entry -> entry.getValue().value())
+                .thenComparing(entry -> entry.getKey().name(), Comparator.nullsFirst(Comparator.<String>naturalOrder()).reversed());
+
+        PriorityQueue<Map.Entry<ProductResponseDTO, Score>> heap = new PriorityQueue<>(limit + 1, ranking);
+        scores.forEach((productId, score) -> {
+            IndexedProduct indexed = documents.get(productId);
+            if (indexed == null) {
+                // Removed while the search was running
+                return;
+            }
+            heap.offer(Map.entry(indexed.product(), score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+
+        List<ProductResponseDTO> results = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            results.add(heap.poll().getKey());
+        }
+        // The heap yields the lowest ranked product first
+        Collections.reverse(results);
+        return results;
+    }
+}
@@ -0,0 +1,53 @@
+package com.shop.microservices.product.Search;
+
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits product text and search queries into normalized terms.
+ * <p>
+ * Text is decomposed (NFKD), stripped of diacritics and lower-cased, then split on every character that
+ * is not a letter or a digit. The same normalization is applied when indexing and when searching,
+ * so "Café-Crème" and "cafe creme" produce the same terms.
+ * </p>
+ */
+@Component
+public class SearchTokenizer {
+
+    // Combining marks left over after decomposition, e.g. accents
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    /**
+     * Normalizes the given text and splits it into terms.
+     *
+     * @param text The text to tokenize, may be {@code null}.
+     * @return The terms of the text in order of appearance, empty if the text has none.
+     */
+    public List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean termChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (termChar && start < 0) {
+                start = i;
+            } else if (!termChar && start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
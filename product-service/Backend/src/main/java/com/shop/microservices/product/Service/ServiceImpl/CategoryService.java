@@ -3,14 +3,17 @@ package com.shop.microservices.product.Service.ServiceImpl;
 import com.shop.microservices.product.Dto.CategoryRequestDTO;
 import com.shop.microservices.product.Dto.CategoryResponseDTO;
 import com.shop.microservices.product.Exception.InvalidInputException;
+import com.shop.microservices.product.Exception.PreconditionFailedException;
 import com.shop.microservices.product.Exception.ResourceNotFoundException;
 import com.shop.microservices.product.Exception.UniqueConstraintViolationException;
 import com.shop.microservices.product.Mapper.CategoryMapper;
 import com.shop.microservices.product.Model.Category;
 import com.shop.microservices.product.Repository.CategoryRepository;
 import com.shop.microservices.product.Service.ServiceInterface.ICategoryService;
-import com.shop.microservices.product.Utils.CategoryValidationUtil;
+import com.shop.microservices.product.Utils.ETagUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -29,19 +32,19 @@ public class CategoryService implements ICategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
-    private final CategoryValidationUtil categoryValidationUtil;
+    private final ETagUtil eTagUtil;
 
     /**
      * Constructor for CategoryService.
      *
      * @param categoryRepository   the repository for category operations
      * @param categoryMapper       the mapper for converting between entity and DTO
-     * @param categoryValidationUtil utility for validating category-related data
+     * @param eTagUtil             the utility computing the entity tags checked against {@code If-Match}
      */
-    public CategoryService(CategoryRepository categoryRepository, CategoryMapper categoryMapper, CategoryValidationUtil categoryValidationUtil) {
+    public CategoryService(CategoryRepository categoryRepository, CategoryMapper categoryMapper, ETagUtil eTagUtil) {
         this.categoryRepository = categoryRepository;
         this.categoryMapper = categoryMapper;
-        this.categoryValidationUtil = categoryValidationUtil;
+        this.eTagUtil = eTagUtil;
     }
 
     /**
@@ -59,9 +62,8 @@ public class CategoryService implements ICategoryService {
             throw new InvalidInputException("prod.error.3500");
         }
 
-        validateCategoryRequest(categoryRequestDTO);
         Category category = categoryMapper.categoryRequestDTOToCategory(categoryRequestDTO);
-        Category savedCategory = categoryRepository.save(category);
+        Category savedCategory = saveCategory(category);
 
         log.info("Category created with ID: {}", savedCategory.getCategoryId());
         return categoryMapper.categoryToCategoryResponseDTO(savedCategory);
@@ -72,12 +74,14 @@ public class CategoryService implements ICategoryService {
      *
      * @param categoryIdStr       the ID of the category to update
      * @param categoryRequestDTO  the data to update the category with
+     * @param ifMatch             the entity tags the client expects, or null for an unconditional update
      * @return the updated category as a response DTO
      * @throws InvalidInputException if the input data or category ID is invalid
      * @throws ResourceNotFoundException if the category with the given ID does not exist
+     * @throws PreconditionFailedException if the category has been modified since the client retrieved it
      */
     @Override
-    public CategoryResponseDTO updateCategory(String categoryIdStr, CategoryRequestDTO categoryRequestDTO) {
+    public CategoryResponseDTO updateCategory(String categoryIdStr, CategoryRequestDTO categoryRequestDTO, String ifMatch) {
         if (categoryRequestDTO == null) {
             throw new InvalidInputException("prod.error.3500");
         }
@@ -92,6 +96,11 @@ public class CategoryService implements ICategoryService {
         Category existingCategory = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new ResourceNotFoundException("prod.error.3503", categoryId));
 
+        // Reject the update if the client edited a stale revision
+        if (!eTagUtil.matchesIfMatch(ifMatch, eTagUtil.eTag(categoryId, existingCategory.getVersion()))) {
+            throw new PreconditionFailedException("prod.error.3002", categoryId);
+        }
+
         if (categoryRequestDTO.getName() != null && !categoryRequestDTO.getName().isBlank()) {
             existingCategory.setName(categoryRequestDTO.getName());
         }
@@ -99,7 +108,7 @@ public class CategoryService implements ICategoryService {
             existingCategory.setDescription(categoryRequestDTO.getDescription());
         }
 
-        Category updatedCategory = categoryRepository.save(existingCategory);
+        Category updatedCategory = saveCategory(existingCategory);
         return categoryMapper.categoryToCategoryResponseDTO(updatedCategory);
     }
 
@@ -184,14 +193,20 @@ public class CategoryService implements ICategoryService {
     }
 
     /**
-     * Validates the category request for uniqueness of name.
+     * Saves the category, relying on the unique index on its name to reject duplicates.
      *
-     * @param categoryRequestDTO the category request to validate
+     * @param category the category to save
+     * @return the saved category
      * @throws UniqueConstraintViolationException if the category name is not unique
+     * @throws PreconditionFailedException if the category was updated concurrently since it was read
      */
-    private void validateCategoryRequest(CategoryRequestDTO categoryRequestDTO) {
-        if (!categoryValidationUtil.isCategoryNameUnique(categoryRequestDTO.getName())) {
-            throw new UniqueConstraintViolationException("prod.error.3501", "Name", categoryRequestDTO.getName());
+    private Category saveCategory(Category category) {
+        try {
+            return categoryRepository.save(category);
+        } catch (DuplicateKeyException ex) {
+            throw new UniqueConstraintViolationException("prod.error.3501", "Name", category.getName());
+        } catch (OptimisticLockingFailureException ex) {
+            throw new PreconditionFailedException("prod.error.3002", category.getCategoryId());
         }
     }
 }
@@ -3,14 +3,17 @@ package com.shop.microservices.product.Service.ServiceImpl;
 import com.shop.microservices.product.Dto.MaterialRequestDTO;
 import com.shop.microservices.product.Dto.MaterialResponseDTO;
 import com.shop.microservices.product.Exception.InvalidInputException;
+import com.shop.microservices.product.Exception.PreconditionFailedException;
 import com.shop.microservices.product.Exception.ResourceNotFoundException;
 import com.shop.microservices.product.Exception.UniqueConstraintViolationException;
 import com.shop.microservices.product.Mapper.MaterialMapper;
 import com.shop.microservices.product.Model.Material;
 import com.shop.microservices.product.Repository.MaterialRepository;
 import com.shop.microservices.product.Service.ServiceInterface.IMaterialService;
-import com.shop.microservices.product.Utils.MaterialValidationUtil;
+import com.shop.microservices.product.Utils.ETagUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -29,19 +32,19 @@ public class MaterialService implements IMaterialService {
 
     private final MaterialRepository materialRepository;
     private final MaterialMapper materialMapper;
-    private final MaterialValidationUtil materialValidationUtil;
+    private final ETagUtil eTagUtil;
 
     /**
      * Constructor for MaterialService.
      *
      * @param materialRepository   the repository for material operations
      * @param materialMapper       the mapper for converting between entity and DTO
-     * @param materialValidationUtil utility for validating material-related data
+     * @param eTagUtil             the utility computing the entity tags checked against {@code If-Match}
      */
-    public MaterialService(MaterialRepository materialRepository, MaterialMapper materialMapper, MaterialValidationUtil materialValidationUtil) {
+    public MaterialService(MaterialRepository materialRepository, MaterialMapper materialMapper, ETagUtil eTagUtil) {
         this.materialRepository = materialRepository;
         this.materialMapper = materialMapper;
-        this.materialValidationUtil = materialValidationUtil;
+        this.eTagUtil = eTagUtil;
     }
 
     /**
@@ -59,9 +62,8 @@ public class MaterialService implements IMaterialService {
             throw new InvalidInputException("prod.error.3600");
         }
 
-        validateMaterialRequest(materialRequestDTO);
         Material material = materialMapper.materialRequestDTOToMaterial(materialRequestDTO);
-        Material savedMaterial = materialRepository.save(material);
+        Material savedMaterial = saveMaterial(material);
 
         log.info("Material created with ID: {}", savedMaterial.getMaterialId());
         return materialMapper.materialToMaterialResponseDTO(savedMaterial);
@@ -72,12 +74,14 @@ public class MaterialService implements IMaterialService {
      *
      * @param materialIdStr       the ID of the material to update
      * @param materialRequestDTO  the data to update the material with
+     * @param ifMatch             the entity tags the client expects, or null for an unconditional update
      * @return the updated material as a response DTO
      * @throws InvalidInputException if the input data or material ID is invalid
      * @throws ResourceNotFoundException if the material with the given ID does not exist
+     * @throws PreconditionFailedException if the material has been modified since the client retrieved it
      */
     @Override
-    public MaterialResponseDTO updateMaterial(String materialIdStr, MaterialRequestDTO materialRequestDTO) {
+    public MaterialResponseDTO updateMaterial(String materialIdStr, MaterialRequestDTO materialRequestDTO, String ifMatch) {
         if (materialRequestDTO == null) {
             throw new InvalidInputException("prod.error.3600");
         }
@@ -92,6 +96,11 @@ public class MaterialService implements IMaterialService {
         Material existingMaterial = materialRepository.findById(materialId)
                 .orElseThrow(() -> new ResourceNotFoundException("prod.error.3603", materialId));
 
+        // Reject the update if the client edited a stale revision
+        if (!eTagUtil.matchesIfMatch(ifMatch, eTagUtil.eTag(materialId, existingMaterial.getVersion()))) {
+            throw new PreconditionFailedException("prod.error.3002", materialId);
+        }
+
         if (materialRequestDTO.getMaterialName() != null && !materialRequestDTO.getMaterialName().isBlank()) {
             existingMaterial.setMaterialName(materialRequestDTO.getMaterialName());
         }
@@ -102,7 +111,7 @@ public class MaterialService implements IMaterialService {
             existingMaterial.setDescription(materialRequestDTO.getDescription());
         }
 
-        Material updatedMaterial = materialRepository.save(existingMaterial);
+        Material updatedMaterial = saveMaterial(existingMaterial);
         return materialMapper.materialToMaterialResponseDTO(updatedMaterial);
     }
 
@@ -191,16 +200,21 @@ public class MaterialService implements IMaterialService {
     }
 
     /**
-     * Validates the material request for uniqueness of name.
+     * Saves the material, relying on the compound unique index on its name and type to reject duplicates.
      *
-     * @param materialRequestDTO the material request to validate
-     * @throws UniqueConstraintViolationException if the material name is not unique
+     * @param material the material to save
+     * @return the saved material
+     * @throws UniqueConstraintViolationException if the combination of material name and type is not unique
+     * @throws PreconditionFailedException if the material was updated concurrently since it was read
      */
-    private void validateMaterialRequest(MaterialRequestDTO materialRequestDTO) {
-        if (!materialValidationUtil.isMaterialNameAndTypeUnique(materialRequestDTO.getMaterialName(), materialRequestDTO.getMaterialType())) {
+    private Material saveMaterial(Material material) {
+        try {
+            return materialRepository.save(material);
+        } catch (DuplicateKeyException ex) {
             throw new UniqueConstraintViolationException("prod.error.3601",
-                    new String[]{materialRequestDTO.getMaterialName(), materialRequestDTO.getMaterialType()});
-
+                    new String[]{material.getMaterialName(), material.getMaterialType()});
+        } catch (OptimisticLockingFailureException ex) {
+            throw new PreconditionFailedException("prod.error.3002", material.getMaterialId());
         }
     }
 }
@@ -1,27 +1,54 @@
 package com.shop.microservices.product.Service.ServiceImpl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteError;
+import com.shop.microservices.product.Cache.ProductCache;
+import com.shop.microservices.product.Configuration.ProductSearchProperties;
+import com.shop.microservices.product.Dto.ProductBulkItemResultDTO;
+import com.shop.microservices.product.Dto.ProductBulkResponseDTO;
+import com.shop.microservices.product.Dto.ProductCursorPageDTO;
 import com.shop.microservices.product.Dto.ProductRequestDTO;
 import com.shop.microservices.product.Dto.ProductResponseDTO;
 import com.shop.microservices.product.Exception.EntityCreationException;
 import com.shop.microservices.product.Exception.InvalidInputException;
+import com.shop.microservices.product.Exception.PreconditionFailedException;
 import com.shop.microservices.product.Exception.ResourceNotFoundException;
 import com.shop.microservices.product.Exception.UniqueConstraintViolationException;
 import com.shop.microservices.product.Mapper.ProductMapper;
 import com.shop.microservices.product.Service.ServiceInterface.IProductService;
 import com.shop.microservices.product.Model.Product;
 import com.shop.microservices.product.Repository.ProductRepository;
-import com.shop.microservices.product.Utils.ProductValidationUtil;
+import com.shop.microservices.product.Search.ProductSearchIndex;
+import com.shop.microservices.product.Utils.ETagUtil;
+import com.shop.microservices.product.Utils.ErrorMessageUtil;
+import com.shop.microservices.product.Utils.ProductCursorUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 
 /**
@@ -33,33 +60,84 @@ import java.util.UUID;
 @Slf4j
 public class ProductService implements IProductService {
 
+    // Upper bound of the page size accepted by cursor-based listing
+    private static final int MAX_CURSOR_PAGE_SIZE = 500;
+
+    // Number of documents fetched from MongoDB per round trip during export
+    private static final int EXPORT_BATCH_SIZE = 500;
+
+    // Number of exported products after which buffered output is pushed to the client
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
+    // Maximum number of items accepted by a single bulk creation request
+    private static final int MAX_BULK_SIZE = 10_000;
+
+    // Number of items checked and written per database round trip during bulk creation
+    private static final int BULK_CHUNK_SIZE = 1000;
+
+    // MongoDB error code raised when a unique index is violated
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
-    private final ProductValidationUtil productValidationUtil;
+    private final ProductCache productCache;
+    private final ProductCursorUtil productCursorUtil;
+    private final ObjectWriter exportWriter;
+    private final ObjectMapper objectMapper;
+    private final ErrorMessageUtil errorMessageUtil;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSearchProperties productSearchProperties;
+    private final ETagUtil eTagUtil;
 
     /**
      * Constructs the {@link ProductService} class with the necessary dependencies.
      * The constructor initializes the {@link ProductRepository}, {@link ProductMapper},
-     * and {@link ProductValidationUtil} to handle CRUD operations, entity mapping,
-     * and validation tasks respectively.
+     * {@link ProductCache}, {@link ProductCursorUtil}, {@link ObjectMapper}, {@link ErrorMessageUtil},
+     * {@link ProductSearchIndex}, {@link ProductSearchProperties} and {@link ETagUtil} to handle CRUD operations, entity
+     * mapping, caching, cursor encoding, export serialization, bulk result reporting, search, search limits and
+     * conditional update tasks respectively.
      *
-     * @param productRepository     The repository to interact with the MongoDB database for product data.
-     * @param productMapper         The mapper to convert product entities to DTOs and vice versa.
-     * @param productValidationUtil Utility class for validating product data, including name uniqueness.
+     * @param productRepository       The repository to interact with the MongoDB database for product data.
+     * @param productMapper           The mapper to convert product entities to DTOs and vice versa.
+     * @param productCache            The read-through cache in front of the product repository.
+     * @param productCursorUtil       Utility class for encoding and decoding continuation tokens.
+     * @param objectMapper            The application wide Jackson mapper used to serialize exported products.
+     * @param errorMessageUtil        Utility class resolving the messages of rejected bulk items.
+     * @param productSearchIndex      The in-memory search index kept in sync with every product write.
+     * @param productSearchProperties The search configuration, bounding the number of results of a search.
+     * @param eTagUtil                Utility class computing the entity tags checked against {@code If-Match}.
      */
     @Autowired
-    public ProductService(ProductRepository productRepository, ProductMapper productMapper, ProductValidationUtil productValidationUtil) {
+    public ProductService(ProductRepository productRepository, ProductMapper productMapper,
+                          ProductCache productCache, ProductCursorUtil productCursorUtil, ObjectMapper objectMapper,
+                          ErrorMessageUtil errorMessageUtil, ProductSearchIndex productSearchIndex,
+                          ProductSearchProperties productSearchProperties, ETagUtil eTagUtil) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
-        this.productValidationUtil = productValidationUtil;
+        this.productCache = productCache;
+        this.productCursorUtil = productCursorUtil;
+        this.objectMapper = objectMapper;
+        this.errorMessageUtil = errorMessageUtil;
+        this.productSearchIndex = productSearchIndex;
+        this.productSearchProperties = productSearchProperties;
+        this.eTagUtil = eTagUtil;
+        // Flushing is done in batches by the export itself rather than after every product
+        this.exportWriter = objectMapper.writerFor(ProductResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
     }
 
     /**
      * Creates a new product by validating the product request, mapping it to a domain model,
      * and saving it to the database. If successful, returns the saved product as a DTO.
+     * <p>
+     * Name uniqueness is enforced by the unique index on the product name rather than by a prior lookup,
+     * so creation takes a single round trip and stays correct under concurrent inserts.
+     * </p>
      *
      * @param productRequest The DTO containing the product data.
      * @return The created Product entity, transformed to a DTO.
+     * @throws UniqueConstraintViolationException If a product with the same name already exists.
      * @throws EntityCreationException If an error occurs during product creation.
      */
     @Override
@@ -71,9 +149,6 @@ public class ProductService implements IProductService {
                 throw new InvalidInputException("prod.error.3109");
             }
 
-            // Validate the product request for business rules
-            validateProductRequest(productRequest);
-
             // Map the DTO to a domain model and save it to the repository
             Product product = productMapper.productRequestDTOToProduct(productRequest);
 
@@ -81,9 +156,14 @@ public class ProductService implements IProductService {
 
             log.info("Product created with ID: {}", savedProduct.getId());
 
-            // Map the saved product back to a DTO and return it
-            return productMapper.productToProductResponseDTO(savedProduct);
+            // Map the saved product back to a DTO, make it searchable and return it
+            ProductResponseDTO savedProductDTO = productMapper.productToProductResponseDTO(savedProduct);
+            productSearchIndex.index(savedProductDTO);
+            return savedProductDTO;
 
+        } catch (DuplicateKeyException ex) {
+            // The unique index on the product name rejected the insert
+            throw new UniqueConstraintViolationException("prod.error.3102", "name", productRequest.getName());
         } catch (MongoException ex) {
             log.error("MongoDB error occurred while creating product. Error Message: {}, Product Request: {}",
                     ex.getMessage(), productRequest, ex);
@@ -95,6 +175,56 @@ public class ProductService implements IProductService {
         }
     }
 
+    /**
+     * Creates several products at once.
+     * <p>
+     * The request is processed in chunks of {@value #BULK_CHUNK_SIZE} items. For every chunk, name uniqueness
+     * is checked with a single {@code $in} query and the accepted products are written with a single unordered
+     * bulk write, instead of one existence check and one insert per product. Every item gets its own outcome:
+     * created, duplicate (name already taken, by an existing product or by an earlier item of the request),
+     * invalid (failed validation) or failed (rejected by the database for another reason, so it can be retried).
+     * </p>
+     *
+     * @param productRequests The DTOs containing the data of the products to create.
+     * @return A {@link ProductBulkResponseDTO} with the outcome of every item and the throughput of the request.
+     * @throws InvalidInputException   If the request is empty or exceeds the maximum bulk size.
+     * @throws EntityCreationException If a database error prevents a chunk from being processed.
+     */
+    @Override
+    public ProductBulkResponseDTO createProducts(List<ProductRequestDTO> productRequests) {
+        if (productRequests == null || productRequests.isEmpty() || productRequests.size() > MAX_BULK_SIZE) {
+            throw new InvalidInputException("prod.error.3114");
+        }
+
+        long startTime = System.nanoTime();
+        ProductBulkItemResultDTO[] results = new ProductBulkItemResultDTO[productRequests.size()];
+        Set<String> requestedNames = new HashSet<>();
+
+        try {
+            for (int chunkStart = 0; chunkStart < productRequests.size(); chunkStart += BULK_CHUNK_SIZE) {
+                int chunkEnd = Math.min(chunkStart + BULK_CHUNK_SIZE, productRequests.size());
+                createProductChunk(productRequests, chunkStart, chunkEnd, requestedNames, results);
+            }
+        } catch (MongoException | DataAccessException ex) {
+            log.error("Database error occurred while creating products in bulk. Error Message: {}", ex.getMessage(), ex);
+            throw new EntityCreationException("prod.error.3100", ex);
+        }
+
+        long durationNanos = System.nanoTime() - startTime;
+        List<ProductBulkItemResultDTO> resultList = Arrays.asList(results);
+        int created = countByStatus(resultList, ProductBulkItemResultDTO.Status.CREATED);
+        int duplicates = countByStatus(resultList, ProductBulkItemResultDTO.Status.DUPLICATE);
+        int invalid = countByStatus(resultList, ProductBulkItemResultDTO.Status.INVALID);
+        int failed = countByStatus(resultList, ProductBulkItemResultDTO.Status.FAILED);
+        double itemsPerSecond = durationNanos > 0 ? resultList.size() * 1_000_000_000d / durationNanos : 0d;
+
+        log.info("Bulk product creation processed {} items in {} ms ({} items/s): {} created, {} duplicates, {} invalid, {} failed",
+                resultList.size(), durationNanos / 1_000_000, Math.round(itemsPerSecond), created, duplicates, invalid, failed);
+
+        return new ProductBulkResponseDTO(resultList.size(), created, duplicates, invalid, failed,
+                durationNanos / 1_000_000, itemsPerSecond, resultList);
+    }
+
     /**
      * Retrieves a paginated list of products from the database. Each product is transformed
      * into a ProductResponseDTO for the response. If no products are found, a
@@ -127,10 +257,125 @@ public class ProductService implements IProductService {
         }
     }
 
+    /**
+     * Retrieves a page of products using keyset (cursor) pagination.
+     * <p>
+     * Instead of skipping over the previous pages, the query seeks directly past the last product
+     * of the previous page using the (sort field, ID) position stored in the continuation token.
+     * One extra product is fetched to find out whether a next page exists, and the total count
+     * is only computed when explicitly requested, so the cost of a page stays constant regardless of depth.
+     * </p>
+     *
+     * @param cursor       The continuation token returned with the previous page, or {@code null} for the first page.
+     * @param size         The number of products to include in the page.
+     * @param sortBy       The sort key, either {@code id} or {@code name}.
+     * @param includeCount Whether the total number of products should be counted and returned.
+     * @return A {@link ProductCursorPageDTO} containing the products and the token of the next page.
+     * @throws InvalidInputException If the page size, sort key or continuation token is invalid.
+     */
+    @Override
+    public ProductCursorPageDTO getProductsByCursor(String cursor, int size, String sortBy, boolean includeCount) {
+        // Validate the page size and sort key
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidInputException("prod.error.3113");
+        }
+        String sortField = productCursorUtil.resolveSortField(sortBy);
+
+        // Decode the position of the last product of the previous page, if any
+        ProductCursorUtil.Cursor position = (cursor == null || cursor.isBlank())
+                ? null
+                : productCursorUtil.decode(cursor, sortBy);
+
+        List<Product> products = productRepository.findPageAfter(sortField,
+                position != null ? position.lastValue() : null,
+                position != null ? position.lastId() : null,
+                size + 1);
+
+        boolean hasNext = products.size() > size;
+        List<Product> pageProducts = hasNext ? products.subList(0, size) : products;
+        String nextCursor = hasNext ? productCursorUtil.encode(sortBy, pageProducts.get(size - 1)) : null;
+        Long totalElements = includeCount ? productRepository.count() : null;
+
+        List<ProductResponseDTO> content = pageProducts.stream()
+                .map(productMapper::productToProductResponseDTO)
+                .toList();
+
+        return new ProductCursorPageDTO(content, nextCursor, hasNext, totalElements);
+    }
+
+    /**
+     * Writes the whole product catalogue to the given stream as newline-delimited JSON (NDJSON).
+     * <p>
+     * Products are read from a MongoDB cursor in batches of {@value #EXPORT_BATCH_SIZE} and serialized one by one,
+     * so memory usage stays bounded regardless of the catalogue size. Writes block while the client is not
+     * reading, which in turn stops the cursor from being advanced.
+     * </p>
+     *
+     * @param outputStream The stream to write the products to. It is flushed but not closed.
+     * @return The number of exported products.
+     * @throws IOException If writing to the stream fails, e.g. because the client disconnected.
+     */
+    @Override
+    public long exportProducts(OutputStream outputStream) throws IOException {
+        long startTime = System.nanoTime();
+        long count = 0;
+
+        // The generator is closed (and flushed) on completion while the client stream is left open
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+             Stream<Product> products = productRepository.streamAll(EXPORT_BATCH_SIZE);
+             SequenceWriter sequenceWriter = exportWriter.writeValues(generator)) {
+
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                sequenceWriter.write(productMapper.productToProductResponseDTO(iterator.next()));
+                if (++count % EXPORT_FLUSH_INTERVAL == 0) {
+                    sequenceWriter.flush();
+                }
+            }
+        }
+
+        // Terminate the last line, the separator is only written between products
+        if (count > 0) {
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        log.info("Exported {} products in {} ms", count, elapsedMillis);
+        return count;
+    }
+
+    /**
+     * Searches products by name and description for type-ahead lookups.
+     * <p>
+     * The search is served from the in-memory {@link ProductSearchIndex} and never queries MongoDB.
+     * Every word of the query must match a word of the product, either fully or as a prefix,
+     * and results are ranked by relevance.
+     * </p>
+     *
+     * @param query The search query as typed by the user.
+     * @param limit The maximum number of products to return.
+     * @return A list of {@link ProductResponseDTO} objects, most relevant first.
+     * @throws InvalidInputException If the query is blank or the limit is out of range.
+     */
+    @Override
+    public List<ProductResponseDTO> searchProducts(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidInputException("prod.error.3116");
+        }
+        int maxResults = productSearchProperties.getMaxResults();
+        if (limit < 1 || limit > maxResults) {
+            throw new InvalidInputException("prod.error.3117", maxResults);
+        }
+        return productSearchIndex.search(query, limit);
+    }
+
     /**
      * Retrieves a product by its ID.
      * <p>
-     * Validates the input product ID, parses it from a string, and fetches the corresponding product.
+     * Validates the input product ID, parses it from a string, and fetches the corresponding product
+     * through the {@link ProductCache}, so repeated lookups of the same product skip the database.
      * Throws an exception if the input is invalid or the product is not found.
      * </p>
      *
@@ -154,12 +399,10 @@ public class ProductService implements IProductService {
             throw new InvalidInputException("prod.error.3110");
         }
 
-        // Fetch product by ID or throw a custom exception
-        Product retrievedProduct = productRepository.findById(productId)
-                .orElseThrow(() -> new ResourceNotFoundException("prod.error.3105", productId));
-
-        // Map the product entity to DTO
-        return productMapper.productToProductResponseDTO(retrievedProduct);
+        // Fetch product from the cache, loading it by ID or throwing a custom exception on a miss
+        return productCache.get(productId, id -> productRepository.findById(id)
+                .map(productMapper::productToProductResponseDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("prod.error.3105", id)));
     }
 
     /**
@@ -198,12 +441,14 @@ public class ProductService implements IProductService {
      *
      * @param productIdStr      The UUID of the product to update.
      * @param productRequest The {@link ProductRequestDTO} containing the updated product details.
+     * @param ifMatch        The entity tags of the {@code If-Match} header, or {@code null} for an unconditional update.
      * @return A {@link ProductResponseDTO} with the updated product details.
      * @throws InvalidInputException      If the input product ID or request payload is invalid.
      * @throws ResourceNotFoundException If the product with the given ID does not exist.
+     * @throws PreconditionFailedException If the product has been modified since the client retrieved it.
      */
     @Override
-    public ProductResponseDTO updateProduct(String productIdStr, ProductRequestDTO productRequest) {
+    public ProductResponseDTO updateProduct(String productIdStr, ProductRequestDTO productRequest, String ifMatch) {
         // Validate string input
         if (productIdStr == null || productIdStr.trim().isEmpty()) {
             throw new InvalidInputException("prod.error.3108");
@@ -226,6 +471,11 @@ public class ProductService implements IProductService {
         Product existingProduct = productRepository.findById(productId)
                 .orElseThrow(() -> new ResourceNotFoundException("prod.error.3105", productId));
 
+        // Reject the update if the client edited a stale revision
+        if (!eTagUtil.matchesIfMatch(ifMatch, eTagUtil.eTag(productId, existingProduct.getVersion()))) {
+            throw new PreconditionFailedException("prod.error.3002", productId);
+        }
+
         // Update product details
         if (productRequest.getName() != null && !productRequest.getName().isBlank()) {
             existingProduct.setName(productRequest.getName());
@@ -236,11 +486,22 @@ public class ProductService implements IProductService {
         if (productRequest.getPrice() != null && productRequest.getPrice().compareTo(BigDecimal.ZERO) > 0) {
             existingProduct.setPrice(productRequest.getPrice());
         }
-        // Save the updated product to the database
-        Product updatedProduct = productRepository.save(existingProduct);
+        // Save the updated product to the database and drop the stale cache entry
+        Product updatedProduct;
+        try {
+            updatedProduct = productRepository.save(existingProduct);
+        } catch (DuplicateKeyException ex) {
+            throw new UniqueConstraintViolationException("prod.error.3102", "name", existingProduct.getName());
+        } catch (OptimisticLockingFailureException ex) {
+            // Another update saved a newer revision between our read and write
+            throw new PreconditionFailedException("prod.error.3002", productId);
+        }
+        productCache.invalidate(productId);
 
-        // Map the updated product entity to a response DTO
-        return productMapper.productToProductResponseDTO(updatedProduct);
+        // Map the updated product entity to a response DTO and refresh its search entry
+        ProductResponseDTO updatedProductDTO = productMapper.productToProductResponseDTO(updatedProduct);
+        productSearchIndex.index(updatedProductDTO);
+        return updatedProductDTO;
     }
 
 
@@ -278,8 +539,10 @@ public class ProductService implements IProductService {
         Product existingProduct = productRepository.findById(productId)
                 .orElseThrow(() -> new ResourceNotFoundException("prod.error.3105", productId));
 
-        // Delete the product from the database.
+        // Delete the product from the database, the cache and the search index.
         productRepository.delete(existingProduct);
+        productCache.invalidate(productId);
+        productSearchIndex.remove(productId);
 
         // Log the successful deletion of the product for audit and tracking purposes.
         log.info("Product with ID: {} successfully deleted", productId);
@@ -287,15 +550,119 @@ public class ProductService implements IProductService {
 
 
     /**
-     * Validates the product request to ensure the product name is unique.
-     * If the name already exists in the database, a {@link UniqueConstraintViolationException} is thrown.
+     * Validates, checks and writes one chunk of a bulk creation request, filling in the results of its items.
      *
-     * @param productRequestDTO The {@link ProductRequestDTO} containing the product details, including the name.
-     * @throws UniqueConstraintViolationException If the product name is not unique, with the error code "prod.error.3102" and the field "name".
+     * @param productRequests The whole bulk request.
+     * @param chunkStart      Index of the first item of the chunk (inclusive).
+     * @param chunkEnd        Index of the last item of the chunk (exclusive).
+     * @param requestedNames  Names accepted so far in the request, used to reject duplicates within the request.
+     * @param results         The per-item results of the whole request.
      */
-    private void validateProductRequest(ProductRequestDTO productRequestDTO){
-        if (!productValidationUtil.isProductNameUnique(productRequestDTO.getName())) {
-            throw new UniqueConstraintViolationException("prod.error.3102", "name", productRequestDTO.getName());
+    private void createProductChunk(List<ProductRequestDTO> productRequests, int chunkStart, int chunkEnd,
+                                    Set<String> requestedNames, ProductBulkItemResultDTO[] results) {
+        // Validate the items of the chunk and collect the names to check
+        List<Integer> validIndexes = new ArrayList<>(chunkEnd - chunkStart);
+        Set<String> chunkNames = new HashSet<>();
+        for (int i = chunkStart; i < chunkEnd; i++) {
+            ProductRequestDTO request = productRequests.get(i);
+            String errorCode = validateBulkItem(request);
+            if (errorCode != null) {
+                Object[] args = request != null ? new Object[]{request.getPrice()} : null;
+                results[i] = rejected(i, request, ProductBulkItemResultDTO.Status.INVALID, errorCode, args);
+            } else {
+                validIndexes.add(i);
+                chunkNames.add(request.getName());
+            }
+        }
+        if (validIndexes.isEmpty()) {
+            return;
         }
+
+        // Check the uniqueness of every name of the chunk in a single round trip
+        Set<String> existingNames = productRepository.findExistingNames(chunkNames);
+
+        List<Product> products = new ArrayList<>(validIndexes.size());
+        List<Integer> productIndexes = new ArrayList<>(validIndexes.size());
+        for (int i : validIndexes) {
+            ProductRequestDTO request = productRequests.get(i);
+            if (existingNames.contains(request.getName()) || !requestedNames.add(request.getName())) {
+                results[i] = rejected(i, request, ProductBulkItemResultDTO.Status.DUPLICATE,
+                        "prod.error.3102", new Object[]{request.getName()});
+            } else {
+                products.add(productMapper.productRequestDTOToProduct(request));
+                productIndexes.add(i);
+            }
+        }
+        if (products.isEmpty()) {
+            return;
+        }
+
+        // Write the accepted products of the chunk in a single unordered bulk write
+        List<BulkWriteError> writeErrors = productRepository.insertUnordered(products);
+        for (BulkWriteError writeError : writeErrors) {
+            int i = productIndexes.get(writeError.getIndex());
+            ProductRequestDTO request = productRequests.get(i);
+            if (writeError.getCode() == DUPLICATE_KEY_ERROR_CODE) {
+                // The name was taken concurrently after the uniqueness check
+                results[i] = rejected(i, request, ProductBulkItemResultDTO.Status.DUPLICATE,
+                        "prod.error.3102", new Object[]{request.getName()});
+            } else {
+                // The item itself is valid, so report it as retryable and release its name for later items
+                log.warn("Bulk insert of product {} failed with code {}: {}",
+                        request.getName(), writeError.getCode(), writeError.getMessage());
+                requestedNames.remove(request.getName());
+                results[i] = rejected(i, request, ProductBulkItemResultDTO.Status.FAILED, "prod.error.3118", null);
+            }
+        }
+
+        for (int p = 0; p < products.size(); p++) {
+            int i = productIndexes.get(p);
+            if (results[i] == null) {
+                Product product = products.get(p);
+                productSearchIndex.index(productMapper.productToProductResponseDTO(product));
+                results[i] = new ProductBulkItemResultDTO(i, product.getName(),
+                        ProductBulkItemResultDTO.Status.CREATED, product.getId(), null);
+            }
+        }
+    }
+
+    /**
+     * Applies the validation rules of {@link ProductRequestDTO} to a bulk item.
+     * Bulk items are validated one by one so that an invalid item only rejects itself.
+     *
+     * @param request The bulk item to validate.
+     * @return The error code describing the first violated rule, or {@code null} if the item is valid.
+     */
+    private String validateBulkItem(ProductRequestDTO request) {
+        if (request == null) {
+            return "prod.error.3109";
+        }
+        if (request.getName() == null || request.getName().isBlank()) {
+            return "prod.error.3115";
+        }
+        if (request.getPrice() == null || request.getPrice().compareTo(BigDecimal.ZERO) <= 0) {
+            return "prod.error.3103";
+        }
+        return null;
+    }
+
+    /**
+     * Builds the result of a rejected bulk item.
+     *
+     * @param index     Position of the item in the request.
+     * @param request   The rejected item.
+     * @param status    The outcome of the item.
+     * @param errorCode The error code describing the rejection.
+     * @param args      The arguments of the error message (optional).
+     * @return The {@link ProductBulkItemResultDTO} of the item.
+     */
+    private ProductBulkItemResultDTO rejected(int index, ProductRequestDTO request, ProductBulkItemResultDTO.Status status,
+                                              String errorCode, Object[] args) {
+        return new ProductBulkItemResultDTO(index, request != null ? request.getName() : null, status, null,
+                errorMessageUtil.getErrorMessage(errorCode, args));
+    }
+
+    private int countByStatus(List<ProductBulkItemResultDTO> results, ProductBulkItemResultDTO.Status status) {
+        return (int) results.stream().filter(result -> result.status() == status).count();
     }
 }
@@ -0,0 +1,142 @@
+package com.shop.microservices.product.Service.ServiceImpl;
+
+import com.shop.microservices.product.Dto.CategoryRequestDTO;
+import com.shop.microservices.product.Dto.CategoryResponseDTO;
+import com.shop.microservices.product.Exception.InvalidInputException;
+import com.shop.microservices.product.Exception.PreconditionFailedException;
+import com.shop.microservices.product.Exception.ResourceNotFoundException;
+import com.shop.microservices.product.Exception.UniqueConstraintViolationException;
+import com.shop.microservices.product.Mapper.CategoryMapper;
+import com.shop.microservices.product.Model.Category;
+import com.shop.microservices.product.Repository.ReactiveCategoryRepository;
+import com.shop.microservices.product.Service.ServiceInterface.IReactiveCategoryService;
+import com.shop.microservices.product.Utils.ETagUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive service implementation for managing categories, active with the {@code reactive} profile.
+ * Mirrors {@link CategoryService} on top of {@link ReactiveCategoryRepository}, with the same validation and error codes.
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveCategoryService implements IReactiveCategoryService {
+
+    private final ReactiveCategoryRepository categoryRepository;
+    private final CategoryMapper categoryMapper;
+    private final ETagUtil eTagUtil;
+
+    /**
+     * Constructor for ReactiveCategoryService.
+     *
+     * @param categoryRepository the reactive repository for category operations
+     * @param categoryMapper     the mapper for converting between entity and DTO
+     * @param eTagUtil           the utility computing the entity tags checked against {@code If-Match}
+     */
+    public ReactiveCategoryService(ReactiveCategoryRepository categoryRepository, CategoryMapper categoryMapper, ETagUtil eTagUtil) {
+        this.categoryRepository = categoryRepository;
+        this.categoryMapper = categoryMapper;
+        this.eTagUtil = eTagUtil;
+    }
+
+    @Override
+    public Mono<CategoryResponseDTO> createCategory(CategoryRequestDTO categoryRequestDTO) {
+        if (categoryRequestDTO == null) {
+            return Mono.error(new InvalidInputException("prod.error.3500"));
+        }
+
+        return saveCategory(categoryMapper.categoryRequestDTOToCategory(categoryRequestDTO))
+                .doOnNext(savedCategory -> log.info("Category created with ID: {}", savedCategory.getCategoryId()))
+                .map(categoryMapper::categoryToCategoryResponseDTO);
+    }
+
+    @Override
+    public Mono<CategoryResponseDTO> updateCategory(String categoryIdStr, CategoryRequestDTO categoryRequestDTO, String ifMatch) {
+        if (categoryRequestDTO == null) {
+            return Mono.error(new InvalidInputException("prod.error.3500"));
+        }
+
+        return parseCategoryId(categoryIdStr)
+                .flatMap(this::findCategory)
+                .flatMap(existingCategory -> {
+                    // Reject the update if the client edited a stale revision
+                    if (!eTagUtil.matchesIfMatch(ifMatch, eTagUtil.eTag(existingCategory.getCategoryId(), existingCategory.getVersion()))) {
+                        return Mono.error(new PreconditionFailedException("prod.error.3002", existingCategory.getCategoryId()));
+                    }
+                    if (categoryRequestDTO.getName() != null && !categoryRequestDTO.getName().isBlank()) {
+                        existingCategory.setName(categoryRequestDTO.getName());
+                    }
+                    if (categoryRequestDTO.getDescription() != null && !categoryRequestDTO.getDescription().isBlank()) {
+                        existingCategory.setDescription(categoryRequestDTO.getDescription());
+                    }
+                    return saveCategory(existingCategory);
+                })
+                .map(categoryMapper::categoryToCategoryResponseDTO);
+    }
+
+    @Override
+    public Mono<Page<CategoryResponseDTO>> getAllCategory(int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        return categoryRepository.findAllBy(pageRequest)
+                .map(categoryMapper::categoryToCategoryResponseDTO)
+                .collectList()
+                .zipWith(categoryRepository.count())
+                .flatMap(result -> result.getT1().isEmpty()
+                        ? Mono.error(new ResourceNotFoundException("prod.error.3504"))
+                        : Mono.just(new PageImpl<>(result.getT1(), pageRequest, result.getT2())));
+    }
+
+    @Override
+    public Mono<CategoryResponseDTO> getCategoryById(String categoryIdStr) {
+        return parseCategoryId(categoryIdStr)
+                .flatMap(this::findCategory)
+                .map(categoryMapper::categoryToCategoryResponseDTO);
+    }
+
+    @Override
+    public Mono<CategoryResponseDTO> getCategoryByName(String categoryName) {
+        return categoryRepository.findByName(categoryName)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("prod.error.3505", categoryName)))
+                .map(categoryMapper::categoryToCategoryResponseDTO);
+    }
+
+    @Override
+    public Mono<String> deleteCategory(String categoryIdStr) {
+        return parseCategoryId(categoryIdStr)
+                .flatMap(this::findCategory)
+                .flatMap(category -> categoryRepository.delete(category)
+                        .doOnSuccess(ignored -> log.info("Category with ID: {} successfully deleted", category.getCategoryId())))
+                .thenReturn(categoryIdStr);
+    }
+
+    private Mono<UUID> parseCategoryId(String categoryIdStr) {
+        return Mono.fromCallable(() -> UUID.fromString(categoryIdStr))
+                .onErrorMap(IllegalArgumentException.class, ex -> new InvalidInputException("prod.error.3502"));
+    }
+
+    private Mono<Category> findCategory(UUID categoryId) {
+        return categoryRepository.findById(categoryId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("prod.error.3503", categoryId)));
+    }
+
+    /**
+     * Saves the category, relying on the unique index on its name to reject duplicates.
+     */
+    private Mono<Category> saveCategory(Category category) {
+        return categoryRepository.save(category)
+                .onErrorMap(DuplicateKeyException.class,
+                        ex -> new UniqueConstraintViolationException("prod.error.3501", "Name", category.getName()))
+                .onErrorMap(OptimisticLockingFailureException.class,
+                        ex -> new PreconditionFailedException("prod.error.3002", category.getCategoryId()));
+    }
+}
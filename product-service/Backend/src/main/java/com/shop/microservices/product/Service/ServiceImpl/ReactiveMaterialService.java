@@ -0,0 +1,145 @@
+package com.shop.microservices.product.Service.ServiceImpl;
+
+import com.shop.microservices.product.Dto.MaterialRequestDTO;
+import com.shop.microservices.product.Dto.MaterialResponseDTO;
+import com.shop.microservices.product.Exception.InvalidInputException;
+import com.shop.microservices.product.Exception.PreconditionFailedException;
+import com.shop.microservices.product.Exception.ResourceNotFoundException;
+import com.shop.microservices.product.Exception.UniqueConstraintViolationException;
+import com.shop.microservices.product.Mapper.MaterialMapper;
+import com.shop.microservices.product.Model.Material;
+import com.shop.microservices.product.Repository.ReactiveMaterialRepository;
+import com.shop.microservices.product.Service.ServiceInterface.IReactiveMaterialService;
+import com.shop.microservices.product.Utils.ETagUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive service implementation for managing materials, active with the {@code reactive} profile.
+ * Mirrors {@link MaterialService} on top of {@link ReactiveMaterialRepository}, with the same validation and error codes.
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveMaterialService implements IReactiveMaterialService {
+
+    private final ReactiveMaterialRepository materialRepository;
+    private final MaterialMapper materialMapper;
+    private final ETagUtil eTagUtil;
+
+    /**
+     * Constructor for ReactiveMaterialService.
+     *
+     * @param materialRepository the reactive repository for material operations
+     * @param materialMapper     the mapper for converting between entity and DTO
+     * @param eTagUtil           the utility computing the entity tags checked against {@code If-Match}
+     */
+    public ReactiveMaterialService(ReactiveMaterialRepository materialRepository, MaterialMapper materialMapper, ETagUtil eTagUtil) {
+        this.materialRepository = materialRepository;
+        this.materialMapper = materialMapper;
+        this.eTagUtil = eTagUtil;
+    }
+
+    @Override
+    public Mono<MaterialResponseDTO> createMaterial(MaterialRequestDTO materialRequestDTO) {
+        if (materialRequestDTO == null) {
+            return Mono.error(new InvalidInputException("prod.error.3600"));
+        }
+
+        return saveMaterial(materialMapper.materialRequestDTOToMaterial(materialRequestDTO))
+                .doOnNext(savedMaterial -> log.info("Material created with ID: {}", savedMaterial.getMaterialId()))
+                .map(materialMapper::materialToMaterialResponseDTO);
+    }
+
+    @Override
+    public Mono<MaterialResponseDTO> updateMaterial(String materialIdStr, MaterialRequestDTO materialRequestDTO, String ifMatch) {
+        if (materialRequestDTO == null) {
+            return Mono.error(new InvalidInputException("prod.error.3600"));
+        }
+
+        return parseMaterialId(materialIdStr)
+                .flatMap(this::findMaterial)
+                .flatMap(existingMaterial -> {
+                    // Reject the update if the client edited a stale revision
+                    if (!eTagUtil.matchesIfMatch(ifMatch, eTagUtil.eTag(existingMaterial.getMaterialId(), existingMaterial.getVersion()))) {
+                        return Mono.error(new PreconditionFailedException("prod.error.3002", existingMaterial.getMaterialId()));
+                    }
+                    if (materialRequestDTO.getMaterialName() != null && !materialRequestDTO.getMaterialName().isBlank()) {
+                        existingMaterial.setMaterialName(materialRequestDTO.getMaterialName());
+                    }
+                    if (materialRequestDTO.getMaterialType() != null && !materialRequestDTO.getMaterialType().isBlank()) {
+                        existingMaterial.setMaterialType(materialRequestDTO.getMaterialType());
+                    }
+                    if (materialRequestDTO.getDescription() != null && !materialRequestDTO.getDescription().isBlank()) {
+                        existingMaterial.setDescription(materialRequestDTO.getDescription());
+                    }
+                    return saveMaterial(existingMaterial);
+                })
+                .map(materialMapper::materialToMaterialResponseDTO);
+    }
+
+    @Override
+    public Mono<Page<MaterialResponseDTO>> getAllMaterials(int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        return materialRepository.findAllBy(pageRequest)
+                .map(materialMapper::materialToMaterialResponseDTO)
+                .collectList()
+                .zipWith(materialRepository.count())
+                .flatMap(result -> result.getT1().isEmpty()
+                        ? Mono.error(new ResourceNotFoundException("prod.error.3604"))
+                        : Mono.just(new PageImpl<>(result.getT1(), pageRequest, result.getT2())));
+    }
+
+    @Override
+    public Mono<MaterialResponseDTO> getMaterialById(String materialIdStr) {
+        return parseMaterialId(materialIdStr)
+                .flatMap(this::findMaterial)
+                .map(materialMapper::materialToMaterialResponseDTO);
+    }
+
+    @Override
+    public Mono<MaterialResponseDTO> getMaterialByNameAndType(String materialName, String materialType) {
+        return materialRepository.findByMaterialNameAndMaterialType(materialName, materialType)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("prod.error.3605", materialName)))
+                .map(materialMapper::materialToMaterialResponseDTO);
+    }
+
+    @Override
+    public Mono<String> deleteMaterial(String materialIdStr) {
+        return parseMaterialId(materialIdStr)
+                .flatMap(this::findMaterial)
+                .flatMap(material -> materialRepository.delete(material)
+                        .doOnSuccess(ignored -> log.info("Material with ID: {} successfully deleted", material.getMaterialId())))
+                .thenReturn(materialIdStr);
+    }
+
+    private Mono<UUID> parseMaterialId(String materialIdStr) {
+        return Mono.fromCallable(() -> UUID.fromString(materialIdStr))
+                .onErrorMap(IllegalArgumentException.class, ex -> new InvalidInputException("prod.error.3602"));
+    }
+
+    private Mono<Material> findMaterial(UUID materialId) {
+        return materialRepository.findById(materialId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("prod.error.3603", materialId)));
+    }
+
+    /**
+     * Saves the material, relying on the compound unique index on its name and type to reject duplicates.
+     */
+    private Mono<Material> saveMaterial(Material material) {
+        return materialRepository.save(material)
+                .onErrorMap(DuplicateKeyException.class, ex -> new UniqueConstraintViolationException("prod.error.3601",
+                        new String[]{material.getMaterialName(), material.getMaterialType()}))
+                .onErrorMap(OptimisticLockingFailureException.class,
+                        ex -> new PreconditionFailedException("prod.error.3002", material.getMaterialId()));
+    }
+}
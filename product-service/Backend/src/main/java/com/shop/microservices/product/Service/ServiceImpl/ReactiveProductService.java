@@ -0,0 +1,275 @@
+package com.shop.microservices.product.Service.ServiceImpl;
+
+import com.mongodb.MongoException;
+import com.shop.microservices.product.Cache.ProductCache;
+import com.shop.microservices.product.Configuration.ProductSearchProperties;
+import com.shop.microservices.product.Dto.ProductBulkResponseDTO;
+import com.shop.microservices.product.Dto.ProductCursorPageDTO;
+import com.shop.microservices.product.Dto.ProductRequestDTO;
+import com.shop.microservices.product.Dto.ProductResponseDTO;
+import com.shop.microservices.product.Exception.EntityCreationException;
+import com.shop.microservices.product.Exception.InvalidInputException;
+import com.shop.microservices.product.Exception.PreconditionFailedException;
+import com.shop.microservices.product.Exception.ResourceNotFoundException;
+import com.shop.microservices.product.Exception.UniqueConstraintViolationException;
+import com.shop.microservices.product.Mapper.ProductMapper;
+import com.shop.microservices.product.Model.Product;
+import com.shop.microservices.product.Repository.ReactiveProductRepository;
+import com.shop.microservices.product.Search.ProductSearchIndex;
+import com.shop.microservices.product.Service.ServiceInterface.IProductService;
+import com.shop.microservices.product.Service.ServiceInterface.IReactiveProductService;
+import com.shop.microservices.product.Utils.ETagUtil;
+import com.shop.microservices.product.Utils.ProductCursorUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Reactive service implementation for managing products, active with the {@code reactive} profile.
+ * <p>
+ * Mirrors {@link ProductService} on top of {@link ReactiveProductRepository}, with the same validation and error codes,
+ * so that no request thread waits on MongoDB. Reads by ID go through the {@link ProductCache} like in the blocking
+ * service, with the blocking Redis tier accessed on the bounded elastic scheduler; writes keep the cache and the
+ * {@link ProductSearchIndex} in sync like the blocking service does.
+ * </p>
+ * <p>
+ * Bulk creation is a batch operation and keeps using the blocking {@link IProductService}, offloaded to the
+ * bounded elastic scheduler so it never runs on an event loop thread.
+ * </p>
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveProductService implements IReactiveProductService {
+
+    // Upper bound of the page size accepted by cursor-based listing
+    private static final int MAX_CURSOR_PAGE_SIZE = 500;
+
+    // Number of documents requested from MongoDB per round trip during export
+    private static final int EXPORT_BATCH_SIZE = 500;
+
+    private final ReactiveProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final ProductCache productCache;
+    private final ProductCursorUtil productCursorUtil;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSearchProperties productSearchProperties;
+    private final IProductService productService;
+    private final ETagUtil eTagUtil;
+
+    // Runs the blocking Redis calls of cache loads off the event loop
+    private final Executor blockingExecutor = Schedulers.boundedElastic()::schedule;
+
+    /**
+     * Constructs the {@link ReactiveProductService} class with the necessary dependencies.
+     *
+     * @param productRepository       The reactive repository to interact with the MongoDB database for product data.
+     * @param productMapper           The mapper to convert product entities to DTOs and vice versa.
+     * @param productCache            The read-through cache in front of the product repository.
+     * @param productCursorUtil       Utility class for encoding and decoding continuation tokens.
+     * @param productSearchIndex      The in-memory search index kept in sync with every product write.
+     * @param productSearchProperties The search configuration, bounding the number of results of a search.
+     * @param productService          The blocking product service, used for bulk creation.
+     * @param eTagUtil                Utility class computing the entity tags checked against {@code If-Match}.
+     */
+    public ReactiveProductService(ReactiveProductRepository productRepository, ProductMapper productMapper,
+                                  ProductCache productCache, ProductCursorUtil productCursorUtil,
+                                  ProductSearchIndex productSearchIndex, ProductSearchProperties productSearchProperties,
+                                  IProductService productService, ETagUtil eTagUtil) {
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.productCache = productCache;
+        this.productCursorUtil = productCursorUtil;
+        this.productSearchIndex = productSearchIndex;
+        this.productSearchProperties = productSearchProperties;
+        this.productService = productService;
+        this.eTagUtil = eTagUtil;
+    }
+
+    @Override
+    public Mono<ProductResponseDTO> createProduct(ProductRequestDTO productRequest) {
+        if (productRequest == null) {
+            return Mono.error(new InvalidInputException("prod.error.3109"));
+        }
+
+        return Mono.fromCallable(() -> productMapper.productRequestDTOToProduct(productRequest))
+                .flatMap(productRepository::save)
+                .doOnNext(savedProduct -> log.info("Product created with ID: {}", savedProduct.getId()))
+                .map(productMapper::productToProductResponseDTO)
+                .doOnNext(productSearchIndex::index)
+                .onErrorMap(DuplicateKeyException.class,
+                        ex -> new UniqueConstraintViolationException("prod.error.3102", "name", productRequest.getName()))
+                .onErrorMap(ex -> ex instanceof MongoException || ex instanceof DataAccessException, ex -> {
+                    log.error("MongoDB error occurred while creating product. Error Message: {}, Product Request: {}",
+                            ex.getMessage(), productRequest, ex);
+                    return new EntityCreationException("prod.error.3100", ex);
+                });
+    }
+
+    @Override
+    public Mono<ProductBulkResponseDTO> createProducts(List<ProductRequestDTO> productRequests) {
+        return Mono.fromCallable(() -> productService.createProducts(productRequests))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<Page<ProductResponseDTO>> getAllProducts(int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        return productRepository.findAllBy(pageRequest)
+                .map(productMapper::productToProductResponseDTO)
+                .collectList()
+                .zipWith(productRepository.count())
+                .flatMap(result -> result.getT1().isEmpty()
+                        ? Mono.error(new ResourceNotFoundException("prod.error.3104"))
+                        : Mono.just(new PageImpl<>(result.getT1(), pageRequest, result.getT2())));
+    }
+
+    @Override
+    public Mono<ProductCursorPageDTO> getProductsByCursor(String cursor, int size, String sortBy, boolean includeCount) {
+        return Mono.defer(() -> {
+            // Validate the page size and sort key, and decode the position of the previous page
+            if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+                return Mono.error(new InvalidInputException("prod.error.3113"));
+            }
+            String sortField = productCursorUtil.resolveSortField(sortBy);
+            ProductCursorUtil.Cursor position = (cursor == null || cursor.isBlank())
+                    ? null
+                    : productCursorUtil.decode(cursor, sortBy);
+
+            Mono<List<Product>> products = productRepository.findPageAfter(sortField,
+                    position != null ? position.lastValue() : null,
+                    position != null ? position.lastId() : null,
+                    size + 1).collectList();
+            Mono<Optional<Long>> totalElements = includeCount
+                    ? productRepository.count().map(Optional::of)
+                    : Mono.just(Optional.empty());
+
+            return products.zipWith(totalElements, (fetched, total) -> {
+                boolean hasNext = fetched.size() > size;
+                List<Product> pageProducts = hasNext ? fetched.subList(0, size) : fetched;
+                String nextCursor = hasNext ? productCursorUtil.encode(sortBy, pageProducts.get(size - 1)) : null;
+                List<ProductResponseDTO> content = pageProducts.stream()
+                        .map(productMapper::productToProductResponseDTO)
+                        .toList();
+                return new ProductCursorPageDTO(content, nextCursor, hasNext, total.orElse(null));
+            });
+        });
+    }
+
+    @Override
+    public Flux<ProductResponseDTO> exportProducts() {
+        return productRepository.streamAll(EXPORT_BATCH_SIZE)
+                .map(productMapper::productToProductResponseDTO);
+    }
+
+    @Override
+    public Flux<ProductResponseDTO> searchProducts(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return Flux.error(new InvalidInputException("prod.error.3116"));
+        }
+        int maxResults = productSearchProperties.getMaxResults();
+        if (limit < 1 || limit > maxResults) {
+            return Flux.error(new InvalidInputException("prod.error.3117", maxResults));
+        }
+        // The index is in memory, searching it does not block
+        return Flux.defer(() -> Flux.fromIterable(productSearchIndex.search(query, limit)));
+    }
+
+    @Override
+    public Mono<ProductResponseDTO> getProductById(String productIdStr) {
+        // Cancellation is suppressed, the load may be shared with concurrent callers through the cache
+        return parseProductId(productIdStr).flatMap(productId -> Mono.fromFuture(
+                        () -> productCache.getAsync(productId, this::loadProduct, blockingExecutor), true)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("prod.error.3105", productId))));
+    }
+
+    @Override
+    public Mono<ProductResponseDTO> updateProduct(String productIdStr, ProductRequestDTO productRequest, String ifMatch) {
+        return parseProductId(productIdStr).flatMap(productId -> {
+            if (productRequest == null) {
+                return Mono.error(new InvalidInputException("prod.error.3109"));
+            }
+
+            return findProduct(productId)
+                    .flatMap(existingProduct -> {
+                        // Reject the update if the client edited a stale revision
+                        if (!eTagUtil.matchesIfMatch(ifMatch, eTagUtil.eTag(productId, existingProduct.getVersion()))) {
+                            return Mono.error(new PreconditionFailedException("prod.error.3002", productId));
+                        }
+                        if (productRequest.getName() != null && !productRequest.getName().isBlank()) {
+                            existingProduct.setName(productRequest.getName());
+                        }
+                        if (productRequest.getDescription() != null) {
+                            existingProduct.setDescription(productRequest.getDescription());
+                        }
+                        if (productRequest.getPrice() != null && productRequest.getPrice().compareTo(BigDecimal.ZERO) > 0) {
+                            existingProduct.setPrice(productRequest.getPrice());
+                        }
+                        return productRepository.save(existingProduct)
+                                .onErrorMap(DuplicateKeyException.class, ex -> new UniqueConstraintViolationException(
+                                        "prod.error.3102", "name", existingProduct.getName()))
+                                .onErrorMap(OptimisticLockingFailureException.class,
+                                        ex -> new PreconditionFailedException("prod.error.3002", productId));
+                    })
+                    .map(productMapper::productToProductResponseDTO)
+                    .flatMap(updatedProduct -> invalidateCache(productId).thenReturn(updatedProduct))
+                    .doOnNext(productSearchIndex::index);
+        });
+    }
+
+    @Override
+    public Mono<Void> deleteProduct(String productIdStr) {
+        return parseProductId(productIdStr).flatMap(productId -> findProduct(productId)
+                .flatMap(productRepository::delete)
+                .then(invalidateCache(productId))
+                .doOnSuccess(ignored -> {
+                    productSearchIndex.remove(productId);
+                    log.info("Product with ID: {} successfully deleted", productId);
+                }));
+    }
+
+    private Mono<UUID> parseProductId(String productIdStr) {
+        if (productIdStr == null || productIdStr.trim().isEmpty()) {
+            return Mono.error(new InvalidInputException("prod.error.3108"));
+        }
+        return Mono.fromCallable(() -> UUID.fromString(productIdStr))
+                .onErrorMap(IllegalArgumentException.class, ex -> new InvalidInputException("prod.error.3110"));
+    }
+
+    private Mono<Product> findProduct(UUID productId) {
+        return productRepository.findById(productId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("prod.error.3105", productId)));
+    }
+
+    private CompletableFuture<ProductResponseDTO> loadProduct(UUID productId) {
+        return productRepository.findById(productId)
+                .map(productMapper::productToProductResponseDTO)
+                .toFuture();
+    }
+
+    /**
+     * Invalidates a product in every cache tier. The Redis tier uses a blocking client,
+     * so the invalidation runs on the bounded elastic scheduler.
+     */
+    private Mono<Void> invalidateCache(UUID productId) {
+        return Mono.fromRunnable(() -> productCache.invalidate(productId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+}
@@ -23,9 +23,10 @@ public interface ICategoryService {
      *
      * @param categoryIdStr The ID of the category in String format to update.
      * @param categoryRequestDTO The DTO containing the updated category data.
+     * @param ifMatch The entity tags of the {@code If-Match} header, or {@code null} for an unconditional update.
      * @return A {@link CategoryResponseDTO} representing the updated category.
      */
-    CategoryResponseDTO updateCategory(String categoryIdStr, CategoryRequestDTO categoryRequestDTO);
+    CategoryResponseDTO updateCategory(String categoryIdStr, CategoryRequestDTO categoryRequestDTO, String ifMatch);
 
     /**
      * Retrieves a paginated list of all categories.
@@ -23,9 +23,10 @@ public interface IMaterialService {
      *
      * @param materialIdStr The ID of the material in String format to update.
      * @param materialRequestDTO The DTO containing the updated material data.
+     * @param ifMatch The entity tags of the {@code If-Match} header, or {@code null} for an unconditional update.
      * @return A {@link MaterialResponseDTO} representing the updated material.
      */
-    MaterialResponseDTO updateMaterial(String materialIdStr, MaterialRequestDTO materialRequestDTO);
+    MaterialResponseDTO updateMaterial(String materialIdStr, MaterialRequestDTO materialRequestDTO, String ifMatch);
 
     /**
      * Retrieves a paginated list of all materials.
@@ -1,9 +1,15 @@
 package com.shop.microservices.product.Service.ServiceInterface;
 
+import com.shop.microservices.product.Dto.ProductBulkResponseDTO;
+import com.shop.microservices.product.Dto.ProductCursorPageDTO;
 import com.shop.microservices.product.Dto.ProductRequestDTO;
 import com.shop.microservices.product.Dto.ProductResponseDTO;
 import org.springframework.data.domain.Page;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
 /**
  * IProductService interface defines the contract for the ProductService class.
  * It declares the essential CRUD operations for managing products.
@@ -18,6 +24,15 @@ public interface IProductService {
      */
     ProductResponseDTO createProduct(ProductRequestDTO productRequest);
 
+    /**
+     * Creates several products at once.
+     * Items are validated and written independently, so a rejected item does not prevent the others from being created.
+     *
+     * @param productRequests The DTOs containing the data of the products to create.
+     * @return A {@link ProductBulkResponseDTO} with the outcome of every item and the throughput of the request.
+     */
+    ProductBulkResponseDTO createProducts(List<ProductRequestDTO> productRequests);
+
     /**
      * Retrieves a paginated list of all products.
      *
@@ -28,6 +43,35 @@ public interface IProductService {
      */
     Page<ProductResponseDTO> getAllProducts(int page, int size);
 
+    /**
+     * Retrieves a page of products using keyset (cursor) pagination.
+     *
+     * @param cursor       The continuation token returned with the previous page, or {@code null} for the first page.
+     * @param size         The number of products to include in the page.
+     * @param sortBy       The sort key, either {@code id} or {@code name}.
+     * @param includeCount Whether the total number of products should be counted and returned.
+     * @return A {@link ProductCursorPageDTO} containing the products and the token of the next page.
+     */
+    ProductCursorPageDTO getProductsByCursor(String cursor, int size, String sortBy, boolean includeCount);
+
+    /**
+     * Writes the whole product catalogue to the given stream as newline-delimited JSON (NDJSON).
+     *
+     * @param outputStream The stream to write the products to. It is flushed but not closed.
+     * @return The number of exported products.
+     * @throws IOException If writing to the stream fails, e.g. because the client disconnected.
+     */
+    long exportProducts(OutputStream outputStream) throws IOException;
+
+    /**
+     * Searches products by name and description, matching every word of the query fully or as a prefix.
+     *
+     * @param query The search query as typed by the user.
+     * @param limit The maximum number of products to return.
+     * @return A list of {@link ProductResponseDTO} objects, most relevant first.
+     */
+    List<ProductResponseDTO> searchProducts(String query, int limit);
+
 
     /**
      * Retrieves a product by its ID.
@@ -50,9 +94,10 @@ public interface IProductService {
      *
      * @param productIdStr The ID of the product in String format to update.
      * @param productRequest The DTO containing the updated product data.
+     * @param ifMatch The entity tags of the {@code If-Match} header, or {@code null} for an unconditional update.
      * @return A {@link ProductResponseDTO} representing the updated product.
      */
-    ProductResponseDTO updateProduct(String productIdStr, ProductRequestDTO productRequest);
+    ProductResponseDTO updateProduct(String productIdStr, ProductRequestDTO productRequest, String ifMatch);
 
     /**
      * Deletes a product by its ID.
@@ -0,0 +1,64 @@
+package com.shop.microservices.product.Service.ServiceInterface;
+
+import com.shop.microservices.product.Dto.CategoryRequestDTO;
+import com.shop.microservices.product.Dto.CategoryResponseDTO;
+import org.springframework.data.domain.Page;
+import reactor.core.publisher.Mono;
+
+/**
+ * IReactiveCategoryService interface defines the non-blocking counterpart of {@link ICategoryService},
+ * used by the {@code reactive} profile. Errors are signalled through the returned publishers.
+ */
+public interface IReactiveCategoryService {
+
+    /**
+     * Creates a new category.
+     *
+     * @param categoryRequestDTO The DTO containing the category data.
+     * @return A {@link Mono} emitting the created category.
+     */
+    Mono<CategoryResponseDTO> createCategory(CategoryRequestDTO categoryRequestDTO);
+
+    /**
+     * Updates an existing category.
+     *
+     * @param categoryIdStr      The ID of the category in String format to update.
+     * @param categoryRequestDTO The DTO containing the updated category data.
+     * @param ifMatch            The entity tags of the {@code If-Match} header, or {@code null} for an unconditional update.
+     * @return A {@link Mono} emitting the updated category.
+     */
+    Mono<CategoryResponseDTO> updateCategory(String categoryIdStr, CategoryRequestDTO categoryRequestDTO, String ifMatch);
+
+    /**
+     * Retrieves a paginated list of all categories.
+     *
+     * @param page The page number to retrieve (0-based index).
+     * @param size The number of categories to include per page.
+     * @return A {@link Mono} emitting the requested page of categories.
+     */
+    Mono<Page<CategoryResponseDTO>> getAllCategory(int page, int size);
+
+    /**
+     * Retrieves a category by its ID.
+     *
+     * @param categoryIdStr The ID of the category in String format.
+     * @return A {@link Mono} emitting the requested category.
+     */
+    Mono<CategoryResponseDTO> getCategoryById(String categoryIdStr);
+
+    /**
+     * Retrieves a category by its name.
+     *
+     * @param categoryName The name of the category.
+     * @return A {@link Mono} emitting the requested category.
+     */
+    Mono<CategoryResponseDTO> getCategoryByName(String categoryName);
+
+    /**
+     * Deletes a category by its ID.
+     *
+     * @param categoryIdStr The ID of the category in String format to delete.
+     * @return A {@link Mono} emitting the ID of the deleted category.
+     */
+    Mono<String> deleteCategory(String categoryIdStr);
+}
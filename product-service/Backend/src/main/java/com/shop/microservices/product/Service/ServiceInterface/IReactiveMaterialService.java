@@ -0,0 +1,65 @@
+package com.shop.microservices.product.Service.ServiceInterface;
+
+import com.shop.microservices.product.Dto.MaterialRequestDTO;
+import com.shop.microservices.product.Dto.MaterialResponseDTO;
+import org.springframework.data.domain.Page;
+import reactor.core.publisher.Mono;
+
+/**
+ * IReactiveMaterialService interface defines the non-blocking counterpart of {@link IMaterialService},
+ * used by the {@code reactive} profile. Errors are signalled through the returned publishers.
+ */
+public interface IReactiveMaterialService {
+
+    /**
+     * Creates a new material.
+     *
+     * @param materialRequestDTO The DTO containing the material data.
+     * @return A {@link Mono} emitting the created material.
+     */
+    Mono<MaterialResponseDTO> createMaterial(MaterialRequestDTO materialRequestDTO);
+
+    /**
+     * Updates an existing material.
+     *
+     * @param materialIdStr      The ID of the material in String format to update.
+     * @param materialRequestDTO The DTO containing the updated material data.
+     * @param ifMatch            The entity tags of the {@code If-Match} header, or {@code null} for an unconditional update.
+     * @return A {@link Mono} emitting the updated material.
+     */
+    Mono<MaterialResponseDTO> updateMaterial(String materialIdStr, MaterialRequestDTO materialRequestDTO, String ifMatch);
+
+    /**
+     * Retrieves a paginated list of all materials.
+     *
+     * @param page The page number to retrieve (0-based index).
+     * @param size The number of materials to include per page.
+     * @return A {@link Mono} emitting the requested page of materials.
+     */
+    Mono<Page<MaterialResponseDTO>> getAllMaterials(int page, int size);
+
+    /**
+     * Retrieves a material by its ID.
+     *
+     * @param materialIdStr The ID of the material in String format.
+     * @return A {@link Mono} emitting the requested material.
+     */
+    Mono<MaterialResponseDTO> getMaterialById(String materialIdStr);
+
+    /**
+     * Retrieves a material by its name and type.
+     *
+     * @param materialName The name of the material.
+     * @param materialType The type of the material.
+     * @return A {@link Mono} emitting the requested material.
+     */
+    Mono<MaterialResponseDTO> getMaterialByNameAndType(String materialName, String materialType);
+
+    /**
+     * Deletes a material by its ID.
+     *
+     * @param materialIdStr The ID of the material in String format to delete.
+     * @return A {@link Mono} emitting the ID of the deleted material.
+     */
+    Mono<String> deleteMaterial(String materialIdStr);
+}
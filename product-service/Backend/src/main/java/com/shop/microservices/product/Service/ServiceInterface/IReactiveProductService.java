@@ -0,0 +1,96 @@
+package com.shop.microservices.product.Service.ServiceInterface;
+
+import com.shop.microservices.product.Dto.ProductBulkResponseDTO;
+import com.shop.microservices.product.Dto.ProductCursorPageDTO;
+import com.shop.microservices.product.Dto.ProductRequestDTO;
+import com.shop.microservices.product.Dto.ProductResponseDTO;
+import org.springframework.data.domain.Page;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * IReactiveProductService interface defines the non-blocking counterpart of {@link IProductService},
+ * used by the {@code reactive} profile. Errors are signalled through the returned publishers.
+ */
+public interface IReactiveProductService {
+
+    /**
+     * Creates a new product.
+     *
+     * @param productRequest The DTO containing the product data.
+     * @return A {@link Mono} emitting the created product.
+     */
+    Mono<ProductResponseDTO> createProduct(ProductRequestDTO productRequest);
+
+    /**
+     * Creates several products at once.
+     *
+     * @param productRequests The DTOs containing the data of the products to create.
+     * @return A {@link Mono} emitting the outcome of every item and the throughput of the request.
+     */
+    Mono<ProductBulkResponseDTO> createProducts(List<ProductRequestDTO> productRequests);
+
+    /**
+     * Retrieves a paginated list of all products.
+     *
+     * @param page The page number to retrieve (0-based index).
+     * @param size The number of products to include per page.
+     * @return A {@link Mono} emitting the requested page of products.
+     */
+    Mono<Page<ProductResponseDTO>> getAllProducts(int page, int size);
+
+    /**
+     * Retrieves a page of products using keyset (cursor) pagination.
+     *
+     * @param cursor       The continuation token returned with the previous page, or {@code null} for the first page.
+     * @param size         The number of products to include in the page.
+     * @param sortBy       The sort key, either {@code id} or {@code name}.
+     * @param includeCount Whether the total number of products should be counted and returned.
+     * @return A {@link Mono} emitting the page and the token of the next page.
+     */
+    Mono<ProductCursorPageDTO> getProductsByCursor(String cursor, int size, String sortBy, boolean includeCount);
+
+    /**
+     * Streams the whole product catalogue, as fast as the subscriber consumes it.
+     *
+     * @return A {@link Flux} emitting every product.
+     */
+    Flux<ProductResponseDTO> exportProducts();
+
+    /**
+     * Searches products by name and description, matching every word of the query fully or as a prefix.
+     *
+     * @param query The search query as typed by the user.
+     * @param limit The maximum number of products to return.
+     * @return A {@link Flux} emitting the matching products, most relevant first.
+     */
+    Flux<ProductResponseDTO> searchProducts(String query, int limit);
+
+    /**
+     * Retrieves a product by its ID.
+     *
+     * @param productIdStr The ID of the product in String format.
+     * @return A {@link Mono} emitting the requested product.
+     */
+    Mono<ProductResponseDTO> getProductById(String productIdStr);
+
+    /**
+     * Updates an existing product.
+     *
+     * @param productIdStr   The ID of the product in String format to update.
+     * @param productRequest The DTO containing the updated product data.
+     * @param ifMatch        The entity tags of the {@code If-Match} header, or {@code null} for an unconditional update.
+     * @return A {@link Mono} emitting the updated product.
+     */
+    Mono<ProductResponseDTO> updateProduct(String productIdStr, ProductRequestDTO productRequest, String ifMatch);
+
+    /**
+     * Deletes a product by its ID.
+     *
+     * @param productIdStr The ID of the product in String format to delete.
+     * @return A {@link Mono} completing once the product is deleted.
+     */
+    Mono<Void> deleteProduct(String productIdStr);
+}
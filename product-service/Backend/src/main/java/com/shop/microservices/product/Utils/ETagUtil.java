@@ -0,0 +1,103 @@
+package com.shop.microservices.product.Utils;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Utility class for building and comparing the entity tags (ETags) of products, categories and materials.
+ * <p>
+ * A tag is derived from the ID and the {@code @Version} of a document, so it changes on every update and can be
+ * computed without serializing the response body. Tags are strong: two responses with the same tag are
+ * byte-for-byte identical, which lets them back both {@code If-None-Match} and {@code If-Match}.
+ * </p>
+ */
+@Component
+public class ETagUtil {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    /**
+     * Builds the strong entity tag of a document revision.
+     * Documents written before versioning was introduced are treated as revision 0.
+     *
+     * @param id      The ID of the document.
+     * @param version The version of the document, possibly {@code null}.
+     * @return The quoted entity tag, e.g. {@code "550e8400-e29b-41d4-a716-446655440000.3"}.
+     */
+    public String eTag(UUID id, Long version) {
+        return "\"" + id + '.' + (version == null ? 0L : version) + "\"";
+    }
+
+    /**
+     * Builds the response of a conditional GET, carrying the entity tag in both cases.
+     * <p>
+     * When the client copy is current, {@code 304 Not Modified} is returned without a body, so the
+     * representation is not serialized at all; otherwise {@code 200 OK} is returned with the body.
+     * </p>
+     *
+     * @param ifNoneMatch The {@code If-None-Match} header value, or {@code null} if the header is absent.
+     * @param eTag        The current entity tag of the resource.
+     * @param body        The representation of the resource.
+     * @param <T>         The type of the representation.
+     * @return The {@link ResponseEntity} to return to the client.
+     */
+    public <T> ResponseEntity<T> conditionalGet(String ifNoneMatch, String eTag, T body) {
+        if (matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(body);
+    }
+
+    /**
+     * Evaluates an {@code If-None-Match} header, using the weak comparison required by RFC 9110.
+     *
+     * @param ifNoneMatch The header value, or {@code null} if the header is absent.
+     * @param eTag        The current entity tag of the resource.
+     * @return {@code true} if the client copy is current and {@code 304 Not Modified} may be returned.
+     */
+    public boolean matchesIfNoneMatch(String ifNoneMatch, String eTag) {
+        return ifNoneMatch != null && matches(ifNoneMatch, eTag, true);
+    }
+
+    /**
+     * Evaluates an {@code If-Match} header, using the strong comparison required by RFC 9110.
+     *
+     * @param ifMatch The header value, or {@code null} if the header is absent.
+     * @param eTag    The current entity tag of the resource.
+     * @return {@code true} if the request may proceed, i.e. the header is absent or one of its tags matches.
+     */
+    public boolean matchesIfMatch(String ifMatch, String eTag) {
+        return ifMatch == null || matches(ifMatch, eTag, false);
+    }
+
+    /**
+     * Checks whether any tag of a comma separated list matches the given entity tag.
+     *
+     * @param header The header value listing the entity tags.
+     * @param eTag   The current entity tag of the resource.
+     * @param weak   Whether weak tags ({@code W/"..."}) may match.
+     * @return {@code true} if the list is {@code *} or contains a matching tag.
+     */
+    private boolean matches(String header, String eTag, boolean weak) {
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (ANY.equals(tag)) {
+                return true;
+            }
+            if (tag.startsWith(WEAK_PREFIX)) {
+                if (!weak) {
+                    continue;
+                }
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,21 +2,46 @@ package com.shop.microservices.product.Utils;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class to fetch error messages from message properties.
  * Supports internationalization (i18n) for different locales.
+ * <p>
+ * Messages are resolved in the locale of the current request, which Spring MVC derives from the
+ * {@code Accept-Language} header, and in the default locale outside of a request.
+ * </p>
+ * <p>
+ * The template of every code is fetched from the {@link MessageSource} and parsed once per locale, then cached:
+ * messages without arguments are returned as a cached string, and messages with arguments are assembled from
+ * the parsed literals without going through {@link java.text.MessageFormat}. Templates using format types
+ * ({@code {0,number}}) and arguments that {@code MessageFormat} formats by locale (numbers and dates) are
+ * delegated to the {@link MessageSource}, so the output is always the same as resolving the message directly.
+ * The message files are bundled with the service, so cached templates never go stale.
+ * </p>
  */
 
 @Component
 public class ErrorMessageUtil {
 
+    // Bounds the cache, the locale comes from a request header
+    private static final int MAX_CACHED_LOCALES = 16;
+
     // Injected MessageSource to retrieve messages from the property files
     private final MessageSource messageSource;
 
+    // Parsed templates by locale, then by error code
+    private final Map<Locale, Map<String, MessageTemplate>> templates = new ConcurrentHashMap<>();
+
     // Constructor for dependency injection
     @Autowired
     public ErrorMessageUtil(MessageSource messageSource) {
@@ -32,10 +57,15 @@ public class ErrorMessageUtil {
      * @return The formatted error message including the error code.
      */
     public String getErrorMessage(String code, Object[] args) {
-        // Fetch the error message from the properties file
-        String message = messageSource.getMessage(code, args, Locale.getDefault());
-        // Format the message to include the error code
-        return String.format("%s: %s", code, message);
+        Locale locale = LocaleContextHolder.getLocale();
+        MessageTemplate template = getTemplate(code, locale);
+        if (args == null || args.length == 0) {
+            return template.withoutArguments;
+        }
+        if (!template.canFormat(args)) {
+            return code + ": " + messageSource.getMessage(code, args, locale);
+        }
+        return template.format(args);
     }
 
     /**
@@ -49,4 +79,142 @@ public class ErrorMessageUtil {
         return getErrorMessage(code, null);
     }
 
+    private MessageTemplate getTemplate(String code, Locale locale) {
+        Map<String, MessageTemplate> byCode = templates.get(locale);
+        if (byCode == null) {
+            if (templates.size() >= MAX_CACHED_LOCALES) {
+                return parseTemplate(code, locale);
+            }
+            byCode = templates.computeIfAbsent(locale, key -> new ConcurrentHashMap<>());
+        }
+        MessageTemplate template = byCode.get(code);
+        if (template == null) {
+            // Parsed outside computeIfAbsent, an unknown code throws NoSuchMessageException and is not cached
+            template = parseTemplate(code, locale);
+            byCode.putIfAbsent(code, template);
+        }
+        return template;
+    }
+
+    private MessageTemplate parseTemplate(String code, Locale locale) {
+        // Without arguments, the MessageSource returns the template as written in the properties file
+        return MessageTemplate.parse(code, messageSource.getMessage(code, null, locale));
+    }
+
+    /**
+     * A message template split into literals and argument indexes, following the {@code MessageFormat} syntax.
+     */
+    static final class MessageTemplate {
+
+        // Full message for calls without arguments, which the MessageSource does not run through MessageFormat
+        private final String withoutArguments;
+        private final String prefix;
+        // literals[i] precedes argument argumentIndexes[i], the last literal follows the last argument
+        private final String[] literals;
+        private final int[] argumentIndexes;
+        // Template using format types or malformed, left to the MessageSource
+        private final boolean delegated;
+        private final int estimatedLength;
+
+        private MessageTemplate(String code, String template, String[] literals, int[] argumentIndexes, boolean delegated) {
+            this.withoutArguments = code + ": " + template;
+            this.prefix = code + ": ";
+            this.literals = literals;
+            this.argumentIndexes = argumentIndexes;
+            this.delegated = delegated;
+            int length = prefix.length();
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            // Room for UUID-sized arguments
+            this.estimatedLength = length + 36 * argumentIndexes.length;
+        }
+
+        static MessageTemplate parse(String code, String template) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> argumentIndexes = new ArrayList<>();
+            StringBuilder literal = new StringBuilder(template.length());
+            boolean quoted = false;
+            int i = 0;
+            while (i < template.length()) {
+                char c = template.charAt(i);
+                if (c == '\'') {
+                    // Two single quotes stand for one, a single one starts or ends a quoted section
+                    if (i + 1 < template.length() && template.charAt(i + 1) == '\'') {
+                        literal.append('\'');
+                        i += 2;
+                    } else {
+                        quoted = !quoted;
+                        i++;
+                    }
+                } else if (c == '{' && !quoted) {
+                    int end = template.indexOf('}', i);
+                    int argumentIndex = end < 0 ? -1 : parseArgumentIndex(template, i + 1, end);
+                    if (argumentIndex < 0) {
+                        return new MessageTemplate(code, template, new String[]{""}, new int[0], true);
+                    }
+                    literals.add(literal.toString());
+                    argumentIndexes.add(argumentIndex);
+                    literal.setLength(0);
+                    i = end + 1;
+                } else {
+                    literal.append(c);
+                    i++;
+                }
+            }
+            literals.add(literal.toString());
+            return new MessageTemplate(code, template, literals.toArray(new String[0]),
+                    argumentIndexes.stream().mapToInt(Integer::intValue).toArray(), false);
+        }
+
+        // Index of a plain {n} placeholder, -1 for anything else
+        private static int parseArgumentIndex(String template, int start, int end) {
+            if (start == end || end - start > 4) {
+                return -1;
+            }
+            int index = 0;
+            for (int i = start; i < end; i++) {
+                char c = template.charAt(i);
+                if (c < '0' || c > '9') {
+                    return -1;
+                }
+                index = index * 10 + (c - '0');
+            }
+            return index;
+        }
+
+        /**
+         * Whether the arguments render as their string value. MessageFormat formats numbers and dates by locale,
+         * and the MessageSource resolves nested {@link MessageSourceResolvable} arguments.
+         */
+        boolean canFormat(Object[] args) {
+            if (delegated) {
+                return false;
+            }
+            for (int argumentIndex : argumentIndexes) {
+                if (argumentIndex < args.length) {
+                    Object arg = args[argumentIndex];
+                    if (arg instanceof Number || arg instanceof Date || arg instanceof MessageSourceResolvable) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        String format(Object[] args) {
+            StringBuilder message = new StringBuilder(estimatedLength).append(prefix).append(literals[0]);
+            for (int i = 0; i < argumentIndexes.length; i++) {
+                int argumentIndex = argumentIndexes[i];
+                if (argumentIndex < args.length) {
+                    message.append(args[argumentIndex]);
+                } else {
+                    // MessageFormat leaves placeholders without an argument as they are
+                    message.append('{').append(argumentIndex).append('}');
+                }
+                message.append(literals[i + 1]);
+            }
+            return message.toString();
+        }
+    }
 }
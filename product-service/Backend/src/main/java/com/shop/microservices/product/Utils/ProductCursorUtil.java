@@ -0,0 +1,97 @@
+package com.shop.microservices.product.Utils;
+
+import com.shop.microservices.product.Exception.InvalidInputException;
+import com.shop.microservices.product.Model.Product;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Utility class for encoding and decoding the opaque continuation tokens used by cursor-based product listing.
+ * <p>
+ * A token records the sort key and the position of the last product of a page, i.e. its sort field value and ID.
+ * It is Base64 (URL safe) encoded so clients treat it as an opaque string and pass it back unchanged.
+ * </p>
+ */
+@Component
+public class ProductCursorUtil {
+
+    // Supported sort keys mapped to the document field they seek on
+    private static final Map<String, String> SORT_FIELDS = Map.of(
+            "id", "_id",
+            "name", "name"
+    );
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Position of the last product of a page, as decoded from a continuation token.
+     *
+     * @param sortBy    The sort key the token was issued for.
+     * @param lastValue The sort field value of the last product ({@code null} when sorting by ID).
+     * @param lastId    The ID of the last product.
+     */
+    public record Cursor(String sortBy, String lastValue, UUID lastId) {}
+
+    /**
+     * Resolves a client supplied sort key to the document field used for seeking.
+     *
+     * @param sortBy The sort key supplied by the client.
+     * @return The document field to order and seek on.
+     * @throws InvalidInputException If the sort key is not supported.
+     */
+    public String resolveSortField(String sortBy) {
+        String sortField = SORT_FIELDS.get(sortBy);
+        if (sortField == null) {
+            throw new InvalidInputException("prod.error.3112");
+        }
+        return sortField;
+    }
+
+    /**
+     * Builds the continuation token pointing after the given product.
+     *
+     * @param sortBy  The sort key of the listing.
+     * @param product The last product of the current page.
+     * @return The opaque continuation token.
+     */
+    public String encode(String sortBy, Product product) {
+        String lastValue = "name".equals(sortBy) ? product.getName() : "";
+        String raw = sortBy + SEPARATOR + lastValue + SEPARATOR + product.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token and checks that it was issued for the requested sort key.
+     *
+     * @param token  The continuation token received from the client.
+     * @param sortBy The sort key of the current request.
+     * @return The decoded {@link Cursor}.
+     * @throws InvalidInputException If the token is malformed or was issued for a different sort key.
+     */
+    public Cursor decode(String token, String sortBy) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+
+            // The sort key never contains the separator and the ID is always last,
+            // so the value in between may safely contain it.
+            int first = raw.indexOf(SEPARATOR);
+            int last = raw.lastIndexOf(SEPARATOR);
+            if (first < 0 || first == last) {
+                throw new InvalidInputException("prod.error.3111");
+            }
+
+            String tokenSortBy = raw.substring(0, first);
+            if (!tokenSortBy.equals(sortBy)) {
+                throw new InvalidInputException("prod.error.3111");
+            }
+            String lastValue = "name".equals(sortBy) ? raw.substring(first + 1, last) : null;
+            return new Cursor(tokenSortBy, lastValue, UUID.fromString(raw.substring(last + 1)));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidInputException("prod.error.3111");
+        }
+    }
+}
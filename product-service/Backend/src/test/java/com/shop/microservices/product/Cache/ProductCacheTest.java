@@ -0,0 +1,172 @@
+package com.shop.microservices.product.Cache;
+
+import com.shop.microservices.product.Configuration.ProductCacheProperties;
+import com.shop.microservices.product.Dto.ProductResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests of the in-process tier of {@link ProductCache}, including the statistics it publishes.
+ */
+class ProductCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductCache productCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productCache = new ProductCache(new ProductCacheProperties(),
+                new StaticListableBeanFactory().getBeanProvider(RedisProductCacheTier.class),
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void missLoadsOnceAndHitIsServedFromCache() {
+        UUID productId = UUID.randomUUID();
+        ProductResponseDTO product = new ProductResponseDTO(productId, "Wireless Mouse", null, BigDecimal.TEN, 0L);
+        AtomicInteger loads = new AtomicInteger();
+
+        ProductResponseDTO first = productCache.get(productId, id -> {
+            loads.incrementAndGet();
+            return product;
+        });
+        ProductResponseDTO second = productCache.get(productId, id -> {
+            loads.incrementAndGet();
+            return product;
+        });
+
+        assertSame(product, first);
+        assertSame(product, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cacheGets("miss"));
+        assertEquals(1, cacheGets("hit"));
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        UUID productId = UUID.randomUUID();
+        ProductResponseDTO product = new ProductResponseDTO(productId, "Wireless Mouse", null, BigDecimal.TEN, 0L);
+
+        assertThrows(IllegalStateException.class, () -> productCache.get(productId, id -> {
+            throw new IllegalStateException("Database unavailable");
+        }));
+
+        assertSame(product, productCache.get(productId, id -> product));
+        assertEquals(2, cacheGets("miss"));
+        assertEquals(0, cacheGets("hit"));
+    }
+
+    @Test
+    void invalidatedProductIsLoadedAgain() {
+        UUID productId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        productCache.get(productId, id -> new ProductResponseDTO(id, "v" + loads.incrementAndGet(), null, BigDecimal.ONE, 0L));
+        productCache.invalidate(productId);
+        ProductResponseDTO reloaded = productCache.get(productId,
+                id -> new ProductResponseDTO(id, "v" + loads.incrementAndGet(), null, BigDecimal.ONE, 1L));
+
+        assertEquals("v2", reloaded.name());
+        assertEquals(2, cacheGets("miss"));
+    }
+
+    @Test
+    void asyncMissesShareOneLoadAndALoadOverlappingAnInvalidationIsNotKept() {
+        UUID productId = UUID.randomUUID();
+        ProductResponseDTO stale = new ProductResponseDTO(productId, "v1", null, BigDecimal.ONE, 0L);
+        ProductResponseDTO fresh = new ProductResponseDTO(productId, "v2", null, BigDecimal.ONE, 1L);
+        CompletableFuture<ProductResponseDTO> databaseRead = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<ProductResponseDTO> first = productCache.getAsync(productId, id -> {
+            loads.incrementAndGet();
+            return databaseRead;
+        }, Runnable::run);
+        CompletableFuture<ProductResponseDTO> second = productCache.getAsync(productId, id -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(fresh);
+        }, Runnable::run);
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+
+        // The product is updated while it is being read
+        productCache.invalidate(productId);
+        databaseRead.complete(stale);
+
+        assertSame(stale, first.join());
+        assertSame(fresh, productCache.getAsync(productId, id -> CompletableFuture.completedFuture(fresh), Runnable::run).join());
+    }
+
+    @Test
+    void failedAsyncLoadIsNotCached() {
+        UUID productId = UUID.randomUUID();
+        ProductResponseDTO product = new ProductResponseDTO(productId, "Wireless Mouse", null, BigDecimal.TEN, 0L);
+
+        CompletableFuture<ProductResponseDTO> failed = productCache.getAsync(productId,
+                id -> CompletableFuture.failedFuture(new IllegalStateException("Database unavailable")), Runnable::run);
+
+        assertThrows(CompletionException.class, failed::join);
+        assertSame(product, productCache.getAsync(productId, id -> CompletableFuture.completedFuture(product), Runnable::run).join());
+    }
+
+    @Test
+    void productLoadedAfterARedisMissIsStoredUnderTheGenerationOfTheLookup() {
+        RedisProductCacheTier redisTier = mock(RedisProductCacheTier.class);
+        ProductCache cache = new ProductCache(new ProductCacheProperties(),
+                new StaticListableBeanFactory(Map.of("redisTier", redisTier)).getBeanProvider(RedisProductCacheTier.class),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        UUID productId = UUID.randomUUID();
+        UUID asyncProductId = UUID.randomUUID();
+        ProductResponseDTO product = new ProductResponseDTO(productId, "Wireless Mouse", null, BigDecimal.TEN, 0L);
+        ProductResponseDTO asyncProduct = new ProductResponseDTO(asyncProductId, "Wireless Keyboard", null, BigDecimal.TEN, 0L);
+        when(redisTier.get(productId)).thenReturn(new RedisProductCacheTier.Lookup(null, "7"));
+        when(redisTier.get(asyncProductId)).thenReturn(new RedisProductCacheTier.Lookup(null, "3"));
+
+        cache.get(productId, id -> product);
+        cache.getAsync(asyncProductId, id -> CompletableFuture.completedFuture(asyncProduct), Runnable::run).join();
+
+        // The tier compares the generation with the current one before storing, see RedisProductCacheTier
+        verify(redisTier).put(productId, product, "7");
+        verify(redisTier).put(asyncProductId, asyncProduct, "3");
+    }
+
+    @Test
+    void productFoundInRedisIsNotLoadedNorStoredAgain() {
+        RedisProductCacheTier redisTier = mock(RedisProductCacheTier.class);
+        ProductCache cache = new ProductCache(new ProductCacheProperties(),
+                new StaticListableBeanFactory(Map.of("redisTier", redisTier)).getBeanProvider(RedisProductCacheTier.class),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        UUID productId = UUID.randomUUID();
+        ProductResponseDTO product = new ProductResponseDTO(productId, "Wireless Mouse", null, BigDecimal.TEN, 0L);
+        when(redisTier.get(productId)).thenReturn(new RedisProductCacheTier.Lookup(product, "7"));
+
+        assertSame(product, cache.get(productId, id -> {
+            throw new IllegalStateException("Must not be loaded");
+        }));
+        verify(redisTier, never()).put(any(), any(), any());
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "product").tag("result", result).functionCounter().count();
+    }
+}
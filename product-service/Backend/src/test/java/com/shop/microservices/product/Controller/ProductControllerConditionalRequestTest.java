@@ -0,0 +1,110 @@
+package com.shop.microservices.product.Controller;
+
+import com.shop.microservices.product.Dto.ProductRequestDTO;
+import com.shop.microservices.product.Dto.ProductResponseDTO;
+import com.shop.microservices.product.Exception.GlobalExceptionHandler;
+import com.shop.microservices.product.Exception.PreconditionFailedException;
+import com.shop.microservices.product.Metrics.ErrorCodeMetrics;
+import com.shop.microservices.product.Service.ServiceInterface.IProductService;
+import com.shop.microservices.product.Utils.ETagUtil;
+import com.shop.microservices.product.Utils.ErrorMessageUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests of the conditional requests of {@link ProductController}: {@code If-None-Match} on reads and
+ * {@code If-Match} on updates.
+ */
+class ProductControllerConditionalRequestTest {
+
+    private final ETagUtil eTagUtil = new ETagUtil();
+    private IProductService productService;
+    private MockMvc mockMvc;
+    private ProductResponseDTO product;
+    private String eTag;
+
+    @BeforeEach
+    void setUp() {
+        productService = mock(IProductService.class);
+        ErrorMessageUtil errorMessageUtil = mock(ErrorMessageUtil.class);
+        when(errorMessageUtil.getErrorMessage(eq("prod.error.3002"), any())).thenReturn("prod.error.3002: stale");
+        mockMvc = MockMvcBuilders.standaloneSetup(new ProductController(productService, eTagUtil))
+                .setControllerAdvice(new GlobalExceptionHandler(errorMessageUtil, new ErrorCodeMetrics(new SimpleMeterRegistry())))
+                .build();
+
+        product = new ProductResponseDTO(UUID.randomUUID(), "Wireless Mouse", null, BigDecimal.TEN, 3L);
+        eTag = eTagUtil.eTag(product.id(), product.version());
+        when(productService.getProductById(product.id().toString())).thenReturn(product);
+    }
+
+    @Test
+    void readReturnsTheETag() throws Exception {
+        mockMvc.perform(get("/api/v1/product/{productId}", product.id()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
+    @Test
+    void currentCopyIsNotModified() throws Exception {
+        mockMvc.perform(get("/api/v1/product/{productId}", product.id()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void outdatedCopyIsSentAgain() throws Exception {
+        mockMvc.perform(get("/api/v1/product/{productId}", product.id())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTagUtil.eTag(product.id(), 2L)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+
+    @Test
+    void staleUpdateIsPreconditionFailed() throws Exception {
+        String staleTag = eTagUtil.eTag(product.id(), 2L);
+        when(productService.updateProduct(eq(product.id().toString()), any(ProductRequestDTO.class), eq(staleTag)))
+                .thenThrow(new PreconditionFailedException("prod.error.3002", product.id()));
+
+        mockMvc.perform(put("/api/v1/product/{productId}", product.id())
+                        .header(HttpHeaders.IF_MATCH, staleTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Trackball\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value("prod.error.3002: stale"));
+    }
+
+    @Test
+    void updateReturnsTheNewETag() throws Exception {
+        ProductResponseDTO updated = new ProductResponseDTO(product.id(), "Trackball", null, BigDecimal.TEN, 4L);
+        when(productService.updateProduct(eq(product.id().toString()), any(ProductRequestDTO.class), eq(eTag)))
+                .thenReturn(updated);
+
+        mockMvc.perform(put("/api/v1/product/{productId}", product.id())
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Trackball\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTagUtil.eTag(product.id(), 4L)));
+    }
+}
@@ -0,0 +1,130 @@
+package com.shop.microservices.product.Listener;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.shop.microservices.product.Model.Product;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Tests of {@link LegacyUuidMigrationListener} against a real MongoDB, which checks that the binary range filter
+ * selects the 16-byte subtype 3 IDs and nothing else.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class LegacyUuidMigrationListenerTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer(DockerImageName.parse("mongo:latest"));
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private MongoCollection<Document> products;
+
+    @BeforeEach
+    void setUp() {
+        mongoClient = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(MONGO.getReplicaSetUrl()))
+                .uuidRepresentation(UuidRepresentation.STANDARD)
+                .build());
+        mongoTemplate = new MongoTemplate(mongoClient, "legacy_uuid_migration");
+        products = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Product.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.getDb().drop();
+        mongoClient.close();
+    }
+
+    @Test
+    void legacyIdsAreReencodedAndOtherIdsAreLeftAlone() {
+        UUID legacyId = UUID.randomUUID();
+        UUID standardId = UUID.randomUUID();
+        Binary genericId = new Binary(BsonBinarySubType.BINARY.getValue(), new byte[16]);
+        Binary shortLegacyId = new Binary(BsonBinarySubType.UUID_LEGACY.getValue(), new byte[8]);
+        products.insertMany(List.of(
+                new Document("_id", legacyBinary(legacyId)).append("name", "Legacy"),
+                new Document("_id", standardId).append("name", "Standard"),
+                new Document("_id", genericId).append("name", "Generic"),
+                new Document("_id", shortLegacyId).append("name", "Short"),
+                new Document("_id", "not-a-binary").append("name", "String")));
+
+        newListener(UuidRepresentation.STANDARD).afterSingletonsInstantiated();
+
+        Set<BsonValue> ids = ids();
+        assertEquals(Set.of(
+                new BsonBinary(legacyId, UuidRepresentation.STANDARD),
+                new BsonBinary(standardId, UuidRepresentation.STANDARD),
+                new BsonBinary(BsonBinarySubType.BINARY, new byte[16]),
+                new BsonBinary(BsonBinarySubType.UUID_LEGACY, new byte[8]),
+                new BsonString("not-a-binary")), ids);
+        assertEquals("Legacy", products.find(new Document("_id", legacyId)).first().getString("name"));
+        assertFalse(mongoTemplate.collectionExists(products.getNamespace().getCollectionName() + "_uuid_migration"));
+    }
+
+    @Test
+    void interruptedMigrationResumesFromTheStagingCollection() {
+        UUID stagedId = UUID.randomUUID();
+        // A previous run staged the document and deleted its legacy copy before stopping
+        mongoTemplate.getCollection(products.getNamespace().getCollectionName() + "_uuid_migration")
+                .insertOne(new Document("_id", stagedId).append("name", "Staged"));
+
+        newListener(UuidRepresentation.STANDARD).afterSingletonsInstantiated();
+
+        assertEquals(Set.of(new BsonBinary(stagedId, UuidRepresentation.STANDARD)), ids());
+        assertFalse(mongoTemplate.collectionExists(products.getNamespace().getCollectionName() + "_uuid_migration"));
+    }
+
+    @Test
+    void nothingIsMigratedWithTheLegacyRepresentation() {
+        UUID legacyId = UUID.randomUUID();
+        products.insertOne(new Document("_id", legacyBinary(legacyId)).append("name", "Legacy"));
+
+        newListener(UuidRepresentation.JAVA_LEGACY).afterSingletonsInstantiated();
+
+        assertEquals(Set.of(new BsonBinary(legacyId, UuidRepresentation.JAVA_LEGACY)), ids());
+    }
+
+    private LegacyUuidMigrationListener newListener(UuidRepresentation uuidRepresentation) {
+        MongoProperties mongoProperties = new MongoProperties();
+        mongoProperties.setUuidRepresentation(uuidRepresentation);
+        return new LegacyUuidMigrationListener(mongoTemplate, mongoProperties);
+    }
+
+    private Set<BsonValue> ids() {
+        Set<BsonValue> ids = new HashSet<>();
+        products.withDocumentClass(BsonDocument.class).find().forEach(document -> ids.add(document.get("_id")));
+        return ids;
+    }
+
+    private static Binary legacyBinary(UUID id) {
+        return new Binary(BsonBinarySubType.UUID_LEGACY.getValue(),
+                new BsonBinary(id, UuidRepresentation.JAVA_LEGACY).getData());
+    }
+}
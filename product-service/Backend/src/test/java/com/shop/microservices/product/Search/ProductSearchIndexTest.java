@@ -0,0 +1,147 @@
+package com.shop.microservices.product.Search;
+
+import com.shop.microservices.product.Configuration.ProductSearchProperties;
+import com.shop.microservices.product.Dto.ProductResponseDTO;
+import com.shop.microservices.product.Mapper.ProductMapper;
+import com.shop.microservices.product.Model.Product;
+import com.shop.microservices.product.Repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests of the matching, ranking and maintenance of {@link ProductSearchIndex}.
+ */
+class ProductSearchIndexTest {
+
+    private ProductRepository productRepository;
+    private ProductSearchProperties properties;
+    private ProductSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        properties = new ProductSearchProperties();
+        searchIndex = new ProductSearchIndex(new SearchTokenizer(), productRepository, new ProductMapper(), properties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void termsMatchExactlyOrAsPrefix() {
+        searchIndex.index(product("Wireless Mouse", "Ergonomic design"));
+
+        assertEquals(List.of("Wireless Mouse"), names(searchIndex.search("wireless", 10)));
+        assertEquals(List.of("Wireless Mouse"), names(searchIndex.search("WIRE", 10)));
+        assertEquals(List.of("Wireless Mouse"), names(searchIndex.search("ergo", 10)));
+        assertEquals(List.of(), names(searchIndex.search("ireless", 10)));
+    }
+
+    @Test
+    void everyQueryTermMustMatch() {
+        searchIndex.index(product("Wireless Mouse", null));
+        searchIndex.index(product("Wireless Keyboard", null));
+
+        assertEquals(List.of("Wireless Mouse"), names(searchIndex.search("wireless mou", 10)));
+        assertEquals(2, searchIndex.search("wireless", 10).size());
+        assertEquals(List.of(), names(searchIndex.search("wireless phone", 10)));
+    }
+
+    @Test
+    void nameMatchesRankAboveDescriptionMatches() {
+        searchIndex.index(product("Charger", "Comes with a usb cable"));
+        searchIndex.index(product("Cable", "Braided"));
+
+        assertEquals(List.of("Cable", "Charger"), names(searchIndex.search("cable", 10)));
+    }
+
+    @Test
+    void exactMatchOfCommonTermRanksAbovePrefixMatchOfRareTerm() {
+        for (int i = 0; i < 10; i++) {
+            searchIndex.index(product("Lamp " + i, null));
+        }
+        searchIndex.index(product("Lampshade", null));
+
+        List<String> results = names(searchIndex.search("lamp", 20));
+
+        assertEquals(11, results.size());
+        assertEquals("Lampshade", results.get(10));
+    }
+
+    @Test
+    void prefixExpansionIsCapped() {
+        properties.setMaxPrefixExpansions(2);
+        searchIndex.index(product("abc1", null));
+        searchIndex.index(product("abc2", null));
+        searchIndex.index(product("abc3", null));
+
+        // Expanded to the first two terms of the sorted dictionary only
+        assertEquals(List.of("abc1", "abc2"), names(searchIndex.search("abc", 10)));
+        assertEquals(List.of("abc3"), names(searchIndex.search("abc3", 10)));
+    }
+
+    @Test
+    void resultsAreLimited() {
+        properties.setMaxResults(3);
+        for (int i = 0; i < 5; i++) {
+            searchIndex.index(product("Cable " + i, null));
+        }
+
+        assertEquals(2, searchIndex.search("cable", 2).size());
+        assertEquals(3, searchIndex.search("cable", 10).size());
+    }
+
+    @Test
+    void removedAndReindexedProductsAreSearchedInTheirCurrentState() {
+        ProductResponseDTO product = product("Wireless Mouse", null);
+        searchIndex.index(product);
+
+        searchIndex.index(new ProductResponseDTO(product.id(), "Gaming Keyboard", null, BigDecimal.TEN, 1L));
+        assertEquals(List.of(), names(searchIndex.search("mouse", 10)));
+        assertEquals(List.of("Gaming Keyboard"), names(searchIndex.search("keyboard", 10)));
+
+        searchIndex.remove(product.id());
+        assertEquals(List.of(), names(searchIndex.search("keyboard", 10)));
+        assertEquals(0, searchIndex.size());
+    }
+
+    @Test
+    void rebuildDoesNotOverwriteWritesMadeDuringTheScan() {
+        Product deleted = Product.builder().id(UUID.randomUUID()).name("Deleted Lamp").price(BigDecimal.ONE).version(0L).build();
+        Product updated = Product.builder().id(UUID.randomUUID()).name("Old Lamp").price(BigDecimal.ONE).version(0L).build();
+        Product unchanged = Product.builder().id(UUID.randomUUID()).name("Desk Lamp").price(BigDecimal.ONE).version(0L).build();
+        // Both writes happen after the scan has started but before it reaches the written products
+        when(productRepository.streamAll(anyInt())).thenReturn(Stream.of(unchanged, deleted, updated).peek(product -> {
+            if (product == unchanged) {
+                searchIndex.remove(deleted.getId());
+                searchIndex.index(new ProductResponseDTO(updated.getId(), "New Lamp", null, BigDecimal.ONE, 1L));
+            }
+        }));
+
+        searchIndex.rebuild();
+
+        assertEquals(List.of("Desk Lamp", "New Lamp"), names(searchIndex.search("lamp", 10)));
+
+        // Once the rebuild is over, writes are no longer tracked
+        searchIndex.index(new ProductResponseDTO(deleted.getId(), "Restored Lamp", null, BigDecimal.ONE, 1L));
+        assertEquals(3, searchIndex.size());
+    }
+
+    private static ProductResponseDTO product(String name, String description) {
+        return new ProductResponseDTO(UUID.randomUUID(), name, description, BigDecimal.TEN, 0L);
+    }
+
+    private static List<String> names(List<ProductResponseDTO> products) {
+        return products.stream().map(ProductResponseDTO::name).toList();
+    }
+}
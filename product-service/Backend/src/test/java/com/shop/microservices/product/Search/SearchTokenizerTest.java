@@ -0,0 +1,33 @@
+package com.shop.microservices.product.Search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of the normalization and splitting done by {@link SearchTokenizer}.
+ */
+class SearchTokenizerTest {
+
+    private final SearchTokenizer tokenizer = new SearchTokenizer();
+
+    @Test
+    void diacriticsAndCaseAreNormalized() {
+        assertEquals(List.of("cafe", "creme"), tokenizer.tokenize("Café-Crème"));
+        assertEquals(tokenizer.tokenize("cafe creme"), tokenizer.tokenize("CAFÉ CRÈME"));
+    }
+
+    @Test
+    void textIsSplitOnEveryNonAlphanumericCharacter() {
+        assertEquals(List.of("usb", "c", "hub", "4k", "60hz"), tokenizer.tokenize("  USB-C hub, 4K/60Hz!"));
+    }
+
+    @Test
+    void blankTextHasNoTerms() {
+        assertEquals(List.of(), tokenizer.tokenize(null));
+        assertEquals(List.of(), tokenizer.tokenize(" \t"));
+        assertEquals(List.of(), tokenizer.tokenize("--/--"));
+    }
+}
@@ -0,0 +1,129 @@
+package com.shop.microservices.product.Service.ServiceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+import com.shop.microservices.product.Cache.ProductCache;
+import com.shop.microservices.product.Configuration.ProductSearchProperties;
+import com.shop.microservices.product.Dto.ProductBulkItemResultDTO;
+import com.shop.microservices.product.Dto.ProductBulkResponseDTO;
+import com.shop.microservices.product.Dto.ProductRequestDTO;
+import com.shop.microservices.product.Dto.ProductResponseDTO;
+import com.shop.microservices.product.Mapper.ProductMapper;
+import com.shop.microservices.product.Model.Product;
+import com.shop.microservices.product.Repository.ProductRepository;
+import com.shop.microservices.product.Search.ProductSearchIndex;
+import com.shop.microservices.product.Utils.ETagUtil;
+import com.shop.microservices.product.Utils.ErrorMessageUtil;
+import com.shop.microservices.product.Utils.ProductCursorUtil;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.shop.microservices.product.Dto.ProductBulkItemResultDTO.Status.CREATED;
+import static com.shop.microservices.product.Dto.ProductBulkItemResultDTO.Status.DUPLICATE;
+import static com.shop.microservices.product.Dto.ProductBulkItemResultDTO.Status.FAILED;
+import static com.shop.microservices.product.Dto.ProductBulkItemResultDTO.Status.INVALID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests of the per-item outcomes of {@link ProductService#createProducts}.
+ */
+class ProductServiceBulkCreateTest {
+
+    // MongoDB error codes returned by the bulk write
+    private static final int DUPLICATE_KEY = 11000;
+    private static final int MAX_TIME_MS_EXPIRED = 50;
+
+    private ProductRepository productRepository;
+    private ProductSearchIndex productSearchIndex;
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        productSearchIndex = mock(ProductSearchIndex.class);
+        productService = new ProductService(productRepository, new ProductMapper(), mock(ProductCache.class),
+                mock(ProductCursorUtil.class), new ObjectMapper(), mock(ErrorMessageUtil.class),
+                productSearchIndex, new ProductSearchProperties(), new ETagUtil());
+    }
+
+    @Test
+    void everyItemGetsItsOwnOutcome() {
+        when(productRepository.findExistingNames(anyCollection())).thenReturn(Set.of("Keyboard"));
+        // The written products are Mouse, Monitor, Webcam and Speaker, in request order
+        when(productRepository.insertUnordered(anyList())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            assertEquals(List.of("Mouse", "Monitor", "Webcam", "Speaker"),
+                    products.stream().map(Product::getName).toList());
+            products.forEach(product -> product.setId(UUID.randomUUID()));
+            return List.of(
+                    new BulkWriteError(DUPLICATE_KEY, "E11000 duplicate key error", new BsonDocument(), 1),
+                    new BulkWriteError(MAX_TIME_MS_EXPIRED, "operation exceeded time limit", new BsonDocument(), 2));
+        });
+
+        ProductBulkResponseDTO response = productService.createProducts(List.of(
+                request("Mouse"),      // valid
+                request("Keyboard"),   // already stored
+                request("Mouse"),      // duplicate of an earlier item of the request
+                request(" "),          // blank name
+                request("Monitor"),    // taken concurrently, rejected by the unique index
+                request("Webcam"),     // failed for another reason
+                request("Speaker")));  // valid
+
+        assertEquals(List.of(CREATED, DUPLICATE, DUPLICATE, INVALID, DUPLICATE, FAILED, CREATED),
+                response.results().stream().map(ProductBulkItemResultDTO::status).toList());
+        assertEquals(7, response.total());
+        assertEquals(2, response.created());
+        assertEquals(3, response.duplicates());
+        assertEquals(1, response.invalid());
+        assertEquals(1, response.failed());
+
+        assertNotNull(response.results().get(0).id());
+        assertNull(response.results().get(5).id());
+        verify(productSearchIndex, times(2)).index(any(ProductResponseDTO.class));
+    }
+
+    @Test
+    void failedNameIsNotTreatedAsTakenByLaterChunks() {
+        when(productRepository.findExistingNames(anyCollection())).thenReturn(Set.of());
+        when(productRepository.insertUnordered(anyList()))
+                .thenReturn(List.of(new BulkWriteError(MAX_TIME_MS_EXPIRED, "operation exceeded time limit",
+                        new BsonDocument(), 0)))
+                .thenReturn(List.of());
+
+        // Fill the first chunk so that the second Webcam is checked in the next one
+        List<ProductRequestDTO> requests = new ArrayList<>();
+        requests.add(request("Webcam"));
+        for (int i = 1; i < 1000; i++) {
+            requests.add(request(" "));
+        }
+        requests.add(request("Webcam"));
+
+        ProductBulkResponseDTO response = productService.createProducts(requests);
+
+        assertEquals(FAILED, response.results().get(0).status());
+        assertEquals(CREATED, response.results().get(1000).status());
+    }
+
+    private static ProductRequestDTO request(String name) {
+        ProductRequestDTO request = new ProductRequestDTO();
+        request.setName(name);
+        request.setPrice(BigDecimal.TEN);
+        return request;
+    }
+}
@@ -0,0 +1,109 @@
+package com.shop.microservices.product.Service.ServiceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.microservices.product.Cache.ProductCache;
+import com.shop.microservices.product.Configuration.ProductSearchProperties;
+import com.shop.microservices.product.Dto.ProductRequestDTO;
+import com.shop.microservices.product.Dto.ProductResponseDTO;
+import com.shop.microservices.product.Exception.PreconditionFailedException;
+import com.shop.microservices.product.Mapper.ProductMapper;
+import com.shop.microservices.product.Model.Product;
+import com.shop.microservices.product.Repository.ProductRepository;
+import com.shop.microservices.product.Search.ProductSearchIndex;
+import com.shop.microservices.product.Utils.ETagUtil;
+import com.shop.microservices.product.Utils.ErrorMessageUtil;
+import com.shop.microservices.product.Utils.ProductCursorUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests of the {@code If-Match} precondition of {@link ProductService#updateProduct}, evaluated against the
+ * {@code @Version} of the stored product.
+ */
+class ProductServiceConditionalUpdateTest {
+
+    private final ETagUtil eTagUtil = new ETagUtil();
+    private ProductRepository productRepository;
+    private ProductCache productCache;
+    private ProductService productService;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        productCache = mock(ProductCache.class);
+        productService = new ProductService(productRepository, new ProductMapper(), productCache,
+                mock(ProductCursorUtil.class), new ObjectMapper(), mock(ErrorMessageUtil.class),
+                mock(ProductSearchIndex.class), new ProductSearchProperties(), eTagUtil);
+
+        productId = UUID.randomUUID();
+        Product stored = Product.builder().id(productId).name("Wireless Mouse").price(BigDecimal.TEN).version(3L).build();
+        when(productRepository.findById(productId)).thenReturn(Optional.of(stored));
+        // Spring Data increments the version on save
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> {
+            Product product = invocation.getArgument(0);
+            product.setVersion(product.getVersion() + 1);
+            return product;
+        });
+    }
+
+    @Test
+    void currentRevisionIsUpdated() {
+        ProductResponseDTO updated = productService.updateProduct(productId.toString(), renameTo("Trackball"),
+                eTagUtil.eTag(productId, 3L));
+
+        assertEquals("Trackball", updated.name());
+        assertEquals(4L, updated.version());
+        verify(productCache).invalidate(productId);
+    }
+
+    @Test
+    void staleRevisionIsRejectedWithoutSaving() {
+        assertThrows(PreconditionFailedException.class, () -> productService.updateProduct(productId.toString(),
+                renameTo("Trackball"), eTagUtil.eTag(productId, 2L)));
+
+        verify(productRepository, never()).save(any(Product.class));
+        verify(productCache, never()).invalidate(productId);
+    }
+
+    @Test
+    void weakTagIsRejected() {
+        assertThrows(PreconditionFailedException.class, () -> productService.updateProduct(productId.toString(),
+                renameTo("Trackball"), "W/" + eTagUtil.eTag(productId, 3L)));
+    }
+
+    @Test
+    void updateWithoutIfMatchIsUnconditional() {
+        ProductResponseDTO updated = productService.updateProduct(productId.toString(), renameTo("Trackball"), null);
+
+        assertEquals(4L, updated.version());
+    }
+
+    @Test
+    void concurrentUpdateBetweenReadAndSaveIsRejected() {
+        when(productRepository.save(any(Product.class))).thenThrow(new OptimisticLockingFailureException("version 3 is stale"));
+
+        assertThrows(PreconditionFailedException.class, () -> productService.updateProduct(productId.toString(),
+                renameTo("Trackball"), eTagUtil.eTag(productId, 3L)));
+        verify(productCache, never()).invalidate(productId);
+    }
+
+    private static ProductRequestDTO renameTo(String name) {
+        ProductRequestDTO request = new ProductRequestDTO();
+        request.setName(name);
+        return request;
+    }
+}
@@ -0,0 +1,72 @@
+package com.shop.microservices.product.Utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the entity tags built by {@link ETagUtil} and of the evaluation of conditional request headers.
+ */
+class ETagUtilTest {
+
+    private static final UUID ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    private final ETagUtil eTagUtil = new ETagUtil();
+
+    @Test
+    void tagIsDerivedFromIdAndVersion() {
+        assertEquals("\"550e8400-e29b-41d4-a716-446655440000.3\"", eTagUtil.eTag(ID, 3L));
+        // Documents written before versioning are revision 0
+        assertEquals(eTagUtil.eTag(ID, 0L), eTagUtil.eTag(ID, null));
+        assertNotEquals(eTagUtil.eTag(ID, 3L), eTagUtil.eTag(ID, 4L));
+        assertNotEquals(eTagUtil.eTag(ID, 3L), eTagUtil.eTag(UUID.randomUUID(), 3L));
+    }
+
+    @Test
+    void ifNoneMatchUsesWeakComparison() {
+        String eTag = eTagUtil.eTag(ID, 3L);
+
+        assertTrue(eTagUtil.matchesIfNoneMatch(eTag, eTag));
+        assertTrue(eTagUtil.matchesIfNoneMatch("W/" + eTag, eTag));
+        assertTrue(eTagUtil.matchesIfNoneMatch("\"other\", " + eTag, eTag));
+        assertTrue(eTagUtil.matchesIfNoneMatch("*", eTag));
+        assertFalse(eTagUtil.matchesIfNoneMatch(eTagUtil.eTag(ID, 2L), eTag));
+        assertFalse(eTagUtil.matchesIfNoneMatch(null, eTag));
+    }
+
+    @Test
+    void ifMatchUsesStrongComparison() {
+        String eTag = eTagUtil.eTag(ID, 3L);
+
+        assertTrue(eTagUtil.matchesIfMatch(eTag, eTag));
+        assertTrue(eTagUtil.matchesIfMatch("\"other\"," + eTag, eTag));
+        assertTrue(eTagUtil.matchesIfMatch("*", eTag));
+        // An absent header makes the update unconditional
+        assertTrue(eTagUtil.matchesIfMatch(null, eTag));
+        assertFalse(eTagUtil.matchesIfMatch("W/" + eTag, eTag));
+        assertFalse(eTagUtil.matchesIfMatch(eTagUtil.eTag(ID, 2L), eTag));
+    }
+
+    @Test
+    void conditionalGetAnswersNotModifiedWithoutBody() {
+        String eTag = eTagUtil.eTag(ID, 3L);
+
+        ResponseEntity<String> notModified = eTagUtil.conditionalGet(eTag, eTag, "body");
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertEquals(eTag, notModified.getHeaders().getETag());
+        assertNull(notModified.getBody());
+
+        ResponseEntity<String> modified = eTagUtil.conditionalGet(eTagUtil.eTag(ID, 2L), eTag, "body");
+        assertEquals(HttpStatus.OK, modified.getStatusCode());
+        assertEquals(eTag, modified.getHeaders().getETag());
+        assertEquals("body", modified.getBody());
+    }
+}
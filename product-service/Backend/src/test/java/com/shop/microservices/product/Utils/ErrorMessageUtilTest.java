@@ -0,0 +1,96 @@
+package com.shop.microservices.product.Utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests of the template cache of {@link ErrorMessageUtil} and of its formatting, which must match the {@code MessageSource}.
+ */
+class ErrorMessageUtilTest {
+
+    private StaticMessageSource messageSource;
+    private ErrorMessageUtil errorMessageUtil;
+
+    @BeforeEach
+    void setUp() {
+        messageSource = spy(new StaticMessageSource());
+        messageSource.addMessage("prod.error.3101", Locale.ENGLISH, "The product was not found.");
+        messageSource.addMessage("prod.error.3105", Locale.ENGLISH, "The requested product with ID {0} was not found.");
+        messageSource.addMessage("prod.error.3106", Locale.ENGLISH, "Product {0} can''t be moved to '{1}' ({2}).");
+        messageSource.addMessage("prod.error.3103", Locale.ENGLISH, "Invalid price: {0,number,#.00}.");
+        messageSource.addMessage("prod.error.3101", Locale.FRENCH, "Le produit est introuvable.");
+        errorMessageUtil = new ErrorMessageUtil(messageSource);
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void cachedTemplateIsResolvedOnce() {
+        String first = errorMessageUtil.getErrorMessage("prod.error.3101");
+        String second = errorMessageUtil.getErrorMessage("prod.error.3101");
+
+        assertEquals("prod.error.3101: The product was not found.", first);
+        assertSame(first, second);
+        verify(messageSource, times(1)).getMessage(eq("prod.error.3101"), isNull(), eq(Locale.ENGLISH));
+    }
+
+    @Test
+    void templatesAreCachedPerLocale() {
+        assertEquals("prod.error.3101: The product was not found.", errorMessageUtil.getErrorMessage("prod.error.3101"));
+
+        LocaleContextHolder.setLocale(Locale.FRENCH);
+        assertEquals("prod.error.3101: Le produit est introuvable.", errorMessageUtil.getErrorMessage("prod.error.3101"));
+    }
+
+    @Test
+    void missingCodeIsReportedAndNotCached() {
+        assertThrows(NoSuchMessageException.class, () -> errorMessageUtil.getErrorMessage("prod.error.9999"));
+
+        messageSource.addMessage("prod.error.9999", Locale.ENGLISH, "Added later.");
+        assertEquals("prod.error.9999: Added later.", errorMessageUtil.getErrorMessage("prod.error.9999"));
+    }
+
+    @Test
+    void argumentsAreFormattedLikeMessageFormat() {
+        UUID productId = UUID.randomUUID();
+
+        assertEquals("prod.error.3105: The requested product with ID " + productId + " was not found.",
+                errorMessageUtil.getErrorMessage("prod.error.3105", new Object[]{productId}));
+        // Doubled quotes stand for one, quoted placeholders and placeholders without an argument are kept as is
+        assertEquals("prod.error.3106: Product Mouse can't be moved to {1} ({2}).",
+                errorMessageUtil.getErrorMessage("prod.error.3106", new Object[]{"Mouse", "Archive"}));
+        // Parsed once, then formatted without going back to the MessageSource
+        errorMessageUtil.getErrorMessage("prod.error.3105", new Object[]{"other"});
+        verify(messageSource, never()).getMessage(eq("prod.error.3105"), any(Object[].class), any(Locale.class));
+    }
+
+    @Test
+    void localeSensitiveArgumentsAreDelegatedToTheMessageSource() {
+        assertEquals("prod.error.3105: The requested product with ID 12,345 was not found.",
+                errorMessageUtil.getErrorMessage("prod.error.3105", new Object[]{12345}));
+        assertEquals("prod.error.3103: Invalid price: -1.50.",
+                errorMessageUtil.getErrorMessage("prod.error.3103", new Object[]{-1.5}));
+    }
+}
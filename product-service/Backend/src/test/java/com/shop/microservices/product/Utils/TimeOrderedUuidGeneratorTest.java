@@ -0,0 +1,121 @@
+package com.shop.microservices.product.Utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the layout and ordering of the IDs generated by {@link TimeOrderedUuidGenerator}.
+ */
+class TimeOrderedUuidGeneratorTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private final TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(clock::get);
+
+    @Test
+    void idsAreVersion7WithTheRfc9562Variant() {
+        UUID id = generator.generate();
+
+        assertEquals(7, id.version());
+        // UUID.variant() reports the RFC 4122 / RFC 9562 variant (binary 10) as 2
+        assertEquals(2, id.variant());
+        assertEquals(NOW, timestamp(id));
+        assertNotEquals(id.getLeastSignificantBits(), generator.generate().getLeastSignificantBits());
+    }
+
+    @Test
+    void idsGeneratedWithinOneMillisecondAreStrictlyIncreasing() {
+        UUID previous = generator.generate();
+        for (int i = 1; i < 1000; i++) {
+            UUID next = generator.generate();
+            assertTrue(next.compareTo(previous) > 0);
+            assertEquals(NOW, timestamp(next));
+            assertEquals(i, counter(next));
+            previous = next;
+        }
+    }
+
+    @Test
+    void counterOverflowCarriesIntoTheNextTimestamp() {
+        UUID last = null;
+        for (int i = 0; i < 4096; i++) {
+            last = generator.generate();
+        }
+        assertEquals(NOW, timestamp(last));
+        assertEquals(4095, counter(last));
+
+        UUID carried = generator.generate();
+        assertEquals(NOW + 1, timestamp(carried));
+        assertEquals(0, counter(carried));
+        assertTrue(carried.compareTo(last) > 0);
+
+        // Once the clock catches up, the IDs keep counting from the carried one
+        clock.set(NOW + 1);
+        UUID next = generator.generate();
+        assertEquals(NOW + 1, timestamp(next));
+        assertEquals(1, counter(next));
+    }
+
+    @Test
+    void clockGoingBackwardsDoesNotBreakTheOrdering() {
+        UUID before = generator.generate();
+
+        clock.set(NOW - 1000);
+        UUID after = generator.generate();
+
+        assertTrue(after.compareTo(before) > 0);
+        assertEquals(NOW, timestamp(after));
+        assertEquals(1, counter(after));
+
+        clock.set(NOW + 5);
+        UUID recovered = generator.generate();
+        assertEquals(NOW + 5, timestamp(recovered));
+        assertEquals(0, counter(recovered));
+    }
+
+    @Test
+    void idsAreUniqueAcrossThreads() throws Exception {
+        TimeOrderedUuidGenerator systemClockGenerator = new TimeOrderedUuidGenerator();
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(systemClockGenerator.generate());
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(40_000, ids.size());
+    }
+
+    private static long timestamp(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    private static long counter(UUID id) {
+        return id.getMostSignificantBits() & 0xFFF;
+    }
+}
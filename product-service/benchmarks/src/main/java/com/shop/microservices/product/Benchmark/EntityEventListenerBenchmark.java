@@ -0,0 +1,83 @@
+package com.shop.microservices.product.Benchmark;
+
+import com.shop.microservices.product.Listener.EntityEventListener;
+import com.shop.microservices.product.Model.Category;
+import com.shop.microservices.product.Model.Product;
+import com.shop.microservices.product.Utils.TimeOrderedUuidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EntityEventListener#handleBeforeConvert}, run before every document is written.
+ * <p>
+ * {@code newProduct} and {@code newCategory} include the ID generation done for new documents,
+ * {@code existingProduct} the type checks done on every update. Run with {@code -prof gc} to get bytes/op:
+ * </p>
+ * <pre>
+ * java -jar target/benchmarks.jar EntityEventListenerBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityEventListenerBenchmark {
+
+    private static final String PRODUCT_COLLECTION = "product";
+    private static final String CATEGORY_COLLECTION = "category";
+
+    private EntityEventListener listener;
+    private BeforeConvertEvent<Product> existingProductEvent;
+
+    @Setup
+    public void setUp() {
+        listener = new EntityEventListener(new TimeOrderedUuidGenerator());
+        existingProductEvent = new BeforeConvertEvent<>(product(UUID.randomUUID()), PRODUCT_COLLECTION);
+    }
+
+    @Benchmark
+    public Object newProduct() {
+        // A fresh document per operation, as the listener assigns the ID only once
+        Product product = product(null);
+        listener.handleBeforeConvert(new BeforeConvertEvent<>(product, PRODUCT_COLLECTION));
+        return product.getId();
+    }
+
+    @Benchmark
+    public Object existingProduct() {
+        listener.handleBeforeConvert(existingProductEvent);
+        return existingProductEvent.getSource().getId();
+    }
+
+    @Benchmark
+    public Object newCategory() {
+        Category category = new Category();
+        category.setName("Peripherals");
+        listener.handleBeforeConvert(new BeforeConvertEvent<>(category, CATEGORY_COLLECTION));
+        return category.getCategoryId();
+    }
+
+    private static Product product(UUID id) {
+        return Product.builder()
+                .id(id)
+                .name("Wireless Mouse")
+                .description("A high-precision wireless mouse with ergonomic design.")
+                .price(new BigDecimal("29.99"))
+                .build();
+    }
+}
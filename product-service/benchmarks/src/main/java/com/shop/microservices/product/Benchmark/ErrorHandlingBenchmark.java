@@ -0,0 +1,124 @@
+package com.shop.microservices.product.Benchmark;
+
+import com.shop.microservices.product.Dto.ProductRequestDTO;
+import com.shop.microservices.product.Exception.GlobalExceptionHandler;
+import com.shop.microservices.product.Exception.ResourceNotFoundException;
+import com.shop.microservices.product.Metrics.ErrorCodeMetrics;
+import com.shop.microservices.product.Utils.ErrorMessageUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the error path: {@link ErrorMessageUtil#getErrorMessage} message resolution and the
+ * {@link GlobalExceptionHandler} response construction built on top of it.
+ * <p>
+ * The {@code uncached*} benchmarks resolve the same messages the way {@link ErrorMessageUtil} did before it
+ * cached parsed templates ({@link MessageSource#getMessage} then {@link String#format}), as the baseline.
+ * </p>
+ * <p>
+ * The message source is configured like the service's ({@code error_message_en} bundle, UTF-8),
+ * and error counters are recorded in a simple meter registry. Run with {@code -prof gc} to get bytes/op:
+ * </p>
+ * <pre>
+ * java -jar target/benchmarks.jar ErrorHandlingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorHandlingBenchmark {
+
+    private MessageSource messageSource;
+    private ErrorMessageUtil errorMessageUtil;
+    private GlobalExceptionHandler exceptionHandler;
+    private UUID productId;
+    private ResourceNotFoundException notFound;
+    private MethodArgumentNotValidException invalidRequest;
+    private RuntimeException unexpected;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("error_message_en");
+        messageSource.setDefaultEncoding("UTF-8");
+        this.messageSource = messageSource;
+        errorMessageUtil = new ErrorMessageUtil(messageSource);
+        exceptionHandler = new GlobalExceptionHandler(errorMessageUtil, new ErrorCodeMetrics(new SimpleMeterRegistry()));
+
+        productId = UUID.randomUUID();
+        notFound = new ResourceNotFoundException("prod.error.3105", productId);
+        unexpected = new IllegalStateException("Connection reset");
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new ProductRequestDTO(), "productRequestDTO");
+        bindingResult.addError(new FieldError("productRequestDTO", "name", "Product name must not be blank"));
+        bindingResult.addError(new FieldError("productRequestDTO", "price", "Price must be greater than 0"));
+        MethodParameter parameter = new MethodParameter(
+                ErrorHandlingBenchmark.class.getDeclaredMethod("createProduct", ProductRequestDTO.class), 0);
+        invalidRequest = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public String messageWithoutArguments() {
+        return errorMessageUtil.getErrorMessage("prod.error.3104");
+    }
+
+    @Benchmark
+    public String messageWithArguments() {
+        return errorMessageUtil.getErrorMessage("prod.error.3105", new Object[]{productId});
+    }
+
+    @Benchmark
+    public String uncachedMessageWithoutArguments() {
+        return String.format("%s: %s", "prod.error.3104", messageSource.getMessage("prod.error.3104", null, Locale.getDefault()));
+    }
+
+    @Benchmark
+    public String uncachedMessageWithArguments() {
+        return String.format("%s: %s", "prod.error.3105",
+                messageSource.getMessage("prod.error.3105", new Object[]{productId}, Locale.getDefault()));
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> notFoundResponse() {
+        return exceptionHandler.handleResourceNotFoundException(notFound);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> validationResponse() {
+        return exceptionHandler.handleValidationExceptions(invalidRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> genericResponse() {
+        return exceptionHandler.handleGenericException(unexpected);
+    }
+
+    // Handler method the validated request body belongs to, only used to build the MethodParameter
+    @SuppressWarnings("unused")
+    private void createProduct(ProductRequestDTO productRequestDTO) {
+    }
+}
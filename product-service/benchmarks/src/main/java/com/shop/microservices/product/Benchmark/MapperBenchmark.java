@@ -0,0 +1,91 @@
+package com.shop.microservices.product.Benchmark;
+
+import com.shop.microservices.product.Dto.ProductRequestDTO;
+import com.shop.microservices.product.Dto.ProductResponseDTO;
+import com.shop.microservices.product.Mapper.ProductMapper;
+import com.shop.microservices.product.Model.Product;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written {@link ProductMapper} with the reflective ModelMapper setup it replaced.
+ * <p>
+ * The {@code modelMapper*} benchmarks reproduce the former mapper configuration (a shared {@link ModelMapper}
+ * with a constructor provider for the response record). Run with {@code -prof gc} to get bytes/op next to ops/s:
+ * </p>
+ * <pre>
+ * java -jar target/benchmarks.jar MapperBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private ProductMapper productMapper;
+    private ModelMapper modelMapper;
+    private Product product;
+    private ProductRequestDTO productRequest;
+
+    @Setup
+    public void setUp() {
+        productMapper = new ProductMapper();
+
+        modelMapper = new ModelMapper();
+        TypeMap<Product, ProductResponseDTO> typeMap = modelMapper.createTypeMap(Product.class, ProductResponseDTO.class);
+        typeMap.setProvider(provision -> {
+            Product source = (Product) provision.getSource();
+            return new ProductResponseDTO(source.getId(), source.getName(), source.getDescription(), source.getPrice(),
+                    source.getVersion());
+        });
+
+        product = Product.builder()
+                .id(UUID.randomUUID())
+                .name("Wireless Mouse")
+                .description("A high-precision wireless mouse with ergonomic design.")
+                .price(new BigDecimal("29.99"))
+                .build();
+
+        productRequest = new ProductRequestDTO();
+        productRequest.setName("Wireless Mouse");
+        productRequest.setDescription("A high-precision wireless mouse with ergonomic design.");
+        productRequest.setPrice(new BigDecimal("29.99"));
+    }
+
+    @Benchmark
+    public ProductResponseDTO handWrittenToResponse() {
+        return productMapper.productToProductResponseDTO(product);
+    }
+
+    @Benchmark
+    public ProductResponseDTO modelMapperToResponse() {
+        return modelMapper.map(product, ProductResponseDTO.class);
+    }
+
+    @Benchmark
+    public Product handWrittenFromRequest() {
+        return productMapper.productRequestDTOToProduct(productRequest);
+    }
+
+    @Benchmark
+    public Product modelMapperFromRequest() {
+        return modelMapper.map(productRequest, Product.class);
+    }
+}
@@ -0,0 +1,132 @@
+package com.shop.microservices.product.Benchmark;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.InsertManyOptions;
+import com.shop.microservices.product.Utils.TimeOrderedUuidGenerator;
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the insert throughput of product documents into a collection already holding {@code prefill}
+ * documents (10 million by default), with random (v4) and time-ordered (v7) {@code _id} values.
+ * <p>
+ * Documents have the shape written by the product repository, including the unique {@code name} index, and
+ * are inserted in unordered batches of {@value #BATCH_SIZE} as by the bulk import. Every trial starts from a
+ * freshly filled collection, so a run takes several minutes per parameter combination. The effect of the ID
+ * order shows once the {@code _id} index no longer fits in the WiredTiger cache, e.g. with
+ * {@code mongod --wiredTigerCacheSizeGB 0.25}. The index order only follows creation time with the
+ * {@code STANDARD} UUID representation, {@code JAVA_LEGACY} can be compared with {@code -p uuidRepresentation}:
+ * </p>
+ * <pre>
+ * java -Dbenchmark.mongodb.uri=mongodb://localhost:27017 -jar target/benchmarks.jar ProductInsertBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ProductInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int PREFILL_BATCH_SIZE = 10_000;
+    private static final String DATABASE = "product-benchmark";
+    private static final String PRODUCT_CLASS = "com.shop.microservices.product.Model.Product";
+
+    @Param({"random", "timeOrdered"})
+    private String idStrategy;
+
+    @Param({"10000000"})
+    private long prefill;
+
+    @Param({"STANDARD"})
+    private UuidRepresentation uuidRepresentation;
+
+    private MongoClient mongoClient;
+    private MongoCollection<Document> collection;
+    private Supplier<UUID> ids;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String uri = System.getProperty("benchmark.mongodb.uri", "mongodb://localhost:27017");
+        mongoClient = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(uri))
+                .uuidRepresentation(uuidRepresentation)
+                .build());
+        collection = mongoClient.getDatabase(DATABASE).getCollection("product_" + idStrategy);
+        collection.drop();
+        collection.createIndex(Indexes.ascending("name"), new IndexOptions().name("unique_product_name").unique(true));
+
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        ids = switch (idStrategy) {
+            case "random" -> UUID::randomUUID;
+            case "timeOrdered" -> generator::generate;
+            default -> throw new IllegalArgumentException("Unknown ID strategy: " + idStrategy);
+        };
+
+        sequence = 0;
+        while (sequence < prefill) {
+            collection.insertMany(batch((int) Math.min(PREFILL_BATCH_SIZE, prefill - sequence)), new InsertManyOptions().ordered(false));
+            if (sequence % 1_000_000 == 0) {
+                System.out.println("Prefilled " + sequence + " documents");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        collection.drop();
+        mongoClient.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() {
+        collection.insertMany(batch(BATCH_SIZE), new InsertManyOptions().ordered(false));
+    }
+
+    private List<Document> batch(int size) {
+        List<Document> documents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long n = sequence++;
+            documents.add(new Document("_id", ids.get())
+                    // Zero padded so that the unique name index is filled in order for both strategies
+                    .append("name", String.format("Product %012d", n))
+                    .append("description", "A high-precision wireless mouse with ergonomic design.")
+                    // Spring Data stores BigDecimal as a string by default
+                    .append("price", BigDecimal.valueOf(2999 + n % 1000, 2).toString())
+                    .append("version", 0L)
+                    .append("_class", PRODUCT_CLASS));
+        }
+        return documents;
+    }
+}
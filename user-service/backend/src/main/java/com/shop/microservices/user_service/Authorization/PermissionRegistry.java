@@ -0,0 +1,58 @@
+package com.shop.microservices.user_service.Authorization;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns permission names into small, dense integer IDs.
+ * <p>
+ * The IDs are the bit positions used by {@link PermissionSet}, so a permission check becomes a single bit test
+ * instead of a string comparison. IDs are assigned on first sight and never reused or reassigned for the lifetime
+ * of the process; they are not persisted and must not leave the process.
+ * </p>
+ */
+@Component
+public class PermissionRegistry {
+
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Returns the ID of the given permission, assigning a new one if the permission was never seen before.
+     *
+     * @param permission The permission name.
+     * @return The interned ID of the permission.
+     */
+    public int intern(String permission) {
+        return idsByName.computeIfAbsent(permission, name -> {
+            int id = nextId.getAndIncrement();
+            namesById.put(id, name);
+            return id;
+        });
+    }
+
+    /**
+     * Returns the ID of the given permission without assigning one.
+     *
+     * @param permission The permission name.
+     * @return The interned ID of the permission, or {@code -1} if no loaded user holds it.
+     */
+    public int idOf(String permission) {
+        Integer id = idsByName.get(permission);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Returns the permission name of the given ID.
+     *
+     * @param id The interned ID.
+     * @return The permission name, or {@code null} if the ID was never assigned.
+     */
+    public String nameOf(int id) {
+        return namesById.get(id);
+    }
+}
@@ -0,0 +1,63 @@
+package com.shop.microservices.user_service.Authorization;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable bitset of permission IDs interned by the {@link PermissionRegistry}.
+ * <p>
+ * Bit {@code n} is set when the permission with ID {@code n} is granted. Since IDs are dense, a user holding
+ * a few dozen permissions needs a single {@code long} or two, and {@link #contains(int)} is a constant-time bit test.
+ * </p>
+ */
+public final class PermissionSet {
+
+    /**
+     * The set without any permission.
+     */
+    public static final PermissionSet EMPTY = new PermissionSet(new long[0]);
+
+    private final long[] words;
+
+    private PermissionSet(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Creates a set holding the given permission IDs.
+     *
+     * @param ids The interned permission IDs; duplicates are allowed.
+     * @return The corresponding {@link PermissionSet}.
+     */
+    public static PermissionSet of(int... ids) {
+        if (ids.length == 0) {
+            return EMPTY;
+        }
+        int maxId = Arrays.stream(ids).max().getAsInt();
+        long[] words = new long[(maxId >> 6) + 1];
+        for (int id : ids) {
+            words[id >> 6] |= 1L << id;
+        }
+        return new PermissionSet(words);
+    }
+
+    /**
+     * Checks whether the given permission ID is part of the set.
+     *
+     * @param id The interned permission ID; negative IDs are never contained.
+     * @return {@code true} if the permission is granted.
+     */
+    public boolean contains(int id) {
+        int wordIndex = id >> 6;
+        return id >= 0 && wordIndex < words.length && (words[wordIndex] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns the IDs held by the set, in ascending order.
+     *
+     * @return A stream of the permission IDs.
+     */
+    public IntStream ids() {
+        return IntStream.range(0, words.length << 6).filter(this::contains);
+    }
+}
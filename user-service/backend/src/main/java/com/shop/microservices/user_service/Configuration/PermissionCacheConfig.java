@@ -0,0 +1,12 @@
+package com.shop.microservices.user_service.Configuration;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the effective-permission cache.
+ */
+@Configuration
+@EnableConfigurationProperties(PermissionCacheProperties.class)
+public class PermissionCacheConfig {
+}
@@ -0,0 +1,27 @@
+package com.shop.microservices.user_service.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the effective-permission cache.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user.permission-cache")
+public class PermissionCacheProperties {
+
+    /**
+     * Maximum number of users whose permissions are kept in memory.
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * Time after which an entry expires, even if it was never invalidated.
+     * Bounds how long changes made by other replicas or directly in the database go unnoticed.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
@@ -0,0 +1,110 @@
+package com.shop.microservices.user_service.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Detects virtual threads that pin their carrier thread.
+ * <p>
+ * A virtual thread that blocks inside a {@code synchronized} block or a native frame cannot unmount and keeps
+ * its carrier (platform) thread busy, which silently brings back the thread pool exhaustion virtual threads are
+ * meant to remove. This monitor subscribes to the {@code jdk.VirtualThreadPinned} JFR event in-process, logs the
+ * offending stack and records the pinned duration in the {@value #PINNED_METRIC} timer.
+ * </p>
+ * <p>
+ * Only active when virtual threads are enabled ({@code spring.threads.virtual.enabled}) and
+ * {@code virtual-threads.pinning-detection.enabled} is set.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "virtual-threads.pinning-detection", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String PINNED_METRIC = "jvm.threads.virtual.pinned";
+
+    // Number of stack frames logged for each pinning event
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Timer pinnedTimer;
+    private RecordingStream recordingStream;
+
+    /**
+     * Constructs the {@link VirtualThreadPinningMonitor} with the necessary dependencies.
+     *
+     * @param threshold     The minimum pinned duration reported; shorter pins are ignored.
+     * @param meterRegistry The optional registry used to publish the pinned duration timer.
+     */
+    public VirtualThreadPinningMonitor(@Value("${virtual-threads.pinning-detection.threshold:20ms}") Duration threshold,
+                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        this.threshold = threshold;
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        this.pinnedTimer = registry == null ? null : Timer.builder(PINNED_METRIC)
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .register(registry);
+    }
+
+    /**
+     * Starts the in-process JFR recording stream.
+     */
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning detection started with a threshold of {} ms", threshold.toMillis());
+    }
+
+    /**
+     * Stops the recording stream.
+     */
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        if (pinnedTimer != null) {
+            pinnedTimer.record(duration);
+        }
+        log.warn("Virtual thread {} pinned its carrier for {} ms at:\n{}",
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                duration.toMillis(), formatStackTrace(event.getStackTrace()));
+    }
+
+    private String formatStackTrace(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t<no stack trace>";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : ""))
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -1,21 +1,34 @@
 package com.shop.microservices.user_service.controller;
 
+import com.shop.microservices.user_service.Dto.UserCursorPageDTO;
 import com.shop.microservices.user_service.Dto.UserRequestDTO;
 import com.shop.microservices.user_service.Dto.UserResponseDTO;
+import com.shop.microservices.user_service.Service.Serviceinterface.IEffectivePermissionService;
 import com.shop.microservices.user_service.Service.Serviceinterface.IUserService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("v1/api/user")
 public class UserController {
     private final IUserService iUserService;
+    private final IEffectivePermissionService iEffectivePermissionService;
 
-    public UserController (IUserService iUserService){
+    public UserController (IUserService iUserService, IEffectivePermissionService iEffectivePermissionService){
         this.iUserService=iUserService;
+        this.iEffectivePermissionService=iEffectivePermissionService;
     }
 
     @PostMapping
@@ -24,5 +37,47 @@ public class UserController {
         return  ResponseEntity.ok(createUser);
 
     }
-}
 
+    //Get one page of users, pass the returned nextCursor back to get the following page
+    @GetMapping("/scroll")
+    public ResponseEntity<UserCursorPageDTO> GetUsersByCursor(@RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "50") int size,
+                                                              @RequestParam(defaultValue = "id") String sortBy,
+                                                              @RequestParam(defaultValue = "false") boolean includeCount){
+        return ResponseEntity.ok(iUserService.GetUsersByCursor(cursor, size, sortBy, includeCount));
+    }
+
+    //Export all users as newline-delimited JSON, streamed straight from the database into the response
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> ExportUsers(@RequestParam(defaultValue = "false") boolean gzip){
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 8192);
+                iUserService.ExportUsers(gzipOutputStream);
+                gzipOutputStream.finish();
+            } else {
+                iUserService.ExportUsers(outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.ndjson" + (gzip ? ".gz" : "") + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    //Get the effective permissions of a user
+    @GetMapping("/{username}/permissions")
+    public ResponseEntity<Set<String>> GetUserPermissions(@PathVariable String username){
+        return ResponseEntity.ok(iEffectivePermissionService.getPermissions(username));
+    }
+
+    //Check whether a user holds a permission
+    @GetMapping("/{username}/permissions/{permission}")
+    public ResponseEntity<Boolean> HasPermission(@PathVariable String username, @PathVariable String permission){
+        return ResponseEntity.ok(iEffectivePermissionService.hasPermission(username, permission));
+    }
+}
@@ -0,0 +1,25 @@
+package com.shop.microservices.user_service.Dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for one page of a cursor-based user listing.
+ * This DTO contains the users of the page and the token to pass back to fetch the next one.
+ */
+@Schema(description = "Response DTO for one page of a cursor-based user listing.")
+public record UserCursorPageDTO(
+        @Schema(description = "The users of the page")
+        List<UserResponseDTO> content,
+
+        @Schema(description = "Opaque token used to fetch the next page, null on the last page", example = "dXNlcm5hbWV8am9obl9kb2U")
+        String nextCursor,
+
+        @Schema(description = "Whether another page is available", example = "true")
+        boolean hasNext,
+
+        @Schema(description = "Total number of users, only present when includeCount is true", example = "42000")
+        Long totalElements
+) {
+}
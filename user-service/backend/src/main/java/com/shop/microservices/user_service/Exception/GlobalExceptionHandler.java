@@ -1,5 +1,6 @@
 package com.shop.microservices.user_service.Exception;
 
+import com.shop.microservices.user_service.Metrics.ErrorCodeMetrics;
 import com.shop.microservices.user_service.Utils.ErrorMessageUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -23,15 +24,18 @@ import java.util.stream.Collectors;
  * It handles various exceptions thrown by controllers and creates consistent error responses.
  * This class leverages {@link ControllerAdvice} to globally handle exceptions and provide
  * structured error messages based on application-specific error codes and messages.
+ * Every error response is counted by error code in {@link ErrorCodeMetrics}.
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
     private final ErrorMessageUtil errorMessageUtil;
+    private final ErrorCodeMetrics errorCodeMetrics;
 
     @Autowired
-    public GlobalExceptionHandler(ErrorMessageUtil errorMessageUtil) {
+    public GlobalExceptionHandler(ErrorMessageUtil errorMessageUtil, ErrorCodeMetrics errorCodeMetrics) {
         this.errorMessageUtil = errorMessageUtil;
+        this.errorCodeMetrics = errorCodeMetrics;
     }
 
     /**
@@ -52,6 +56,7 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.BAD_REQUEST.value());
         response.put("message", errorMessageUtil.getErrorMessage(ex.getErrorCode(), ex.getMessageArgs()));
         response.put("details", ex.getMessage());
+        errorCodeMetrics.record(ex.getErrorCode(), HttpStatus.BAD_REQUEST, ex);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
@@ -73,6 +78,7 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.BAD_REQUEST.value());
         response.put("message", errorMessageUtil.getErrorMessage(ex.getErrorCode()));
         response.put("details", ex.getMessage());
+        errorCodeMetrics.record(ex.getErrorCode(), HttpStatus.BAD_REQUEST, ex);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
@@ -94,6 +100,7 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.BAD_REQUEST.value());
         response.put("message", errorMessageUtil.getErrorMessage(ex.getErrorCode(), ex.getMessageArgs()));
         response.put("details", ex.getMessage());
+        errorCodeMetrics.record(ex.getErrorCode(), HttpStatus.BAD_REQUEST, ex);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
@@ -111,6 +118,7 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.NOT_FOUND.value());
         response.put("message", errorMessageUtil.getErrorMessage(ex.getErrorCode(), ex.getMessageArgs()));
 
+        errorCodeMetrics.record(ex.getErrorCode(), HttpStatus.NOT_FOUND, ex);
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
@@ -128,6 +136,7 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.BAD_REQUEST.value());
         response.put("message", errorMessageUtil.getErrorMessage(ex.getErrorCode(), ex.getMessageArgs()));
 
+        errorCodeMetrics.record(ex.getErrorCode(), HttpStatus.BAD_REQUEST, ex);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
@@ -149,6 +158,7 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.BAD_REQUEST.value());
         response.put("message", errorMessageUtil.getErrorMessage(ex.getErrorCode(), ex.getMessageArgs()));
         response.put("details", ex.getMessage());
+        errorCodeMetrics.record(ex.getErrorCode(), HttpStatus.INTERNAL_SERVER_ERROR, ex);
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
@@ -178,6 +188,7 @@ public class GlobalExceptionHandler {
                         FieldError::getDefaultMessage
                 ));
         response.put("errors", fieldErrors);
+        errorCodeMetrics.record("validation", HttpStatus.BAD_REQUEST, ex);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
@@ -206,6 +217,7 @@ public class GlobalExceptionHandler {
                         ConstraintViolation::getMessage
                 ));
         response.put("errors", violations);
+        errorCodeMetrics.record("validation", HttpStatus.BAD_REQUEST, ex);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
@@ -229,6 +241,7 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
         response.put("message", errorMessageUtil.getErrorMessage("prod.error.3000"));
         response.put("details", ex.getMessage());
+        errorCodeMetrics.record("prod.error.3000", HttpStatus.INTERNAL_SERVER_ERROR, ex);
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
@@ -249,6 +262,7 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
         response.put("message", errorMessageUtil.getErrorMessage("generic.error.message"));
         response.put("details", ex.getMessage());
+        errorCodeMetrics.record("generic.error.message", HttpStatus.INTERNAL_SERVER_ERROR, ex);
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 }
@@ -0,0 +1,83 @@
+package com.shop.microservices.user_service.Listener;
+
+import com.shop.microservices.user_service.Model.Permission;
+import com.shop.microservices.user_service.Model.Role;
+import com.shop.microservices.user_service.Model.RolePermission;
+import com.shop.microservices.user_service.Model.User;
+import com.shop.microservices.user_service.Model.UserRole;
+import com.shop.microservices.user_service.Service.Serviceinterface.IEffectivePermissionService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener invalidating the effective-permission cache when the data it is derived from changes.
+ * <p>
+ * Registered on {@link User}, {@link Role}, {@link UserRole}, {@link RolePermission} and {@link Permission}.
+ * Invalidations run once the surrounding transaction has completed, so that a reload reads the new state.
+ * Instances are created by Hibernate through Spring; the service is resolved lazily because entity listeners
+ * are instantiated while the persistence unit, which the service depends on, is still being built.
+ * </p>
+ */
+public class PermissionChangeListener {
+
+    private final ObjectProvider<IEffectivePermissionService> permissionService;
+
+    /**
+     * Constructs the {@link PermissionChangeListener} with the necessary dependencies.
+     *
+     * @param permissionService Provider of the service owning the effective-permission cache.
+     */
+    public PermissionChangeListener(ObjectProvider<IEffectivePermissionService> permissionService) {
+        this.permissionService = permissionService;
+    }
+
+    /**
+     * Invalidates the cache entries affected by a change of the given entity.
+     *
+     * @param entity The persisted, updated or removed entity.
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        IEffectivePermissionService service = permissionService.getIfAvailable();
+        if (service == null) {
+            return;
+        }
+
+        Runnable invalidation;
+        if (entity instanceof User user) {
+            // A new user may have been cached as unknown under its username
+            invalidation = () -> {
+                service.invalidateUser(user.getUsername());
+                service.invalidateUserById(user.getId());
+            };
+        } else if (entity instanceof UserRole userRole && userRole.getUser() != null) {
+            invalidation = () -> service.invalidateUserById(userRole.getUser().getId());
+        } else if (entity instanceof RolePermission rolePermission && rolePermission.getRole() != null) {
+            invalidation = () -> service.invalidateRole(rolePermission.getRole().getId());
+        } else if (entity instanceof Role role) {
+            invalidation = () -> service.invalidateRole(role.getId());
+        } else if (entity instanceof Permission) {
+            // Renamed or removed permissions may be held by any user
+            invalidation = service::invalidateAll;
+        } else {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        } else {
+            invalidation.run();
+        }
+    }
+}
@@ -4,12 +4,16 @@ import com.shop.microservices.user_service.Dto.UserRequestDTO;
 import com.shop.microservices.user_service.Dto.UserResponseDTO;
 import com.shop.microservices.user_service.Enumeration.UserStatusEnum;
 import com.shop.microservices.user_service.Model.User;
+import com.shop.microservices.user_service.Repository.UserSummaryView;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
@@ -36,18 +40,38 @@ public class UserServiceMapper {
             return null;
         }
         return UserResponseDTO.builder()
+                .id(toIdString(user.getId()))
+                .username(user.getUsername())
                 .email(user.getEmail())
                 .mobileNo(user.getMobileNo())
                 .status(user.getStatus())
                 .twoFactorEnabled(user.isTwoFactorEnabled())
-                .createdDate(LocalDateTime.from(user.getCreatedDate()))
-                .lastModifiedBy(String.valueOf(user.getLastModifiedDate()))
+                .createdDate(toLocalDateTime(user.getCreatedDate()))
+                .lastModifiedDate(toLocalDateTime(user.getLastModifiedDate()))
                 .createdBy(user.getCreatedBy())
                 .lastModifiedBy(user.getLastModifiedBy()).build();
     }
 
+    //Map the UserSummaryView projection to the UserResponseDTO
+    public UserResponseDTO toDto(UserSummaryView user){
+        if(user ==null){
+            return null;
+        }
+        return UserResponseDTO.builder()
+                .id(toIdString(user.id()))
+                .username(user.username())
+                .email(user.email())
+                .mobileNo(user.mobileNo())
+                .status(user.status())
+                .twoFactorEnabled(user.twoFactorEnabled())
+                .createdDate(toLocalDateTime(user.createdDate()))
+                .lastModifiedDate(toLocalDateTime(user.lastModifiedDate()))
+                .createdBy(user.createdBy())
+                .lastModifiedBy(user.lastModifiedBy()).build();
+    }
+
     //map all the users to the DTO
-    public List<UserResponseDTO> GetAllUser(List<User> users) {
+    public List<UserResponseDTO> GetAllUser(List<UserSummaryView> users) {
         if (users == null) {
             return null;
         }
@@ -55,4 +79,14 @@ public class UserServiceMapper {
                 .map(this::toDto)
                 .collect(Collectors.toList());
     }
+
+    //IDs are stored as binary UUIDs, the DTO exposes them in their canonical text form
+    private static String toIdString(UUID id) {
+        return id != null ? id.toString() : null;
+    }
+
+    //Audit timestamps are stored as instants, the DTO exposes them in UTC
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+    }
 }
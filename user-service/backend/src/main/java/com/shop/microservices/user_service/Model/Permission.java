@@ -1,9 +1,11 @@
 package com.shop.microservices.user_service.Model;
 
+import com.shop.microservices.user_service.Listener.PermissionChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.util.Set;
+import java.util.UUID;
 
 /**
  * Represents a permission entity in the system.
@@ -21,6 +23,7 @@ import java.util.Set;
  */
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@EntityListeners(PermissionChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,11 +31,11 @@ import java.util.Set;
 public class Permission extends Auditable {
 
     /**
-     * Unique identifier for the permission. Generated using UUID strategy.
+     * Unique identifier for the permission. Time-ordered UUID generated on insert and stored as {@code BINARY(16)}, see {@link TimeOrderedUuid}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @TimeOrderedUuid
+    private UUID id;
 
     /**
      * The permission name or code. This field must be unique across the system.
@@ -52,6 +55,8 @@ public class Permission extends Auditable {
      * A permission can be linked to multiple roles, granting users in those roles
      * the associated permission.
      */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToMany(mappedBy = "permissions")
     private Set<Role> roles;
 }
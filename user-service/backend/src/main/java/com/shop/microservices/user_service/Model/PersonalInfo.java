@@ -3,6 +3,8 @@ package com.shop.microservices.user_service.Model;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.UUID;
+
 /**
  * Represents personal information associated with a user.
  * This entity is mapped to the 'personal_info' table in the database.
@@ -23,11 +25,11 @@ public class PersonalInfo extends Auditable {
 
     /**
      * Unique identifier for the personal information entry.
-     * Generated using UUID strategy as the primary key.
+     * Time-ordered UUID generated on insert and stored as {@code BINARY(16)}, see {@link TimeOrderedUuid}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @TimeOrderedUuid
+    private UUID id;
 
     /**
      * First name of the user.
@@ -1,10 +1,13 @@
 package com.shop.microservices.user_service.Model;
 
 import com.shop.microservices.user_service.Enumeration.RoleEnum;
+import com.shop.microservices.user_service.Listener.PermissionChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Immutable;
 
 import java.util.Set;
+import java.util.UUID;
 
 /**
  * Represents a role in the system. A role defines a set of permissions that a user can have.
@@ -20,6 +23,7 @@ import java.util.Set;
  */
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@EntityListeners(PermissionChangeListener.class)
 @Data
 @Getter
 @Setter
@@ -30,11 +34,11 @@ public class Role extends Auditable {
 
     /**
      * Unique identifier for the role.
-     * Generated using UUID strategy as the primary key.
+     * Time-ordered UUID generated on insert and stored as {@code BINARY(16)}, see {@link TimeOrderedUuid}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @TimeOrderedUuid
+    private UUID id;
 
     /**
      * The role associated with the permission set.
@@ -56,14 +60,19 @@ public class Role extends Auditable {
      * Set of permissions associated with this role.
      * Defines the permissions granted to a user who has this role.
      * A many-to-many relationship between {@link Role} and {@link Permission}.
+     * Read-only: permissions are granted and revoked through {@link RolePermission}, whose callbacks invalidate the
+     * cached permissions of the role's users; modifying this collection fails on flush.
      *
      * @see Permission The {@link Permission} entity defining specific actions granted by the role.
      */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToMany
+    @Immutable
     @JoinTable(
             name = "role_permissions",
-            joinColumns = @JoinColumn(name = "role_id"),
-            inverseJoinColumns = @JoinColumn(name = "permission_id")
+            joinColumns = @JoinColumn(name = "role_id", insertable = false, updatable = false),
+            inverseJoinColumns = @JoinColumn(name = "permission_id", insertable = false, updatable = false)
     )
     private Set<Permission> permissions;
 }
@@ -1,8 +1,11 @@
 package com.shop.microservices.user_service.Model;
 
+import com.shop.microservices.user_service.Listener.PermissionChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.UUID;
+
 /**
  * Represents the association between roles and permissions in the system.
  * This entity maps to the 'role_permissions' table and links a specific role to a specific permission.
@@ -13,6 +16,7 @@ import lombok.*;
  * @see Auditable  The {@link Auditable} class providing audit information.
  */
 @Entity
+@EntityListeners(PermissionChangeListener.class)
 @Table(name = "role_permissions")
 @EqualsAndHashCode(callSuper = true)
 @Data
@@ -25,11 +29,11 @@ public class RolePermission extends Auditable {
 
     /**
      * Unique identifier for the role-permission association.
-     * Generated using UUID strategy.
+     * Time-ordered UUID generated on insert and stored as {@code BINARY(16)}, see {@link TimeOrderedUuid}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @TimeOrderedUuid
+    private UUID id;
 
     /**
      * The role associated with this permission.
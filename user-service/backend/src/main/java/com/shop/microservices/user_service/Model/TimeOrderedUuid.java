@@ -0,0 +1,22 @@
+package com.shop.microservices.user_service.Model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link java.util.UUID} primary key whose value is generated by {@link TimeOrderedUuidIdGenerator}.
+ * <p>
+ * Used in place of {@code @GeneratedValue(strategy = GenerationType.UUID)}, whose random (version 4) values
+ * scatter inserts across the clustered index. Hibernate maps {@link java.util.UUID} to {@code BINARY(16)}
+ * on MySQL.
+ * </p>
+ */
+@IdGeneratorType(TimeOrderedUuidIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
@@ -0,0 +1,31 @@
+package com.shop.microservices.user_service.Model;
+
+import com.shop.microservices.user_service.Utils.TimeOrderedUuidGenerator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * Hibernate identifier generator assigning time-ordered (version 7) UUIDs, see {@link TimeOrderedUuid}.
+ * <p>
+ * Hibernate creates one instance per entity, all of them draw from the same {@link TimeOrderedUuidGenerator}
+ * so that IDs are increasing across the whole service.
+ * </p>
+ */
+public class TimeOrderedUuidIdGenerator implements BeforeExecutionGenerator {
+
+    private static final TimeOrderedUuidGenerator GENERATOR = new TimeOrderedUuidGenerator();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return GENERATOR.generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
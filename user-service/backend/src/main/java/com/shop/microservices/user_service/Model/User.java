@@ -1,11 +1,14 @@
 package com.shop.microservices.user_service.Model;
 
 import com.shop.microservices.user_service.Enumeration.UserStatusEnum;
+import com.shop.microservices.user_service.Listener.PermissionChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import lombok.*;
+import org.hibernate.annotations.Immutable;
 
 import java.util.Set;
+import java.util.UUID;
 
 /**
  * Represents a user in the system. A user is associated with a set of roles and personal information.
@@ -22,6 +25,7 @@ import java.util.Set;
  */
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@EntityListeners(PermissionChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -33,11 +37,11 @@ public class User extends Auditable {
 
     /**
      * Unique identifier for the user.
-     * Generated using UUID strategy as the primary key.
+     * Time-ordered UUID generated on insert and stored as {@code BINARY(16)}, see {@link TimeOrderedUuid}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @TimeOrderedUuid
+    private UUID id;
 
     /**
      * The username associated with the user.
@@ -85,24 +89,31 @@ public class User extends Auditable {
 
     /**
      * Personal information associated with the user.
-     * This field is a reference to the {@link PersonalInfo} entity.
+     * This field is a reference to the {@link PersonalInfo} entity. Loaded lazily.
      */
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "personal_info_id", referencedColumnName = "id")
     private PersonalInfo personalInfo;
 
     /**
      * Set of roles associated with this user.
      * Defines the set of permissions granted to the user.
-     * A many-to-many relationship between {@link User} and {@link Role}.
+     * A many-to-many relationship between {@link User} and {@link Role}. Loaded lazily.
+     * Read-only: roles are assigned and revoked through {@link UserRole}, whose callbacks invalidate the cached
+     * permissions of the user; modifying this collection fails on flush.
      *
      * @see Role The {@link Role} class defining the roles that are granted to the user.
      */
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToMany
+    @Immutable
     @JoinTable(
             name = "user_roles",
-            joinColumns = @JoinColumn(name = "user_id"),
-            inverseJoinColumns = @JoinColumn(name = "role_id")
+            joinColumns = @JoinColumn(name = "user_id", insertable = false, updatable = false),
+            inverseJoinColumns = @JoinColumn(name = "role_id", insertable = false, updatable = false)
     )
     private Set<Role> roles;
 }
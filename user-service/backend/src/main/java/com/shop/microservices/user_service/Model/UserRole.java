@@ -1,8 +1,11 @@
 package com.shop.microservices.user_service.Model;
 
+import com.shop.microservices.user_service.Listener.PermissionChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.UUID;
+
 /**
  * Represents a relationship between a {@link User} and a {@link Role}.
  * This entity is used to assign a specific {@link Role} to a {@link User}.
@@ -19,6 +22,7 @@ import lombok.*;
  */
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@EntityListeners(PermissionChangeListener.class)
 @Table(name = "user_roles")
 @Data
 @Getter
@@ -30,11 +34,11 @@ public class UserRole extends Auditable {
 
     /**
      * Unique identifier for the user role entry.
-     * Generated using UUID strategy as the primary key.
+     * Time-ordered UUID generated on insert and stored as {@code BINARY(16)}, see {@link TimeOrderedUuid}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @TimeOrderedUuid
+    private UUID id;
 
     /**
      * The role assigned to the user.
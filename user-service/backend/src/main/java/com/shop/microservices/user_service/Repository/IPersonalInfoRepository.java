@@ -4,6 +4,8 @@ import com.shop.microservices.user_service.Model.PersonalInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.UUID;
+
 /**
  * Repository interface for {@link PersonalInfo} entities.
  * <p>
@@ -18,6 +20,6 @@ import org.springframework.stereotype.Repository;
  * @see JpaRepository The {@link JpaRepository} interface providing CRUD operations.
  */
 @Repository
-public interface IPersonalInfoRepository extends JpaRepository<PersonalInfo, String> {
+public interface IPersonalInfoRepository extends JpaRepository<PersonalInfo, UUID> {
     // Additional query methods can be defined here
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import com.shop.microservices.user_service.Model.RolePermission;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.UUID;
+
 /**
  * Repository interface for {@link RolePermission} entities.
  * <p>
@@ -18,6 +20,6 @@ import org.springframework.stereotype.Repository;
  * @see JpaRepository The {@link JpaRepository} interface providing CRUD operations.
  */
 @Repository
-public interface IRolePermissionRepository extends JpaRepository<RolePermission, String> {
+public interface IRolePermissionRepository extends JpaRepository<RolePermission, UUID> {
     // Additional query methods can be defined here
 }
\ No newline at end of file
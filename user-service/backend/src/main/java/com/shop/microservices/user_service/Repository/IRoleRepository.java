@@ -4,6 +4,8 @@ import com.shop.microservices.user_service.Model.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.UUID;
+
 /**
  * Repository interface for {@link Role} entities.
  * <p>
@@ -18,6 +20,6 @@ import org.springframework.stereotype.Repository;
  * @see JpaRepository The {@link JpaRepository} interface providing CRUD operations.
  */
 @Repository
-public interface IRoleRepository extends JpaRepository<Role, String> {
+public interface IRoleRepository extends JpaRepository<Role, UUID> {
     // Additional query methods can be defined here
 }
\ No newline at end of file
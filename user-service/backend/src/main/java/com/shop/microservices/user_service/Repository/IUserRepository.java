@@ -1,10 +1,20 @@
 package com.shop.microservices.user_service.Repository;
 
 import com.shop.microservices.user_service.Model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for {@link User} entities.
  * <p>
@@ -19,13 +29,90 @@ import org.springframework.stereotype.Repository;
  * @see JpaRepository The {@link JpaRepository} interface providing CRUD operations.
  */
 @Repository
-public interface IUserRepository extends JpaRepository<User, String> {
-
-    // Query to fetch the permission based on the given username
-    @Query(value = "SELECT  role_permission.id ,user.username,permission.permission FROM RolePermission rp" +
-            "JOIN Role r ON rp.role_id = r.role_id" +
-            "JOIN UserRole ur ON ur.role_id = r.role_id" +
-            "JOIN User u ON u.user_id = ur.user_id" +
-            "JOIN Permission p ON rp.permission_id = p.permission_id")
-    String findPermissionByUsername(String username);
+public interface IUserRepository extends JpaRepository<User, UUID> {
+
+    // Number of rows fetched per round trip when streaming users
+    int STREAM_FETCH_SIZE = 1000;
+
+    // Columns selected by the summary projections, in UserSummaryView constructor order
+    String SUMMARY_SELECT = "SELECT new com.shop.microservices.user_service.Repository.UserSummaryView(" +
+            "u.id, u.username, u.email, u.mobileNo, u.status, u.twoFactorEnabled, " +
+            "u.createdDate, u.lastModifiedDate, u.createdBy, u.lastModifiedBy) FROM User u ";
+
+    /**
+     * Finds every user as a {@link UserSummaryView}, i.e. the list view of users.
+     * Runs a single query over the user table, whatever the number of users.
+     *
+     * @return The summaries of all users.
+     */
+    @Query(SUMMARY_SELECT)
+    List<UserSummaryView> findAllSummaries();
+
+    /**
+     * Finds the next page of users ordered by ID, in keyset (seek) order.
+     * The cost of a page does not depend on how deep the caller has paged.
+     *
+     * @param lastId The ID of the last user of the previous page, or {@code null} for the first page.
+     * @param limit  The maximum number of users to return.
+     * @return The summaries of the users located after {@code lastId}.
+     */
+    @Query(SUMMARY_SELECT + "WHERE :lastId IS NULL OR u.id > :lastId ORDER BY u.id")
+    List<UserSummaryView> findSummariesAfterId(@Param("lastId") UUID lastId, Limit limit);
+
+    /**
+     * Finds the next page of users ordered by username, in keyset (seek) order.
+     * Usernames are unique, so the last username alone identifies the position.
+     *
+     * @param lastUsername The username of the last user of the previous page, or {@code null} for the first page.
+     * @param limit        The maximum number of users to return.
+     * @return The summaries of the users located after {@code lastUsername}.
+     */
+    @Query(SUMMARY_SELECT + "WHERE :lastUsername IS NULL OR u.username > :lastUsername ORDER BY u.username")
+    List<UserSummaryView> findSummariesAfterUsername(@Param("lastUsername") String lastUsername, Limit limit);
+
+    /**
+     * Streams every user as a {@link UserSummaryView}, in ID order.
+     * <p>
+     * Rows are read from a server-side cursor in batches of {@value #STREAM_FETCH_SIZE} while the stream is
+     * consumed (MySQL requires {@code useCursorFetch=true} on the connection URL for this). The stream must be
+     * consumed within a transaction and closed by the caller, e.g. with try-with-resources.
+     * </p>
+     *
+     * @return A lazily populated {@link Stream} of user summaries.
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY u.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<UserSummaryView> streamAllSummaries();
+
+    /**
+     * Finds a single user as a {@link UserSummaryView}.
+     *
+     * @param id The ID of the user.
+     * @return The summary of the user, empty if the user does not exist.
+     */
+    @Query(SUMMARY_SELECT + "WHERE u.id = :id")
+    Optional<UserSummaryView> findSummaryById(@Param("id") UUID id);
+
+    /**
+     * Finds the names of the permissions granted to a user through its roles.
+     *
+     * @param username The username of the user.
+     * @return The distinct permission names, empty if the user does not exist or has no permission.
+     */
+    @Query("SELECT DISTINCT p.permission FROM User u JOIN u.roles r JOIN r.permissions p WHERE u.username = :username")
+    List<String> findPermissionByUsername(@Param("username") String username);
+
+    /**
+     * Finds every role of a user along with the permissions each role grants, in a single query.
+     * Roles without permissions are returned with a {@code null} permission.
+     *
+     * @param username The username of the user.
+     * @return One row per role and permission, empty if the user does not exist.
+     */
+    @Query("SELECT u.id AS userId, r.id AS roleId, p.permission AS permission " +
+            "FROM User u LEFT JOIN u.roles r LEFT JOIN r.permissions p WHERE u.username = :username")
+    List<UserRolePermissionView> findRolePermissionsByUsername(@Param("username") String username);
 }
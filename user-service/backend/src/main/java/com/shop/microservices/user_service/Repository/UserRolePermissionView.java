@@ -0,0 +1,25 @@
+package com.shop.microservices.user_service.Repository;
+
+import java.util.UUID;
+
+/**
+ * Projection of a single (user, role, permission) row granted through the user's roles.
+ * Used by {@link IUserRepository#findRolePermissionsByUsername(String)}.
+ */
+public interface UserRolePermissionView {
+
+    /**
+     * @return The ID of the user.
+     */
+    UUID getUserId();
+
+    /**
+     * @return The ID of a role of the user, or {@code null} if the user has no role.
+     */
+    UUID getRoleId();
+
+    /**
+     * @return A permission granted by the role, or {@code null} if the role grants none.
+     */
+    String getPermission();
+}
@@ -0,0 +1,27 @@
+package com.shop.microservices.user_service.Repository;
+
+import com.shop.microservices.user_service.Enumeration.UserStatusEnum;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Projection of the {@link com.shop.microservices.user_service.Model.User} columns exposed by
+ * {@link com.shop.microservices.user_service.Dto.UserResponseDTO}.
+ * <p>
+ * Built by JPQL constructor expressions, so reading it never touches the user's roles or personal information.
+ * </p>
+ */
+public record UserSummaryView(
+        UUID id,
+        String username,
+        String email,
+        String mobileNo,
+        UserStatusEnum status,
+        boolean twoFactorEnabled,
+        Instant createdDate,
+        Instant lastModifiedDate,
+        String createdBy,
+        String lastModifiedBy
+) {
+}
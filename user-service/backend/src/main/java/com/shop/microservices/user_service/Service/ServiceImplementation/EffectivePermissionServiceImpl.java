@@ -0,0 +1,181 @@
+package com.shop.microservices.user_service.Service.ServiceImplementation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.shop.microservices.user_service.Authorization.PermissionRegistry;
+import com.shop.microservices.user_service.Authorization.PermissionSet;
+import com.shop.microservices.user_service.Configuration.PermissionCacheProperties;
+import com.shop.microservices.user_service.Exception.InvalidInputException;
+import com.shop.microservices.user_service.Repository.IUserRepository;
+import com.shop.microservices.user_service.Repository.UserRolePermissionView;
+import com.shop.microservices.user_service.Service.Serviceinterface.IEffectivePermissionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Effective-permission resolver backed by a cache of per-user {@link PermissionSet} bitsets.
+ * <p>
+ * A miss loads the user's roles and permissions with a single query and interns the permission names through
+ * the {@link PermissionRegistry}; afterwards a check is a map lookup and a bit test. Entries are invalidated by
+ * the {@link com.shop.microservices.user_service.Listener.PermissionChangeListener} whenever users, role
+ * assignments, role permissions or permissions change, and expire after a TTL as a safety net for changes made
+ * by other replicas or directly in the database.
+ * </p>
+ * <p>
+ * Entries are keyed by username; an index from user ID to username lets the invalidation of a user by ID, which runs
+ * on every update of a {@code User}, remove its entry without scanning the cache. The index follows the cache: it
+ * is written before an entry is stored and cleaned up when the entry is invalidated, evicted or expires.
+ * </p>
+ * <p>
+ * Every invalidation bumps a generation counter. A load that overlaps an invalidation is returned to its caller
+ * but not kept in the cache, so a stale read can never outlive the change that made it stale.
+ * </p>
+ */
+@Service
+public class EffectivePermissionServiceImpl implements IEffectivePermissionService {
+
+    private static final String CACHE_NAME = "user.permissions";
+
+    private final IUserRepository userRepository;
+    private final PermissionRegistry permissionRegistry;
+    private final Cache<String, EffectivePermissions> cache;
+    private final Map<UUID, String> usernamesById = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Cached permissions of a user, with the roles they were derived from so that they can be invalidated per role.
+     *
+     * @param userId      The ID of the user, {@code null} if the user does not exist.
+     * @param roleIds     The IDs of the user's roles.
+     * @param permissions The permissions granted by these roles.
+     */
+    private record EffectivePermissions(UUID userId, Set<UUID> roleIds, PermissionSet permissions) {}
+
+    public EffectivePermissionServiceImpl(IUserRepository userRepository, PermissionRegistry permissionRegistry,
+                                          PermissionCacheProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.userRepository = userRepository;
+        this.permissionRegistry = permissionRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                // Runs atomically with the size and expiry evictions, explicit removals clean the index themselves
+                .evictionListener((String username, EffectivePermissions entry, RemovalCause cause) -> unindex(username, entry))
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    @Override
+    public boolean hasPermission(String username, String permission) {
+        if (permission == null || permission.isBlank()) {
+            throw new InvalidInputException("user.error.3102");
+        }
+        // Resolve first: loading the user interns its permissions
+        PermissionSet permissions = resolve(username).permissions();
+        return permissions.contains(permissionRegistry.idOf(permission));
+    }
+
+    @Override
+    public Set<String> getPermissions(String username) {
+        return resolve(username).permissions().ids()
+                .mapToObj(permissionRegistry::nameOf)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public void invalidateUser(String username) {
+        generation.incrementAndGet();
+        unindex(username, cache.asMap().remove(username));
+    }
+
+    @Override
+    public void invalidateUserById(UUID userId) {
+        generation.incrementAndGet();
+        String username = usernamesById.remove(userId);
+        if (username != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    @Override
+    public void invalidateRole(UUID roleId) {
+        generation.incrementAndGet();
+        cache.asMap().entrySet().removeIf(entry -> {
+            if (!entry.getValue().roleIds().contains(roleId)) {
+                return false;
+            }
+            unindex(entry.getKey(), entry.getValue());
+            return true;
+        });
+    }
+
+    @Override
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        usernamesById.clear();
+    }
+
+    private EffectivePermissions resolve(String username) {
+        if (username == null || username.isBlank()) {
+            throw new InvalidInputException("user.error.3101");
+        }
+        EffectivePermissions cached = cache.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Load outside of the cache lock, then drop the entry again if an invalidation overlapped the load
+        long observedGeneration = generation.get();
+        EffectivePermissions loaded = load(username);
+        // Index before storing, so that an invalidation by ID overlapping the store always finds the entry
+        if (loaded.userId() != null) {
+            usernamesById.put(loaded.userId(), username);
+        }
+        cache.put(username, loaded);
+        if (generation.get() != observedGeneration && cache.asMap().remove(username, loaded)) {
+            unindex(username, loaded);
+        }
+        return loaded;
+    }
+
+    private void unindex(String username, EffectivePermissions entry) {
+        if (entry != null && entry.userId() != null) {
+            usernamesById.remove(entry.userId(), username);
+        }
+    }
+
+    private EffectivePermissions load(String username) {
+        List<UserRolePermissionView> rows = userRepository.findRolePermissionsByUsername(username);
+        if (rows.isEmpty()) {
+            return new EffectivePermissions(null, Set.of(), PermissionSet.EMPTY);
+        }
+
+        Set<UUID> roleIds = new HashSet<>();
+        int[] permissionIds = new int[rows.size()];
+        int count = 0;
+        for (UserRolePermissionView row : rows) {
+            if (row.getRoleId() != null) {
+                roleIds.add(row.getRoleId());
+            }
+            if (row.getPermission() != null) {
+                permissionIds[count++] = permissionRegistry.intern(row.getPermission());
+            }
+        }
+        return new EffectivePermissions(rows.get(0).getUserId(), Set.copyOf(roleIds),
+                PermissionSet.of(Arrays.copyOf(permissionIds, count)));
+    }
+}
@@ -1,29 +1,61 @@
 package com.shop.microservices.user_service.Service.ServiceImplementation;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.shop.microservices.user_service.Dto.UserCursorPageDTO;
 import com.shop.microservices.user_service.Dto.UserRequestDTO;
 import com.shop.microservices.user_service.Dto.UserResponseDTO;
 import com.shop.microservices.user_service.Enumeration.UserStatusEnum;
+import com.shop.microservices.user_service.Exception.InvalidInputException;
 import com.shop.microservices.user_service.Model.User;
 import com.shop.microservices.user_service.Repository.IUserRepository;
+import com.shop.microservices.user_service.Repository.UserSummaryView;
 import com.shop.microservices.user_service.Mapper.UserServiceMapper;
 import com.shop.microservices.user_service.Service.Serviceinterface.IUserService;
-import jakarta.transaction.Transactional;
+import com.shop.microservices.user_service.Utils.UserCursorUtil;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @Transactional
 public class UserServiceImpl implements IUserService{
 
+    // Largest page size accepted by cursor-based listing
+    private static final int MAX_PAGE_SIZE = 500;
+
+    // Number of exported users after which buffered output is pushed to the client
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
     @Autowired
     private final UserServiceMapper userServiceMapper;
     private final IUserRepository iUserRepository;
+    private final UserCursorUtil userCursorUtil;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter exportWriter;
 
-    public UserServiceImpl(UserServiceMapper userServiceMapper, IUserRepository iUserRepository){
+    public UserServiceImpl(UserServiceMapper userServiceMapper, IUserRepository iUserRepository,
+                           UserCursorUtil userCursorUtil, ObjectMapper objectMapper){
         this.userServiceMapper = userServiceMapper;
         this.iUserRepository = iUserRepository;
+        this.userCursorUtil = userCursorUtil;
+        this.objectMapper = objectMapper;
+        // Flushing is done in batches by the export itself rather than after every user
+        this.exportWriter = objectMapper.writerFor(UserResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
     }
 
     //Add a new user to the system
@@ -37,24 +69,76 @@ public class UserServiceImpl implements IUserService{
     //Get All Users from the system
     @Override
     public List<UserResponseDTO> GetAllUser(){
-        List<User> userResponse=iUserRepository.findAll();
+        // Single query selecting only the columns of the DTO, roles and personal info are never loaded
+        List<UserSummaryView> userResponse=iUserRepository.findAllSummaries();
         return userServiceMapper.GetAllUser(userResponse);
     }
 
+    //Get one page of users in keyset order, the cost of a page does not depend on how deep the caller has paged
+    @Override
+    public UserCursorPageDTO GetUsersByCursor(String cursor, int size, String sortBy, boolean includeCount){
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("user.error.3105");
+        }
+        userCursorUtil.validateSortKey(sortBy);
+        String lastValue = cursor == null || cursor.isBlank() ? null : userCursorUtil.decode(cursor, sortBy);
+
+        // One extra row tells whether another page exists without a count query
+        Limit limit = Limit.of(size + 1);
+        List<UserSummaryView> users = "username".equals(sortBy)
+                ? iUserRepository.findSummariesAfterUsername(lastValue, limit)
+                : iUserRepository.findSummariesAfterId(lastValue == null ? null : UUID.fromString(lastValue), limit);
+
+        boolean hasNext = users.size() > size;
+        List<UserSummaryView> page = hasNext ? users.subList(0, size) : users;
+        String nextCursor = hasNext ? userCursorUtil.encode(sortBy, page.get(page.size() - 1)) : null;
+        Long totalElements = includeCount ? iUserRepository.count() : null;
+        return new UserCursorPageDTO(userServiceMapper.GetAllUser(page), nextCursor, hasNext, totalElements);
+    }
+
+    //Stream all users as NDJSON, rows are read from a server-side cursor so memory stays flat whatever the table size
+    //Read-only, so Hibernate skips dirty checking and flushing and the connection is marked read-only for the whole export
+    @Override
+    @Transactional(readOnly = true)
+    public long ExportUsers(OutputStream outputStream) throws IOException {
+        long startNanos = System.nanoTime();
+        long count = 0;
+
+        // The generator is closed (and flushed) on completion while the client stream is left open
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+             Stream<UserSummaryView> users = iUserRepository.streamAllSummaries();
+             SequenceWriter sequenceWriter = exportWriter.writeValues(generator)) {
+
+            for (UserSummaryView user : (Iterable<UserSummaryView>) users::iterator) {
+                sequenceWriter.write(userServiceMapper.toDto(user));
+                if (++count % EXPORT_FLUSH_INTERVAL == 0) {
+                    sequenceWriter.flush();
+                }
+            }
+        }
+        if (count > 0) {
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("Exported {} users in {} ms", count, elapsedMillis);
+        return count;
+    }
+
     //Get User by Id from the system
     @Override
     public  UserResponseDTO GetUserById(String id){
-        User user = iUserRepository.findById(id).orElse(null);
-        if (user != null) {
-            return userServiceMapper.toDto(user);
-        }
-        return null;
+        return iUserRepository.findSummaryById(parseId(id))
+                .map(userServiceMapper::toDto)
+                .orElse(null);
     }
 
     //Set User Status Inactive
     @Override
     public boolean SetUserStatusInactive(String id){
-        User user = iUserRepository.findById(id).orElse(null);
+        User user = iUserRepository.findById(parseId(id)).orElse(null);
         if (user != null) {
             user.setStatus(UserStatusEnum.INACTIVE);
             iUserRepository.save(user);
@@ -66,7 +150,7 @@ public class UserServiceImpl implements IUserService{
     //Update user details (Only email and mobile number)
     @Override
     public UserResponseDTO UpdateUserDetails(String id, UserRequestDTO userRequestDTO){
-        User user = iUserRepository.findById(id).orElse(null);
+        User user = iUserRepository.findById(parseId(id)).orElse(null);
         if (user != null) {
             user.setEmail(userRequestDTO.getEmail());
             user.setMobileNo(userRequestDTO.getMobileNo());
@@ -76,6 +160,18 @@ public class UserServiceImpl implements IUserService{
         return null;
     }
 
+    //User IDs are received in their canonical text form and stored as binary UUIDs
+    private static UUID parseId(String id) {
+        if (id == null) {
+            throw new InvalidInputException("user.error.3106");
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidInputException("user.error.3106");
+        }
+    }
+
     //get the Permission type based on the user id
 
 }
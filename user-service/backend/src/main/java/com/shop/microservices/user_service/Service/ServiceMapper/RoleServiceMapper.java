@@ -1,4 +0,0 @@
-package com.shop.microservices.user_service.Service.ServiceMapper;
-
-public class RoleServiceMapper {
-}
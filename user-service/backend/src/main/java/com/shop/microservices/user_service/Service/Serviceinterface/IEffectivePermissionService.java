@@ -0,0 +1,57 @@
+package com.shop.microservices.user_service.Service.Serviceinterface;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Resolves the effective permissions of users, i.e. the union of the permissions granted by their roles.
+ * <p>
+ * Lookups are served from an in-memory cache of per-user permission bitsets; the database is only queried
+ * when a user is looked up for the first time or after its entry has been invalidated.
+ * </p>
+ */
+public interface IEffectivePermissionService {
+
+    /**
+     * Checks whether a user holds a permission.
+     *
+     * @param username   The username of the user.
+     * @param permission The permission name.
+     * @return {@code true} if one of the user's roles grants the permission.
+     */
+    boolean hasPermission(String username, String permission);
+
+    /**
+     * Returns every permission held by a user.
+     *
+     * @param username The username of the user.
+     * @return The permission names, empty if the user does not exist or has no permission.
+     */
+    Set<String> getPermissions(String username);
+
+    /**
+     * Discards the cached permissions of a user, looked up by username.
+     *
+     * @param username The username of the user.
+     */
+    void invalidateUser(String username);
+
+    /**
+     * Discards the cached permissions of a user, looked up by user ID.
+     *
+     * @param userId The ID of the user.
+     */
+    void invalidateUserById(UUID userId);
+
+    /**
+     * Discards the cached permissions of every user holding a role.
+     *
+     * @param roleId The ID of the role.
+     */
+    void invalidateRole(UUID roleId);
+
+    /**
+     * Discards every cached permission.
+     */
+    void invalidateAll();
+}
@@ -1,8 +1,11 @@
 package com.shop.microservices.user_service.Service.Serviceinterface;
 
+import com.shop.microservices.user_service.Dto.UserCursorPageDTO;
 import com.shop.microservices.user_service.Dto.UserRequestDTO;
 import com.shop.microservices.user_service.Dto.UserResponseDTO;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface IUserService {
@@ -13,6 +16,12 @@ public interface IUserService {
     //get all users
     List<UserResponseDTO> GetAllUser();
 
+    //get one page of users after the given continuation token, ordered by id or username
+    UserCursorPageDTO GetUsersByCursor(String cursor, int size, String sortBy, boolean includeCount);
+
+    //stream all users to the given output as newline-delimited JSON, returns the number of users written
+    long ExportUsers(OutputStream outputStream) throws IOException;
+
     //get user by id
     UserResponseDTO GetUserById(String id);
 
@@ -0,0 +1,79 @@
+package com.shop.microservices.user_service.Utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Generator of time-ordered version 7 UUIDs (RFC 9562) used as primary keys.
+ * <p>
+ * The 48 most significant bits hold the Unix time in milliseconds and the 12 bits of {@code rand_a} hold a
+ * counter, so IDs sort by creation time. Stored big-endian in a {@code BINARY(16)} column, new rows are
+ * appended to the right-hand side of the InnoDB clustered index instead of splitting random pages of it,
+ * and secondary indexes, which all embed the primary key, stay compact.
+ * </p>
+ * <p>
+ * The timestamp and counter are advanced together with a single compare-and-set, so generation is lock-free
+ * and IDs are strictly increasing across all threads of the process. When more than 4096 IDs are requested
+ * within a millisecond, the counter carries into the timestamp, which then runs slightly ahead of the clock
+ * as RFC 9562 allows. The remaining 62 bits come from {@link ThreadLocalRandom} rather than the shared
+ * {@link java.security.SecureRandom} behind {@link UUID#randomUUID()}; IDs are therefore unique but not
+ * unguessable, and must not be used as secrets.
+ * </p>
+ */
+public class TimeOrderedUuidGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT_RFC_9562 = 0x8000_0000_0000_0000L;
+
+    // Timestamp in milliseconds shifted left by COUNTER_BITS, plus the counter, of the last generated ID
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+    private final LongSupplier clock;
+
+    /**
+     * Constructor for initializing the TimeOrderedUuidGenerator with the system clock.
+     */
+    public TimeOrderedUuidGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor for initializing the TimeOrderedUuidGenerator with a custom clock.
+     *
+     * @param clock Supplier of the current Unix time in milliseconds.
+     */
+    TimeOrderedUuidGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Generates the next ID.
+     *
+     * @return A version 7 {@link UUID}, greater than every ID previously returned by this generator.
+     */
+    public UUID generate() {
+        long timestampAndCounter = nextTimestampAndCounter();
+        long mostSigBits = (timestampAndCounter >>> COUNTER_BITS) << 16
+                | VERSION_7
+                | (timestampAndCounter & ((1L << COUNTER_BITS) - 1));
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC_9562;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private long nextTimestampAndCounter() {
+        while (true) {
+            long last = lastTimestampAndCounter.get();
+            long candidate = clock.getAsLong() << COUNTER_BITS;
+            // Same millisecond, or the clock went backwards: keep counting from the last ID
+            if (candidate <= last) {
+                candidate = last + 1;
+            }
+            if (lastTimestampAndCounter.compareAndSet(last, candidate)) {
+                return candidate;
+            }
+        }
+    }
+}
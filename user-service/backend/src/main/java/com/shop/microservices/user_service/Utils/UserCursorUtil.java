@@ -0,0 +1,80 @@
+package com.shop.microservices.user_service.Utils;
+
+import com.shop.microservices.user_service.Exception.InvalidInputException;
+import com.shop.microservices.user_service.Repository.UserSummaryView;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Utility class for encoding and decoding the opaque continuation tokens used by cursor-based user listing.
+ * <p>
+ * A token records the sort key and the value of that key for the last user of a page. Both supported keys,
+ * {@code id} and {@code username}, are unique, so the value alone identifies the position. The token is
+ * Base64 (URL safe) encoded so clients treat it as an opaque string and pass it back unchanged.
+ * </p>
+ */
+@Component
+public class UserCursorUtil {
+
+    /**
+     * Sort keys supported by cursor-based listing.
+     */
+    public static final Set<String> SORT_KEYS = Set.of("id", "username");
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Checks that a client supplied sort key is supported.
+     *
+     * @param sortBy The sort key supplied by the client.
+     * @throws InvalidInputException If the sort key is not supported.
+     */
+    public void validateSortKey(String sortBy) {
+        if (sortBy == null || !SORT_KEYS.contains(sortBy)) {
+            throw new InvalidInputException("user.error.3104");
+        }
+    }
+
+    /**
+     * Builds the continuation token pointing after the given user.
+     *
+     * @param sortBy The sort key of the listing.
+     * @param user   The last user of the current page.
+     * @return The opaque continuation token.
+     */
+    public String encode(String sortBy, UserSummaryView user) {
+        String lastValue = "username".equals(sortBy) ? user.username() : user.id().toString();
+        String raw = sortBy + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token and checks that it was issued for the requested sort key.
+     *
+     * @param token  The continuation token received from the client.
+     * @param sortBy The sort key of the current request.
+     * @return The sort key value of the last user of the previous page.
+     * @throws InvalidInputException If the token is malformed or was issued for a different sort key.
+     */
+    public String decode(String token, String sortBy) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0 || !raw.substring(0, separator).equals(sortBy) || separator == raw.length() - 1) {
+                throw new InvalidInputException("user.error.3103");
+            }
+            String lastValue = raw.substring(separator + 1);
+            if ("id".equals(sortBy)) {
+                // Fails with an IllegalArgumentException on a tampered ID
+                UUID.fromString(lastValue);
+            }
+            return lastValue;
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidInputException("user.error.3103");
+        }
+    }
+}
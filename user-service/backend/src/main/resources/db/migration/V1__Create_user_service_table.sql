@@ -1,95 +1,94 @@
 -- src/main/resources/db/migration/V1__Create_user_service_tables.sql
 
-USE user_service_db;
+-- The schema as Hibernate created it (ddl-auto=update) before the service was migrated with Flyway.
+-- Databases created that way are baselined at this version (spring.flyway.baseline-version) and only
+-- run the following migrations, so this script must keep describing exactly that schema, including the
+-- foreign key names Hibernate generated, which V3 drops and adds again.
 
 -- Create table for PersonalInfo
 CREATE TABLE IF NOT EXISTS personal_info (
-    id CHAR(36) NOT NULL,
+    id VARCHAR(255) NOT NULL,
+    created_by VARCHAR(255),
+    created_date DATETIME(6),
+    last_modified_by VARCHAR(255),
+    last_modified_date DATETIME(6),
+    address VARCHAR(255),
     first_name VARCHAR(255) NOT NULL,
-    middle_name VARCHAR(255),
     last_name VARCHAR(255) NOT NULL,
+    middle_name VARCHAR(255),
     nic VARCHAR(255) NOT NULL UNIQUE,
-    picture_id INT,
-    address VARCHAR(255),
-    created_by VARCHAR(255),
-    created_date TIMESTAMP,
-    last_modified_by VARCHAR(255),
-    last_modified_date TIMESTAMP,
+    picture_id INT NOT NULL,
     PRIMARY KEY (id)
 );
 
 -- Create table for Role
 CREATE TABLE IF NOT EXISTS role (
-    id CHAR(36) NOT NULL,
-    role VARCHAR(255) NOT NULL UNIQUE,
-    description VARCHAR(255),
+    id VARCHAR(255) NOT NULL,
     created_by VARCHAR(255),
-    created_date TIMESTAMP,
+    created_date DATETIME(6),
     last_modified_by VARCHAR(255),
-    last_modified_date TIMESTAMP,
+    last_modified_date DATETIME(6),
+    description VARCHAR(255),
+    role ENUM('ACCOUNTANT','ADMIN','CASHIER','DATA_ANALYST','GENERAL_MANAGER','HR_MANAGER','INVENTORY_MANAGER',
+        'LOGISTIC_STAFF','MARKETING_MANAGER','OWNER','PRODUCT_MANAGER','QA','SALES_MANAGER','SUPER_USER',
+        'WAREHOUSE_STAFF') NOT NULL UNIQUE,
     PRIMARY KEY (id)
 );
 
 -- Create table for Permission
 CREATE TABLE IF NOT EXISTS permission (
-    id CHAR(36) NOT NULL,
-    permission VARCHAR(255) NOT NULL UNIQUE,
-    description VARCHAR(255),
+    id VARCHAR(255) NOT NULL,
     created_by VARCHAR(255),
-    created_date TIMESTAMP,
+    created_date DATETIME(6),
     last_modified_by VARCHAR(255),
-    last_modified_date TIMESTAMP,
+    last_modified_date DATETIME(6),
+    description VARCHAR(255),
+    permission VARCHAR(255) NOT NULL UNIQUE,
     PRIMARY KEY (id)
 );
 
 -- Create table for User
-CREATE TABLE IF NOT EXISTS user (
-    id CHAR(36) NOT NULL,
-    username VARCHAR(255) NOT NULL UNIQUE,
-    password VARCHAR(255) NOT NULL,
-    email VARCHAR(255) NOT NULL UNIQUE,
-    mobile_no VARCHAR(255) UNIQUE,
-    status VARCHAR(255) NOT NULL,
-    two_factor_enabled BOOLEAN NOT NULL,
-    personal_info_id CHAR(36),
+CREATE TABLE IF NOT EXISTS `user` (
+    id VARCHAR(255) NOT NULL,
     created_by VARCHAR(255),
-    created_date TIMESTAMP,
+    created_date DATETIME(6),
     last_modified_by VARCHAR(255),
-    last_modified_date TIMESTAMP,
+    last_modified_date DATETIME(6),
+    email VARCHAR(255) NOT NULL UNIQUE,
+    mobile_no VARCHAR(255) UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    status ENUM('ACTIVE','INACTIVE') NOT NULL,
+    two_factor_enabled BIT(1) NOT NULL,
+    username VARCHAR(255) NOT NULL UNIQUE,
+    personal_info_id VARCHAR(255),
     PRIMARY KEY (id),
-    FOREIGN KEY (personal_info_id) REFERENCES personal_info(id)
+    CONSTRAINT FK1vnmpl9hxv1j8ure47h97lhco FOREIGN KEY (personal_info_id) REFERENCES personal_info(id)
 );
 
 -- Create table for RolePermission
 CREATE TABLE IF NOT EXISTS role_permissions (
-    id CHAR(36) NOT NULL,
-    role_id CHAR(36) NOT NULL,
-    permission_id CHAR(36) NOT NULL,
+    id VARCHAR(255) NOT NULL,
     created_by VARCHAR(255),
-    created_date TIMESTAMP,
+    created_date DATETIME(6),
     last_modified_by VARCHAR(255),
-    last_modified_date TIMESTAMP,
+    last_modified_date DATETIME(6),
+    permission_id VARCHAR(255),
+    role_id VARCHAR(255),
     PRIMARY KEY (id),
-    FOREIGN KEY (role_id) REFERENCES role(id),
-    FOREIGN KEY (permission_id) REFERENCES permission(id)
+    CONSTRAINT FKlodb7xh4a2xjv39gc3lsop95n FOREIGN KEY (role_id) REFERENCES role(id),
+    CONSTRAINT FKh0v7u4w7mttcu81o8wegayr8e FOREIGN KEY (permission_id) REFERENCES permission(id)
 );
 
 -- Create table for UserRole
 CREATE TABLE IF NOT EXISTS user_roles (
-    id CHAR(36) NOT NULL,
-    user_id CHAR(36) NOT NULL,
-    role_id CHAR(36) NOT NULL,
+    id VARCHAR(255) NOT NULL,
     created_by VARCHAR(255),
-    created_date TIMESTAMP,
+    created_date DATETIME(6),
     last_modified_by VARCHAR(255),
-    last_modified_date TIMESTAMP,
+    last_modified_date DATETIME(6),
+    role_id VARCHAR(255),
+    user_id VARCHAR(255),
     PRIMARY KEY (id),
-    FOREIGN KEY (user_id) REFERENCES user(id),
-    FOREIGN KEY (role_id) REFERENCES role(id)
+    CONSTRAINT FK55itppkw3i07do3h7qoclqd4k FOREIGN KEY (user_id) REFERENCES `user`(id),
+    CONSTRAINT FKrhfovtciq1l558cw6udg0h0d3 FOREIGN KEY (role_id) REFERENCES role(id)
 );
-
--- Indexes for performance optimization
-CREATE INDEX idx_user_username ON user(username);
-CREATE INDEX idx_role_role ON role(role);
-CREATE INDEX idx_permission_permission ON permission(permission);
-CREATE INDEX idx_personal_info_nic ON personal_info(nic);
\ No newline at end of file
@@ -1,7 +1,7 @@
-CREATE VIEW user_permissions AS
-SELECT rp.permission_id, p.permission,u.username
-FROM RolePermission rp
-JOIN Role r ON rp.role_id = r.role_id
-JOIN UserRole ur ON ur.role_id = r.role_id
-JOIN User u ON u.user_id = ur.user_id
-JOIN Permission p ON rp.permission_id = p.permission_id;
\ No newline at end of file
+-- Permissions granted to every user through its roles
+CREATE OR REPLACE VIEW user_permissions AS
+SELECT rp.permission_id, p.permission, u.username
+FROM role_permissions rp
+JOIN user_roles ur ON ur.role_id = rp.role_id
+JOIN `user` u ON u.id = ur.user_id
+JOIN permission p ON p.id = rp.permission_id;
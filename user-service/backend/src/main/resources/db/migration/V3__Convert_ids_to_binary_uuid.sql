@@ -0,0 +1,76 @@
+-- src/main/resources/db/migration/V3__Convert_ids_to_binary_uuid.sql
+
+-- Converts the UUID keys created by V1, stored as text, to BINARY(16), the type the entities now map their
+-- time-ordered UUID keys to (see Model/TimeOrderedUuid). UUID_TO_BIN is used without the swap flag so the
+-- bytes are in canonical order, the order Hibernate binds java.util.UUID values in: existing keys keep
+-- their value and new keys sort by creation time.
+--
+-- Every column goes through VARBINARY first so that the text is kept byte for byte before it is packed.
+-- MySQL does not change the type of a column used by a foreign key, so the constraints (named as in V1) are
+-- dropped first and added again once both sides are converted. Nullability is kept as is.
+
+ALTER TABLE `user` DROP FOREIGN KEY FK1vnmpl9hxv1j8ure47h97lhco;
+ALTER TABLE role_permissions
+    DROP FOREIGN KEY FKh0v7u4w7mttcu81o8wegayr8e,
+    DROP FOREIGN KEY FKlodb7xh4a2xjv39gc3lsop95n;
+ALTER TABLE user_roles
+    DROP FOREIGN KEY FK55itppkw3i07do3h7qoclqd4k,
+    DROP FOREIGN KEY FKrhfovtciq1l558cw6udg0h0d3;
+
+-- PersonalInfo
+ALTER TABLE personal_info MODIFY id VARBINARY(255) NOT NULL;
+UPDATE personal_info SET id = UUID_TO_BIN(id);
+ALTER TABLE personal_info MODIFY id BINARY(16) NOT NULL;
+
+-- Role
+ALTER TABLE role MODIFY id VARBINARY(255) NOT NULL;
+UPDATE role SET id = UUID_TO_BIN(id);
+ALTER TABLE role MODIFY id BINARY(16) NOT NULL;
+
+-- Permission
+ALTER TABLE permission MODIFY id VARBINARY(255) NOT NULL;
+UPDATE permission SET id = UUID_TO_BIN(id);
+ALTER TABLE permission MODIFY id BINARY(16) NOT NULL;
+
+-- User
+ALTER TABLE `user`
+    MODIFY id VARBINARY(255) NOT NULL,
+    MODIFY personal_info_id VARBINARY(255);
+UPDATE `user` SET id = UUID_TO_BIN(id), personal_info_id = UUID_TO_BIN(personal_info_id);
+ALTER TABLE `user`
+    MODIFY id BINARY(16) NOT NULL,
+    MODIFY personal_info_id BINARY(16);
+
+-- RolePermission
+ALTER TABLE role_permissions
+    MODIFY id VARBINARY(255) NOT NULL,
+    MODIFY role_id VARBINARY(255),
+    MODIFY permission_id VARBINARY(255);
+UPDATE role_permissions SET id = UUID_TO_BIN(id), role_id = UUID_TO_BIN(role_id), permission_id = UUID_TO_BIN(permission_id);
+ALTER TABLE role_permissions
+    MODIFY id BINARY(16) NOT NULL,
+    MODIFY role_id BINARY(16),
+    MODIFY permission_id BINARY(16);
+
+-- UserRole
+ALTER TABLE user_roles
+    MODIFY id VARBINARY(255) NOT NULL,
+    MODIFY user_id VARBINARY(255),
+    MODIFY role_id VARBINARY(255);
+UPDATE user_roles SET id = UUID_TO_BIN(id), user_id = UUID_TO_BIN(user_id), role_id = UUID_TO_BIN(role_id);
+ALTER TABLE user_roles
+    MODIFY id BINARY(16) NOT NULL,
+    MODIFY user_id BINARY(16),
+    MODIFY role_id BINARY(16);
+
+ALTER TABLE `user`
+    ADD CONSTRAINT FK1vnmpl9hxv1j8ure47h97lhco FOREIGN KEY (personal_info_id) REFERENCES personal_info (id);
+ALTER TABLE role_permissions
+    ADD CONSTRAINT FKh0v7u4w7mttcu81o8wegayr8e FOREIGN KEY (permission_id) REFERENCES permission (id),
+    ADD CONSTRAINT FKlodb7xh4a2xjv39gc3lsop95n FOREIGN KEY (role_id) REFERENCES role (id);
+ALTER TABLE user_roles
+    ADD CONSTRAINT FK55itppkw3i07do3h7qoclqd4k FOREIGN KEY (user_id) REFERENCES `user` (id),
+    ADD CONSTRAINT FKrhfovtciq1l558cw6udg0h0d3 FOREIGN KEY (role_id) REFERENCES role (id);
+
+-- The table is rebuilt by the conversion, refresh the statistics used by the optimizer
+ANALYZE TABLE personal_info, role, permission, `user`, role_permissions, user_roles;
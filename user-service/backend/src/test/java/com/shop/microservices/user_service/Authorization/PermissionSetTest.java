@@ -0,0 +1,55 @@
+package com.shop.microservices.user_service.Authorization;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the permission bitset and of the registry assigning its bit positions.
+ */
+class PermissionSetTest {
+
+    @Test
+    void containsOnlyTheGivenIdsAcrossWords() {
+        PermissionSet permissions = PermissionSet.of(0, 63, 64, 130, 64);
+
+        assertTrue(permissions.contains(0));
+        assertTrue(permissions.contains(63));
+        assertTrue(permissions.contains(64));
+        assertTrue(permissions.contains(130));
+        assertFalse(permissions.contains(1));
+        assertFalse(permissions.contains(65));
+        // Beyond the last word and negative IDs, as returned for unknown permissions
+        assertFalse(permissions.contains(500));
+        assertFalse(permissions.contains(-1));
+        assertArrayEquals(new int[]{0, 63, 64, 130}, permissions.ids().toArray());
+    }
+
+    @Test
+    void emptySetContainsNothing() {
+        assertSame(PermissionSet.EMPTY, PermissionSet.of());
+        assertFalse(PermissionSet.EMPTY.contains(0));
+        assertEquals(0, PermissionSet.EMPTY.ids().count());
+    }
+
+    @Test
+    void registryAssignsStableDenseIds() {
+        PermissionRegistry registry = new PermissionRegistry();
+
+        int read = registry.intern("USER_READ");
+        int write = registry.intern("USER_WRITE");
+
+        assertEquals(0, read);
+        assertEquals(1, write);
+        assertEquals(read, registry.intern("USER_READ"));
+        assertEquals(write, registry.idOf("USER_WRITE"));
+        assertEquals(-1, registry.idOf("USER_DELETE"));
+        assertEquals("USER_READ", registry.nameOf(read));
+        assertNull(registry.nameOf(2));
+    }
+}
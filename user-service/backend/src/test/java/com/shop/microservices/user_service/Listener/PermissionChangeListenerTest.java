@@ -0,0 +1,107 @@
+package com.shop.microservices.user_service.Listener;
+
+import com.shop.microservices.user_service.Model.Permission;
+import com.shop.microservices.user_service.Model.Role;
+import com.shop.microservices.user_service.Model.RolePermission;
+import com.shop.microservices.user_service.Model.User;
+import com.shop.microservices.user_service.Model.UserRole;
+import com.shop.microservices.user_service.Service.Serviceinterface.IEffectivePermissionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests of the cache invalidations triggered by {@link PermissionChangeListener}.
+ */
+class PermissionChangeListenerTest {
+
+    private IEffectivePermissionService permissionService;
+    private PermissionChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        permissionService = mock(IEffectivePermissionService.class);
+        listener = new PermissionChangeListener(new StaticListableBeanFactory(Map.of("permissionService", permissionService))
+                .getBeanProvider(IEffectivePermissionService.class));
+    }
+
+    @Test
+    void userChangeInvalidatesByUsernameAndId() {
+        User user = User.builder().id(UUID.randomUUID()).username("alice").build();
+
+        listener.onChange(user);
+
+        verify(permissionService).invalidateUser("alice");
+        verify(permissionService).invalidateUserById(user.getId());
+    }
+
+    @Test
+    void userRoleChangeInvalidatesTheUser() {
+        User user = User.builder().id(UUID.randomUUID()).username("alice").build();
+
+        listener.onChange(UserRole.builder().user(user).role(role()).build());
+
+        verify(permissionService).invalidateUserById(user.getId());
+    }
+
+    @Test
+    void roleAndRolePermissionChangesInvalidateTheRole() {
+        Role role = role();
+
+        listener.onChange(role);
+        listener.onChange(RolePermission.builder().role(role).permission(new Permission()).build());
+
+        verify(permissionService, times(2)).invalidateRole(role.getId());
+    }
+
+    @Test
+    void permissionChangeInvalidatesEveryUser() {
+        listener.onChange(new Permission());
+
+        verify(permissionService).invalidateAll();
+    }
+
+    @Test
+    void invalidationWaitsForTheTransactionToComplete() {
+        User user = User.builder().id(UUID.randomUUID()).username("alice").build();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            listener.onChange(user);
+            verifyNoInteractions(permissionService);
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(permissionService).invalidateUser("alice");
+        verify(permissionService).invalidateUserById(user.getId());
+    }
+
+    @Test
+    void changesBeforeTheServiceExistsAreIgnored() {
+        PermissionChangeListener withoutService = new PermissionChangeListener(
+                new StaticListableBeanFactory().getBeanProvider(IEffectivePermissionService.class));
+
+        assertDoesNotThrow(() -> withoutService.onChange(new Permission()));
+    }
+
+    private static Role role() {
+        Role role = new Role();
+        role.setId(UUID.randomUUID());
+        return role;
+    }
+}
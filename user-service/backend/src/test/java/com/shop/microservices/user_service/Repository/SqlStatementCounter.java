@@ -0,0 +1,38 @@
+package com.shop.microservices.user_service.Repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the SQL statements Hibernate prepares, to guard read paths against N+1 query regressions.
+ */
+final class SqlStatementCounter {
+
+    private final Statistics statistics;
+
+    SqlStatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    /**
+     * Runs the given action and fails if it prepared more than {@code maxStatements} SQL statements.
+     *
+     * @param maxStatements The maximum number of statements the action may issue.
+     * @param action        The action to measure.
+     * @return The result of the action.
+     */
+    <T> T assertAtMost(long maxStatements, Supplier<T> action) {
+        statistics.clear();
+        T result = action.get();
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= maxStatements,
+                () -> "Expected at most " + maxStatements + " SQL statements but " + statements + " were issued");
+        return result;
+    }
+}
@@ -0,0 +1,141 @@
+package com.shop.microservices.user_service.Repository;
+
+import com.shop.microservices.user_service.Dto.UserCursorPageDTO;
+import com.shop.microservices.user_service.Dto.UserResponseDTO;
+import com.shop.microservices.user_service.Enumeration.RoleEnum;
+import com.shop.microservices.user_service.Enumeration.UserStatusEnum;
+import com.shop.microservices.user_service.Mapper.UserServiceMapper;
+import com.shop.microservices.user_service.Model.PersonalInfo;
+import com.shop.microservices.user_service.Model.Role;
+import com.shop.microservices.user_service.Model.User;
+import com.shop.microservices.user_service.Model.UserRole;
+import com.shop.microservices.user_service.Service.ServiceImplementation.UserServiceImpl;
+import com.shop.microservices.user_service.Utils.UserCursorUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Query-count regression tests of the user read paths.
+ * <p>
+ * Every user is seeded with personal information and two roles, so any association loaded per row
+ * shows up as extra statements and fails the build.
+ * </p>
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user_service;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        // The migrations are written for MySQL, the H2 schema is generated from the entities instead
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserServiceImpl.class, UserServiceMapper.class, UserCursorUtil.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class UserQueryCountTest {
+
+    // The list view must issue a constant number of statements, whatever the number of users
+    private static final long MAX_LIST_STATEMENTS = 1;
+    private static final long MAX_DETAIL_STATEMENTS = 1;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserServiceImpl userService;
+
+    private SqlStatementCounter counter;
+    private Set<Role> roles;
+    private int seeded;
+
+    @BeforeEach
+    void setUp() {
+        counter = new SqlStatementCounter(entityManager.getEntityManager().getEntityManagerFactory());
+        roles = Set.of(
+                entityManager.persist(Role.builder().role(RoleEnum.ADMIN).build()),
+                entityManager.persist(Role.builder().role(RoleEnum.CASHIER).build()));
+    }
+
+    @Test
+    void listingUsersIssuesConstantNumberOfStatements() {
+        seedUsers(5);
+        List<UserResponseDTO> firstPage = counter.assertAtMost(MAX_LIST_STATEMENTS, userService::GetAllUser);
+        assertEquals(5, firstPage.size());
+
+        seedUsers(50);
+        List<UserResponseDTO> secondPage = counter.assertAtMost(MAX_LIST_STATEMENTS, userService::GetAllUser);
+        assertEquals(55, secondPage.size());
+    }
+
+    @Test
+    void keysetPagesAreReadWithSingleStatement() {
+        seedUsers(7);
+
+        UserCursorPageDTO firstPage = counter.assertAtMost(MAX_LIST_STATEMENTS,
+                () -> userService.GetUsersByCursor(null, 5, "username", false));
+        assertEquals(5, firstPage.content().size());
+        assertTrue(firstPage.hasNext());
+        assertNull(firstPage.totalElements());
+
+        UserCursorPageDTO lastPage = counter.assertAtMost(MAX_LIST_STATEMENTS,
+                () -> userService.GetUsersByCursor(firstPage.nextCursor(), 5, "username", false));
+        assertEquals(2, lastPage.content().size());
+        assertFalse(lastPage.hasNext());
+        assertNull(lastPage.nextCursor());
+    }
+
+    @Test
+    void userDetailIsReadWithSingleStatement() {
+        UUID userId = seedUsers(1).get(0);
+
+        UserResponseDTO user = counter.assertAtMost(MAX_DETAIL_STATEMENTS, () -> userService.GetUserById(userId.toString()));
+        assertEquals(userId.toString(), user.id());
+    }
+
+    private List<UUID> seedUsers(int count) {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int n = seeded++;
+            PersonalInfo personalInfo = entityManager.persist(PersonalInfo.builder()
+                    .firstName("First" + n)
+                    .lastName("Last" + n)
+                    .nic("NIC" + n)
+                    .build());
+            User user = entityManager.persist(User.builder()
+                    .username("user" + n)
+                    .password("secret")
+                    .email("user" + n + "@example.com")
+                    .status(UserStatusEnum.ACTIVE)
+                    .personalInfo(personalInfo)
+                    .build());
+            // user_roles is mapped by UserRole, which owns the generated id of each row
+            for (Role role : roles) {
+                entityManager.persist(UserRole.builder().user(user).role(role).build());
+            }
+            ids.add(user.getId());
+        }
+        // Start every measurement from an empty persistence context
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+}
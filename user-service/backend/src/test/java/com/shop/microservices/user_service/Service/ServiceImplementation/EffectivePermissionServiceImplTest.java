@@ -0,0 +1,201 @@
+package com.shop.microservices.user_service.Service.ServiceImplementation;
+
+import com.shop.microservices.user_service.Authorization.PermissionRegistry;
+import com.shop.microservices.user_service.Configuration.PermissionCacheProperties;
+import com.shop.microservices.user_service.Exception.InvalidInputException;
+import com.shop.microservices.user_service.Repository.IUserRepository;
+import com.shop.microservices.user_service.Repository.UserRolePermissionView;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests of the permission resolution of {@link EffectivePermissionServiceImpl} and of the eviction of its cache.
+ */
+class EffectivePermissionServiceImplTest {
+
+    private static final UUID ALICE_ID = UUID.randomUUID();
+    private static final UUID BOB_ID = UUID.randomUUID();
+    private static final UUID ADMIN_ROLE_ID = UUID.randomUUID();
+    private static final UUID CUSTOMER_ROLE_ID = UUID.randomUUID();
+
+    private IUserRepository userRepository;
+    private EffectivePermissionServiceImpl permissionService;
+
+    private record Row(UUID userId, UUID roleId, String permission) implements UserRolePermissionView {
+
+        @Override
+        public UUID getUserId() {
+            return userId;
+        }
+
+        @Override
+        public UUID getRoleId() {
+            return roleId;
+        }
+
+        @Override
+        public String getPermission() {
+            return permission;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(IUserRepository.class);
+        when(userRepository.findRolePermissionsByUsername("alice")).thenReturn(List.of(
+                new Row(ALICE_ID, ADMIN_ROLE_ID, "USER_READ"),
+                new Row(ALICE_ID, ADMIN_ROLE_ID, "USER_WRITE"),
+                new Row(ALICE_ID, CUSTOMER_ROLE_ID, "USER_READ")));
+        when(userRepository.findRolePermissionsByUsername("bob")).thenReturn(List.of(
+                new Row(BOB_ID, CUSTOMER_ROLE_ID, "ORDER_READ")));
+        // A user whose only role grants no permission
+        when(userRepository.findRolePermissionsByUsername("carol")).thenReturn(List.of(
+                new Row(UUID.randomUUID(), UUID.randomUUID(), null)));
+        permissionService = new EffectivePermissionServiceImpl(userRepository, new PermissionRegistry(),
+                new PermissionCacheProperties(), new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void resolvesPermissionsGrantedByAllRoles() {
+        assertTrue(permissionService.hasPermission("alice", "USER_READ"));
+        assertTrue(permissionService.hasPermission("alice", "USER_WRITE"));
+        assertFalse(permissionService.hasPermission("alice", "ORDER_READ"));
+        assertEquals(Set.of("USER_READ", "USER_WRITE"), permissionService.getPermissions("alice"));
+
+        assertTrue(permissionService.hasPermission("bob", "ORDER_READ"));
+        assertFalse(permissionService.hasPermission("bob", "USER_READ"));
+        assertEquals(Set.of(), permissionService.getPermissions("carol"));
+    }
+
+    @Test
+    void unknownUserAndPermissionAreDenied() {
+        assertFalse(permissionService.hasPermission("mallory", "USER_READ"));
+        assertFalse(permissionService.hasPermission("alice", "NEVER_GRANTED"));
+        assertEquals(Set.of(), permissionService.getPermissions("mallory"));
+    }
+
+    @Test
+    void blankArgumentsAreRejected() {
+        assertThrows(InvalidInputException.class, () -> permissionService.hasPermission(" ", "USER_READ"));
+        assertThrows(InvalidInputException.class, () -> permissionService.hasPermission("alice", ""));
+        assertThrows(InvalidInputException.class, () -> permissionService.getPermissions(null));
+    }
+
+    @Test
+    void permissionsAreLoadedOncePerUser() {
+        permissionService.hasPermission("alice", "USER_READ");
+        permissionService.hasPermission("alice", "USER_WRITE");
+        permissionService.getPermissions("alice");
+
+        verify(userRepository, times(1)).findRolePermissionsByUsername("alice");
+    }
+
+    @Test
+    void invalidateUserReloadsOnlyThatUser() {
+        permissionService.hasPermission("alice", "USER_READ");
+        permissionService.hasPermission("bob", "ORDER_READ");
+        when(userRepository.findRolePermissionsByUsername("alice")).thenReturn(List.of(
+                new Row(ALICE_ID, CUSTOMER_ROLE_ID, "USER_READ")));
+
+        permissionService.invalidateUser("alice");
+
+        assertFalse(permissionService.hasPermission("alice", "USER_WRITE"));
+        permissionService.hasPermission("bob", "ORDER_READ");
+        verify(userRepository, times(2)).findRolePermissionsByUsername("alice");
+        verify(userRepository, times(1)).findRolePermissionsByUsername("bob");
+    }
+
+    @Test
+    void invalidateUserByIdEvictsTheUsersEntry() {
+        permissionService.hasPermission("alice", "USER_READ");
+        permissionService.hasPermission("bob", "ORDER_READ");
+
+        permissionService.invalidateUserById(ALICE_ID);
+        permissionService.hasPermission("alice", "USER_READ");
+        permissionService.hasPermission("bob", "ORDER_READ");
+
+        verify(userRepository, times(2)).findRolePermissionsByUsername("alice");
+        verify(userRepository, times(1)).findRolePermissionsByUsername("bob");
+    }
+
+    @Test
+    void invalidateUserByIdFindsEntriesLoadedAgain() {
+        permissionService.hasPermission("alice", "USER_READ");
+        permissionService.invalidateUser("alice");
+        permissionService.hasPermission("alice", "USER_READ");
+        permissionService.invalidateRole(ADMIN_ROLE_ID);
+        permissionService.hasPermission("alice", "USER_READ");
+
+        permissionService.invalidateUserById(ALICE_ID);
+        permissionService.hasPermission("alice", "USER_READ");
+
+        verify(userRepository, times(4)).findRolePermissionsByUsername("alice");
+    }
+
+    @Test
+    void invalidateUserByIdOfUncachedUserEvictsNothing() {
+        permissionService.hasPermission("bob", "ORDER_READ");
+
+        permissionService.invalidateUserById(ALICE_ID);
+        permissionService.hasPermission("bob", "ORDER_READ");
+
+        verify(userRepository, times(1)).findRolePermissionsByUsername("bob");
+    }
+
+    @Test
+    void invalidateRoleEvictsEveryUserHoldingIt() {
+        permissionService.hasPermission("alice", "USER_READ");
+        permissionService.hasPermission("bob", "ORDER_READ");
+
+        permissionService.invalidateRole(ADMIN_ROLE_ID);
+        permissionService.hasPermission("alice", "USER_READ");
+        permissionService.hasPermission("bob", "ORDER_READ");
+        verify(userRepository, times(2)).findRolePermissionsByUsername("alice");
+        verify(userRepository, times(1)).findRolePermissionsByUsername("bob");
+
+        permissionService.invalidateRole(CUSTOMER_ROLE_ID);
+        permissionService.hasPermission("alice", "USER_READ");
+        permissionService.hasPermission("bob", "ORDER_READ");
+        verify(userRepository, times(3)).findRolePermissionsByUsername("alice");
+        verify(userRepository, times(2)).findRolePermissionsByUsername("bob");
+    }
+
+    @Test
+    void invalidateAllEvictsEveryUser() {
+        permissionService.hasPermission("alice", "USER_READ");
+        permissionService.hasPermission("bob", "ORDER_READ");
+
+        permissionService.invalidateAll();
+        permissionService.hasPermission("alice", "USER_READ");
+        permissionService.hasPermission("bob", "ORDER_READ");
+
+        verify(userRepository, times(2)).findRolePermissionsByUsername("alice");
+        verify(userRepository, times(2)).findRolePermissionsByUsername("bob");
+    }
+
+    @Test
+    void unknownUserIsReloadedOnceCreated() {
+        assertFalse(permissionService.hasPermission("dave", "USER_READ"));
+        when(userRepository.findRolePermissionsByUsername("dave")).thenReturn(List.of(
+                new Row(UUID.randomUUID(), CUSTOMER_ROLE_ID, "USER_READ")));
+
+        permissionService.invalidateUser("dave");
+
+        assertTrue(permissionService.hasPermission("dave", "USER_READ"));
+    }
+}
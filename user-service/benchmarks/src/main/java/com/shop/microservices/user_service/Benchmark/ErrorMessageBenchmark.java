@@ -0,0 +1,76 @@
+package com.shop.microservices.user_service.Benchmark;
+
+import com.shop.microservices.user_service.Utils.ErrorMessageUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ErrorMessageUtil#getErrorMessage}, which caches parsed templates per code and locale,
+ * with the previous resolution through {@link MessageSource#getMessage} and {@link String#format}.
+ * <p>
+ * The message source is configured like the service's ({@code error_message_en} bundle, UTF-8). The
+ * {@code locale} parameter is the request locale, as Spring MVC sets it from the {@code Accept-Language} header;
+ * locales without a bundle of their own fall back to the default one. Run with {@code -prof gc} to get bytes/op:
+ * </p>
+ * <pre>
+ * java -jar target/benchmarks.jar ErrorMessageBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorMessageBenchmark {
+
+    private static final String CODE = "user.error.3104";
+
+    @Param({"en", "fr-FR"})
+    private String locale;
+
+    private MessageSource messageSource;
+    private ErrorMessageUtil errorMessageUtil;
+
+    @Setup
+    public void setUp() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("error_message_en");
+        messageSource.setDefaultEncoding("UTF-8");
+        this.messageSource = messageSource;
+        errorMessageUtil = new ErrorMessageUtil(messageSource);
+        // Thread-scoped state, so the locale is set on the thread running the benchmark
+        LocaleContextHolder.setLocale(Locale.forLanguageTag(locale));
+    }
+
+    @TearDown
+    public void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Benchmark
+    public String cachedMessage() {
+        return errorMessageUtil.getErrorMessage(CODE);
+    }
+
+    @Benchmark
+    public String uncachedMessage() {
+        return String.format("%s: %s", CODE, messageSource.getMessage(CODE, null, LocaleContextHolder.getLocale()));
+    }
+}
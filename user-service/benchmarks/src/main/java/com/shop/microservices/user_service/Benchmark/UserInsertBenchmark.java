@@ -0,0 +1,172 @@
+package com.shop.microservices.user_service.Benchmark;
+
+import com.shop.microservices.user_service.Utils.TimeOrderedUuidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the insert rate of user rows, and the resulting index sizes, for the primary key layouts:
+ * <ul>
+ *     <li>{@code CHAR36_RANDOM}: random UUIDs as text, the previous {@code GenerationType.UUID} mapping.</li>
+ *     <li>{@code BINARY16_RANDOM}: random UUIDs as {@code BINARY(16)}, isolates the effect of the column type.</li>
+ *     <li>{@code BINARY16_TIME_ORDERED}: time-ordered UUIDs as {@code BINARY(16)}, the current mapping.</li>
+ * </ul>
+ * <p>
+ * Rows have the shape of the {@code user} table, with its unique {@code username} and {@code email} indexes,
+ * which embed the primary key. They are inserted in batches of {@value #BATCH_SIZE}, one transaction per batch,
+ * into a table already holding {@code prefill} rows (1 million by default). The data and index sizes reported
+ * by InnoDB are printed at the end of every trial. Point it at a scratch database:
+ * </p>
+ * <pre>
+ * java -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/user_service_bench -jar target/benchmarks.jar UserInsertBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UserInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int PREFILL_BATCH_SIZE = 10_000;
+
+    public enum KeyLayout {
+        CHAR36_RANDOM("CHAR(36)"),
+        BINARY16_RANDOM("BINARY(16)"),
+        BINARY16_TIME_ORDERED("BINARY(16)");
+
+        private final String columnType;
+
+        KeyLayout(String columnType) {
+            this.columnType = columnType;
+        }
+    }
+
+    @Param({"CHAR36_RANDOM", "BINARY16_RANDOM", "BINARY16_TIME_ORDERED"})
+    private KeyLayout keyLayout;
+
+    @Param({"1000000"})
+    private long prefill;
+
+    private final TimeOrderedUuidGenerator timeOrderedUuids = new TimeOrderedUuidGenerator();
+    private Connection connection;
+    private PreparedStatement insert;
+    private String table;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("benchmark.mysql.url", "jdbc:mysql://localhost:3306/user_service_bench");
+        // Sends each batch as multi-row inserts instead of one statement per row
+        connection = DriverManager.getConnection(url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true",
+                System.getProperty("benchmark.mysql.username", "root"),
+                System.getProperty("benchmark.mysql.password", "password"));
+        table = "user_" + keyLayout.name().toLowerCase();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " ("
+                    + "id " + keyLayout.columnType + " NOT NULL, "
+                    + "username VARCHAR(255) NOT NULL UNIQUE, "
+                    + "password VARCHAR(255) NOT NULL, "
+                    + "email VARCHAR(255) NOT NULL UNIQUE, "
+                    + "status VARCHAR(255) NOT NULL, "
+                    + "two_factor_enabled BOOLEAN NOT NULL, "
+                    + "created_date TIMESTAMP, "
+                    + "PRIMARY KEY (id))");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO " + table
+                + " (id, username, password, email, status, two_factor_enabled, created_date) VALUES (?, ?, ?, ?, ?, ?, ?)");
+
+        sequence = 0;
+        while (sequence < prefill) {
+            insertBatch((int) Math.min(PREFILL_BATCH_SIZE, prefill - sequence));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + table);
+            try (ResultSet sizes = statement.executeQuery("SELECT table_rows, data_length, index_length "
+                    + "FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = '" + table + "'")) {
+                if (sizes.next()) {
+                    // data_length is the clustered index (primary key and rows), index_length the secondary indexes
+                    System.out.printf("%n%s: ~%d rows, clustered index %d MiB, secondary indexes %d MiB%n", keyLayout,
+                            sizes.getLong(1), sizes.getLong(2) >> 20, sizes.getLong(3) >> 20);
+                }
+            }
+            statement.execute("DROP TABLE " + table);
+        }
+        insert.close();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertUsers() throws SQLException {
+        insertBatch(BATCH_SIZE);
+    }
+
+    private void insertBatch(int size) throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int i = 0; i < size; i++) {
+            long n = sequence++;
+            // Zero padded so that the username and email indexes are filled in order for every layout
+            String username = String.format("user%012d", n);
+            setId(insert, nextId());
+            insert.setString(2, username);
+            insert.setString(3, "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z2mGn4bK1YzFvJxq3L6Rk0m2");
+            insert.setString(4, username + "@example.com");
+            insert.setString(5, "ACTIVE");
+            insert.setBoolean(6, false);
+            insert.setTimestamp(7, now);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private UUID nextId() {
+        return keyLayout == KeyLayout.BINARY16_TIME_ORDERED ? timeOrderedUuids.generate() : UUID.randomUUID();
+    }
+
+    private void setId(PreparedStatement statement, UUID id) throws SQLException {
+        if (keyLayout == KeyLayout.CHAR36_RANDOM) {
+            statement.setString(1, id.toString());
+            return;
+        }
+        // Big-endian, the byte order Hibernate binds UUIDs in
+        statement.setBytes(1, ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array());
+    }
+}